@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.UUID;
+
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.repository.DeploymentBuilder;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base class for benchmarks that need a process engine. Every benchmark trial gets its own engine on a fresh in-memory H2 database, with the async
+ * executor disabled so jobs are only executed by the benchmark itself.
+ */
+public abstract class AbstractProcessEngineBenchmark {
+
+    @Param({ "audit" })
+    public String historyLevel;
+
+    protected ProcessEngineConfigurationImpl processEngineConfiguration;
+    protected ProcessEngine processEngine;
+    protected RuntimeService runtimeService;
+    protected TaskService taskService;
+    protected ManagementService managementService;
+
+    @Setup(Level.Trial)
+    public void setUpProcessEngine() {
+        processEngineConfiguration = (ProcessEngineConfigurationImpl) new StandaloneInMemProcessEngineConfiguration()
+                .setJdbcUrl("jdbc:h2:mem:flowable-benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=1000")
+                .setHistory(historyLevel)
+                .setAsyncExecutorActivate(false);
+        configureProcessEngine(processEngineConfiguration);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+        runtimeService = processEngine.getRuntimeService();
+        taskService = processEngine.getTaskService();
+        managementService = processEngine.getManagementService();
+
+        String[] resources = getResources();
+        if (resources.length > 0) {
+            DeploymentBuilder deploymentBuilder = processEngine.getRepositoryService().createDeployment();
+            for (String resource : resources) {
+                deploymentBuilder.addClasspathResource(resource);
+            }
+            deploymentBuilder.deploy();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void closeProcessEngine() {
+        if (processEngine != null) {
+            processEngine.close();
+        }
+    }
+
+    /**
+     * Hook to change the configuration of the process engine before it is built.
+     */
+    protected void configureProcessEngine(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        // to be extended if needed
+    }
+
+    /**
+     * @return the classpath resources that are deployed before the benchmark is run.
+     */
+    protected String[] getResources() {
+        return new String[0];
+    }
+
+}
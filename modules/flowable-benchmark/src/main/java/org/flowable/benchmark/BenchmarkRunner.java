@@ -0,0 +1,45 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the engine benchmarks. Accepts the regular JMH command line options.
+ *
+ * Next to the throughput, the allocation rate of every benchmark is reported through the {@link GCProfiler}, unless other profilers are passed.
+ * The results are written to flowable-benchmark-results.json by default, so runs of different versions can be compared.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+        OptionsBuilder optionsBuilder = new OptionsBuilder();
+        optionsBuilder.parent(commandLineOptions);
+        if (commandLineOptions.getProfilers().isEmpty()) {
+            optionsBuilder.addProfiler(GCProfiler.class);
+        }
+        if (!commandLineOptions.getResult().hasValue()) {
+            optionsBuilder.resultFormat(ResultFormatType.JSON);
+            optionsBuilder.result("flowable-benchmark-results.json");
+        }
+
+        new Runner(optionsBuilder.build()).run();
+    }
+
+}
@@ -0,0 +1,88 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.cmmn.api.CmmnRuntimeService;
+import org.flowable.cmmn.engine.CmmnEngine;
+import org.flowable.cmmn.engine.impl.cfg.StandaloneInMemCmmnEngineConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Completes a plan item of a case instance, which makes the engine evaluate the sentries that listen to it. One of them has an if part. The case
+ * instance is started outside of the measured code.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CmmnSentryBenchmark {
+
+    protected CmmnEngine cmmnEngine;
+    protected CmmnRuntimeService cmmnRuntimeService;
+    protected String planItemInstanceId;
+
+    @Setup(Level.Trial)
+    public void setUpCmmnEngine() {
+        StandaloneInMemCmmnEngineConfiguration cmmnEngineConfiguration = new StandaloneInMemCmmnEngineConfiguration();
+        cmmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-benchmark-cmmn-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=1000");
+        cmmnEngine = cmmnEngineConfiguration.buildCmmnEngine();
+        cmmnRuntimeService = cmmnEngine.getCmmnRuntimeService();
+
+        cmmnEngine.getCmmnRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/sentryCase.cmmn")
+                .deploy();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeCmmnEngine() {
+        if (cmmnEngine != null) {
+            cmmnEngine.close();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void startCaseInstance() {
+        String caseInstanceId = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("sentryCase")
+                .variable("amount", 200)
+                .start()
+                .getId();
+        planItemInstanceId = cmmnRuntimeService.createPlanItemInstanceQuery()
+                .caseInstanceId(caseInstanceId)
+                .planItemInstanceStateActive()
+                .singleResult()
+                .getId();
+    }
+
+    @Benchmark
+    public void triggerPlanItemInstance() {
+        cmmnRuntimeService.triggerPlanItemInstance(planItemInstanceId);
+    }
+
+}
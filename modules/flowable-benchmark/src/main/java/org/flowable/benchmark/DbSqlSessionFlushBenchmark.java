@@ -0,0 +1,84 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Updates all variables of a process instance in one transaction, so the DbSqlSession flushes that many updated entities (and their historic
+ * counterparts, depending on the history level). Runs with and without batched flush, to compare the JDBC batches with one statement per entity.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DbSqlSessionFlushBenchmark extends AbstractProcessEngineBenchmark {
+
+    @Param({ "10", "100" })
+    public int variableCount;
+
+    @Param({ "false", "true" })
+    public boolean batchedFlushEnabled;
+
+    protected String processInstanceId;
+    protected Map<String, Object> variables = new HashMap<>();
+    protected int counter;
+
+    @Override
+    protected String[] getResources() {
+        return new String[] { "org/flowable/benchmark/userTaskProcess.bpmn20.xml" };
+    }
+
+    @Override
+    protected void configureProcessEngine(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setBatchedFlushEnabled(batchedFlushEnabled);
+    }
+
+    @Setup(Level.Trial)
+    public void startProcessInstance() {
+        updateVariables();
+        processInstanceId = runtimeService.startProcessInstanceByKey("userTaskProcess", variables).getId();
+    }
+
+    @Benchmark
+    public void flushVariableUpdates() {
+        updateVariables();
+        runtimeService.setVariables(processInstanceId, variables);
+    }
+
+    protected void updateVariables() {
+        counter++;
+        for (int i = 0; i < variableCount; i++) {
+            variables.put("var" + i, "value-" + i + "-" + counter);
+        }
+    }
+
+}
@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.dmn.api.DmnRuleService;
+import org.flowable.dmn.engine.DmnEngine;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes a decision table on a standalone DMN engine.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DmnDecisionBenchmark {
+
+    protected DmnEngine dmnEngine;
+    protected DmnRuleService ruleService;
+    protected Map<String, Object> variables = new HashMap<>();
+    protected int counter;
+
+    @Setup(Level.Trial)
+    public void setUpDmnEngine() {
+        StandaloneInMemDmnEngineConfiguration dmnEngineConfiguration = new StandaloneInMemDmnEngineConfiguration();
+        dmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-benchmark-dmn-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=1000");
+        dmnEngineConfiguration.setDatabaseSchemaUpdate(DmnEngineConfiguration.DB_SCHEMA_UPDATE_TRUE);
+        dmnEngine = dmnEngineConfiguration.buildDmnEngine();
+        ruleService = dmnEngine.getDmnRuleService();
+
+        dmnEngine.getDmnRepositoryService().createDeployment()
+                .addClasspathResource("org/flowable/benchmark/discountDecision.dmn")
+                .deploy();
+    }
+
+    @TearDown(Level.Trial)
+    public void closeDmnEngine() {
+        if (dmnEngine != null) {
+            dmnEngine.close();
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> executeDecision() {
+        // Cycles through the rules of the decision table
+        int index = counter++ % 4;
+        variables.put("amount", index * 500);
+        variables.put("customerType", index % 2 == 0 ? "regular" : "gold");
+        return ruleService.createExecuteDecisionBuilder()
+                .decisionKey("discountDecision")
+                .variables(variables)
+                .executeWithSingleResult();
+    }
+
+}
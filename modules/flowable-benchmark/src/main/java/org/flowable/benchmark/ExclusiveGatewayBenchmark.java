@@ -0,0 +1,54 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.runtime.ProcessInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Starts a process instance that passes an exclusive gateway, which evaluates the conditions of its outgoing sequence flows until one matches.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExclusiveGatewayBenchmark extends AbstractProcessEngineBenchmark {
+
+    protected int counter;
+
+    @Override
+    protected String[] getResources() {
+        return new String[] { "org/flowable/benchmark/exclusiveGatewayProcess.bpmn20.xml" };
+    }
+
+    @Benchmark
+    public ProcessInstance evaluateGatewayConditions() {
+        // Cycles through all outgoing sequence flows of the gateway
+        int amount = (counter++ % 4) * 100;
+        return runtimeService.startProcessInstanceByKey("exclusiveGatewayProcess", Collections.<String, Object> singletonMap("amount", amount));
+    }
+
+}
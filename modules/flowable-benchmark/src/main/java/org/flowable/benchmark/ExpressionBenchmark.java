@@ -0,0 +1,77 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.engine.common.api.delegate.Expression;
+import org.flowable.engine.common.api.variable.VariableContainer;
+import org.flowable.engine.common.impl.el.ExpressionManager;
+import org.flowable.engine.common.impl.el.VariableContainerWrapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluates an expression with the expression manager of the process engine, with and without parsing the expression text first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExpressionBenchmark extends AbstractProcessEngineBenchmark {
+
+    protected static final String EXPRESSION_TEXT = "${amount > 100 && customer.vip || priority == 'high'}";
+
+    protected ExpressionManager expressionManager;
+    protected Expression expression;
+    protected VariableContainer variableContainer;
+
+    @Setup(Level.Trial)
+    public void createExpression() {
+        expressionManager = processEngineConfiguration.getExpressionManager();
+        expression = expressionManager.createExpression(EXPRESSION_TEXT);
+
+        Map<String, Object> customer = new HashMap<>();
+        customer.put("vip", Boolean.TRUE);
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("amount", 250);
+        variables.put("customer", customer);
+        variables.put("priority", "low");
+        variableContainer = new VariableContainerWrapper(variables);
+    }
+
+    @Benchmark
+    public Object evaluateExpression() {
+        return expression.getValue(variableContainer);
+    }
+
+    @Benchmark
+    public Object createAndEvaluateExpression() {
+        return expressionManager.createExpression(EXPRESSION_TEXT).getValue(variableContainer);
+    }
+
+}
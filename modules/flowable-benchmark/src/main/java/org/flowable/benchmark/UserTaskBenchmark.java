@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Completes a user task, after which the process instance ends. The process instance is started outside of the measured code.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserTaskBenchmark extends AbstractProcessEngineBenchmark {
+
+    protected String taskId;
+
+    @Override
+    protected String[] getResources() {
+        return new String[] { "org/flowable/benchmark/userTaskProcess.bpmn20.xml" };
+    }
+
+    @Setup(Level.Invocation)
+    public void startProcessInstance() {
+        String processInstanceId = runtimeService.startProcessInstanceByKey("userTaskProcess").getId();
+        taskId = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId();
+    }
+
+    @Benchmark
+    public void completeTask() {
+        taskService.complete(taskId);
+    }
+
+}
@@ -76,6 +76,7 @@ public interface BpmnXMLConstants {
     public static final String ELEMENT_DATA_STATE = "dataState";
 
     public static final String ELEMENT_EXTENSIONS = "extensionElements";
+    public static final String ELEMENT_PREFETCH_VARIABLES = "prefetchVariables";
 
     public static final String ELEMENT_EXECUTION_LISTENER = "executionListener";
     public static final String ELEMENT_EVENT_LISTENER = "eventListener";
@@ -111,6 +111,7 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     protected static Map<Class<? extends BaseElement>, BaseBpmnXMLConverter> convertersToXMLMap = new HashMap<>();
 
     protected ClassLoader classloader;
+    protected Schema schema;
     protected List<String> userTaskFormTypes;
     protected List<String> startEventFormTypes;
 
@@ -200,6 +201,21 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
         this.classloader = classloader;
     }
 
+    /**
+     * Sets the compiled BPMN XSD to validate against. A {@link Schema} is immutable and thread-safe, so the same instance can be shared by all converters
+     * instead of compiling the XSD again for every validation.
+     */
+    public void setSchema(Schema schema) {
+        this.schema = schema;
+    }
+
+    public Schema getSchema() throws SAXException {
+        if (schema == null) {
+            schema = createSchema();
+        }
+        return schema;
+    }
+
     public void setUserTaskFormTypes(List<String> userTaskFormTypes) {
         this.userTaskFormTypes = userTaskFormTypes;
     }
@@ -209,16 +225,12 @@ public class BpmnXMLConverter implements BpmnXMLConstants {
     }
 
     public void validateModel(InputStreamProvider inputStreamProvider) throws Exception {
-        Schema schema = createSchema();
-
-        Validator validator = schema.newValidator();
+        Validator validator = getSchema().newValidator();
         validator.validate(new StreamSource(inputStreamProvider.getInputStream()));
     }
 
     public void validateModel(XMLStreamReader xmlStreamReader) throws Exception {
-        Schema schema = createSchema();
-
-        Validator validator = schema.newValidator();
+        Validator validator = getSchema().newValidator();
         validator.validate(new StAXSource(xmlStreamReader));
     }
 
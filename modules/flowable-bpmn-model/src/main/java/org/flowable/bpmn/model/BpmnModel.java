@@ -12,6 +12,7 @@
  */
 package org.flowable.bpmn.model;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
@@ -26,7 +27,9 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
  * @author Tijs Rademakers
  * @author Joram Barrez
  */
-public class BpmnModel {
+public class BpmnModel implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     protected Map<String, List<ExtensionAttribute>> definitionsAttributes = new LinkedHashMap<>();
     protected List<Process> processes = new ArrayList<>();
@@ -50,7 +53,7 @@ public class BpmnModel {
     protected List<String> userTaskFormTypes;
     protected List<String> startEventFormTypes;
     protected int nextFlowIdCounter = 1;
-    protected Object eventSupport;
+    protected transient Object eventSupport;
 
     public Map<String, List<ExtensionAttribute>> getDefinitionsAttributes() {
         return definitionsAttributes;
@@ -30,7 +30,10 @@ public abstract class FlowNode extends FlowElement {
     protected List<SequenceFlow> outgoingFlows = new ArrayList<>();
 
     @JsonIgnore
-    protected Object behavior;
+    protected transient Object behavior;
+
+    @JsonIgnore
+    protected List<String> prefetchVariableNames;
 
     public FlowNode() {
 
@@ -68,6 +71,18 @@ public abstract class FlowNode extends FlowElement {
         this.behavior = behavior;
     }
 
+    /**
+     * The names of the variables that are fetched before the behavior is executed, as set by the engine when parsing the
+     * prefetchVariables extension elements. Null when there are no variables to prefetch.
+     */
+    public List<String> getPrefetchVariableNames() {
+        return prefetchVariableNames;
+    }
+
+    public void setPrefetchVariableNames(List<String> prefetchVariableNames) {
+        this.prefetchVariableNames = prefetchVariableNames;
+    }
+
     public List<SequenceFlow> getIncomingFlows() {
         return incomingFlows;
     }
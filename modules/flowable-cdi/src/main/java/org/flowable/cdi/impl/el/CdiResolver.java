@@ -31,10 +31,12 @@ import org.flowable.engine.common.impl.javax.el.ELResolver;
  */
 public class CdiResolver extends ELResolver {
 
-    protected javax.el.ELContext context;
-
-    public CdiResolver() {
-        context = new javax.el.ELContext() {
+    /**
+     * Creates the context passed to the wrapped resolver. A new context is created for every call,
+     * as the wrapped resolver stores state in it and this resolver is shared by concurrent evaluations.
+     */
+    protected javax.el.ELContext createWrappedContext() {
+        return new javax.el.ELContext() {
 
             @Override
             public VariableMapper getVariableMapper() {
@@ -65,23 +67,23 @@ public class CdiResolver extends ELResolver {
 
     @Override
     public Class<?> getCommonPropertyType(ELContext context, Object base) {
-        return getWrappedResolver().getCommonPropertyType(this.context, base);
+        return getWrappedResolver().getCommonPropertyType(createWrappedContext(), base);
     }
 
     @Override
     public Iterator<FeatureDescriptor> getFeatureDescriptors(ELContext context, Object base) {
-        return getWrappedResolver().getFeatureDescriptors(this.context, base);
+        return getWrappedResolver().getFeatureDescriptors(createWrappedContext(), base);
     }
 
     @Override
     public Class<?> getType(ELContext context, Object base, Object property) {
-        return getWrappedResolver().getType(this.context, base, property);
+        return getWrappedResolver().getType(createWrappedContext(), base, property);
     }
 
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
         try {
-            Object result = getWrappedResolver().getValue(this.context, base, property);
+            Object result = getWrappedResolver().getValue(createWrappedContext(), base, property);
             context.setPropertyResolved(result != null);
             return result;
         } catch (IllegalStateException e) {
@@ -94,17 +96,17 @@ public class CdiResolver extends ELResolver {
 
     @Override
     public boolean isReadOnly(ELContext context, Object base, Object property) {
-        return getWrappedResolver().isReadOnly(this.context, base, property);
+        return getWrappedResolver().isReadOnly(createWrappedContext(), base, property);
     }
 
     @Override
     public void setValue(ELContext context, Object base, Object property, Object value) {
-        getWrappedResolver().setValue(this.context, base, property, value);
+        getWrappedResolver().setValue(createWrappedContext(), base, property, value);
     }
 
     @Override
     public Object invoke(ELContext context, Object base, Object method, java.lang.Class<?>[] paramTypes, Object[] params) {
-        Object result = getWrappedResolver().invoke(this.context, base, method, paramTypes, params);
+        Object result = getWrappedResolver().invoke(createWrappedContext(), base, method, paramTypes, params);
         context.setPropertyResolved(result != null);
         return result;
     }
@@ -73,9 +73,25 @@ public class CmmnEngineConfigurator extends AbstractEngineConfigurator {
         cmmnEngineConfiguration.setTaskQueryLimit(processEngineConfiguration.getTaskQueryLimit());
         cmmnEngineConfiguration.setHistoricTaskQueryLimit(processEngineConfiguration.getHistoricTaskQueryLimit());
 
+        boolean useProcessAsyncHistoryExecutor = cmmnEngineConfiguration.isAsyncHistoryEnabled() && processEngineConfiguration.isAsyncHistoryEnabled();
+        if (useProcessAsyncHistoryExecutor) {
+            // The history jobs of both engines are stored in the same table, so the async history executor of the process engine handles them all
+            cmmnEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+        }
+
         initCmmnEngine();
         
         initServiceConfigurations(engineConfiguration, cmmnEngineConfiguration);
+
+        if (useProcessAsyncHistoryExecutor) {
+            initProcessEngineHistoryJobHandlers(processEngineConfiguration);
+        }
+    }
+
+    protected void initProcessEngineHistoryJobHandlers(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        if (processEngineConfiguration.getHistoryJobHandlers() != null && cmmnEngineConfiguration.getHistoryJobHandlers() != null) {
+            processEngineConfiguration.getHistoryJobHandlers().putAll(cmmnEngineConfiguration.getHistoryJobHandlers());
+        }
     }
 
     protected void initProcessInstanceService(ProcessEngineConfigurationImpl processEngineConfiguration) {
@@ -62,8 +62,12 @@ import org.flowable.cmmn.engine.impl.history.CmmnHistoryManager;
 import org.flowable.cmmn.engine.impl.history.CmmnHistoryTaskManager;
 import org.flowable.cmmn.engine.impl.history.CmmnHistoryVariableManager;
 import org.flowable.cmmn.engine.impl.history.DefaultCmmnHistoryManager;
+import org.flowable.cmmn.engine.impl.history.async.AsyncCmmnHistoryManager;
+import org.flowable.cmmn.engine.impl.history.async.AsyncCmmnHistorySessionFactory;
+import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryJobHandler;
 import org.flowable.cmmn.engine.impl.interceptor.CmmnCommandInvoker;
 import org.flowable.cmmn.engine.impl.job.AsyncActivatePlanItemInstanceJobHandler;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
 import org.flowable.cmmn.engine.impl.job.TriggerTimerEventJobHandler;
 import org.flowable.cmmn.engine.impl.parser.CmmnActivityBehaviorFactory;
 import org.flowable.cmmn.engine.impl.parser.CmmnParser;
@@ -128,6 +132,7 @@ import org.flowable.engine.common.impl.callback.RuntimeInstanceStateChangeCallba
 import org.flowable.engine.common.impl.cfg.BeansConfigurationHelper;
 import org.flowable.engine.common.impl.db.DbSchemaManager;
 import org.flowable.engine.common.impl.el.ExpressionManager;
+import org.flowable.engine.common.impl.history.HistoryCleaningMetrics;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandInterceptor;
@@ -138,14 +143,17 @@ import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.engine.common.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.LatestDefinitionIdCache;
 import org.flowable.engine.common.impl.util.ReflectUtil;
 import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
 import org.flowable.identitylink.service.impl.db.IdentityLinkDbSchemaManager;
+import org.flowable.job.service.HistoryJobHandler;
 import org.flowable.job.service.InternalJobManager;
 import org.flowable.job.service.JobHandler;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExceptionHandler;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncRunnableExecutionExceptionHandler;
 import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
@@ -242,6 +250,22 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int caseDefinitionCacheLimit = -1;
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
 
+    /**
+     * Whether the id of the latest case definition per key and tenant is cached, so that starting a case instance by key doesn't need to query
+     * for the latest version. Deployments done by other engines on the same database are only seen once the cached id expires, see
+     * {@link #latestCaseDefinitionCacheTimeToLive}.
+     */
+    protected boolean enableLatestCaseDefinitionCache;
+    protected long latestCaseDefinitionCacheTimeToLive; // In milliseconds, by default the ids don't expire
+    protected LatestDefinitionIdCache latestCaseDefinitionIdCache;
+
+    /**
+     * Whether an index of the sentry on parts is built when a case definition is deployed. When enabled, evaluating the criteria
+     * after a plan item lifecycle transition skips the sentries without if part that don't have an on part for that transition,
+     * instead of looking up their satisfied sentry parts.
+     */
+    protected boolean enableSentryDependencyIndex = true;
+
     protected HistoryLevel historyLevel = HistoryLevel.AUDIT;
 
     protected ExpressionManager expressionManager;
@@ -518,6 +542,45 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected ExecuteAsyncRunnableFactory asyncExecutorExecuteAsyncRunnableFactory;
 
+    /**
+     * When enabled, the historic data isn't written in the transaction that changes the runtime data,
+     * but is stored as one history job per transaction which is handled by the async history executor.
+     */
+    protected boolean isAsyncHistoryEnabled;
+
+    protected AsyncExecutor asyncHistoryExecutor;
+
+    /**
+     * Boolean flag to be set to activate the async history executor automatically after the engine has booted up.
+     */
+    protected boolean asyncHistoryExecutorActivate;
+
+    /**
+     * The number of retries for a history job.
+     */
+    protected int asyncHistoryExecutorNumberOfRetries = 10;
+
+    protected List<HistoryJobHandler> customHistoryJobHandlers;
+    protected Map<String, HistoryJobHandler> historyJobHandlers;
+
+    /**
+     * When enabled, a timer job ({@link CmmnHistoryCleanupJobHandler}) is scheduled on boot, which removes the history of case instances that ended
+     * longer than {@link #cleanInstancesEndedAfterNumberOfDays} ago. The job is started by the cron expression of {@link #historyCleaningTimeCycleConfig}
+     * and deletes the history in batches of {@link #cleanInstancesBatchSize} case instances, each in its own transaction, pausing
+     * {@link #historyCleaningBatchPause} milliseconds between two batches. When {@link #historyCleaningWindow} milliseconds have passed since the job was
+     * started, the remaining history is left for the next run.
+     * <p>
+     * The retention can be changed per case definition key with {@link #historyCleaningRetentionDays}, a negative value keeps the history forever.
+     */
+    protected boolean enableHistoryCleaning;
+    protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
+    protected int cleanInstancesEndedAfterNumberOfDays = 365;
+    protected Map<String, Integer> historyCleaningRetentionDays = new HashMap<>();
+    protected int cleanInstancesBatchSize = 100;
+    protected long historyCleaningBatchPause = 1000L;
+    protected long historyCleaningWindow = 60 * 60 * 1000L;
+    protected HistoryCleaningMetrics historyCleaningMetrics = new HistoryCleaningMetrics();
+
     public static CmmnEngineConfiguration createCmmnEngineConfigurationFromResourceDefault() {
         return createCmmnEngineConfigurationFromResource("flowable.cmmn.cfg.xml", "cmmnEngineConfiguration");
     }
@@ -583,6 +646,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initActivityBehaviorFactory();
         initDeployers();
         initCaseDefinitionCache();
+        initLatestCaseDefinitionIdCache();
         initDeploymentManager();
         initCaseInstanceHelper();
         initHistoryManager();
@@ -594,9 +658,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         initTaskServiceConfiguration();
         initBusinessCalendarManager();
         initJobHandlers();
+        initHistoryJobHandlers();
         initFailedJobCommandFactory();
         initJobServiceConfiguration();
         initAsyncExecutor();
+        initAsyncHistoryExecutor();
     }
 
     public void initCaseDiagramGenerator() {
@@ -693,6 +759,10 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
         addSessionFactory(new CmmnEngineAgendaSessionFactory(cmmnEngineAgendaFactory));
 
+        if (isAsyncHistoryEnabled) {
+            addSessionFactory(new AsyncCmmnHistorySessionFactory(this));
+        }
+
         if (customSessionFactories != null) {
             for (SessionFactory sessionFactory : customSessionFactories) {
                 addSessionFactory(sessionFactory);
@@ -834,11 +904,18 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
     }
 
+    protected void initLatestCaseDefinitionIdCache() {
+        if (latestCaseDefinitionIdCache == null && enableLatestCaseDefinitionCache) {
+            latestCaseDefinitionIdCache = new LatestDefinitionIdCache(latestCaseDefinitionCacheTimeToLive);
+        }
+    }
+
     protected void initDeploymentManager() {
         if (deploymentManager == null) {
             deploymentManager = new CmmnDeploymentManager();
             deploymentManager.setCmmnEngineConfiguration(this);
             deploymentManager.setCaseDefinitionCache(caseDefinitionCache);
+            deploymentManager.setLatestCaseDefinitionIdCache(latestCaseDefinitionIdCache);
             deploymentManager.setDeployers(deployers);
             deploymentManager.setCaseDefinitionEntityManager(caseDefinitionEntityManager);
             deploymentManager.setDeploymentEntityManager(cmmnDeploymentEntityManager);
@@ -868,7 +945,11 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
     public void initHistoryManager() {
         if (cmmnHistoryManager == null) {
-            cmmnHistoryManager = new DefaultCmmnHistoryManager(this);
+            if (isAsyncHistoryEnabled) {
+                cmmnHistoryManager = new AsyncCmmnHistoryManager(this);
+            } else {
+                cmmnHistoryManager = new DefaultCmmnHistoryManager(this);
+            }
         }
     }
 
@@ -1094,6 +1175,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         jobHandlers = new HashMap<>();
         jobHandlers.put(TriggerTimerEventJobHandler.TYPE, new TriggerTimerEventJobHandler());
         jobHandlers.put(AsyncActivatePlanItemInstanceJobHandler.TYPE, new AsyncActivatePlanItemInstanceJobHandler());
+        jobHandlers.put(CmmnHistoryCleanupJobHandler.TYPE, new CmmnHistoryCleanupJobHandler());
 
         // if we have custom job handlers, register them
         if (customJobHandlers != null) {
@@ -1103,6 +1185,22 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
     }
     
+    public void initHistoryJobHandlers() {
+        if (isAsyncHistoryEnabled) {
+            historyJobHandlers = new HashMap<>();
+
+            CmmnAsyncHistoryJobHandler asyncHistoryJobHandler = new CmmnAsyncHistoryJobHandler();
+            asyncHistoryJobHandler.initDefaultTransformers();
+            historyJobHandlers.put(asyncHistoryJobHandler.getType(), asyncHistoryJobHandler);
+
+            if (customHistoryJobHandlers != null) {
+                for (HistoryJobHandler customHistoryJobHandler : customHistoryJobHandlers) {
+                    historyJobHandlers.put(customHistoryJobHandler.getType(), customHistoryJobHandler);
+                }
+            }
+        }
+    }
+
     public void initFailedJobCommandFactory() {
         if (this.failedJobCommandFactory == null) {
             this.failedJobCommandFactory = new FailedJobCommandFactory() {
@@ -1125,6 +1223,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.jobServiceConfiguration.setBusinessCalendarManager(this.businessCalendarManager);
 
         this.jobServiceConfiguration.setJobHandlers(this.jobHandlers);
+        this.jobServiceConfiguration.setHistoryJobHandlers(this.historyJobHandlers);
         this.jobServiceConfiguration.setFailedJobCommandFactory(this.failedJobCommandFactory);
         
         List<AsyncRunnableExecutionExceptionHandler> exceptionHandlers = new ArrayList<>();
@@ -1205,6 +1304,49 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         jobServiceConfiguration.setAsyncExecutor(asyncExecutor);
     }
 
+    public void initAsyncHistoryExecutor() {
+        if (isAsyncHistoryEnabled) {
+            if (asyncHistoryExecutor == null) {
+                DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
+
+                // Thread pool config
+                defaultAsyncHistoryExecutor.setCorePoolSize(asyncExecutorCorePoolSize);
+                defaultAsyncHistoryExecutor.setMaxPoolSize(asyncExecutorMaxPoolSize);
+                defaultAsyncHistoryExecutor.setKeepAliveTime(asyncExecutorThreadKeepAliveTime);
+
+                // Threadpool queue
+                if (asyncExecutorThreadPoolQueue != null) {
+                    defaultAsyncHistoryExecutor.setThreadPoolQueue(asyncExecutorThreadPoolQueue);
+                }
+                defaultAsyncHistoryExecutor.setQueueSize(asyncExecutorThreadPoolQueueSize);
+
+                // Acquisition wait time
+                defaultAsyncHistoryExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
+
+                // Queue full wait time
+                defaultAsyncHistoryExecutor.setDefaultQueueSizeFullWaitTimeInMillis(asyncExecutorDefaultQueueSizeFullWaitTime);
+
+                // Job locking
+                defaultAsyncHistoryExecutor.setAsyncJobLockTimeInMillis(asyncExecutorAsyncJobLockTimeInMillis);
+                if (asyncExecutorLockOwner != null) {
+                    defaultAsyncHistoryExecutor.setLockOwner(asyncExecutorLockOwner);
+                }
+
+                // Reset expired
+                defaultAsyncHistoryExecutor.setResetExpiredJobsInterval(asyncExecutorResetExpiredJobsInterval);
+                defaultAsyncHistoryExecutor.setResetExpiredJobsPageSize(asyncExecutorResetExpiredJobsPageSize);
+
+                // Shutdown
+                defaultAsyncHistoryExecutor.setSecondsToWaitOnShutdown(asyncExecutorSecondsToWaitOnShutdown);
+
+                asyncHistoryExecutor = defaultAsyncHistoryExecutor;
+            }
+
+            asyncHistoryExecutor.setJobServiceConfiguration(jobServiceConfiguration);
+            asyncHistoryExecutor.setAutoActivate(asyncHistoryExecutorActivate);
+        }
+    }
+
     @Override
     public String getEngineName() {
         return cmmnEngineName;
@@ -1547,6 +1689,42 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableLatestCaseDefinitionCache() {
+        return enableLatestCaseDefinitionCache;
+    }
+
+    public CmmnEngineConfiguration setEnableLatestCaseDefinitionCache(boolean enableLatestCaseDefinitionCache) {
+        this.enableLatestCaseDefinitionCache = enableLatestCaseDefinitionCache;
+        return this;
+    }
+
+    public long getLatestCaseDefinitionCacheTimeToLive() {
+        return latestCaseDefinitionCacheTimeToLive;
+    }
+
+    public CmmnEngineConfiguration setLatestCaseDefinitionCacheTimeToLive(long latestCaseDefinitionCacheTimeToLive) {
+        this.latestCaseDefinitionCacheTimeToLive = latestCaseDefinitionCacheTimeToLive;
+        return this;
+    }
+
+    public LatestDefinitionIdCache getLatestCaseDefinitionIdCache() {
+        return latestCaseDefinitionIdCache;
+    }
+
+    public CmmnEngineConfiguration setLatestCaseDefinitionIdCache(LatestDefinitionIdCache latestCaseDefinitionIdCache) {
+        this.latestCaseDefinitionIdCache = latestCaseDefinitionIdCache;
+        return this;
+    }
+
+    public boolean isEnableSentryDependencyIndex() {
+        return enableSentryDependencyIndex;
+    }
+
+    public CmmnEngineConfiguration setEnableSentryDependencyIndex(boolean enableSentryDependencyIndex) {
+        this.enableSentryDependencyIndex = enableSentryDependencyIndex;
+        return this;
+    }
+
     public ProcessInstanceService getProcessInstanceService() {
         return processInstanceService;
     }
@@ -1902,6 +2080,132 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.jobHandlers = jobHandlers;
         return this;
     }
+
+    public boolean isAsyncHistoryEnabled() {
+        return isAsyncHistoryEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryEnabled(boolean isAsyncHistoryEnabled) {
+        this.isAsyncHistoryEnabled = isAsyncHistoryEnabled;
+        return this;
+    }
+
+    public AsyncExecutor getAsyncHistoryExecutor() {
+        return asyncHistoryExecutor;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutor(AsyncExecutor asyncHistoryExecutor) {
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+        return this;
+    }
+
+    public boolean isAsyncHistoryExecutorActivate() {
+        return asyncHistoryExecutorActivate;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorActivate(boolean asyncHistoryExecutorActivate) {
+        this.asyncHistoryExecutorActivate = asyncHistoryExecutorActivate;
+        return this;
+    }
+
+    public int getAsyncHistoryExecutorNumberOfRetries() {
+        return asyncHistoryExecutorNumberOfRetries;
+    }
+
+    public CmmnEngineConfiguration setAsyncHistoryExecutorNumberOfRetries(int asyncHistoryExecutorNumberOfRetries) {
+        this.asyncHistoryExecutorNumberOfRetries = asyncHistoryExecutorNumberOfRetries;
+        return this;
+    }
+
+    public List<HistoryJobHandler> getCustomHistoryJobHandlers() {
+        return customHistoryJobHandlers;
+    }
+
+    public CmmnEngineConfiguration setCustomHistoryJobHandlers(List<HistoryJobHandler> customHistoryJobHandlers) {
+        this.customHistoryJobHandlers = customHistoryJobHandlers;
+        return this;
+    }
+
+    public Map<String, HistoryJobHandler> getHistoryJobHandlers() {
+        return historyJobHandlers;
+    }
+
+    public CmmnEngineConfiguration setHistoryJobHandlers(Map<String, HistoryJobHandler> historyJobHandlers) {
+        this.historyJobHandlers = historyJobHandlers;
+        return this;
+    }
+
+    public boolean isEnableHistoryCleaning() {
+        return enableHistoryCleaning;
+    }
+
+    public CmmnEngineConfiguration setEnableHistoryCleaning(boolean enableHistoryCleaning) {
+        this.enableHistoryCleaning = enableHistoryCleaning;
+        return this;
+    }
+
+    public String getHistoryCleaningTimeCycleConfig() {
+        return historyCleaningTimeCycleConfig;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningTimeCycleConfig(String historyCleaningTimeCycleConfig) {
+        this.historyCleaningTimeCycleConfig = historyCleaningTimeCycleConfig;
+        return this;
+    }
+
+    public int getCleanInstancesEndedAfterNumberOfDays() {
+        return cleanInstancesEndedAfterNumberOfDays;
+    }
+
+    public CmmnEngineConfiguration setCleanInstancesEndedAfterNumberOfDays(int cleanInstancesEndedAfterNumberOfDays) {
+        this.cleanInstancesEndedAfterNumberOfDays = cleanInstancesEndedAfterNumberOfDays;
+        return this;
+    }
+
+    public Map<String, Integer> getHistoryCleaningRetentionDays() {
+        return historyCleaningRetentionDays;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningRetentionDays(Map<String, Integer> historyCleaningRetentionDays) {
+        this.historyCleaningRetentionDays = historyCleaningRetentionDays;
+        return this;
+    }
+
+    public int getCleanInstancesBatchSize() {
+        return cleanInstancesBatchSize;
+    }
+
+    public CmmnEngineConfiguration setCleanInstancesBatchSize(int cleanInstancesBatchSize) {
+        this.cleanInstancesBatchSize = cleanInstancesBatchSize;
+        return this;
+    }
+
+    public long getHistoryCleaningBatchPause() {
+        return historyCleaningBatchPause;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningBatchPause(long historyCleaningBatchPause) {
+        this.historyCleaningBatchPause = historyCleaningBatchPause;
+        return this;
+    }
+
+    public long getHistoryCleaningWindow() {
+        return historyCleaningWindow;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningWindow(long historyCleaningWindow) {
+        this.historyCleaningWindow = historyCleaningWindow;
+        return this;
+    }
+
+    public HistoryCleaningMetrics getHistoryCleaningMetrics() {
+        return historyCleaningMetrics;
+    }
+
+    public CmmnEngineConfiguration setHistoryCleaningMetrics(HistoryCleaningMetrics historyCleaningMetrics) {
+        this.historyCleaningMetrics = historyCleaningMetrics;
+        return this;
+    }
     
     public InternalJobManager getInternalJobManager() {
         return internalJobManager;
@@ -19,8 +19,10 @@ import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.CmmnTaskService;
 import org.flowable.cmmn.engine.CmmnEngine;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.cmd.ScheduleCmmnHistoryCleanupJobCmd;
 import org.flowable.cmmn.engine.impl.cmd.SchemaOperationsCmmnEngineBuild;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,6 +40,7 @@ public class CmmnEngineImpl implements CmmnEngine {
     protected CmmnManagementService cmmnManagementService;
     protected CmmnRepositoryService cmmnRepositoryService;
     protected CmmnHistoryService cmmnHistoryService;
+    protected AsyncExecutor asyncHistoryExecutor;
     
     public CmmnEngineImpl(CmmnEngineConfiguration cmmnEngineConfiguration) {
         this.cmmnEngineConfiguration = cmmnEngineConfiguration;
@@ -47,13 +50,22 @@ public class CmmnEngineImpl implements CmmnEngine {
         this.cmmnManagementService = cmmnEngineConfiguration.getCmmnManagementService();
         this.cmmnRepositoryService = cmmnEngineConfiguration.getCmmnRepositoryService();
         this.cmmnHistoryService = cmmnEngineConfiguration.getCmmnHistoryService();
+        this.asyncHistoryExecutor = cmmnEngineConfiguration.getAsyncHistoryExecutor();
         
         if (cmmnEngineConfiguration.isUsingRelationalDatabase() && cmmnEngineConfiguration.getDatabaseSchemaUpdate() != null) {
             CommandExecutor commandExecutor = cmmnEngineConfiguration.getCommandExecutor();
             commandExecutor.execute(cmmnEngineConfiguration.getSchemaCommandConfig(), new SchemaOperationsCmmnEngineBuild());
         }
 
+        if (cmmnEngineConfiguration.isUsingRelationalDatabase()) {
+            cmmnEngineConfiguration.getCommandExecutor().execute(new ScheduleCmmnHistoryCleanupJobCmd());
+        }
+
         LOGGER.info("CmmnEngine {} created", name);
+
+        if (asyncHistoryExecutor != null && asyncHistoryExecutor.isAutoActivate()) {
+            asyncHistoryExecutor.start();
+        }
     }
     
     @Override
@@ -68,6 +80,9 @@ public class CmmnEngineImpl implements CmmnEngine {
     @Override
     public void close() {
         // TODO (see ProcessEngineImpl)
+        if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
+            asyncHistoryExecutor.shutdown();
+        }
     }
     
     public CmmnEngineConfiguration getCmmnEngineConfiguration() {
@@ -19,12 +19,14 @@ import java.util.Set;
 
 import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.EntityWithSentryPartInstances;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceContainer;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.model.Criterion;
 import org.flowable.cmmn.model.EventListener;
@@ -47,6 +49,7 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
     private static final Logger LOGGER = LoggerFactory.getLogger(EvaluateCriteriaOperation.class);
 
     protected PlanItemLifeCycleEvent planItemLifeCycleEvent;
+    protected SentryDependencyIndex sentryDependencyIndex;
 
     private enum CriteriaEvaluationResult {SENTRY_SATISFIED, SENTRY_SATISFIED_BUT_IGNORED, PART_TRIGGERED, NONE}
     
@@ -66,6 +69,8 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
     public void run() {
         super.run();
 
+        sentryDependencyIndex = CaseDefinitionUtil.getSentryDependencyIndex(caseInstanceEntity.getCaseDefinitionId());
+
         CriteriaEvaluationResult planModelExitCriteriaEvaluationResult = evaluateExitCriteria(caseInstanceEntity, getPlanModel(caseInstanceEntity));
         if (CriteriaEvaluationResult.SENTRY_SATISFIED.equals(planModelExitCriteriaEvaluationResult)) {
             CommandContextUtil.getAgenda(commandContext).planTerminateCaseInstanceOperation(caseInstanceEntity.getId(), false);
@@ -221,6 +226,10 @@ public class EvaluateCriteriaOperation extends AbstractCaseInstanceOperation {
         for (Criterion entryCriterion : criteria) {
             Sentry sentry = entryCriterion.getSentry();
 
+            if (sentryDependencyIndex != null && !sentryDependencyIndex.isAffectedBy(sentry, planItemLifeCycleEvent)) {
+                continue; // None of the on parts references the current event, no need to look into the satisfied on parts
+            }
+
             if (sentry.getOnParts().size() == 1 && sentry.getSentryIfPart() == null) { // No need to look into the satisfied onparts
                 if (planItemLifeCycleEvent != null) {
                     SentryOnPart sentryOnPart = sentry.getOnParts().get(0);
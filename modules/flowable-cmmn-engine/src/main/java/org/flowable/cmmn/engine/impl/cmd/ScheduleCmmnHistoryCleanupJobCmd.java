@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.common.impl.calendar.BusinessCalendar;
+import org.flowable.engine.common.impl.calendar.CycleBusinessCalendar;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Makes sure the repeating timer job of the case history cleaning exists when it is enabled, with the configured cron expression, and removes the
+ * case history cleaning timer jobs when it is disabled.
+ */
+public class ScheduleCmmnHistoryCleanupJobCmd implements Command<Void> {
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        TimerJobService timerJobService = cmmnEngineConfiguration.getJobServiceConfiguration().getTimerJobService();
+        String timeCycleConfig = cmmnEngineConfiguration.getHistoryCleaningTimeCycleConfig();
+
+        boolean scheduled = false;
+        List<Job> timerJobs = new TimerJobQueryImpl(commandContext).handlerType(CmmnHistoryCleanupJobHandler.TYPE).list();
+        for (Job timerJob : timerJobs) {
+            if (!cmmnEngineConfiguration.isEnableHistoryCleaning()) {
+                timerJobService.deleteTimerJob((TimerJobEntity) timerJob);
+
+            } else if (timerJob.getJobHandlerConfiguration() == null) {
+                // The repeating job is recreated when its cron expression was changed, the jobs of the batches of a run are left alone
+                if (scheduled || !timeCycleConfig.equals(((TimerJobEntity) timerJob).getRepeat())) {
+                    timerJobService.deleteTimerJob((TimerJobEntity) timerJob);
+                } else {
+                    scheduled = true;
+                }
+            }
+        }
+
+        if (cmmnEngineConfiguration.isEnableHistoryCleaning() && !scheduled) {
+            BusinessCalendar businessCalendar = cmmnEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+
+            TimerJobEntity timerJob = timerJobService.createTimerJob();
+            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+            timerJob.setJobHandlerType(CmmnHistoryCleanupJobHandler.TYPE);
+            timerJob.setRepeat(timeCycleConfig);
+            timerJob.setDuedate(businessCalendar.resolveDuedate(timeCycleConfig));
+            timerJobService.scheduleTimerJob(timerJob);
+        }
+
+        return null;
+    }
+
+}
@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.PlanFragment;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryOnPart;
+
+/**
+ * Index of the sentries of a {@link Case}, built once when the case definition is deployed,
+ * mapping each plan item and lifecycle transition to the sentries having an on part referencing it.
+ *
+ * Used to determine which sentries can be affected by a {@link PlanItemLifeCycleEvent}:
+ * a sentry without an if part can only change when one of its on parts matches the event.
+ */
+public class SentryDependencyIndex {
+
+    protected Map<String, Set<String>> sentryIdsByOnPartSource = new HashMap<>();
+
+    public SentryDependencyIndex(Case caze) {
+        if (caze.getPlanModel() != null) {
+            indexPlanFragment(caze.getPlanModel());
+        }
+    }
+
+    protected void indexPlanFragment(PlanFragment planFragment) {
+        for (Sentry sentry : planFragment.getSentries()) {
+            for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+                String key = getKey(sentryOnPart.getSourceRef(), sentryOnPart.getStandardEvent());
+                Set<String> sentryIds = sentryIdsByOnPartSource.get(key);
+                if (sentryIds == null) {
+                    sentryIds = new HashSet<>();
+                    sentryIdsByOnPartSource.put(key, sentryIds);
+                }
+                sentryIds.add(sentry.getId());
+            }
+        }
+
+        for (PlanItem planItem : planFragment.getPlanItems()) {
+            if (planItem.getPlanItemDefinition() instanceof PlanFragment) {
+                indexPlanFragment((PlanFragment) planItem.getPlanItemDefinition());
+            }
+        }
+    }
+
+    /**
+     * Returns the ids of the sentries having an on part for the given plan item and transition.
+     */
+    public Set<String> getSentryIds(String planItemId, String transition) {
+        Set<String> sentryIds = sentryIdsByOnPartSource.get(getKey(planItemId, transition));
+        if (sentryIds != null) {
+            return Collections.unmodifiableSet(sentryIds);
+        }
+        return Collections.emptySet();
+    }
+
+    /**
+     * Returns whether the given sentry needs to be evaluated when the given event has happened
+     * (the event can be null, for an evaluation that isn't caused by a plan item lifecycle transition).
+     * Sentries with an if part always need to be evaluated, as the condition can depend on any variable.
+     */
+    public boolean isAffectedBy(Sentry sentry, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
+        if (sentry.getOnParts().isEmpty() || sentry.getSentryIfPart() != null) {
+            return true;
+        }
+        if (planItemLifeCycleEvent == null || planItemLifeCycleEvent.getPlanItem() == null) {
+            return false;
+        }
+        return getSentryIds(planItemLifeCycleEvent.getPlanItem().getId(), planItemLifeCycleEvent.getTransition()).contains(sentry.getId());
+    }
+
+    protected String getKey(String planItemId, String transition) {
+        return planItemId + "#" + transition;
+    }
+
+}
@@ -24,16 +24,19 @@ import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntityManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
 import org.flowable.cmmn.engine.impl.repository.CaseDefinitionQueryImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.common.EngineDeployer;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.api.repository.EngineDeployment;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.LatestDefinitionIdCache;
 
 public class CmmnDeploymentManager {
 
     protected DeploymentCache<CaseDefinitionCacheEntry> caseDefinitionCache;
+    protected LatestDefinitionIdCache latestCaseDefinitionIdCache;
     protected List<EngineDeployer> deployers;
     protected CmmnEngineConfiguration cmmnEngineConfiguration;
     protected CmmnDeploymentEntityManager deploymentEntityManager;
@@ -44,6 +47,10 @@ public class CmmnDeploymentManager {
     }
 
     public void deploy(EngineDeployment deployment, Map<String, Object> deploymentSettings) {
+        if (deployment.isNew()) {
+            invalidateLatestCaseDefinitionIds();
+        }
+
         for (EngineDeployer deployer : deployers) {
             deployer.deploy(deployment, deploymentSettings);
         }
@@ -68,24 +75,69 @@ public class CmmnDeploymentManager {
     }
 
     public CaseDefinition findDeployedLatestCaseDefinitionByKey(String caseDefinitionKey) {
-        CaseDefinition caseDefinition = caseDefinitionEntityManager.findLatestCaseDefinitionByKey(caseDefinitionKey);
+        CaseDefinition caseDefinition = findCachedLatestCaseDefinition(caseDefinitionKey, null);
+        if (caseDefinition != null) {
+            return caseDefinition;
+        }
+
+        long invalidationStamp = latestCaseDefinitionIdCache != null ? latestCaseDefinitionIdCache.getInvalidationStamp() : 0L;
+        caseDefinition = caseDefinitionEntityManager.findLatestCaseDefinitionByKey(caseDefinitionKey);
 
         if (caseDefinition == null) {
             throw new FlowableObjectNotFoundException("no cases deployed with key '" + caseDefinitionKey + "'", CaseDefinition.class);
         }
         caseDefinition = resolveCaseDefinition(caseDefinition).getCaseDefinition();
+        cacheLatestCaseDefinitionId(caseDefinitionKey, null, caseDefinition, invalidationStamp);
         return caseDefinition;
     }
 
     public CaseDefinition findDeployedLatestCaseDefinitionByKeyAndTenantId(String caseDefinitionKey, String tenantId) {
+        // A null tenant id is not cached, as it would share the cache key of the lookup without tenant
+        boolean useCache = tenantId != null;
+        if (useCache) {
+            CaseDefinition caseDefinition = findCachedLatestCaseDefinition(caseDefinitionKey, tenantId);
+            if (caseDefinition != null) {
+                return caseDefinition;
+            }
+        }
+
+        long invalidationStamp = latestCaseDefinitionIdCache != null ? latestCaseDefinitionIdCache.getInvalidationStamp() : 0L;
         CaseDefinition caseDefinition = caseDefinitionEntityManager.findLatestCaseDefinitionByKeyAndTenantId(caseDefinitionKey, tenantId);
         if (caseDefinition == null) {
             throw new FlowableObjectNotFoundException("no casees deployed with key '" + caseDefinitionKey + "' for tenant identifier '" + tenantId + "'", CaseDefinition.class);
         }
         caseDefinition = resolveCaseDefinition(caseDefinition).getCaseDefinition();
+        if (useCache) {
+            cacheLatestCaseDefinitionId(caseDefinitionKey, tenantId, caseDefinition, invalidationStamp);
+        }
         return caseDefinition;
     }
 
+    protected CaseDefinition findCachedLatestCaseDefinition(String caseDefinitionKey, String tenantId) {
+        if (latestCaseDefinitionIdCache != null) {
+            String caseDefinitionId = latestCaseDefinitionIdCache.get(caseDefinitionKey, tenantId);
+            if (caseDefinitionId != null) {
+                CaseDefinitionCacheEntry cacheEntry = caseDefinitionCache.get(caseDefinitionId);
+                if (cacheEntry != null) {
+                    return cacheEntry.getCaseDefinition();
+                }
+            }
+        }
+        return null;
+    }
+
+    protected void cacheLatestCaseDefinitionId(String caseDefinitionKey, String tenantId, CaseDefinition caseDefinition, long invalidationStamp) {
+        if (latestCaseDefinitionIdCache != null) {
+            latestCaseDefinitionIdCache.put(caseDefinitionKey, tenantId, caseDefinition.getId(), invalidationStamp);
+        }
+    }
+
+    public void invalidateLatestCaseDefinitionIds() {
+        if (latestCaseDefinitionIdCache != null) {
+            latestCaseDefinitionIdCache.invalidateOnCommit(CommandContextUtil.getCommandContext());
+        }
+    }
+
     public CaseDefinition findDeployedCaseDefinitionByKeyAndVersionAndTenantId(String caseDefinitionKey, Integer caseDefinitionVersion, String tenantId) {
         CaseDefinition caseDefinition = (CaseDefinitionEntity) caseDefinitionEntityManager
                 .findCaseDefinitionByKeyAndVersionAndTenantId(caseDefinitionKey, caseDefinitionVersion, tenantId);
@@ -124,6 +176,8 @@ public class CmmnDeploymentManager {
         if (deployment == null) {
             throw new FlowableObjectNotFoundException("Could not find a deployment with id '" + deploymentId + "'.", CmmnDeploymentEntity.class);
         }
+
+        invalidateLatestCaseDefinitionIds();
         
         for (CaseDefinition caseDefinition : new CaseDefinitionQueryImpl().deploymentId(deploymentId).list()) {
             caseDefinitionCache.remove(caseDefinition.getId());
@@ -148,6 +202,14 @@ public class CmmnDeploymentManager {
         this.caseDefinitionCache = caseDefinitionCache;
     }
 
+    public LatestDefinitionIdCache getLatestCaseDefinitionIdCache() {
+        return latestCaseDefinitionIdCache;
+    }
+
+    public void setLatestCaseDefinitionIdCache(LatestDefinitionIdCache latestCaseDefinitionIdCache) {
+        this.latestCaseDefinitionIdCache = latestCaseDefinitionIdCache;
+    }
+
     public CmmnEngineConfiguration getCaseEngineConfiguration() {
         return cmmnEngineConfiguration;
     }
@@ -12,7 +12,6 @@
  */
 package org.flowable.cmmn.engine.impl.history;
 
-import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.task.service.history.InternalHistoryTaskManager;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 
@@ -29,7 +28,7 @@ public class CmmnHistoryTaskManager implements InternalHistoryTaskManager {
 
     @Override
     public void recordTaskInfoChange(TaskEntity taskEntity) {
-        CommandContextUtil.getHistoricTaskService().recordTaskInfoChange(taskEntity);
+        cmmnHistoryManager.recordTaskInfoChange(taskEntity);
     }
 
 }
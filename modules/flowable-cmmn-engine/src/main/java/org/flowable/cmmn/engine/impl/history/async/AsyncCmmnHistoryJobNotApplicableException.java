@@ -0,0 +1,34 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async;
+
+import org.flowable.engine.common.api.FlowableException;
+
+/**
+ * Thrown when a history job contains data that can't be applied yet, for example a task end of which the historic
+ * task is created by a history job that hasn't been executed yet. The job is unacquired and retried later.
+ */
+public class AsyncCmmnHistoryJobNotApplicableException extends FlowableException {
+
+    private static final long serialVersionUID = 1L;
+
+    public AsyncCmmnHistoryJobNotApplicableException() {
+        this(null);
+    }
+
+    public AsyncCmmnHistoryJobNotApplicableException(String message) {
+        super(message);
+        this.isLogged = false;
+    }
+
+}
@@ -0,0 +1,216 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.cmmn.api.runtime.MilestoneInstance;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.history.DefaultCmmnHistoryManager;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.common.impl.history.HistoryLevel;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+import com.fasterxml.jackson.core.Base64Variants;
+
+/**
+ * {@link org.flowable.cmmn.engine.impl.history.CmmnHistoryManager} that doesn't write the historic data in the transaction of the runtime change,
+ * but stores it as the payload of a history job which is handled by the {@link CmmnAsyncHistoryJobHandler}.
+ *
+ * Deleting a historic case instance is an explicit request on the history, so that is still done immediately.
+ */
+public class AsyncCmmnHistoryManager extends DefaultCmmnHistoryManager {
+
+    public AsyncCmmnHistoryManager(CmmnEngineConfiguration cmmnEngineConfiguration) {
+        super(cmmnEngineConfiguration);
+    }
+
+    protected AsyncCmmnHistorySession getAsyncHistorySession() {
+        return CommandContextUtil.getCommandContext().getSession(AsyncCmmnHistorySession.class);
+    }
+
+    @Override
+    public void recordCaseInstanceStart(CaseInstanceEntity caseInstanceEntity) {
+        if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.ACTIVITY)) {
+            Map<String, String> data = new HashMap<>();
+            putIfNotNull(data, CmmnAsyncHistoryConstants.ID, caseInstanceEntity.getId());
+            putIfNotNull(data, CmmnAsyncHistoryConstants.NAME, caseInstanceEntity.getName());
+            putIfNotNull(data, CmmnAsyncHistoryConstants.BUSINESS_KEY, caseInstanceEntity.getBusinessKey());
+            putIfNotNull(data, CmmnAsyncHistoryConstants.PARENT_ID, caseInstanceEntity.getParentId());
+            putIfNotNull(data, CmmnAsyncHistoryConstants.CASE_DEFINITION_ID, caseInstanceEntity.getCaseDefinitionId());
+            putIfNotNull(data, CmmnAsyncHistoryConstants.STATE, caseInstanceEntity.getState());
+            putIfNotNull(data, CmmnAsyncHistoryConstants.START_USER_ID, caseInstanceEntity.getStartUserId());
+            putIfNotNull(data, CmmnAsyncHistoryConstants.START_TIME, caseInstanceEntity.getStartTime());
+            putIfNotNull(data, CmmnAsyncHistoryConstants.TENANT_ID, caseInstanceEntity.getTenantId());
+            getAsyncHistorySession().addHistoricData(CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_START, data, caseInstanceEntity.getTenantId());
+        }
+    }
+
+    @Override
+    public void recordCaseInstanceEnd(String caseInstanceId) {
+        if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.ACTIVITY)) {
+            Map<String, String> data = new HashMap<>();
+            putIfNotNull(data, CmmnAsyncHistoryConstants.ID, caseInstanceId);
+            putIfNotNull(data, CmmnAsyncHistoryConstants.END_TIME, cmmnEngineConfiguration.getClock().getCurrentTime());
+
+            // The runtime case instance has been deleted at this point, but is still available in the entity cache
+            String tenantId = null;
+            CaseInstanceEntity caseInstanceEntity = CommandContextUtil.getEntityCache().findInCache(CaseInstanceEntity.class, caseInstanceId);
+            if (caseInstanceEntity != null) {
+                tenantId = caseInstanceEntity.getTenantId();
+            }
+            getAsyncHistorySession().addHistoricData(CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_END, data, tenantId);
+        }
+    }
+
+    @Override
+    public void recordMilestoneReached(MilestoneInstance milestoneInstance) {
+        if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.ACTIVITY)) {
+            Map<String, String> data = new HashMap<>();
+            putIfNotNull(data, CmmnAsyncHistoryConstants.NAME, milestoneInstance.getName());
+            putIfNotNull(data, CmmnAsyncHistoryConstants.CASE_INSTANCE_ID, milestoneInstance.getCaseInstanceId());
+            putIfNotNull(data, CmmnAsyncHistoryConstants.CASE_DEFINITION_ID, milestoneInstance.getCaseDefinitionId());
+            putIfNotNull(data, CmmnAsyncHistoryConstants.ELEMENT_ID, milestoneInstance.getElementId());
+            getAsyncHistorySession().addHistoricData(CmmnAsyncHistoryConstants.TYPE_MILESTONE_REACHED, data, null);
+        }
+    }
+
+    @Override
+    public void recordVariableCreate(VariableInstanceEntity variable) {
+        if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
+            Map<String, String> data = new HashMap<>();
+            addCommonVariableFields(variable, data);
+            getAsyncHistorySession().addHistoricData(CmmnAsyncHistoryConstants.TYPE_VARIABLE_CREATED, data, null);
+        }
+    }
+
+    @Override
+    public void recordVariableUpdate(VariableInstanceEntity variable) {
+        if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
+            Map<String, String> data = new HashMap<>();
+            addCommonVariableFields(variable, data);
+            getAsyncHistorySession().addHistoricData(CmmnAsyncHistoryConstants.TYPE_VARIABLE_UPDATED, data, null);
+        }
+    }
+
+    @Override
+    public void recordVariableRemoved(VariableInstanceEntity variable) {
+        if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
+            Map<String, String> data = new HashMap<>();
+            putIfNotNull(data, CmmnAsyncHistoryConstants.ID, variable.getId());
+            getAsyncHistorySession().addHistoricData(CmmnAsyncHistoryConstants.TYPE_VARIABLE_REMOVED, data, null);
+        }
+    }
+
+    protected void addCommonVariableFields(VariableInstanceEntity variable, Map<String, String> data) {
+        putIfNotNull(data, CmmnAsyncHistoryConstants.ID, variable.getId());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.NAME, variable.getName());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.REVISION, variable.getRevision());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.TASK_ID, variable.getTaskId());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.SCOPE_ID, variable.getScopeId());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.SUB_SCOPE_ID, variable.getSubScopeId());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.SCOPE_TYPE, variable.getScopeType());
+
+        putIfNotNull(data, CmmnAsyncHistoryConstants.VARIABLE_TYPE, variable.getType().getTypeName());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.VARIABLE_TEXT_VALUE, variable.getTextValue());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.VARIABLE_TEXT_VALUE2, variable.getTextValue2());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.VARIABLE_DOUBLE_VALUE, variable.getDoubleValue());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.VARIABLE_LONG_VALUE, variable.getLongValue());
+        if (variable.getByteArrayRef() != null && variable.getBytes() != null) {
+            putIfNotNull(data, CmmnAsyncHistoryConstants.VARIABLE_BYTES_VALUE, Base64Variants.getDefaultVariant().encode(variable.getBytes()));
+        }
+    }
+
+    @Override
+    public void recordTaskCreated(TaskEntity task) {
+        if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
+            Map<String, String> data = new HashMap<>();
+            addCommonTaskFields(task, data);
+            getAsyncHistorySession().addHistoricData(CmmnAsyncHistoryConstants.TYPE_TASK_CREATED, data, task.getTenantId());
+        }
+    }
+
+    @Override
+    public void recordTaskEnd(TaskEntity task, String deleteReason) {
+        if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
+            Map<String, String> data = new HashMap<>();
+            addCommonTaskFields(task, data);
+            putIfNotNull(data, CmmnAsyncHistoryConstants.DELETE_REASON, deleteReason);
+            putIfNotNull(data, CmmnAsyncHistoryConstants.END_TIME, cmmnEngineConfiguration.getClock().getCurrentTime());
+            getAsyncHistorySession().addHistoricData(CmmnAsyncHistoryConstants.TYPE_TASK_ENDED, data, task.getTenantId());
+        }
+    }
+
+    @Override
+    public void recordTaskInfoChange(TaskEntity taskEntity) {
+        if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
+            Map<String, String> data = new HashMap<>();
+            addCommonTaskFields(taskEntity, data);
+            getAsyncHistorySession().addHistoricData(CmmnAsyncHistoryConstants.TYPE_TASK_UPDATED, data, taskEntity.getTenantId());
+        }
+    }
+
+    protected void addCommonTaskFields(TaskEntity task, Map<String, String> data) {
+        putIfNotNull(data, CmmnAsyncHistoryConstants.ID, task.getId());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.NAME, task.getName());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.PARENT_TASK_ID, task.getParentTaskId());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.DESCRIPTION, task.getDescription());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.OWNER, task.getOwner());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.ASSIGNEE, task.getAssignee());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.START_TIME, task.getCreateTime());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.TASK_DEFINITION_KEY, task.getTaskDefinitionKey());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.PRIORITY, task.getPriority());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.DUE_DATE, task.getDueDate());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.CATEGORY, task.getCategory());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.FORM_KEY, task.getFormKey());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.CLAIM_TIME, task.getClaimTime());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.SCOPE_ID, task.getScopeId());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.SUB_SCOPE_ID, task.getSubScopeId());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.SCOPE_TYPE, task.getScopeType());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.SCOPE_DEFINITION_ID, task.getScopeDefinitionId());
+        putIfNotNull(data, CmmnAsyncHistoryConstants.TENANT_ID, task.getTenantId());
+    }
+
+    protected void putIfNotNull(Map<String, String> map, String key, String value) {
+        if (value != null) {
+            map.put(key, value);
+        }
+    }
+
+    protected void putIfNotNull(Map<String, String> map, String key, int value) {
+        map.put(key, Integer.toString(value));
+    }
+
+    protected void putIfNotNull(Map<String, String> map, String key, Double value) {
+        if (value != null) {
+            map.put(key, Double.toString(value));
+        }
+    }
+
+    protected void putIfNotNull(Map<String, String> map, String key, Long value) {
+        if (value != null) {
+            map.put(key, Long.toString(value));
+        }
+    }
+
+    protected void putIfNotNull(Map<String, String> map, String key, Date value) {
+        if (value != null) {
+            map.put(key, CmmnAsyncHistoryDateUtil.formatDate(value));
+        }
+    }
+
+}
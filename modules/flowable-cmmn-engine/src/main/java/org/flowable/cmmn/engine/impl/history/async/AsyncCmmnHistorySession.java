@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async;
+
+import java.util.Map;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
+import org.flowable.engine.common.impl.interceptor.Session;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Collects the historic data of one transaction, in the order it was recorded.
+ * When the command context closes, all of it is written as one history job
+ * (see {@link AsyncCmmnHistorySessionCommandContextCloseListener}).
+ */
+public class AsyncCmmnHistorySession implements Session {
+
+    protected CommandContext commandContext;
+    protected CmmnEngineConfiguration cmmnEngineConfiguration;
+    protected CommandContextCloseListener commandContextCloseListener;
+
+    protected String tenantId;
+    protected ArrayNode historyNodes;
+
+    public AsyncCmmnHistorySession(CommandContext commandContext, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        this.commandContext = commandContext;
+        this.cmmnEngineConfiguration = cmmnEngineConfiguration;
+        initCommandContextCloseListener();
+    }
+
+    protected void initCommandContextCloseListener() {
+        this.commandContextCloseListener = new AsyncCmmnHistorySessionCommandContextCloseListener(this, cmmnEngineConfiguration);
+    }
+
+    public void addHistoricData(String type, Map<String, String> data, String tenantId) {
+        data.put(CmmnAsyncHistoryConstants.TIMESTAMP, CmmnAsyncHistoryDateUtil.formatDate(cmmnEngineConfiguration.getClock().getCurrentTime()));
+
+        if (historyNodes == null) {
+            historyNodes = cmmnEngineConfiguration.getObjectMapper().createArrayNode();
+            commandContext.addCloseListener(commandContextCloseListener);
+        }
+        if (tenantId != null) {
+            this.tenantId = tenantId;
+        }
+
+        ObjectNode historyNode = historyNodes.addObject();
+        historyNode.put(CmmnAsyncHistoryConstants.TYPE, type);
+        ObjectNode dataNode = historyNode.putObject(CmmnAsyncHistoryConstants.DATA);
+        for (String key : data.keySet()) {
+            dataNode.put(key, data.get(key));
+        }
+    }
+
+    @Override
+    public void flush() {
+
+    }
+
+    @Override
+    public void close() {
+
+    }
+
+    public String getTenantId() {
+        return tenantId;
+    }
+
+    public void setTenantId(String tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public ArrayNode getHistoryNodes() {
+        return historyNodes;
+    }
+
+    public void setHistoryNodes(ArrayNode historyNodes) {
+        this.historyNodes = historyNodes;
+    }
+
+}
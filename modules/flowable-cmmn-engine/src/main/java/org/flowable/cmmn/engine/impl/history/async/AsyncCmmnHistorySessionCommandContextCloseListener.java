@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async;
+
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
+import org.flowable.job.service.HistoryJobService;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+
+/**
+ * Writes all historic data collected by an {@link AsyncCmmnHistorySession} as the json array payload of a single history job.
+ */
+public class AsyncCmmnHistorySessionCommandContextCloseListener implements CommandContextCloseListener {
+
+    protected AsyncCmmnHistorySession asyncHistorySession;
+    protected CmmnEngineConfiguration cmmnEngineConfiguration;
+
+    public AsyncCmmnHistorySessionCommandContextCloseListener(AsyncCmmnHistorySession asyncHistorySession, CmmnEngineConfiguration cmmnEngineConfiguration) {
+        this.asyncHistorySession = asyncHistorySession;
+        this.cmmnEngineConfiguration = cmmnEngineConfiguration;
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+        ArrayNode historyNodes = asyncHistorySession.getHistoryNodes();
+        if (historyNodes != null && historyNodes.size() > 0) {
+            HistoryJobService historyJobService = cmmnEngineConfiguration.getJobServiceConfiguration().getHistoryJobService();
+            HistoryJobEntity historyJobEntity = historyJobService.createHistoryJob();
+            historyJobEntity.setJobHandlerType(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
+            historyJobEntity.setRetries(cmmnEngineConfiguration.getAsyncHistoryExecutorNumberOfRetries());
+            historyJobEntity.setTenantId(asyncHistorySession.getTenantId());
+            historyJobEntity.setCreateTime(cmmnEngineConfiguration.getClock().getCurrentTime());
+            historyJobService.scheduleHistoryJob(historyJobEntity);
+
+            try {
+                historyJobEntity.setAdvancedJobHandlerConfigurationBytes(cmmnEngineConfiguration.getObjectMapper().writeValueAsBytes(historyNodes));
+            } catch (JsonProcessingException e) {
+                throw new FlowableException("Could not serialize historic data for async history", e);
+            }
+            asyncHistorySession.setHistoryNodes(null);
+        }
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+    }
+
+}
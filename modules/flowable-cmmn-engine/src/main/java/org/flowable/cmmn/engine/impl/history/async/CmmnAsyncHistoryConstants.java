@@ -0,0 +1,73 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async;
+
+public interface CmmnAsyncHistoryConstants {
+
+    String JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY = "cmmn-async-history";
+
+    String TYPE = "type";
+    String DATA = "data";
+
+    String TYPE_CASE_INSTANCE_START = "cmmn-case-instance-start";
+    String TYPE_CASE_INSTANCE_END = "cmmn-case-instance-end";
+    String TYPE_MILESTONE_REACHED = "cmmn-milestone-reached";
+    String TYPE_TASK_CREATED = "cmmn-task-created";
+    String TYPE_TASK_UPDATED = "cmmn-task-updated";
+    String TYPE_TASK_ENDED = "cmmn-task-ended";
+    String TYPE_VARIABLE_CREATED = "cmmn-variable-created";
+    String TYPE_VARIABLE_UPDATED = "cmmn-variable-updated";
+    String TYPE_VARIABLE_REMOVED = "cmmn-variable-removed";
+
+    String ID = "id";
+    String NAME = "name";
+    String BUSINESS_KEY = "businessKey";
+    String PARENT_ID = "parentId";
+    String CASE_DEFINITION_ID = "caseDefinitionId";
+    String CASE_INSTANCE_ID = "caseInstanceId";
+    String ELEMENT_ID = "elementId";
+    String STATE = "state";
+    String START_USER_ID = "startUserId";
+    String START_TIME = "startTime";
+    String END_TIME = "endTime";
+    String TENANT_ID = "tenantId";
+
+    String SCOPE_ID = "scopeId";
+    String SUB_SCOPE_ID = "subScopeId";
+    String SCOPE_TYPE = "scopeType";
+    String SCOPE_DEFINITION_ID = "scopeDefinitionId";
+
+    String PARENT_TASK_ID = "parentTaskId";
+    String DESCRIPTION = "description";
+    String OWNER = "owner";
+    String ASSIGNEE = "assignee";
+    String TASK_DEFINITION_KEY = "taskDefinitionKey";
+    String PRIORITY = "priority";
+    String DUE_DATE = "dueDate";
+    String CATEGORY = "category";
+    String FORM_KEY = "formKey";
+    String CLAIM_TIME = "claimTime";
+    String DELETE_REASON = "deleteReason";
+
+    String TASK_ID = "taskId";
+    String REVISION = "revision";
+    String VARIABLE_TYPE = "variableType";
+    String VARIABLE_TEXT_VALUE = "variableTextValue";
+    String VARIABLE_TEXT_VALUE2 = "variableTextValue2";
+    String VARIABLE_DOUBLE_VALUE = "variableDoubleValue";
+    String VARIABLE_LONG_VALUE = "variableLongValue";
+    String VARIABLE_BYTES_VALUE = "variableBytesValue";
+
+    String TIMESTAMP = "__timeStamp";
+
+}
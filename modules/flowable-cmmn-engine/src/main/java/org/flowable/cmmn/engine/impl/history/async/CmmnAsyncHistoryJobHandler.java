@@ -0,0 +1,136 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.cmmn.engine.impl.history.async.json.transformer.CaseInstanceEndHistoryJsonTransformer;
+import org.flowable.cmmn.engine.impl.history.async.json.transformer.CaseInstanceStartHistoryJsonTransformer;
+import org.flowable.cmmn.engine.impl.history.async.json.transformer.CmmnHistoryJsonTransformer;
+import org.flowable.cmmn.engine.impl.history.async.json.transformer.MilestoneReachedHistoryJsonTransformer;
+import org.flowable.cmmn.engine.impl.history.async.json.transformer.TaskCreatedHistoryJsonTransformer;
+import org.flowable.cmmn.engine.impl.history.async.json.transformer.TaskEndedHistoryJsonTransformer;
+import org.flowable.cmmn.engine.impl.history.async.json.transformer.TaskUpdatedHistoryJsonTransformer;
+import org.flowable.cmmn.engine.impl.history.async.json.transformer.VariableCreatedHistoryJsonTransformer;
+import org.flowable.cmmn.engine.impl.history.async.json.transformer.VariableRemovedHistoryJsonTransformer;
+import org.flowable.cmmn.engine.impl.history.async.json.transformer.VariableUpdatedHistoryJsonTransformer;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Handles the history jobs created by the {@link AsyncCmmnHistoryManager}: each job contains an array with all historic data of one transaction,
+ * which is applied in order by the {@link CmmnHistoryJsonTransformer} instances registered for the type of each element.
+ */
+public class CmmnAsyncHistoryJobHandler implements HistoryJobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CmmnAsyncHistoryJobHandler.class);
+
+    protected Map<String, List<CmmnHistoryJsonTransformer>> historyJsonTransformers = new HashMap<>();
+
+    @Override
+    public String getType() {
+        return CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY;
+    }
+
+    public void initDefaultTransformers() {
+        addHistoryJsonTransformer(new CaseInstanceStartHistoryJsonTransformer());
+        addHistoryJsonTransformer(new CaseInstanceEndHistoryJsonTransformer());
+        addHistoryJsonTransformer(new MilestoneReachedHistoryJsonTransformer());
+
+        addHistoryJsonTransformer(new TaskCreatedHistoryJsonTransformer());
+        addHistoryJsonTransformer(new TaskUpdatedHistoryJsonTransformer());
+        addHistoryJsonTransformer(new TaskEndedHistoryJsonTransformer());
+
+        addHistoryJsonTransformer(new VariableCreatedHistoryJsonTransformer());
+        addHistoryJsonTransformer(new VariableUpdatedHistoryJsonTransformer());
+        addHistoryJsonTransformer(new VariableRemovedHistoryJsonTransformer());
+    }
+
+    public void addHistoryJsonTransformer(CmmnHistoryJsonTransformer historyJsonTransformer) {
+        String type = historyJsonTransformer.getType();
+        if (!historyJsonTransformers.containsKey(type)) {
+            historyJsonTransformers.put(type, new ArrayList<CmmnHistoryJsonTransformer>());
+        }
+        historyJsonTransformers.get(type).add(historyJsonTransformer);
+    }
+
+    @Override
+    public void execute(HistoryJobEntity job, String configuration, CommandContext commandContext) {
+        if (job.getAdvancedJobHandlerConfigurationByteArrayRef() == null) {
+            return;
+        }
+
+        JsonNode historyNodes;
+        try {
+            historyNodes = CommandContextUtil.getCmmnEngineConfiguration(commandContext).getObjectMapper()
+                    .readTree(job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes());
+        } catch (Exception e) {
+            // The transaction will be rolled back and the job retries decremented
+            throw new FlowableException("Could not deserialize async history json for job (id=" + job.getId() + ")", e);
+        }
+
+        if (historyNodes.isArray()) {
+            for (JsonNode historyNode : historyNodes) {
+                processHistoryJson(commandContext, job, historyNode);
+            }
+        } else {
+            processHistoryJson(commandContext, job, historyNodes);
+        }
+    }
+
+    protected void processHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode) {
+        String type = historyNode.get(CmmnAsyncHistoryConstants.TYPE).asText();
+        ObjectNode historicalJsonData = (ObjectNode) historyNode.get(CmmnAsyncHistoryConstants.DATA);
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Handling cmmn async history job (id={}, type={})", job.getId(), type);
+        }
+
+        List<CmmnHistoryJsonTransformer> transformers = historyJsonTransformers.get(type);
+        if (transformers != null && !transformers.isEmpty()) {
+            for (CmmnHistoryJsonTransformer transformer : transformers) {
+                if (transformer.isApplicable(historicalJsonData, commandContext)) {
+                    transformer.transformJson(job, historicalJsonData, commandContext);
+
+                } else {
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug("Could not handle history job (id={}) for transformer {}, as it is not applicable. Unacquiring. {}", job.getId(), transformer.getType(), historicalJsonData);
+                    }
+                    throw new AsyncCmmnHistoryJobNotApplicableException();
+                }
+            }
+        } else {
+            LOGGER.debug("Cannot transform history json: no transformers found for type {}", type);
+        }
+    }
+
+    public Map<String, List<CmmnHistoryJsonTransformer>> getHistoryJsonTransformers() {
+        return historyJsonTransformers;
+    }
+
+    public void setHistoryJsonTransformers(Map<String, List<CmmnHistoryJsonTransformer>> historyJsonTransformers) {
+        this.historyJsonTransformers = historyJsonTransformers;
+    }
+
+}
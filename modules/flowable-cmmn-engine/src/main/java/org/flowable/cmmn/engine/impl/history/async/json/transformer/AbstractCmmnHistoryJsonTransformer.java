@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async.json.transformer;
+
+import java.util.Date;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryDateUtil;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public abstract class AbstractCmmnHistoryJsonTransformer implements CmmnHistoryJsonTransformer {
+
+    protected String getStringFromJson(ObjectNode objectNode, String fieldName) {
+        if (objectNode.has(fieldName)) {
+            return objectNode.get(fieldName).asText();
+        }
+        return null;
+    }
+
+    protected Date getDateFromJson(ObjectNode objectNode, String fieldName) {
+        String s = getStringFromJson(objectNode, fieldName);
+        return CmmnAsyncHistoryDateUtil.parseDate(s);
+    }
+
+    protected Integer getIntegerFromJson(ObjectNode objectNode, String fieldName) {
+        String s = getStringFromJson(objectNode, fieldName);
+        if (StringUtils.isNotEmpty(s)) {
+            return Integer.valueOf(s);
+        }
+        return null;
+    }
+
+    protected Double getDoubleFromJson(ObjectNode objectNode, String fieldName) {
+        String s = getStringFromJson(objectNode, fieldName);
+        if (StringUtils.isNotEmpty(s)) {
+            return Double.valueOf(s);
+        }
+        return null;
+    }
+
+    protected Long getLongFromJson(ObjectNode objectNode, String fieldName) {
+        String s = getStringFromJson(objectNode, fieldName);
+        if (StringUtils.isNotEmpty(s)) {
+            return Long.valueOf(s);
+        }
+        return null;
+    }
+
+}
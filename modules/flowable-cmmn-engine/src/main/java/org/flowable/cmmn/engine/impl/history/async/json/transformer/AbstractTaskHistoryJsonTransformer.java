@@ -0,0 +1,64 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async.json.transformer;
+
+import java.util.Date;
+
+import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.identitylink.service.HistoricIdentityLinkService;
+import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
+import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public abstract class AbstractTaskHistoryJsonTransformer extends AbstractCmmnHistoryJsonTransformer {
+
+    protected void copyTaskFields(HistoricTaskInstanceEntity historicTaskInstance, ObjectNode historicalData) {
+        historicTaskInstance.setName(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.NAME));
+        historicTaskInstance.setParentTaskId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.PARENT_TASK_ID));
+        historicTaskInstance.setDescription(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.DESCRIPTION));
+        historicTaskInstance.setOwner(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.OWNER));
+        historicTaskInstance.setAssignee(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.ASSIGNEE));
+        historicTaskInstance.setStartTime(getDateFromJson(historicalData, CmmnAsyncHistoryConstants.START_TIME));
+        historicTaskInstance.setTaskDefinitionKey(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.TASK_DEFINITION_KEY));
+        historicTaskInstance.setPriority(getIntegerFromJson(historicalData, CmmnAsyncHistoryConstants.PRIORITY));
+        historicTaskInstance.setDueDate(getDateFromJson(historicalData, CmmnAsyncHistoryConstants.DUE_DATE));
+        historicTaskInstance.setCategory(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.CATEGORY));
+        historicTaskInstance.setFormKey(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.FORM_KEY));
+        historicTaskInstance.setClaimTime(getDateFromJson(historicalData, CmmnAsyncHistoryConstants.CLAIM_TIME));
+        historicTaskInstance.setScopeId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.SCOPE_ID));
+        historicTaskInstance.setSubScopeId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.SUB_SCOPE_ID));
+        historicTaskInstance.setScopeType(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.SCOPE_TYPE));
+        historicTaskInstance.setScopeDefinitionId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.SCOPE_DEFINITION_ID));
+        historicTaskInstance.setTenantId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.TENANT_ID));
+        historicTaskInstance.setLastUpdateTime(getDateFromJson(historicalData, CmmnAsyncHistoryConstants.TIMESTAMP));
+    }
+
+    protected boolean isNewerThan(HistoricTaskInstanceEntity historicTaskInstance, ObjectNode historicalData) {
+        Date lastUpdateTime = getDateFromJson(historicalData, CmmnAsyncHistoryConstants.TIMESTAMP);
+        return historicTaskInstance.getLastUpdateTime() == null || lastUpdateTime == null || !historicTaskInstance.getLastUpdateTime().after(lastUpdateTime);
+    }
+
+    protected void createHistoricIdentityLink(CommandContext commandContext, String taskId, String type, String userId, Date createTime) {
+        HistoricIdentityLinkService historicIdentityLinkService = CommandContextUtil.getIdentityLinkServiceConfiguration(commandContext).getHistoricIdentityLinkService();
+        HistoricIdentityLinkEntity historicIdentityLinkEntity = historicIdentityLinkService.createHistoricIdentityLink();
+        historicIdentityLinkEntity.setTaskId(taskId);
+        historicIdentityLinkEntity.setType(type);
+        historicIdentityLinkEntity.setUserId(userId);
+        historicIdentityLinkEntity.setCreateTime(createTime);
+        historicIdentityLinkService.insertHistoricIdentityLink(historicIdentityLinkEntity, false);
+    }
+
+}
@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async.json.transformer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.variable.api.types.VariableType;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public abstract class AbstractVariableHistoryJsonTransformer extends AbstractCmmnHistoryJsonTransformer {
+
+    protected void copyVariableValue(HistoricVariableInstanceEntity historicVariable, ObjectNode historicalData, CommandContext commandContext) {
+        VariableType variableType = CommandContextUtil.getCmmnEngineConfiguration(commandContext).getVariableTypes()
+                .getVariableType(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.VARIABLE_TYPE));
+        historicVariable.setVariableType(variableType);
+
+        historicVariable.setTextValue(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.VARIABLE_TEXT_VALUE));
+        historicVariable.setTextValue2(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.VARIABLE_TEXT_VALUE2));
+        historicVariable.setDoubleValue(getDoubleFromJson(historicalData, CmmnAsyncHistoryConstants.VARIABLE_DOUBLE_VALUE));
+        historicVariable.setLongValue(getLongFromJson(historicalData, CmmnAsyncHistoryConstants.VARIABLE_LONG_VALUE));
+
+        String variableBytes = getStringFromJson(historicalData, CmmnAsyncHistoryConstants.VARIABLE_BYTES_VALUE);
+        if (StringUtils.isNotEmpty(variableBytes)) {
+            historicVariable.setBytes(Base64Variants.getDefaultVariant().decode(variableBytes));
+        }
+    }
+
+}
@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async.json.transformer;
+
+import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class CaseInstanceEndHistoryJsonTransformer extends AbstractCmmnHistoryJsonTransformer {
+
+    @Override
+    public String getType() {
+        return CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_END;
+    }
+
+    @Override
+    public boolean isApplicable(ObjectNode historicalData, CommandContext commandContext) {
+        // The case instance start can be part of a history job that hasn't been executed yet
+        return CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext).findById(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.ID)) != null;
+    }
+
+    @Override
+    public void transformJson(HistoryJobEntity job, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricCaseInstanceEntity historicCaseInstanceEntity = CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext)
+                .findById(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.ID));
+        historicCaseInstanceEntity.setEndTime(getDateFromJson(historicalData, CmmnAsyncHistoryConstants.END_TIME));
+    }
+
+}
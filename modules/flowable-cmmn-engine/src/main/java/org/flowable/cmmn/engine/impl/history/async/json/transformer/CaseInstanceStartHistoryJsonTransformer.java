@@ -0,0 +1,57 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async.json.transformer;
+
+import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class CaseInstanceStartHistoryJsonTransformer extends AbstractCmmnHistoryJsonTransformer {
+
+    @Override
+    public String getType() {
+        return CmmnAsyncHistoryConstants.TYPE_CASE_INSTANCE_START;
+    }
+
+    @Override
+    public boolean isApplicable(ObjectNode historicalData, CommandContext commandContext) {
+        return true;
+    }
+
+    @Override
+    public void transformJson(HistoryJobEntity job, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricCaseInstanceEntityManager historicCaseInstanceEntityManager = CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext);
+        String id = getStringFromJson(historicalData, CmmnAsyncHistoryConstants.ID);
+        if (historicCaseInstanceEntityManager.findById(id) != null) {
+            return;
+        }
+
+        HistoricCaseInstanceEntity historicCaseInstanceEntity = historicCaseInstanceEntityManager.create();
+        historicCaseInstanceEntity.setId(id);
+        historicCaseInstanceEntity.setName(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.NAME));
+        historicCaseInstanceEntity.setBusinessKey(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.BUSINESS_KEY));
+        historicCaseInstanceEntity.setParentId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.PARENT_ID));
+        historicCaseInstanceEntity.setCaseDefinitionId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.CASE_DEFINITION_ID));
+        historicCaseInstanceEntity.setState(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.STATE));
+        historicCaseInstanceEntity.setStartUserId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.START_USER_ID));
+        historicCaseInstanceEntity.setStartTime(getDateFromJson(historicalData, CmmnAsyncHistoryConstants.START_TIME));
+        historicCaseInstanceEntity.setTenantId(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.TENANT_ID));
+        historicCaseInstanceEntityManager.insert(historicCaseInstanceEntity);
+    }
+
+}
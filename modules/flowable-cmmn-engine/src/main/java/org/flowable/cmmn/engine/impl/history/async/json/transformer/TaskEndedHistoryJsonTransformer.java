@@ -0,0 +1,69 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async.json.transformer;
+
+import java.util.Date;
+
+import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.service.HistoricTaskService;
+import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class TaskEndedHistoryJsonTransformer extends AbstractTaskHistoryJsonTransformer {
+
+    @Override
+    public String getType() {
+        return CmmnAsyncHistoryConstants.TYPE_TASK_ENDED;
+    }
+
+    @Override
+    public boolean isApplicable(ObjectNode historicalData, CommandContext commandContext) {
+        return true;
+    }
+
+    @Override
+    public void transformJson(HistoryJobEntity job, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricTaskService historicTaskService = CommandContextUtil.getHistoricTaskService(commandContext);
+        String taskId = getStringFromJson(historicalData, CmmnAsyncHistoryConstants.ID);
+        HistoricTaskInstanceEntity historicTaskInstance = historicTaskService.getHistoricTask(taskId);
+
+        // The task end contains all task data, so the historic task is created when the task creation hasn't been handled yet
+        boolean isNew = historicTaskInstance == null;
+        if (isNew) {
+            historicTaskInstance = historicTaskService.createHistoricTask();
+            historicTaskInstance.setId(taskId);
+            copyTaskFields(historicTaskInstance, historicalData);
+
+        } else if (isNewerThan(historicTaskInstance, historicalData)) {
+            copyTaskFields(historicTaskInstance, historicalData);
+        }
+
+        Date endTime = getDateFromJson(historicalData, CmmnAsyncHistoryConstants.END_TIME);
+        historicTaskInstance.setEndTime(endTime);
+        historicTaskInstance.setDeleteReason(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.DELETE_REASON));
+
+        Date startTime = historicTaskInstance.getStartTime();
+        if (startTime != null && endTime != null) {
+            historicTaskInstance.setDurationInMillis(endTime.getTime() - startTime.getTime());
+        }
+
+        if (isNew) {
+            historicTaskService.insertHistoricTask(historicTaskInstance, true);
+        }
+    }
+
+}
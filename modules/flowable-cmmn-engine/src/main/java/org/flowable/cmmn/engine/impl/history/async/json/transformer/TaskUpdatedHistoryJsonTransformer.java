@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async.json.transformer;
+
+import java.util.Date;
+import java.util.Objects;
+
+import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.identitylink.service.IdentityLinkType;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Applies a change of the task properties and, like the synchronous history, records an assignee or owner change as a historic identity link.
+ */
+public class TaskUpdatedHistoryJsonTransformer extends AbstractTaskHistoryJsonTransformer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TaskUpdatedHistoryJsonTransformer.class);
+
+    @Override
+    public String getType() {
+        return CmmnAsyncHistoryConstants.TYPE_TASK_UPDATED;
+    }
+
+    @Override
+    public boolean isApplicable(ObjectNode historicalData, CommandContext commandContext) {
+        return CommandContextUtil.getHistoricTaskService(commandContext).getHistoricTask(getStringFromJson(historicalData, CmmnAsyncHistoryConstants.ID)) != null;
+    }
+
+    @Override
+    public void transformJson(HistoryJobEntity job, ObjectNode historicalData, CommandContext commandContext) {
+        String taskId = getStringFromJson(historicalData, CmmnAsyncHistoryConstants.ID);
+        HistoricTaskInstanceEntity historicTaskInstance = CommandContextUtil.getHistoricTaskService(commandContext).getHistoricTask(taskId);
+
+        if (!isNewerThan(historicTaskInstance, historicalData)) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("History job (id={}) has expired and will be ignored.", job.getId());
+            }
+            return;
+        }
+
+        String previousAssignee = historicTaskInstance.getAssignee();
+        String previousOwner = historicTaskInstance.getOwner();
+        copyTaskFields(historicTaskInstance, historicalData);
+
+        Date lastUpdateTime = historicTaskInstance.getLastUpdateTime();
+        if (!Objects.equals(previousAssignee, historicTaskInstance.getAssignee())) {
+            createHistoricIdentityLink(commandContext, taskId, IdentityLinkType.ASSIGNEE, historicTaskInstance.getAssignee(), lastUpdateTime);
+        }
+        if (!Objects.equals(previousOwner, historicTaskInstance.getOwner())) {
+            createHistoricIdentityLink(commandContext, taskId, IdentityLinkType.OWNER, historicTaskInstance.getOwner(), lastUpdateTime);
+        }
+    }
+
+}
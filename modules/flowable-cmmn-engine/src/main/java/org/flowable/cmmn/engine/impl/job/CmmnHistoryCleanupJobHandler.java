@@ -0,0 +1,165 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.job;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEntityManager;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.dmn.api.DmnEngineConfigurationApi;
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.history.HistoryCleaningMetrics;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.flowable.variable.api.type.VariableScopeType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Removes the history of case instances that ended before their retention period, see {@link CmmnEngineConfiguration#isEnableHistoryCleaning()}.
+ *
+ * Every execution deletes one batch of historic case instances, together with their milestones, tasks, variables and identity links, in the
+ * transaction of the job. Runs and batches are scheduled the same way as the history cleaning of the process engine: the repeating cron timer job
+ * has no configuration, the timer job of the next batch has the end of the time window of the run (in milliseconds since the epoch) as configuration.
+ */
+public class CmmnHistoryCleanupJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(CmmnHistoryCleanupJobHandler.class);
+
+    public static final String TYPE = "cmmn-history-cleanup";
+
+    protected static final long DAY_IN_MILLIS = 24L * 60 * 60 * 1000;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CommandContextUtil.getCmmnEngineConfiguration(commandContext);
+        if (!cmmnEngineConfiguration.isEnableHistoryCleaning()) {
+            return;
+        }
+
+        Date now = cmmnEngineConfiguration.getClock().getCurrentTime();
+
+        final boolean runStart = StringUtils.isEmpty(configuration);
+        long windowEnd;
+        if (runStart) {
+            windowEnd = now.getTime() + cmmnEngineConfiguration.getHistoryCleaningWindow();
+        } else {
+            windowEnd = Long.parseLong(configuration);
+        }
+
+        int batchSize = cmmnEngineConfiguration.getCleanInstancesBatchSize();
+        List<String> caseInstanceIds = findCaseInstanceIdsToClean(cmmnEngineConfiguration, now, batchSize, commandContext);
+        if (!caseInstanceIds.isEmpty()) {
+            deleteHistoricCaseInstances(caseInstanceIds, commandContext);
+        }
+
+        long nextBatchTime = now.getTime() + cmmnEngineConfiguration.getHistoryCleaningBatchPause();
+        if (caseInstanceIds.size() >= batchSize && nextBatchTime < windowEnd) {
+            scheduleNextBatch(cmmnEngineConfiguration, new Date(nextBatchTime), windowEnd);
+        }
+
+        LOGGER.debug("Deleted the history of {} case instances", caseInstanceIds.size());
+
+        final HistoryCleaningMetrics metrics = cmmnEngineConfiguration.getHistoryCleaningMetrics();
+        if (metrics != null) {
+            final long startTime = now.getTime();
+            final int deletedCaseInstanceCount = caseInstanceIds.size();
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                    @Override
+                    public void execute(CommandContext commandContext) {
+                        if (runStart) {
+                            metrics.runStarted(startTime);
+                        }
+                        metrics.batchCompleted(deletedCaseInstanceCount, System.currentTimeMillis());
+                    }
+                });
+            }
+        }
+    }
+
+    protected List<String> findCaseInstanceIdsToClean(CmmnEngineConfiguration cmmnEngineConfiguration, Date now, int batchSize, CommandContext commandContext) {
+        HistoricCaseInstanceEntityManager historicCaseInstanceEntityManager = CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext);
+        List<String> caseInstanceIds = new ArrayList<>();
+
+        Map<String, Integer> retentionDays = cmmnEngineConfiguration.getHistoryCleaningRetentionDays();
+        if (retentionDays != null) {
+            for (Map.Entry<String, Integer> retention : retentionDays.entrySet()) {
+                if (caseInstanceIds.size() >= batchSize) {
+                    return caseInstanceIds;
+                }
+                if (retention.getValue() != null && retention.getValue() >= 0) {
+                    caseInstanceIds.addAll(historicCaseInstanceEntityManager.findHistoricCaseInstanceIdsEndedBefore(
+                            getEndedBefore(now, retention.getValue()), retention.getKey(), null, batchSize - caseInstanceIds.size()));
+                }
+            }
+        }
+
+        int defaultRetentionDays = cmmnEngineConfiguration.getCleanInstancesEndedAfterNumberOfDays();
+        if (caseInstanceIds.size() < batchSize && defaultRetentionDays >= 0) {
+            caseInstanceIds.addAll(historicCaseInstanceEntityManager.findHistoricCaseInstanceIdsEndedBefore(getEndedBefore(now, defaultRetentionDays),
+                    null, retentionDays != null && !retentionDays.isEmpty() ? retentionDays.keySet() : null, batchSize - caseInstanceIds.size()));
+        }
+
+        return caseInstanceIds;
+    }
+
+    protected Date getEndedBefore(Date now, int retentionDays) {
+        return new Date(now.getTime() - retentionDays * DAY_IN_MILLIS);
+    }
+
+    protected void deleteHistoricCaseInstances(List<String> caseInstanceIds, CommandContext commandContext) {
+        // The rows are deleted with one statement per table, executed in the order of the entity dependencies when the session is flushed
+        CommandContextUtil.getHistoricVariableService(commandContext).deleteHistoricVariableInstancesByScopeIds(caseInstanceIds, VariableScopeType.CMMN);
+        CommandContextUtil.getIdentityLinkServiceConfiguration(commandContext).getHistoricIdentityLinkService()
+                .deleteHistoricIdentityLinksByScopeIds(caseInstanceIds, VariableScopeType.CMMN);
+        CommandContextUtil.getHistoricTaskService(commandContext).deleteHistoricTaskInstancesByScopeIds(caseInstanceIds, VariableScopeType.CMMN);
+        CommandContextUtil.getHistoricMilestoneInstanceEntityManager(commandContext).deleteByCaseInstanceIds(caseInstanceIds);
+        CommandContextUtil.getHistoricCaseInstanceEntityManager(commandContext).deleteHistoricCaseInstancesByIds(caseInstanceIds);
+
+        DmnEngineConfigurationApi dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration(commandContext);
+        if (dmnEngineConfiguration != null) {
+            dmnEngineConfiguration.getDmnHistoryService().deleteHistoricDecisionExecutionsByInstanceIds(caseInstanceIds);
+        }
+    }
+
+    protected void scheduleNextBatch(CmmnEngineConfiguration cmmnEngineConfiguration, Date duedate, long windowEnd) {
+        TimerJobService timerJobService = cmmnEngineConfiguration.getJobServiceConfiguration().getTimerJobService();
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setJobHandlerType(TYPE);
+        timerJob.setJobHandlerConfiguration(String.valueOf(windowEnd));
+        timerJob.setDuedate(duedate);
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
@@ -32,5 +34,16 @@ public interface HistoricCaseInstanceEntityManager extends EntityManager<Histori
     long countByCriteria(HistoricCaseInstanceQuery query);
     
     void deleteByCaseDefinitionId(String caseDefinitionId);
+
+    /**
+     * Finds the ids of at most maxResults historic case instances that ended before the given date. When a case definition key is given, only
+     * instances of that definition are returned. Instances of the excluded case definition keys are never returned.
+     */
+    List<String> findHistoricCaseInstanceIdsEndedBefore(Date endedBefore, String caseDefinitionKey, Collection<String> excludedCaseDefinitionKeys, int maxResults);
+
+    /**
+     * Deletes the historic case instances with the given ids, without loading them first and without deleting their related data.
+     */
+    void deleteHistoricCaseInstancesByIds(Collection<String> historicCaseInstanceIds);
     
 }
\ No newline at end of file
@@ -13,6 +13,8 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
@@ -64,4 +66,14 @@ public class HistoricCaseInstanceEntityManagerImpl extends AbstractCmmnEntityMan
         historicCaseInstanceDataManager.deleteByCaseDefinitionId(caseDefinitionId);
     }
 
+    @Override
+    public List<String> findHistoricCaseInstanceIdsEndedBefore(Date endedBefore, String caseDefinitionKey, Collection<String> excludedCaseDefinitionKeys, int maxResults) {
+        return historicCaseInstanceDataManager.findHistoricCaseInstanceIdsEndedBefore(endedBefore, caseDefinitionKey, excludedCaseDefinitionKeys, maxResults);
+    }
+
+    @Override
+    public void deleteHistoricCaseInstancesByIds(Collection<String> historicCaseInstanceIds) {
+        historicCaseInstanceDataManager.deleteHistoricCaseInstancesByIds(historicCaseInstanceIds);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
@@ -31,4 +32,9 @@ public interface HistoricMilestoneInstanceEntityManager extends EntityManager<Hi
     
     void deleteByCaseDefinitionId(String caseDefinitionId);
 
+    /**
+     * Deletes the historic milestones of the given case instances, without loading them first.
+     */
+    void deleteByCaseInstanceIds(Collection<String> caseInstanceIds);
+
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.cmmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
@@ -58,6 +59,11 @@ public class HistoricMilestoneInstanceEntityManagerImpl extends AbstractCmmnEnti
     public void deleteByCaseDefinitionId(String caseDefinitionId) {
         historicMilestoneInstanceDataManager.deleteByCaseDefinitionId(caseDefinitionId);
     }
+
+    @Override
+    public void deleteByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        historicMilestoneInstanceDataManager.deleteByCaseInstanceIds(caseInstanceIds);
+    }
     
     public HistoricMilestoneInstanceDataManager getHistoricMilestoneInstanceDataManager() {
         return historicMilestoneInstanceDataManager;
@@ -12,6 +12,8 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
@@ -31,5 +33,9 @@ public interface HistoricCaseInstanceDataManager extends DataManager<HistoricCas
     long countByCriteria(HistoricCaseInstanceQueryImpl query);
     
     void deleteByCaseDefinitionId(String caseDefinitionId);
+
+    List<String> findHistoricCaseInstanceIdsEndedBefore(Date endedBefore, String caseDefinitionKey, Collection<String> excludedCaseDefinitionKeys, int maxResults);
+
+    void deleteHistoricCaseInstancesByIds(Collection<String> historicCaseInstanceIds);
     
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
@@ -30,4 +31,6 @@ public interface HistoricMilestoneInstanceDataManager extends DataManager<Histor
     
     void deleteByCaseDefinitionId(String caseDefinitionId);
 
+    void deleteByCaseInstanceIds(Collection<String> caseInstanceIds);
+
 }
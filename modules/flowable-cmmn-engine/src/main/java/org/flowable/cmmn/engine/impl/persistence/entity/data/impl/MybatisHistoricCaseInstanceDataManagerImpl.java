@@ -12,7 +12,12 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -22,6 +27,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.HistoricCaseInstanceEnti
 import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.HistoricCaseInstanceDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.matcher.HistoricCaseInstanceByCaseDefinitionIdMatcher;
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
 
 /**
  * @author Joram Barrez
@@ -65,4 +71,21 @@ public class MybatisHistoricCaseInstanceDataManagerImpl extends AbstractCmmnData
         getDbSqlSession().delete("deleteHistoricCaseInstanceByCaseDefinitionId", caseDefinitionId, getManagedEntityClass());
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricCaseInstanceIdsEndedBefore(Date endedBefore, String caseDefinitionKey, Collection<String> excludedCaseDefinitionKeys, int maxResults) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("endedBefore", endedBefore);
+        params.put("caseDefinitionKey", caseDefinitionKey);
+        if (excludedCaseDefinitionKeys != null && !excludedCaseDefinitionKeys.isEmpty()) {
+            params.put("excludedCaseDefinitionKeys", new ArrayList<>(excludedCaseDefinitionKeys));
+        }
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectHistoricCaseInstanceIdsEndedBefore", new ListQueryParameterObject(params, 0, maxResults));
+    }
+
+    @Override
+    public void deleteHistoricCaseInstancesByIds(Collection<String> historicCaseInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricCaseInstancesByIds", new ArrayList<>(historicCaseInstanceIds), getManagedEntityClass());
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricMilestoneInstance;
@@ -57,4 +59,9 @@ public class MybatisHistoricMilestoneInstanceDataManager extends AbstractCmmnDat
         getDbSqlSession().delete("deleteHistoricMilestoneInstanceByCaseDefinitionId", caseDefinitionId, getManagedEntityClass());
     }
 
+    @Override
+    public void deleteByCaseInstanceIds(Collection<String> caseInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricMilestoneInstancesByCaseInstanceIds", new ArrayList<>(caseInstanceIds), getManagedEntityClass());
+    }
+
 }
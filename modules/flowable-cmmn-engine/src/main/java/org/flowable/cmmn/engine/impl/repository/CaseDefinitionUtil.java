@@ -14,6 +14,7 @@ package org.flowable.cmmn.engine.impl.repository;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.api.repository.CaseDefinition;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.deployer.CmmnDeploymentManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.CmmnDeploymentEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
@@ -54,6 +55,16 @@ public class CaseDefinitionUtil {
         return deploymentManager.getCaseDefinitionCache().get(caseDefinitionId).getCmmnModel();
     }
 
+    public static SentryDependencyIndex getSentryDependencyIndex(String caseDefinitionId) {
+        CmmnDeploymentManager deploymentManager = CommandContextUtil.getCmmnEngineConfiguration().getDeploymentManager();
+        CaseDefinitionCacheEntry cacheEntry = deploymentManager.getCaseDefinitionCache().get(caseDefinitionId);
+        if (cacheEntry != null) {
+            return cacheEntry.getSentryDependencyIndex();
+        }
+        deploymentManager.findDeployedCaseDefinitionById(caseDefinitionId);
+        return deploymentManager.getCaseDefinitionCache().get(caseDefinitionId).getSentryDependencyIndex();
+    }
+
     public static Case getCase(String caseDefinitionId) {
         return getCmmnModel(caseDefinitionId).getPrimaryCase();
     }
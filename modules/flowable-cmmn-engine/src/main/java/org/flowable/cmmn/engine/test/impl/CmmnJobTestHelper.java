@@ -18,6 +18,7 @@ import java.util.TimerTask;
 import org.flowable.cmmn.engine.CmmnEngine;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.job.service.impl.HistoryJobQueryImpl;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 
 
@@ -77,6 +78,48 @@ public class CmmnJobTestHelper {
         }
     }
     
+    public static void waitForAsyncHistoryExecutorToProcessAllJobs(final CmmnEngineConfiguration cmmnEngineConfiguration, final long maxMillisToWait, 
+            final long intervalMillis, final boolean shutdownExecutorWhenFinished) {
+
+        AsyncExecutor asyncHistoryExecutor = cmmnEngineConfiguration.getAsyncHistoryExecutor();
+        
+        if (asyncHistoryExecutor == null) {
+            throw new FlowableException("No async history executor set. Check the cmmn engine configuration.");
+        }
+        
+        asyncHistoryExecutor.start();
+
+        try {
+            Timer timer = new Timer();
+            JobInterruptionTask jobInterruptionTask = new JobInterruptionTask();
+            timer.schedule(jobInterruptionTask, maxMillisToWait);
+            
+            boolean areJobsAvailable = true;
+            try {
+                while (areJobsAvailable && !jobInterruptionTask.isMaxTimeUsed()) {
+                    Thread.sleep(intervalMillis);
+                    try {
+                        areJobsAvailable = new HistoryJobQueryImpl(cmmnEngineConfiguration.getCommandExecutor()).count() > 0;
+                    } catch (Throwable t) { 
+                        // ignore
+                    }
+                }
+            } catch (InterruptedException e) {
+                // ignore
+            } finally {
+                timer.cancel();
+            }
+            if (areJobsAvailable) {
+                throw new FlowableException("Time limit of " + maxMillisToWait + " was exceeded");
+            }
+
+        } finally {
+            if (shutdownExecutorWhenFinished) {
+                asyncHistoryExecutor.shutdown();
+            }
+        }
+    }
+    
     public static class JobInterruptionTask extends TimerTask {
         
         protected boolean maxTimeUsed;
@@ -0,0 +1,133 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+
+import java.util.Collections;
+
+import org.flowable.cmmn.api.CmmnHistoryService;
+import org.flowable.cmmn.api.CmmnRepositoryService;
+import org.flowable.cmmn.api.CmmnRuntimeService;
+import org.flowable.cmmn.api.CmmnTaskService;
+import org.flowable.cmmn.api.history.HistoricCaseInstance;
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.CmmnEngine;
+import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.test.impl.CmmnJobTestHelper;
+import org.flowable.task.api.Task;
+import org.flowable.task.api.history.HistoricTaskInstance;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * Uses a dedicated engine, as async history needs to be enabled when the engine is built.
+ */
+public class AsyncCmmnHistoryTest {
+
+    protected static CmmnEngine cmmnEngine;
+
+    protected CmmnEngineConfiguration cmmnEngineConfiguration;
+    protected CmmnRepositoryService cmmnRepositoryService;
+    protected CmmnRuntimeService cmmnRuntimeService;
+    protected CmmnTaskService cmmnTaskService;
+    protected CmmnHistoryService cmmnHistoryService;
+
+    protected String deploymentId;
+
+    @BeforeClass
+    public static void buildCmmnEngine() {
+        CmmnEngineConfiguration cmmnEngineConfiguration = CmmnEngineConfiguration.createStandaloneInMemCmmnEngineConfiguration();
+        cmmnEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-cmmn-async-history;DB_CLOSE_DELAY=1000");
+        cmmnEngineConfiguration.setAsyncHistoryEnabled(true);
+        cmmnEngine = cmmnEngineConfiguration.buildCmmnEngine();
+    }
+
+    @AfterClass
+    public static void closeCmmnEngine() {
+        cmmnEngine.close();
+    }
+
+    @Before
+    public void setupServices() {
+        this.cmmnEngineConfiguration = cmmnEngine.getCmmnEngineConfiguration();
+        this.cmmnRepositoryService = cmmnEngineConfiguration.getCmmnRepositoryService();
+        this.cmmnRuntimeService = cmmnEngineConfiguration.getCmmnRuntimeService();
+        this.cmmnTaskService = cmmnEngineConfiguration.getCmmnTaskService();
+        this.cmmnHistoryService = cmmnEngineConfiguration.getCmmnHistoryService();
+
+        deploymentId = cmmnRepositoryService.createDeployment()
+                .addClasspathResource("org/flowable/cmmn/test/one-human-task-model.cmmn")
+                .deploy()
+                .getId();
+    }
+
+    @After
+    public void cleanupDeployment() {
+        cmmnRepositoryService.deleteDeployment(deploymentId, true);
+    }
+
+    @Test
+    public void testCaseInstanceHistory() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("oneTaskCase")
+                .variable("myVar", "test")
+                .start();
+
+        assertEquals(0, cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(caseInstance.getId()).count());
+        assertEquals(0, cmmnHistoryService.createHistoricTaskInstanceQuery().caseInstanceId(caseInstance.getId()).count());
+        assertEquals(0, cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstance.getId()).count());
+
+        waitForAsyncHistoryExecutorToProcessAllJobs();
+
+        HistoricCaseInstance historicCaseInstance = cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        assertNotNull(historicCaseInstance);
+        assertEquals(caseInstance.getCaseDefinitionId(), historicCaseInstance.getCaseDefinitionId());
+        assertNotNull(historicCaseInstance.getStartTime());
+        assertEquals(0, cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(caseInstance.getId()).finished().count());
+
+        HistoricTaskInstance historicTaskInstance = cmmnHistoryService.createHistoricTaskInstanceQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        assertNotNull(historicTaskInstance);
+        assertEquals("The Task", historicTaskInstance.getName());
+        assertEquals("johnDoe", historicTaskInstance.getAssignee());
+
+        assertEquals("test", cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstance.getId()).singleResult().getValue());
+
+        cmmnRuntimeService.setVariables(caseInstance.getId(), Collections.<String, Object>singletonMap("myVar", "updated"));
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        cmmnTaskService.setAssignee(task.getId(), "janeDoe");
+        waitForAsyncHistoryExecutorToProcessAllJobs();
+
+        assertEquals("updated", cmmnHistoryService.createHistoricVariableInstanceQuery().caseInstanceId(caseInstance.getId()).singleResult().getValue());
+        assertEquals("janeDoe", cmmnHistoryService.createHistoricTaskInstanceQuery().caseInstanceId(caseInstance.getId()).singleResult().getAssignee());
+
+        cmmnTaskService.complete(task.getId());
+        assertEquals(0, cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(caseInstance.getId()).finished().count());
+
+        waitForAsyncHistoryExecutorToProcessAllJobs();
+
+        assertEquals(1, cmmnHistoryService.createHistoricCaseInstanceQuery().caseInstanceId(caseInstance.getId()).finished().count());
+        historicTaskInstance = cmmnHistoryService.createHistoricTaskInstanceQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        assertNotNull(historicTaskInstance.getEndTime());
+        assertNotNull(historicTaskInstance.getDurationInMillis());
+    }
+
+    protected void waitForAsyncHistoryExecutorToProcessAllJobs() {
+        CmmnJobTestHelper.waitForAsyncHistoryExecutorToProcessAllJobs(cmmnEngineConfiguration, 10000L, 100L, true);
+    }
+
+}
@@ -0,0 +1,185 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.impl.cmd.ScheduleCmmnHistoryCleanupJobCmd;
+import org.flowable.cmmn.engine.impl.job.CmmnHistoryCleanupJobHandler;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.engine.common.impl.history.HistoryCleaningMetrics;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class CmmnHistoryCleanupTest extends FlowableCmmnTestCase {
+
+    protected HistoryCleaningMetrics metrics;
+
+    @Before
+    public void enableHistoryCleaning() {
+        metrics = new HistoryCleaningMetrics();
+        cmmnEngineConfiguration.setEnableHistoryCleaning(true);
+        cmmnEngineConfiguration.setCleanInstancesBatchSize(2);
+        cmmnEngineConfiguration.setHistoryCleaningBatchPause(0);
+        cmmnEngineConfiguration.setHistoryCleaningMetrics(metrics);
+        cmmnEngineConfiguration.getCommandExecutor().execute(new ScheduleCmmnHistoryCleanupJobCmd());
+    }
+
+    @After
+    public void disableHistoryCleaning() {
+        cmmnEngineConfiguration.setEnableHistoryCleaning(false);
+        cmmnEngineConfiguration.getCommandExecutor().execute(new ScheduleCmmnHistoryCleanupJobCmd());
+        cmmnEngineConfiguration.setCleanInstancesBatchSize(100);
+        cmmnEngineConfiguration.setHistoryCleaningBatchPause(1000L);
+        cmmnEngineConfiguration.setHistoryCleaningRetentionDays(new HashMap<String, Integer>());
+        cmmnEngineConfiguration.setHistoryCleaningMetrics(new HistoryCleaningMetrics());
+        cmmnEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    public void testCleanupJobScheduledOnce() {
+        List<Job> timerJobs = cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).list();
+        assertEquals(1, timerJobs.size());
+
+        cmmnEngineConfiguration.getCommandExecutor().execute(new ScheduleCmmnHistoryCleanupJobCmd());
+        assertEquals(timerJobs.get(0).getId(), cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+
+        // A changed cron expression replaces the job
+        cmmnEngineConfiguration.setHistoryCleaningTimeCycleConfig("0 0 2 * * ?");
+        try {
+            cmmnEngineConfiguration.getCommandExecutor().execute(new ScheduleCmmnHistoryCleanupJobCmd());
+            Job timerJob = cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult();
+            assertFalse(timerJobs.get(0).getId().equals(timerJob.getId()));
+        } finally {
+            cmmnEngineConfiguration.setHistoryCleaningTimeCycleConfig("0 0 1 * * ?");
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/one-human-task-model.cmmn")
+    public void testCleanupEndedCaseInstancesInBatches() {
+        CaseInstance runningCaseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+        long byteArrayCount = getTableCount("ACT_GE_BYTEARRAY");
+
+        for (int i = 0; i < 5; i++) {
+            startAndCompleteCaseInstance();
+        }
+        assertEquals(6, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
+        assertEquals(6, cmmnHistoryService.createHistoricTaskInstanceQuery().count());
+        assertEquals(10, cmmnHistoryService.createHistoricVariableInstanceQuery().count());
+
+        // Nothing has ended long enough ago yet
+        executeCleanupJobs();
+        assertEquals(6, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
+
+        moveClockDays(366);
+        executeCleanupJobs();
+
+        assertEquals(1, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
+        assertEquals(runningCaseInstance.getId(), cmmnHistoryService.createHistoricCaseInstanceQuery().singleResult().getId());
+        assertEquals(1, cmmnHistoryService.createHistoricTaskInstanceQuery().count());
+        assertEquals(0, cmmnHistoryService.createHistoricVariableInstanceQuery().count());
+        assertEquals(byteArrayCount, getTableCount("ACT_GE_BYTEARRAY"));
+
+        // 5 instances in batches of 2: the third batch was not full, so no more batches were scheduled
+        assertEquals(5, metrics.getDeletedInstances());
+        assertEquals(4, metrics.getBatches());
+        assertEquals(2, metrics.getRuns());
+    }
+
+    @Test
+    @CmmnDeployment(resources = { "org/flowable/cmmn/test/one-human-task-model.cmmn",
+            "org/flowable/cmmn/test/history/HistoryServiceTest.testStartSimplePassthroughCase.cmmn" })
+    public void testRetentionPerCaseDefinitionKey() {
+        startAndCompleteCaseInstance();
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("myCase").start();
+        assertEquals(2, cmmnHistoryService.createHistoricCaseInstanceQuery().finished().count());
+        assertEquals(2, cmmnHistoryService.createHistoricMilestoneInstanceQuery().count());
+
+        Map<String, Integer> retentionDays = new HashMap<>();
+        retentionDays.put("myCase", -1);
+        cmmnEngineConfiguration.setHistoryCleaningRetentionDays(retentionDays);
+
+        moveClockDays(366);
+        executeCleanupJobs();
+        assertEquals(1, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
+        assertEquals(caseInstance.getId(), cmmnHistoryService.createHistoricCaseInstanceQuery().singleResult().getId());
+
+        retentionDays.put("myCase", 400);
+        executeCleanupJobs();
+        assertEquals(1, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
+
+        moveClockDays(40);
+        executeCleanupJobs();
+        assertEquals(0, cmmnHistoryService.createHistoricCaseInstanceQuery().count());
+        assertEquals(0, cmmnHistoryService.createHistoricMilestoneInstanceQuery().count());
+        assertEquals(0, cmmnHistoryService.createHistoricTaskInstanceQuery().count());
+        assertEquals(0, cmmnHistoryService.createHistoricVariableInstanceQuery().count());
+    }
+
+    protected void startAndCompleteCaseInstance() {
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("oneTaskCase")
+                .variable("name", "kermit")
+                .variable("bytes", "someBytes".getBytes())
+                .start();
+
+        Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance.getId()).singleResult();
+        cmmnTaskService.complete(task.getId());
+        assertCaseInstanceEnded(caseInstance);
+    }
+
+    protected long getTableCount(String tableName) {
+        return cmmnManagementService.getTableCounts().get(cmmnEngineConfiguration.getDatabaseTablePrefix() + tableName);
+    }
+
+    protected void moveClockDays(int days) {
+        Date now = cmmnEngineConfiguration.getClock().getCurrentTime();
+        cmmnEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + days * 24L * 60 * 60 * 1000));
+    }
+
+    /**
+     * Executes the repeating cleanup job, and the jobs of the batches it scheduled.
+     */
+    protected void executeCleanupJobs() {
+        Job cronJob = cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).singleResult();
+        executeTimerJob(cronJob);
+
+        List<Job> timerJobs = cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).list();
+        while (timerJobs.size() > 1) {
+            for (Job timerJob : timerJobs) {
+                if (timerJob.getJobHandlerConfiguration() != null) {
+                    executeTimerJob(timerJob);
+                }
+            }
+            timerJobs = cmmnManagementService.createTimerJobQuery().handlerType(CmmnHistoryCleanupJobHandler.TYPE).list();
+        }
+    }
+
+    protected void executeTimerJob(Job timerJob) {
+        Job job = cmmnManagementService.moveTimerToExecutableJob(timerJob.getId());
+        cmmnManagementService.executeJob(job.getId());
+    }
+
+}
@@ -14,7 +14,9 @@ package org.flowable.cmmn.test.runtime;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.flowable.cmmn.api.history.HistoricCaseInstance;
@@ -23,8 +25,13 @@ import org.flowable.cmmn.api.repository.CaseDefinition;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
+import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.model.PlanItemTransition;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.junit.Test;
 
 /**
@@ -132,4 +139,39 @@ public class EntryCriteriaTest extends FlowableCmmnTestCase {
         assertEquals(1, cmmnHistoryService.createHistoricCaseInstanceQuery().finished().count());
     }
 
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/EntryCriteriaTest.testThreeEntryCriteriaOnPartsForWaitStates.cmmn")
+    public void testSentryDependencyIndex() {
+        final CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().singleResult();
+        SentryDependencyIndex sentryDependencyIndex = cmmnEngineConfiguration.getCommandExecutor().execute(new Command<SentryDependencyIndex>() {
+
+            @Override
+            public SentryDependencyIndex execute(CommandContext commandContext) {
+                return CaseDefinitionUtil.getSentryDependencyIndex(caseDefinition.getId());
+            }
+        });
+        assertNotNull(sentryDependencyIndex);
+        assertEquals(Collections.singleton("sentry"), sentryDependencyIndex.getSentryIds("planItemTask1", PlanItemTransition.COMPLETE));
+        assertEquals(Collections.singleton("sentry"), sentryDependencyIndex.getSentryIds("planItemTask3", PlanItemTransition.COMPLETE));
+        assertTrue(sentryDependencyIndex.getSentryIds("planItemTask1", PlanItemTransition.START).isEmpty());
+        assertTrue(sentryDependencyIndex.getSentryIds("planItemMileStoneOne", PlanItemTransition.OCCUR).isEmpty());
+
+        // Only the completion of the last task satisfies the sentry, the other transitions in between don't affect it
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionId(caseDefinition.getId()).start();
+        List<PlanItemInstance> planItemInstances = cmmnRuntimeService.createPlanItemInstanceQuery()
+                .caseInstanceId(caseInstance.getId())
+                .planItemInstanceState(PlanItemInstanceState.ACTIVE)
+                .orderByName().asc()
+                .list();
+        assertEquals(3, planItemInstances.size());
+
+        cmmnRuntimeService.triggerPlanItemInstance(planItemInstances.get(0).getId());
+        cmmnRuntimeService.triggerPlanItemInstance(planItemInstances.get(1).getId());
+        assertEquals(0, cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstance.getId()).count());
+
+        cmmnRuntimeService.triggerPlanItemInstance(planItemInstances.get(2).getId());
+        assertEquals(1, cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstance.getId()).count());
+        assertCaseInstanceEnded(caseInstance);
+    }
+
 }
@@ -92,6 +92,7 @@ import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.engine.common.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.LatestDefinitionIdCache;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.engine.common.runtime.Clock;
 import org.slf4j.Logger;
@@ -155,6 +156,14 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
 
     protected int decisionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<DecisionTableCacheEntry> decisionCache;
+
+    /**
+     * Whether the id of the latest decision table per key and tenant is cached, so that looking it up by key doesn't need a query. Deployments done by other
+     * engines on the same database are only seen once the cached id expires, see {@link #latestDecisionCacheTimeToLive}.
+     */
+    protected boolean enableLatestDecisionCache;
+    protected long latestDecisionCacheTimeToLive; // In milliseconds, by default the ids don't expire
+    protected LatestDefinitionIdCache latestDecisionIdCache;
     
     protected ObjectMapper objectMapper = new ObjectMapper();
 
@@ -179,6 +188,12 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
      */
     protected boolean strictMode = true;
 
+    /**
+     * Set this to false if you want to evaluate the input entries of every rule as EL expressions, instead of indexing
+     * the decision tables at deployment time and looking up the rules matching simple string and number literals.
+     */
+    protected boolean decisionTableIndexEnabled = true;
+
     public static DmnEngineConfiguration createDmnEngineConfigurationFromResourceDefault() {
         return createDmnEngineConfigurationFromResource("flowable.dmn.cfg.xml", "dmnEngineConfiguration");
     }
@@ -436,7 +451,12 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
             }
         }
 
+        if (latestDecisionIdCache == null && enableLatestDecisionCache) {
+            latestDecisionIdCache = new LatestDefinitionIdCache(latestDecisionCacheTimeToLive);
+        }
+
         deploymentManager = new DeploymentManager(decisionCache, this);
+        deploymentManager.setLatestDecisionIdCache(latestDecisionIdCache);
         deploymentManager.setDeployers(deployers);
         deploymentManager.setDeploymentEntityManager(deploymentEntityManager);
         deploymentManager.setDecisionTableEntityManager(decisionTableEntityManager);
@@ -771,6 +791,33 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public boolean isEnableLatestDecisionCache() {
+        return enableLatestDecisionCache;
+    }
+
+    public DmnEngineConfiguration setEnableLatestDecisionCache(boolean enableLatestDecisionCache) {
+        this.enableLatestDecisionCache = enableLatestDecisionCache;
+        return this;
+    }
+
+    public long getLatestDecisionCacheTimeToLive() {
+        return latestDecisionCacheTimeToLive;
+    }
+
+    public DmnEngineConfiguration setLatestDecisionCacheTimeToLive(long latestDecisionCacheTimeToLive) {
+        this.latestDecisionCacheTimeToLive = latestDecisionCacheTimeToLive;
+        return this;
+    }
+
+    public LatestDefinitionIdCache getLatestDecisionIdCache() {
+        return latestDecisionIdCache;
+    }
+
+    public DmnEngineConfiguration setLatestDecisionIdCache(LatestDefinitionIdCache latestDecisionIdCache) {
+        this.latestDecisionIdCache = latestDecisionIdCache;
+        return this;
+    }
+
     public DmnDeploymentDataManager getDeploymentDataManager() {
         return deploymentDataManager;
     }
@@ -936,6 +983,15 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration implemen
         return this;
     }
 
+    public boolean isDecisionTableIndexEnabled() {
+        return decisionTableIndexEnabled;
+    }
+
+    public DmnEngineConfiguration setDecisionTableIndexEnabled(boolean decisionTableIndexEnabled) {
+        this.decisionTableIndexEnabled = decisionTableIndexEnabled;
+        return this;
+    }
+
     @Override
     public DmnEngineConfiguration setClock(Clock clock) {
         this.clock = clock;
@@ -12,9 +12,12 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.Collection;
+
 import org.flowable.dmn.api.DmnHistoricDecisionExecutionQuery;
 import org.flowable.dmn.api.DmnHistoryService;
 import org.flowable.dmn.api.NativeHistoricDecisionExecutionQuery;
+import org.flowable.dmn.engine.impl.cmd.DeleteHistoricDecisionExecutionsByInstanceIdsCmd;
 
 /**
  * @author Tijs Rademakers
@@ -30,4 +33,9 @@ public class DmnHistoryServiceImpl extends ServiceImpl implements DmnHistoryServ
     public NativeHistoricDecisionExecutionQuery createNativeHistoricDecisionExecutionQuery() {
         return new NativeHistoryDecisionExecutionQueryImpl(commandExecutor);
     }
+
+    @Override
+    public void deleteHistoricDecisionExecutionsByInstanceIds(Collection<String> instanceIds) {
+        commandExecutor.execute(new DeleteHistoricDecisionExecutionsByInstanceIdsCmd(instanceIds));
+    }
 }
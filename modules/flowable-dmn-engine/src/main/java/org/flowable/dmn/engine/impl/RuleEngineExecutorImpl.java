@@ -12,6 +12,7 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -29,6 +30,8 @@ import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
+import org.flowable.dmn.engine.impl.index.DecisionTableIndex;
+import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
@@ -90,7 +93,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             sanityCheckDecisionTable(currentDecisionTable);
 
             // evaluate decision table
-            evaluateDecisionTable(currentDecisionTable, executionContext);
+            evaluateDecisionTable(currentDecisionTable, getDecisionTableIndex(decision, executeDecisionInfo), executionContext);
 
         } catch (FlowableException fe) {
             LOGGER.error("decision table execution sanity check failed", fe);
@@ -132,7 +135,30 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         return executionContext.getAuditContainer();
     }
 
+    /**
+     * Returns the index that was built for the decision table when it was deployed, or null if there is none.
+     */
+    protected DecisionTableIndex getDecisionTableIndex(Decision decision, ExecuteDecisionInfo executeDecisionInfo) {
+        if (executeDecisionInfo.getDecisionDefinitionId() == null) {
+            return null;
+        }
+
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
+        DecisionTableCacheEntry cacheEntry = dmnEngineConfiguration.getDecisionCache().get(executeDecisionInfo.getDecisionDefinitionId());
+
+        // the index is only valid for the exact decision model it was built from
+        if (cacheEntry == null || cacheEntry.getDecision() != decision) {
+            return null;
+        }
+
+        return cacheEntry.getDecisionTableIndex();
+    }
+
     protected void evaluateDecisionTable(DecisionTable decisionTable, ELExecutionContext executionContext) {
+        evaluateDecisionTable(decisionTable, null, executionContext);
+    }
+
+    protected void evaluateDecisionTable(DecisionTable decisionTable, DecisionTableIndex decisionTableIndex, ELExecutionContext executionContext) {
         LOGGER.debug("Start table evaluation: {}", decisionTable.getId());
 
 
@@ -148,13 +174,20 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             // evaluate rule conditions
             Map<Integer, List<RuleOutputClauseContainer>> validRuleOutputEntries = new HashMap<>();
 
-            for (DecisionRule rule : decisionTable.getRules()) {
-                boolean ruleResult = executeRule(rule, executionContext);
+            AbstractHitPolicy hitPolicyBehavior = getHitPolicyBehavior(decisionTable.getHitPolicy());
+
+            // look up the rules matching the indexed input entries once for all rules
+            BitSet[] indexMatches = decisionTableIndex != null ? decisionTableIndex.match(executionContext.getStackVariables()) : null;
+
+            List<DecisionRule> rules = decisionTable.getRules();
+            for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+                DecisionRule rule = rules.get(ruleIndex);
+                boolean ruleResult = executeRule(rule, ruleIndex, decisionTableIndex, indexMatches, executionContext);
 
                 if (ruleResult) {
                     // evaluate decision table hit policy validity
-                    if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof EvaluateRuleValidityBehavior) {
-                        ((EvaluateRuleValidityBehavior) getHitPolicyBehavior(decisionTable.getHitPolicy())).evaluateRuleValidity(rule.getRuleNumber(), executionContext);
+                    if (hitPolicyBehavior instanceof EvaluateRuleValidityBehavior) {
+                        ((EvaluateRuleValidityBehavior) hitPolicyBehavior).evaluateRuleValidity(rule.getRuleNumber(), executionContext);
                     }
 
                     // add valid rule output(s)
@@ -162,8 +195,8 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 }
 
                 // should continue evaluating
-                if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof ContinueEvaluatingBehavior) {
-                    if (((ContinueEvaluatingBehavior) getHitPolicyBehavior(decisionTable.getHitPolicy())).shouldContinueEvaluating(ruleResult) == false) {
+                if (hitPolicyBehavior instanceof ContinueEvaluatingBehavior) {
+                    if (((ContinueEvaluatingBehavior) hitPolicyBehavior).shouldContinueEvaluating(ruleResult) == false) {
                         LOGGER.debug("Stopping execution; hit policy {} specific behaviour", decisionTable.getHitPolicy());
                         break;
                     }
@@ -176,8 +209,8 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             }
 
             // post rule conclusion actions
-            if (getHitPolicyBehavior(decisionTable.getHitPolicy()) instanceof ComposeDecisionResultBehavior) {
-                ((ComposeDecisionResultBehavior) getHitPolicyBehavior(decisionTable.getHitPolicy())).composeDecisionResults(executionContext);
+            if (hitPolicyBehavior instanceof ComposeDecisionResultBehavior) {
+                ((ComposeDecisionResultBehavior) hitPolicyBehavior).composeDecisionResults(executionContext);
             }
 
         } catch (FlowableException ade) {
@@ -191,6 +224,10 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
     }
 
     protected boolean executeRule(DecisionRule rule, ELExecutionContext executionContext) {
+        return executeRule(rule, -1, null, null, executionContext);
+    }
+
+    protected boolean executeRule(DecisionRule rule, int ruleIndex, DecisionTableIndex decisionTableIndex, BitSet[] indexMatches, ELExecutionContext executionContext) {
         if (rule == null) {
             throw new FlowableException("rule cannot be null");
         }
@@ -203,7 +240,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         boolean conditionResult = false;
 
         // go through conditions
-        for (RuleInputClauseContainer conditionContainer : rule.getInputEntries()) {
+        List<RuleInputClauseContainer> inputEntries = rule.getInputEntries();
+        for (int entryIndex = 0; entryIndex < inputEntries.size(); entryIndex++) {
+            RuleInputClauseContainer conditionContainer = inputEntries.get(entryIndex);
 
             // resetting value
             String inputEntryId = conditionContainer.getInputEntry().getId();
@@ -214,6 +253,11 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 String inputEntryText = conditionContainer.getInputEntry().getText();
                 if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
                     conditionResult = true;
+                } else if (decisionTableIndex != null && indexMatches[entryIndex] != null && decisionTableIndex.isIndexed(ruleIndex, entryIndex)) {
+                    conditionResult = indexMatches[entryIndex].get(ruleIndex);
+                } else if (decisionTableIndex != null && decisionTableIndex.getInputEntryExpression(ruleIndex, entryIndex) != null) {
+                    conditionResult = ELExpressionExecutor.executeInputExpression(decisionTableIndex.getInputEntryExpression(ruleIndex, entryIndex),
+                            decisionTableIndex.getParsedInputEntryExpression(ruleIndex, entryIndex), executionContext);
                 } else {
                     conditionResult = executeInputExpressionEvaluation(conditionContainer, executionContext);
                 }
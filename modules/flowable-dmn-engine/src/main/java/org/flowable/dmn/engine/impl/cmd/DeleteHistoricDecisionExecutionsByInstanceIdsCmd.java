@@ -0,0 +1,42 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.util.Collection;
+
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+
+public class DeleteHistoricDecisionExecutionsByInstanceIdsCmd implements Command<Void> {
+
+    protected Collection<String> instanceIds;
+
+    public DeleteHistoricDecisionExecutionsByInstanceIdsCmd(Collection<String> instanceIds) {
+        this.instanceIds = instanceIds;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (instanceIds == null) {
+            throw new FlowableIllegalArgumentException("instanceIds is null");
+        }
+
+        if (!instanceIds.isEmpty()) {
+            CommandContextUtil.getHistoricDecisionExecutionEntityManager(commandContext).deleteHistoricDecisionExecutionsByInstanceIds(instanceIds);
+        }
+        return null;
+    }
+
+}
@@ -63,6 +63,7 @@ public class SetDeploymentTenantIdCmd implements Command<Void>, Serializable {
         for (DmnDecisionTable decisionTable : decisionTables) {
             CommandContextUtil.getDmnEngineConfiguration().getDecisionCache().remove(decisionTable.getId());
         }
+        CommandContextUtil.getDmnEngineConfiguration().getDeploymentManager().invalidateLatestDecisionIds();
 
         CommandContextUtil.getDeploymentEntityManager(commandContext).update(deployment);
 
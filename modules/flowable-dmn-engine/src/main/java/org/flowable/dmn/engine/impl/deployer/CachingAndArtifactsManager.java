@@ -13,11 +13,13 @@
 package org.flowable.dmn.engine.impl.deployer;
 
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.index.DecisionTableIndexBuilder;
 import org.flowable.dmn.engine.impl.persistence.deploy.DecisionTableCacheEntry;
 import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
+import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.DmnDefinition;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
 
@@ -38,6 +40,10 @@ public class CachingAndArtifactsManager {
             DmnDefinition dmnDefinition = parsedDeployment.getDmnDefinitionForDecisionTable(decisionTable);
             Decision decision = parsedDeployment.getDecisionForDecisionTable(decisionTable);
             DecisionTableCacheEntry cacheEntry = new DecisionTableCacheEntry(decisionTable, dmnDefinition, decision);
+            if (dmnEngineConfiguration.isDecisionTableIndexEnabled() && decision != null && decision.getExpression() instanceof DecisionTable) {
+                DecisionTableIndexBuilder indexBuilder = new DecisionTableIndexBuilder(dmnEngineConfiguration.getExpressionManager());
+                cacheEntry.setDecisionTableIndex(indexBuilder.build((DecisionTable) decision.getExpression()));
+            }
             decisionTableCache.add(decisionTable.getId(), cacheEntry);
 
             // Add to deployment for further usage
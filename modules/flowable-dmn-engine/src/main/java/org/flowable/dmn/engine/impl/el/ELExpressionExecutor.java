@@ -50,6 +50,13 @@ public class ELExpressionExecutor {
         String parsedExpression = ELConditionExpressionPreParser.parse(inputEntry.getText(), inputExpression, inputClause.getInputExpression().getTypeRef());
 
         Expression expression = expressionManager.createExpression(parsedExpression);
+        return executeInputExpression(expression, parsedExpression, executionContext);
+    }
+
+    /**
+     * Executes an input entry expression that was already pre parsed and created, see {@link org.flowable.dmn.engine.impl.index.DecisionTableIndex}.
+     */
+    public static Boolean executeInputExpression(Expression expression, String parsedExpression, ELExecutionContext executionContext) {
         RuleExpressionCondition condition = new RuleExpressionCondition(expression);
         
         try {
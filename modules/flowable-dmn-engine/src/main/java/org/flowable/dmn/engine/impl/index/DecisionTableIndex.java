@@ -0,0 +1,71 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.index;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.engine.common.api.delegate.Expression;
+
+/**
+ * Compiled form of a {@link DecisionTable}, created at deployment time by the {@link DecisionTableIndexBuilder}.
+ * 
+ * Holds an {@link InputColumnIndex} for every input clause with indexable input entries and the pre-parsed EL expressions of all other input entries,
+ * both addressed by the index of the rule in the decision table and the index of the input entry in the rule.
+ */
+public class DecisionTableIndex {
+
+    protected DecisionTable decisionTable;
+    protected InputColumnIndex[] columnIndexes;
+    protected Expression[][] inputEntryExpressions;
+    protected String[][] parsedInputEntryExpressions;
+
+    public DecisionTableIndex(DecisionTable decisionTable, InputColumnIndex[] columnIndexes, Expression[][] inputEntryExpressions, String[][] parsedInputEntryExpressions) {
+        this.decisionTable = decisionTable;
+        this.columnIndexes = columnIndexes;
+        this.inputEntryExpressions = inputEntryExpressions;
+        this.parsedInputEntryExpressions = parsedInputEntryExpressions;
+    }
+
+    /**
+     * @return for every input clause the indexes of the rules whose indexed input entry is satisfied by the given variables. 
+     *         The element for an input clause is null when the input clause has no index or its value can't be matched with the index.
+     */
+    public BitSet[] match(Map<String, Object> variables) {
+        BitSet[] matches = new BitSet[columnIndexes.length];
+        for (int i = 0; i < columnIndexes.length; i++) {
+            if (columnIndexes[i] != null) {
+                matches[i] = columnIndexes[i].match(variables);
+            }
+        }
+        return matches;
+    }
+
+    public boolean isIndexed(int ruleIndex, int entryIndex) {
+        return columnIndexes[entryIndex] != null && columnIndexes[entryIndex].isIndexed(ruleIndex);
+    }
+
+    public Expression getInputEntryExpression(int ruleIndex, int entryIndex) {
+        return inputEntryExpressions[ruleIndex][entryIndex];
+    }
+
+    public String getParsedInputEntryExpression(int ruleIndex, int entryIndex) {
+        return parsedInputEntryExpressions[ruleIndex][entryIndex];
+    }
+
+    public DecisionTable getDecisionTable() {
+        return decisionTable;
+    }
+
+}
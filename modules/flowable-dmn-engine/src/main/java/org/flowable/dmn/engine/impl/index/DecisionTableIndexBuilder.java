@@ -0,0 +1,128 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.index;
+
+import java.util.List;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.engine.impl.el.ELConditionExpressionPreParser;
+import org.flowable.dmn.model.DecisionRule;
+import org.flowable.dmn.model.DecisionTable;
+import org.flowable.dmn.model.InputClause;
+import org.flowable.dmn.model.RuleInputClauseContainer;
+import org.flowable.engine.common.api.delegate.Expression;
+import org.flowable.engine.common.impl.el.ExpressionManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Builds the {@link DecisionTableIndex} of a {@link DecisionTable}.
+ */
+public class DecisionTableIndexBuilder {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DecisionTableIndexBuilder.class);
+
+    protected ExpressionManager expressionManager;
+
+    public DecisionTableIndexBuilder(ExpressionManager expressionManager) {
+        this.expressionManager = expressionManager;
+    }
+
+    /**
+     * @return the index, or null if the decision table can't be indexed (in which case it is evaluated rule by rule, as before).
+     */
+    public DecisionTableIndex build(DecisionTable decisionTable) {
+        List<InputClause> inputClauses = decisionTable.getInputs();
+        List<DecisionRule> rules = decisionTable.getRules();
+        if (inputClauses == null || inputClauses.isEmpty() || rules == null || rules.isEmpty()) {
+            return null;
+        }
+
+        // The index addresses the input entries by their position in the rule, so every rule needs to have the input entries in the order of the input clauses
+        for (DecisionRule rule : rules) {
+            List<RuleInputClauseContainer> inputEntries = rule.getInputEntries();
+            if (inputEntries.size() != inputClauses.size()) {
+                return null;
+            }
+            for (int entryIndex = 0; entryIndex < inputEntries.size(); entryIndex++) {
+                if (inputEntries.get(entryIndex).getInputClause() != inputClauses.get(entryIndex)) {
+                    return null;
+                }
+            }
+        }
+
+        InputColumnIndex[] columnIndexes = new InputColumnIndex[inputClauses.size()];
+        for (int entryIndex = 0; entryIndex < inputClauses.size(); entryIndex++) {
+            columnIndexes[entryIndex] = createColumnIndex(inputClauses.get(entryIndex));
+        }
+
+        Expression[][] inputEntryExpressions = new Expression[rules.size()][inputClauses.size()];
+        String[][] parsedInputEntryExpressions = new String[rules.size()][inputClauses.size()];
+        for (int ruleIndex = 0; ruleIndex < rules.size(); ruleIndex++) {
+            List<RuleInputClauseContainer> inputEntries = rules.get(ruleIndex).getInputEntries();
+            for (int entryIndex = 0; entryIndex < inputEntries.size(); entryIndex++) {
+                RuleInputClauseContainer inputEntry = inputEntries.get(entryIndex);
+                String inputEntryText = inputEntry.getInputEntry() != null ? inputEntry.getInputEntry().getText() : null;
+                if (StringUtils.isEmpty(inputEntryText) || "-".equals(inputEntryText)) {
+                    continue;
+                }
+
+                if (columnIndexes[entryIndex] != null && columnIndexes[entryIndex].addEntry(ruleIndex, inputEntryText)) {
+                    continue;
+                }
+
+                String inputExpressionText = inputEntry.getInputClause().getInputExpression().getText();
+                if (StringUtils.isNotEmpty(inputExpressionText)) {
+                    String parsedExpression = ELConditionExpressionPreParser.parse(inputEntryText, inputExpressionText, inputEntry.getInputClause().getInputExpression().getTypeRef());
+                    try {
+                        inputEntryExpressions[ruleIndex][entryIndex] = expressionManager.createExpression(parsedExpression);
+                        parsedInputEntryExpressions[ruleIndex][entryIndex] = parsedExpression;
+                    } catch (Exception e) {
+                        // The expression will be parsed again when the rule is evaluated, failing the execution with the proper audit information
+                        LOGGER.debug("Could not parse input entry expression {} of decision table {}", parsedExpression, decisionTable.getId(), e);
+                    }
+                }
+            }
+        }
+
+        for (int entryIndex = 0; entryIndex < columnIndexes.length; entryIndex++) {
+            if (columnIndexes[entryIndex] != null && !columnIndexes[entryIndex].hasIndexedRules()) {
+                columnIndexes[entryIndex] = null;
+            }
+        }
+
+        return new DecisionTableIndex(decisionTable, columnIndexes, inputEntryExpressions, parsedInputEntryExpressions);
+    }
+
+    protected InputColumnIndex createColumnIndex(InputClause inputClause) {
+        if (inputClause.getInputExpression() == null || StringUtils.isEmpty(inputClause.getInputExpression().getText())) {
+            return null;
+        }
+
+        String typeRef = inputClause.getInputExpression().getTypeRef();
+        if ("date".equals(typeRef) || "boolean".equals(typeRef)) {
+            return null;
+        }
+
+        Expression inputExpression;
+        try {
+            inputExpression = expressionManager.createExpression("#{" + inputClause.getInputExpression().getText() + "}");
+        } catch (Exception e) {
+            LOGGER.debug("Could not parse input expression {}, input clause will not be indexed", inputClause.getInputExpression().getText(), e);
+            return null;
+        }
+
+        return new InputColumnIndex(inputExpression, "number".equals(typeRef));
+    }
+
+}
@@ -0,0 +1,219 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.index;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.flowable.engine.common.api.delegate.Expression;
+import org.flowable.engine.common.impl.el.VariableContainerWrapper;
+
+/**
+ * Index of the input entries of one input clause (column) of a decision table.
+ * 
+ * Only input entries that are a plain equality test against a string literal, or a (in)equality test against a number literal are indexed.
+ * At evaluation time, the value of the input expression is resolved once and the rules for which such an entry is satisfied are looked up,
+ * instead of evaluating the entry expression of every rule.
+ * 
+ * The lookup mimics the EL comparison rules exactly for the value types it supports: strings for string literals and non-big numbers for number literals.
+ * For any other value, {@link #match(Map)} returns null and the input entries are evaluated as EL expressions.
+ */
+public class InputColumnIndex {
+
+    protected static final Pattern STRING_LITERAL_PATTERN = Pattern.compile("^(?:==\\s*)?(?:\"([^\"\\\\{}]*)\"|'([^'\\\\{}]*)')\\s*$");
+    protected static final Pattern NUMBER_LITERAL_PATTERN = Pattern.compile("^(==|<=|>=|<|>)?\\s*(-?\\d{1,15}(?:\\.\\d{1,15})?)\\s*$");
+
+    // Longs with a higher absolute value can't be converted to a double without losing precision
+    protected static final long MAX_EXACT_DOUBLE_LONG = 1L << 53;
+
+    protected Expression inputExpression;
+    protected boolean numeric;
+
+    protected BitSet indexedRules = new BitSet();
+
+    protected Map<String, BitSet> stringEqualities = new HashMap<>();
+    protected NavigableMap<BigDecimal, BitSet> numberEqualities = new TreeMap<>();
+    protected NavigableMap<BigDecimal, BitSet> lessThan = new TreeMap<>();
+    protected NavigableMap<BigDecimal, BitSet> lessThanOrEqual = new TreeMap<>();
+    protected NavigableMap<BigDecimal, BitSet> greaterThan = new TreeMap<>();
+    protected NavigableMap<BigDecimal, BitSet> greaterThanOrEqual = new TreeMap<>();
+
+    public InputColumnIndex(Expression inputExpression, boolean numeric) {
+        this.inputExpression = inputExpression;
+        this.numeric = numeric;
+    }
+
+    /**
+     * @return true if the entry could be indexed, false if it needs to be evaluated as an EL expression.
+     */
+    public boolean addEntry(int ruleIndex, String entryText) {
+        // no trimming, leading whitespace changes how the entry is pre parsed
+        String text = entryText;
+        if (text.contains("fn_")) {
+            // the pre parser replaces the date function prefixes, also within literals
+            return false;
+        }
+
+        boolean indexed = numeric ? addNumberEntry(ruleIndex, text) : addStringEntry(ruleIndex, text);
+        if (indexed) {
+            indexedRules.set(ruleIndex);
+        }
+        return indexed;
+    }
+
+    protected boolean addStringEntry(int ruleIndex, String text) {
+        Matcher matcher = STRING_LITERAL_PATTERN.matcher(text);
+        if (!matcher.matches()) {
+            return false;
+        }
+
+        String literal = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+        getRules(stringEqualities, literal).set(ruleIndex);
+        return true;
+    }
+
+    protected boolean addNumberEntry(int ruleIndex, String text) {
+        Matcher matcher = NUMBER_LITERAL_PATTERN.matcher(text);
+        if (!matcher.matches()) {
+            return false;
+        }
+
+        String numberText = matcher.group(2);
+        BigDecimal literal;
+        if (numberText.indexOf('.') >= 0) {
+            double doubleLiteral = Double.parseDouble(numberText);
+            if (doubleLiteral == 0.0d && Double.compare(doubleLiteral, 0.0d) != 0) {
+                // negative zero is not equal to zero for EL
+                return false;
+            }
+            literal = new BigDecimal(doubleLiteral);
+        } else {
+            literal = BigDecimal.valueOf(Long.parseLong(numberText));
+        }
+
+        String operator = matcher.group(1);
+        if (operator == null || "==".equals(operator)) {
+            getRules(numberEqualities, literal).set(ruleIndex);
+        } else if ("<".equals(operator)) {
+            getRules(lessThan, literal).set(ruleIndex);
+        } else if ("<=".equals(operator)) {
+            getRules(lessThanOrEqual, literal).set(ruleIndex);
+        } else if (">".equals(operator)) {
+            getRules(greaterThan, literal).set(ruleIndex);
+        } else {
+            getRules(greaterThanOrEqual, literal).set(ruleIndex);
+        }
+        return true;
+    }
+
+    protected <K> BitSet getRules(Map<K, BitSet> rulesMap, K key) {
+        BitSet rules = rulesMap.get(key);
+        if (rules == null) {
+            rules = new BitSet();
+            rulesMap.put(key, rules);
+        }
+        return rules;
+    }
+
+    public boolean isIndexed(int ruleIndex) {
+        return indexedRules.get(ruleIndex);
+    }
+
+    public boolean hasIndexedRules() {
+        return !indexedRules.isEmpty();
+    }
+
+    /**
+     * @return the indexes of the rules for which the indexed input entry is satisfied, or null if the input value can not be matched using the index.
+     */
+    public BitSet match(Map<String, Object> variables) {
+        Object value;
+        try {
+            value = inputExpression.getValue(new VariableContainerWrapper(variables));
+        } catch (Exception e) {
+            // the evaluation of the input entries will fail with the proper audit information
+            return null;
+        }
+
+        BitSet matchingRules = new BitSet();
+        if (value == null) {
+            // an (in)equality test against a literal is never satisfied for null
+            return matchingRules;
+        }
+
+        if (numeric) {
+            BigDecimal numberValue = toComparableNumber(value);
+            if (numberValue == null) {
+                return null;
+            }
+
+            BitSet equalRules = numberEqualities.get(numberValue);
+            if (equalRules != null) {
+                matchingRules.or(equalRules);
+            }
+            // value < literal, so all literals higher than the value
+            addRules(matchingRules, lessThan.tailMap(numberValue, false));
+            addRules(matchingRules, lessThanOrEqual.tailMap(numberValue, true));
+            // value > literal, so all literals lower than the value
+            addRules(matchingRules, greaterThan.headMap(numberValue, false));
+            addRules(matchingRules, greaterThanOrEqual.headMap(numberValue, true));
+
+        } else {
+            if (!(value instanceof String)) {
+                return null;
+            }
+
+            BitSet equalRules = stringEqualities.get(value);
+            if (equalRules != null) {
+                matchingRules.or(equalRules);
+            }
+        }
+
+        return matchingRules;
+    }
+
+    protected void addRules(BitSet matchingRules, Map<BigDecimal, BitSet> rulesMap) {
+        for (BitSet rules : rulesMap.values()) {
+            matchingRules.or(rules);
+        }
+    }
+
+    /**
+     * Converts the value to a {@link BigDecimal} that compares to the literals exactly like EL compares the value to the literal, or null if this is not possible.
+     */
+    protected BigDecimal toComparableNumber(Object value) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            long longValue = ((Number) value).longValue();
+            if (longValue > MAX_EXACT_DOUBLE_LONG || longValue < -MAX_EXACT_DOUBLE_LONG) {
+                return null;
+            }
+            return BigDecimal.valueOf(longValue);
+
+        } else if (value instanceof Double || value instanceof Float) {
+            double doubleValue = ((Number) value).doubleValue();
+            if (Double.isNaN(doubleValue) || Double.isInfinite(doubleValue) || (doubleValue == 0.0d && Double.compare(doubleValue, 0.0d) != 0)) {
+                return null;
+            }
+            return new BigDecimal(doubleValue);
+        }
+
+        return null;
+    }
+
+}
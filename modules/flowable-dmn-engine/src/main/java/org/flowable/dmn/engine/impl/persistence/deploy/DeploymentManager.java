@@ -23,10 +23,12 @@ import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntityManage
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntity;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnDeploymentEntityManager;
 import org.flowable.dmn.engine.impl.persistence.entity.DmnResourceEntity;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.DmnDefinition;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.LatestDefinitionIdCache;
 
 /**
  * @author Tijs Rademakers
@@ -36,6 +38,7 @@ public class DeploymentManager {
 
     protected DmnEngineConfiguration engineConfig;
     protected DeploymentCache<DecisionTableCacheEntry> decisionCache;
+    protected LatestDefinitionIdCache latestDecisionIdCache;
 
     protected List<Deployer> deployers;
     protected DecisionTableEntityManager decisionTableEntityManager;
@@ -51,6 +54,10 @@ public class DeploymentManager {
     }
 
     public void deploy(DmnDeploymentEntity deployment, Map<String, Object> deploymentSettings) {
+        if (deployment.isNew()) {
+            invalidateLatestDecisionIds();
+        }
+
         for (Deployer deployer : deployers) {
             deployer.deploy(deployment, deploymentSettings);
         }
@@ -76,26 +83,70 @@ public class DeploymentManager {
     }
 
     public DecisionTableEntity findDeployedLatestDecisionByKey(String decisionKey) {
+        DecisionTableEntity decisionTable = findCachedLatestDecision(decisionKey, null);
+        if (decisionTable != null) {
+            return decisionTable;
+        }
 
-        DecisionTableEntity decisionTable = decisionTableEntityManager.findLatestDecisionTableByKey(decisionKey);
+        long invalidationStamp = latestDecisionIdCache != null ? latestDecisionIdCache.getInvalidationStamp() : 0L;
+        decisionTable = decisionTableEntityManager.findLatestDecisionTableByKey(decisionKey);
 
         if (decisionTable == null) {
             throw new FlowableObjectNotFoundException("no decisions deployed with key '" + decisionKey + "'");
         }
         decisionTable = resolveDecisionTable(decisionTable).getDecisionTableEntity();
+        cacheLatestDecisionId(decisionKey, null, decisionTable, invalidationStamp);
         return decisionTable;
     }
 
     public DecisionTableEntity findDeployedLatestDecisionByKeyAndTenantId(String decisionKey, String tenantId) {
+        // A null tenant id is not cached, as it would share the cache key of the lookup without tenant
+        boolean useCache = tenantId != null;
+        if (useCache) {
+            DecisionTableEntity decisionTable = findCachedLatestDecision(decisionKey, tenantId);
+            if (decisionTable != null) {
+                return decisionTable;
+            }
+        }
+
+        long invalidationStamp = latestDecisionIdCache != null ? latestDecisionIdCache.getInvalidationStamp() : 0L;
         DecisionTableEntity decisionTable = decisionTableEntityManager.findLatestDecisionTableByKeyAndTenantId(decisionKey, tenantId);
 
         if (decisionTable == null) {
             throw new FlowableObjectNotFoundException("no decisions deployed with key '" + decisionKey + "' for tenant identifier '" + tenantId + "'");
         }
         decisionTable = resolveDecisionTable(decisionTable).getDecisionTableEntity();
+        if (useCache) {
+            cacheLatestDecisionId(decisionKey, tenantId, decisionTable, invalidationStamp);
+        }
         return decisionTable;
     }
 
+    protected DecisionTableEntity findCachedLatestDecision(String decisionKey, String tenantId) {
+        if (latestDecisionIdCache != null) {
+            String id = latestDecisionIdCache.get(decisionKey, tenantId);
+            if (id != null) {
+                DecisionTableCacheEntry cacheEntry = decisionCache.get(id);
+                if (cacheEntry != null) {
+                    return cacheEntry.getDecisionTableEntity();
+                }
+            }
+        }
+        return null;
+    }
+
+    protected void cacheLatestDecisionId(String decisionKey, String tenantId, DecisionTableEntity decisionTable, long invalidationStamp) {
+        if (latestDecisionIdCache != null) {
+            latestDecisionIdCache.put(decisionKey, tenantId, decisionTable.getId(), invalidationStamp);
+        }
+    }
+
+    public void invalidateLatestDecisionIds() {
+        if (latestDecisionIdCache != null) {
+            latestDecisionIdCache.invalidateOnCommit(CommandContextUtil.getCommandContext());
+        }
+    }
+
     public DecisionTableEntity findDeployedLatestDecisionByKeyAndParentDeploymentId(String decisionTableKey, String parentDeploymentId) {
         DecisionTableEntity decisionTable = decisionTableEntityManager.findLatestDecisionTableByKeyAndParentDeploymentId(decisionTableKey, parentDeploymentId);
 
@@ -166,6 +217,8 @@ public class DeploymentManager {
             throw new FlowableObjectNotFoundException("Could not find a deployment with id '" + deploymentId + "'.");
         }
 
+        invalidateLatestDecisionIds();
+
         // Remove any dmn definition from the cache
         List<DmnDecisionTable> decisionTables = new DecisionTableQueryImpl().deploymentId(deploymentId).list();
 
@@ -177,6 +230,14 @@ public class DeploymentManager {
         }
     }
 
+    public LatestDefinitionIdCache getLatestDecisionIdCache() {
+        return latestDecisionIdCache;
+    }
+
+    public void setLatestDecisionIdCache(LatestDefinitionIdCache latestDecisionIdCache) {
+        this.latestDecisionIdCache = latestDecisionIdCache;
+    }
+
     public List<Deployer> getDeployers() {
         return deployers;
     }
@@ -13,6 +13,7 @@
 
 package org.flowable.dmn.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -47,6 +48,11 @@ public class HistoricDecisionExecutionEntityManagerImpl extends AbstractEntityMa
         historicDecisionExecutionDataManager.deleteHistoricDecisionExecutionsByDeploymentId(deploymentId);
     }
 
+    @Override
+    public void deleteHistoricDecisionExecutionsByInstanceIds(Collection<String> instanceIds) {
+        historicDecisionExecutionDataManager.deleteHistoricDecisionExecutionsByInstanceIds(instanceIds);
+    }
+
     @Override
     public List<DmnHistoricDecisionExecution> findHistoricDecisionExecutionsByQueryCriteria(HistoricDecisionExecutionQueryImpl decisionExecutionQuery) {
         return historicDecisionExecutionDataManager.findHistoricDecisionExecutionsByQueryCriteria(decisionExecutionQuery);
@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.deployment;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.flowable.dmn.api.DmnDeployment;
+import org.flowable.dmn.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.dmn.engine.impl.persistence.entity.DecisionTableEntity;
+import org.flowable.dmn.engine.test.AbstractFlowableDmnTest;
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.deploy.LatestDefinitionIdCache;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LatestDecisionCacheTest extends AbstractFlowableDmnTest {
+
+    protected LatestDefinitionIdCache originalCache;
+    protected LatestDefinitionIdCache latestDecisionIdCache;
+
+    @Before
+    public void setLatestDecisionIdCache() {
+        DeploymentManager deploymentManager = dmnEngineConfiguration.getDeploymentManager();
+        originalCache = deploymentManager.getLatestDecisionIdCache();
+        latestDecisionIdCache = new LatestDefinitionIdCache();
+        deploymentManager.setLatestDecisionIdCache(latestDecisionIdCache);
+    }
+
+    @After
+    public void restoreLatestDecisionIdCache() {
+        dmnEngineConfiguration.getDeploymentManager().setLatestDecisionIdCache(originalCache);
+        for (DmnDeployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId());
+        }
+    }
+
+    @Test
+    public void testChangeDeploymentTenantId() {
+        String deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/dmn/engine/test/deployment/multiple_conclusions.dmn")
+                .tenantId("tenantA")
+                .deploy()
+                .getId();
+
+        DecisionTableEntity decisionTable = findLatestDecision("decision", "tenantA");
+        assertEquals("tenantA", decisionTable.getTenantId());
+        assertEquals(1, latestDecisionIdCache.size());
+
+        repositoryService.setDeploymentTenantId(deploymentId, "tenantB");
+        assertEquals(0, latestDecisionIdCache.size());
+
+        // Puts the decision table back in the decision cache, the id cached for the old tenant must not be used anymore
+        assertEquals("tenantB", findLatestDecision("decision", "tenantB").getTenantId());
+        try {
+            findLatestDecision("decision", "tenantA");
+            fail("Exception expected");
+        } catch (FlowableObjectNotFoundException e) {
+            // expected
+        }
+    }
+
+    protected DecisionTableEntity findLatestDecision(final String decisionKey, final String tenantId) {
+        return dmnEngineConfiguration.getCommandExecutor().execute(new Command<DecisionTableEntity>() {
+
+            @Override
+            public DecisionTableEntity execute(CommandContext commandContext) {
+                return dmnEngineConfiguration.getDeploymentManager().findDeployedLatestDecisionByKeyAndTenantId(decisionKey, tenantId);
+            }
+        });
+    }
+
+}
@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.test.runtime;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.index.DecisionTableIndex;
+import org.flowable.dmn.engine.test.DmnDeployment;
+import org.flowable.dmn.engine.test.FlowableDmnRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public class DecisionTableIndexTest {
+
+    protected static final String DECISION_TABLE_RESOURCE = "org/flowable/dmn/engine/test/runtime/DecisionTableIndexTest.indexedDecisionTable.dmn";
+
+    @Rule
+    public FlowableDmnRule flowableDmnRule = new FlowableDmnRule();
+
+    @Test
+    @DmnDeployment(resources = DECISION_TABLE_RESOURCE)
+    public void indexedDecisionTable() {
+        DecisionTableIndex decisionTableIndex = getDecisionTableIndex();
+        assertNotNull(decisionTableIndex);
+        assertTrue(decisionTableIndex.isIndexed(0, 0));
+        assertTrue(decisionTableIndex.isIndexed(0, 1));
+        assertFalse(decisionTableIndex.isIndexed(3, 0));
+        assertFalse(decisionTableIndex.isIndexed(5, 2));
+
+        assertResults(execute("gold", 150, null), "result1");
+        assertResults(execute("gold", 99.5d, null), "result2");
+        assertResults(execute("gold", 100L, null), "result1");
+        assertResults(execute("silver", 50, true), "result3", "result4", "result6");
+        assertResults(execute("silver", 50.0d, false), "result3", "result4");
+        assertResults(execute("bronze", 42L, null), "result4", "result5");
+        assertResults(execute("bronze", 10, null));
+    }
+
+    @Test
+    @DmnDeployment(resources = DECISION_TABLE_RESOURCE)
+    public void valuesNotSupportedByIndex() {
+        // values that can't be looked up in the index are evaluated as EL expressions
+        assertResults(execute("silver", "50", true), "result3", "result4", "result6");
+        assertResults(execute("gold", new BigDecimal("100.0"), null), "result1");
+        assertResults(execute(null, 42, null), "result4", "result5");
+    }
+
+    @Test
+    @DmnDeployment(resources = DECISION_TABLE_RESOURCE)
+    public void auditTrailOfIndexedDecisionTable() {
+        DecisionExecutionAuditContainer auditContainer = flowableDmnRule.getDmnEngine().getDmnRuleService().createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("category", "silver")
+                .variable("amount", 50)
+                .variable("flag", false)
+                .executeWithAuditTrail();
+
+        assertFalse(auditContainer.isFailed());
+        assertEquals(6, auditContainer.getRuleExecutions().size());
+        assertFalse(auditContainer.getRuleExecutions().get(1).isValid());
+        assertEquals(1, auditContainer.getRuleExecutions().get(1).getConditionResults().size());
+        assertTrue(auditContainer.getRuleExecutions().get(3).isValid());
+        assertEquals(3, auditContainer.getRuleExecutions().get(3).getConditionResults().size());
+        assertEquals(3, auditContainer.getRuleExecutions().get(6).getConditionResults().size());
+    }
+
+    @Test
+    public void decisionTableIndexDisabled() {
+        DmnEngineConfiguration dmnEngineConfiguration = flowableDmnRule.getDmnEngine().getDmnEngineConfiguration();
+        dmnEngineConfiguration.setDecisionTableIndexEnabled(false);
+        org.flowable.dmn.api.DmnDeployment deployment = null;
+        try {
+            deployment = flowableDmnRule.getRepositoryService().createDeployment().addClasspathResource(DECISION_TABLE_RESOURCE).deploy();
+
+            assertNull(getDecisionTableIndex());
+            assertResults(execute("gold", 150, null), "result1");
+            assertResults(execute("silver", 50, true), "result3", "result4", "result6");
+
+        } finally {
+            dmnEngineConfiguration.setDecisionTableIndexEnabled(true);
+            if (deployment != null) {
+                flowableDmnRule.getRepositoryService().deleteDeployment(deployment.getId());
+            }
+        }
+    }
+
+    protected DecisionTableIndex getDecisionTableIndex() {
+        DmnDecisionTable decisionTable = flowableDmnRule.getRepositoryService().createDecisionTableQuery().decisionTableKey("decision1").singleResult();
+        return flowableDmnRule.getDmnEngine().getDmnEngineConfiguration().getDecisionCache().get(decisionTable.getId()).getDecisionTableIndex();
+    }
+
+    protected List<Map<String, Object>> execute(String category, Object amount, Boolean flag) {
+        return flowableDmnRule.getDmnEngine().getDmnRuleService().createExecuteDecisionBuilder()
+                .decisionKey("decision1")
+                .variable("category", category)
+                .variable("amount", amount)
+                .variable("flag", flag)
+                .execute();
+    }
+
+    protected void assertResults(List<Map<String, Object>> results, String... expectedOutputs) {
+        List<Object> outputs = new ArrayList<>();
+        for (Map<String, Object> result : results) {
+            outputs.add(result.get("outputVariable1"));
+        }
+        assertEquals(Arrays.asList((Object[]) expectedOutputs), outputs);
+    }
+}
@@ -161,6 +161,12 @@ public abstract class AbstractEngineConfiguration {
 
     public int DEFAULT_MAX_NR_OF_STATEMENTS_BULK_INSERT_SQL_SERVER = 60; // currently Execution has most params (31). 2000 / 31 = 64.
 
+    /**
+     * If set to true, the inserts, updates and deletes of a transaction are flushed to the database as JDBC batches, instead of one statement (and round trip) per entity.
+     * Optimistic locking checks are done based on the update counts of the batches, which means the JDBC driver must return these (most drivers do). Default false.
+     */
+    protected boolean isBatchedFlushEnabled;
+
     protected Set<Class<?>> customMybatisMappers;
     protected Set<String> customMybatisXMLMappers;
 
@@ -546,6 +552,7 @@ public abstract class AbstractEngineConfiguration {
         dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
         dbSqlSessionFactory.setDatabaseSchema(databaseSchema);
         dbSqlSessionFactory.setMaxNrOfStatementsInBulkInsert(maxNrOfStatementsInBulkInsert);
+        dbSqlSessionFactory.setBatchedFlushEnabled(isBatchedFlushEnabled);
 
         initDbSqlSessionFactoryEntitySettings();
 
@@ -1094,6 +1101,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public boolean isBatchedFlushEnabled() {
+        return isBatchedFlushEnabled;
+    }
+
+    public AbstractEngineConfiguration setBatchedFlushEnabled(boolean isBatchedFlushEnabled) {
+        this.isBatchedFlushEnabled = isBatchedFlushEnabled;
+        return this;
+    }
+
     public Set<Class<?>> getCustomMybatisMappers() {
         return customMybatisMappers;
     }
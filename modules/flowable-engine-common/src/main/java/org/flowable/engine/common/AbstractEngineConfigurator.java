@@ -228,6 +228,7 @@ public abstract class AbstractEngineConfigurator implements EngineConfigurator {
         targetEngineConfiguration.setTransactionFactory(engineConfiguration.getTransactionFactory());
         targetEngineConfiguration.setTransactionContextFactory(engineConfiguration.getTransactionContextFactory());
         targetEngineConfiguration.setTransactionsExternallyManaged(engineConfiguration.isTransactionsExternallyManaged());
+        targetEngineConfiguration.setBatchedFlushEnabled(engineConfiguration.isBatchedFlushEnabled());
     }
 
     protected void initEventDispatcher(AbstractEngineConfiguration engineConfiguration, AbstractEngineConfiguration targetEngineConfiguration) {
@@ -31,6 +31,11 @@ import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
  */
 public abstract class AbstractDataManager<EntityImpl extends Entity> implements DataManager<EntityImpl> {
 
+    /**
+     * The maximum number of ids passed to one bulk delete statement, as some databases limit the number of elements of an in clause.
+     */
+    protected static final int MAX_IDS_PER_BULK_DELETE = 1000;
+
     public abstract Class<? extends EntityImpl> getManagedEntityClass();
 
     public List<Class<? extends EntityImpl>> getManagedEntitySubClasses() {
@@ -91,6 +96,18 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         getDbSqlSession().delete(entity);
     }
 
+    /**
+     * Deletes the rows with the given ids with the given bulk delete statement, which gets a list of at most {@link #MAX_IDS_PER_BULK_DELETE} ids
+     * as parameter. No optimistic locking is done.
+     */
+    protected void bulkDeleteByIds(String deleteStatement, Collection<String> ids, Class<? extends EntityImpl> entityClass) {
+        List<String> idList = new ArrayList<>(ids);
+        for (int fromIndex = 0; fromIndex < idList.size(); fromIndex += MAX_IDS_PER_BULK_DELETE) {
+            List<String> idsToDelete = new ArrayList<>(idList.subList(fromIndex, Math.min(fromIndex + MAX_IDS_PER_BULK_DELETE, idList.size())));
+            getDbSqlSession().delete(deleteStatement, idsToDelete, entityClass);
+        }
+    }
+
     @SuppressWarnings("unchecked")
     protected EntityImpl findByQuery(String selectQuery, Object parameter) {
         return (EntityImpl) getDbSqlSession().selectOne(selectQuery, parameter);
@@ -157,7 +174,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
                 // Cache entities
                 if (cachedObjects != null && cachedEntityMatcher != null) {
-                    for (CachedEntity cachedObject : cachedObjects) {
+                    for (CachedEntity cachedObject : findCachedObjectsToMatch(getManagedEntityClass(), cachedObjects, cachedEntityMatcher, parameter)) {
                         EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                         if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedEntity, parameter)) {
                             entityMap.put(cachedEntity.getId(), cachedEntity); // will overwrite db version with newer version
@@ -169,7 +186,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
                     for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
                         Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
                         if (subclassCachedObjects != null) {
-                            for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+                            for (CachedEntity subclassCachedObject : findCachedObjectsToMatch(entitySubClass, subclassCachedObjects, cachedEntityMatcher, parameter)) {
                                 EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                                 if (cachedEntityMatcher.isRetained(result, cachedObjects, cachedSubclassEntity, parameter)) {
                                     entityMap.put(cachedSubclassEntity.getId(), cachedSubclassEntity); // will overwrite db version with newer version
@@ -206,7 +223,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
 
         List<EntityImpl> result = new ArrayList<>(cachedObjects.size());
         if (cachedObjects != null && entityMatcher != null) {
-            for (CachedEntity cachedObject : cachedObjects) {
+            for (CachedEntity cachedObject : findCachedObjectsToMatch(getManagedEntityClass(), cachedObjects, entityMatcher, parameter)) {
                 EntityImpl cachedEntity = (EntityImpl) cachedObject.getEntity();
                 if (entityMatcher.isRetained(null, cachedObjects, cachedEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedEntity)) {
                     result.add(cachedEntity);
@@ -218,7 +235,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
             for (Class<? extends EntityImpl> entitySubClass : getManagedEntitySubClasses()) {
                 Collection<CachedEntity> subclassCachedObjects = getEntityCache().findInCacheAsCachedObjects(entitySubClass);
                 if (subclassCachedObjects != null) {
-                    for (CachedEntity subclassCachedObject : subclassCachedObjects) {
+                    for (CachedEntity subclassCachedObject : findCachedObjectsToMatch(entitySubClass, subclassCachedObjects, entityMatcher, parameter)) {
                         EntityImpl cachedSubclassEntity = (EntityImpl) subclassCachedObject.getEntity();
                         if (entityMatcher.isRetained(null, cachedObjects, cachedSubclassEntity, parameter) && !dbSqlSession.isEntityToBeDeleted(cachedSubclassEntity)) {
                             result.add(cachedSubclassEntity);
@@ -231,4 +248,22 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         return result;
     }
 
+    /**
+     * Returns the cached entities that need to be checked by the given {@link CachedEntityMatcher}. For an {@link IndexedCachedEntityMatcher}, only the
+     * cached entities with the index key of the query parameter are returned.
+     */
+    @SuppressWarnings("unchecked")
+    protected Collection<CachedEntity> findCachedObjectsToMatch(Class<? extends EntityImpl> entityClass, Collection<CachedEntity> cachedObjects,
+            CachedEntityMatcher<EntityImpl> cachedEntityMatcher, Object parameter) {
+
+        if (cachedEntityMatcher instanceof IndexedCachedEntityMatcher) {
+            IndexedCachedEntityMatcher<EntityImpl> indexedCachedEntityMatcher = (IndexedCachedEntityMatcher<EntityImpl>) cachedEntityMatcher;
+            Object indexKey = indexedCachedEntityMatcher.getIndexKey(parameter);
+            if (indexKey != null) {
+                return getEntityCache().findInCacheAsCachedObjects(entityClass, indexedCachedEntityMatcher.getIndex(), indexKey);
+            }
+        }
+        return cachedObjects;
+    }
+
 }
@@ -34,6 +34,14 @@ public class BulkDeleteOperation {
         sqlSession.delete(statement, parameter);
     }
 
+    public String getStatement() {
+        return statement;
+    }
+
+    public Object getParameter() {
+        return parameter;
+    }
+
     @Override
     public String toString() {
         return "bulk delete: " + statement + "(" + parameter + ")";
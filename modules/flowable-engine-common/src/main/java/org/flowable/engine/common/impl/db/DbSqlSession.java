@@ -14,16 +14,21 @@
 package org.flowable.engine.common.impl.db;
 
 import java.sql.Connection;
+import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSession;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableOptimisticLockingException;
@@ -56,6 +61,10 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, Map<String, Entity>> deletedObjects = new HashMap<>();
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
+
+    // Only set during a batched flush, see flushBatched()
+    protected SqlSession batchSqlSession;
+    protected Set<Object> optimisticLockingCheckedObjects = Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>());
     
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
@@ -288,9 +297,70 @@ public class DbSqlSession implements Session {
             debugFlush();
         }
 
-        flushInserts();
-        flushUpdates();
-        flushDeletes();
+        if (dbSqlSessionFactory.isBatchedFlushEnabled()) {
+            flushBatched();
+        } else {
+            flushInserts();
+            flushUpdates();
+            flushDeletes();
+        }
+    }
+
+    /**
+     * Executes the inserts, updates and deletes as JDBC batches, using a MyBatis {@link ExecutorType#BATCH} session on the connection of this session.
+     * 
+     * Consecutive statements with the same sql are sent to the database in one round trip. As the update counts are only known when the batches are executed,
+     * the optimistic locking checks are done afterwards, based on the {@link BatchResult}s.
+     */
+    protected void flushBatched() {
+        batchSqlSession = dbSqlSessionFactory.getSqlSessionFactory().openSession(ExecutorType.BATCH, sqlSession.getConnection());
+        try {
+            flushInserts();
+            flushUpdates();
+            flushDeletes();
+
+            List<BatchResult> batchResults = batchSqlSession.flushStatements();
+            verifyBatchResults(batchResults);
+
+        } catch (RuntimeException e) {
+            // Closes the pending statements without executing them. The transaction is rolled back anyway due to the exception.
+            batchSqlSession.rollback(true);
+            throw e;
+
+        } finally {
+            // The batch session is deliberately not closed: it shares the connection with the regular session and closing it would close the connection.
+            batchSqlSession = null;
+            optimisticLockingCheckedObjects.clear();
+        }
+    }
+
+    protected void verifyBatchResults(List<BatchResult> batchResults) {
+        for (BatchResult batchResult : batchResults) {
+            List<Object> parameterObjects = batchResult.getParameterObjects();
+            int[] updateCounts = batchResult.getUpdateCounts();
+            for (int i = 0; i < parameterObjects.size(); i++) {
+                Object parameterObject = parameterObjects.get(i);
+                if (optimisticLockingCheckedObjects.contains(parameterObject)) {
+                    if (updateCounts[i] == Statement.SUCCESS_NO_INFO) {
+                        throw new FlowableException("The JDBC driver did not return update counts for " + parameterObject 
+                                + ": batched flush can not be used with this driver, as the optimistic locking checks can not be applied");
+                    } else if (updateCounts[i] == 0) {
+                        throw new FlowableOptimisticLockingException(parameterObject + " was updated by another transaction concurrently");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @return The {@link SqlSession} that is to be used to execute the insert, update and delete statements while flushing.
+     */
+    protected SqlSession getFlushSqlSession() {
+        return batchSqlSession != null ? batchSqlSession : sqlSession;
+    }
+
+    protected boolean isBatchedFlush() {
+        return batchSqlSession != null;
     }
 
     /**
@@ -435,7 +505,7 @@ public class DbSqlSession implements Session {
         }
 
         LOGGER.debug("inserting: {}", entity);
-        sqlSession.insert(insertStatement, entity);
+        getFlushSqlSession().insert(insertStatement, entity);
 
         // See https://activiti.atlassian.net/browse/ACT-1290
         if (entity instanceof HasRevision) {
@@ -466,7 +536,7 @@ public class DbSqlSession implements Session {
                 }
                 index++;
             }
-            sqlSession.insert(insertStatement, subList);
+            getFlushSqlSession().insert(insertStatement, subList);
         }
 
         if (hasRevision != null && hasRevision) {
@@ -496,9 +566,14 @@ public class DbSqlSession implements Session {
 
             LOGGER.debug("updating: {}", updatedObject);
             
-            int updatedRecords = sqlSession.update(updateStatement, updatedObject);
-            if (updatedRecords == 0) {
-                throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+            if (isBatchedFlush()) {
+                batchSqlSession.update(updateStatement, updatedObject);
+                optimisticLockingCheckedObjects.add(updatedObject);
+            } else {
+                int updatedRecords = sqlSession.update(updateStatement, updatedObject);
+                if (updatedRecords == 0) {
+                    throw new FlowableOptimisticLockingException(updatedObject + " was updated by another transaction concurrently");
+                }
             }
             
             // See https://activiti.atlassian.net/browse/ACT-1290
@@ -540,7 +615,7 @@ public class DbSqlSession implements Session {
         // Bulk deletes
         if (bulkDeleteOperations.containsKey(entityClass)) {
             for (BulkDeleteOperation bulkDeleteOperation : bulkDeleteOperations.get(entityClass)) {
-                bulkDeleteOperation.execute(sqlSession, entityClass);
+                bulkDeleteOperation.execute(getFlushSqlSession(), entityClass);
             }
         }
     }
@@ -555,7 +630,12 @@ public class DbSqlSession implements Session {
 
             // It only makes sense to check for optimistic locking exceptions
             // for objects that actually have a revision
-            if (entity instanceof HasRevision) {
+            if (isBatchedFlush()) {
+                batchSqlSession.delete(deleteStatement, entity);
+                if (entity instanceof HasRevision) {
+                    optimisticLockingCheckedObjects.add(entity);
+                }
+            } else if (entity instanceof HasRevision) {
                 int nrOfRowsDeleted = sqlSession.delete(deleteStatement, entity);
                 if (nrOfRowsDeleted == 0) {
                     throw new FlowableOptimisticLockingException(entity + " was updated by another transaction concurrently");
@@ -594,6 +674,13 @@ public class DbSqlSession implements Session {
         return dbSqlSessionFactory;
     }
 
+    /**
+     * The bulk delete operations that will be executed when the session is flushed, by entity class.
+     */
+    public Map<Class<? extends Entity>, List<BulkDeleteOperation>> getBulkDeleteOperations() {
+        return bulkDeleteOperations;
+    }
+
     public String getConnectionMetadataDefaultCatalog() {
         return connectionMetadataDefaultCatalog;
     }
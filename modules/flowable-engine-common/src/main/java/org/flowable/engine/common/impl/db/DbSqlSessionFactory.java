@@ -64,6 +64,8 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected Map<Class<?>, String> bulkInsertStatements = new ConcurrentHashMap<>();
     
     protected int maxNrOfStatementsInBulkInsert = 100;
+    
+    protected boolean isBatchedFlushEnabled;
 
     @Override
     public Class<?> getSessionType() {
@@ -204,6 +206,14 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.bulkInsertStatements = bulkInsertStatements;
     }
     
+    public boolean isBatchedFlushEnabled() {
+        return isBatchedFlushEnabled;
+    }
+
+    public void setBatchedFlushEnabled(boolean isBatchedFlushEnabled) {
+        this.isBatchedFlushEnabled = isBatchedFlushEnabled;
+    }
+    
     // getters and setters //////////////////////////////////////////////////////
 
     public SqlSessionFactory getSqlSessionFactory() {
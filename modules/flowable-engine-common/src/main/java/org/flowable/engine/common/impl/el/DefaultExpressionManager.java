@@ -45,6 +45,8 @@ public class DefaultExpressionManager implements ExpressionManager {
 
     protected ELContext parsingElContext;
     protected Map<Object, Object> beans;
+    
+    protected volatile SharedElResolvers sharedElResolvers;
 
     public DefaultExpressionManager() {
         this(null);
@@ -79,11 +81,43 @@ public class DefaultExpressionManager implements ExpressionManager {
         return new FlowableElContext(elResolver, functionDelegates);
     }
     
+    /**
+     * Creates the resolver chain for one evaluation. Only the variable resolver is created per evaluation,
+     * the other resolvers don't depend on the variable container and are created once and shared.
+     */
     protected ELResolver createElResolver(VariableContainer variableContainer) {
+        SharedElResolvers sharedElResolvers = getSharedElResolvers();
+        
+        CompositeELResolver compositeELResolver = new CompositeELResolver();
+        if (sharedElResolvers.beforeVariableElResolver != null) {
+            compositeELResolver.add(sharedElResolvers.beforeVariableElResolver);
+        }
+        compositeELResolver.add(createVariableElResolver(variableContainer));
+        if (sharedElResolvers.afterVariableElResolver != null) {
+            compositeELResolver.add(sharedElResolvers.afterVariableElResolver);
+        }
+        return compositeELResolver;
+    }
+    
+    protected SharedElResolvers getSharedElResolvers() {
+        SharedElResolvers sharedElResolvers = this.sharedElResolvers;
+        if (sharedElResolvers == null) {
+            // Creating the shared resolvers twice when called concurrently is harmless
+            sharedElResolvers = createSharedElResolvers();
+            this.sharedElResolvers = sharedElResolvers;
+        }
+        return sharedElResolvers;
+    }
+    
+    protected SharedElResolvers createSharedElResolvers() {
+        // The placeholder marks the position of the variable resolver, so configureResolvers sees the full chain
+        ELResolver variableElResolverPlaceholder = new CompositeELResolver();
+        
         List<ELResolver> elResolvers = new ArrayList<>();
-        elResolvers.add(createVariableElResolver(variableContainer));
-        if (beans != null) {
-            elResolvers.add(new ReadOnlyMapELResolver(beans));
+        elResolvers.add(variableElResolverPlaceholder);
+        ELResolver beansElResolver = createBeansElResolver();
+        if (beansElResolver != null) {
+            elResolvers.add(beansElResolver);
         }
         elResolvers.add(new ArrayELResolver());
         elResolvers.add(new ListELResolver());
@@ -96,6 +130,22 @@ public class DefaultExpressionManager implements ExpressionManager {
         
         configureResolvers(elResolvers);
         
+        int variableElResolverIndex = elResolvers.indexOf(variableElResolverPlaceholder);
+        if (variableElResolverIndex < 0) {
+            variableElResolverIndex = 0;
+        } else {
+            elResolvers.remove(variableElResolverIndex);
+        }
+        
+        return new SharedElResolvers(createCompositeElResolver(elResolvers.subList(0, variableElResolverIndex)),
+                createCompositeElResolver(elResolvers.subList(variableElResolverIndex, elResolvers.size())));
+    }
+    
+    protected ELResolver createCompositeElResolver(List<ELResolver> elResolvers) {
+        if (elResolvers.isEmpty()) {
+            return null;
+        }
+        
         CompositeELResolver compositeELResolver = new CompositeELResolver();
         for (ELResolver elResolver : elResolvers) {
             compositeELResolver.add(elResolver);
@@ -103,6 +153,14 @@ public class DefaultExpressionManager implements ExpressionManager {
         return compositeELResolver;
     }
     
+    /**
+     * Resets the shared resolvers, so they are created again for the next evaluation.
+     * Needs to be called when something the shared resolvers depend on is changed.
+     */
+    protected void resetSharedElResolvers() {
+        this.sharedElResolvers = null;
+    }
+    
     protected void configureResolvers(List<ELResolver> elResolvers) {
         // to be extended if needed
     }
@@ -111,6 +169,13 @@ public class DefaultExpressionManager implements ExpressionManager {
         return new VariableContainerELResolver(variableContainer);
     }
     
+    protected ELResolver createBeansElResolver() {
+        if (beans != null) {
+            return new ReadOnlyMapELResolver(beans);
+        }
+        return null;
+    }
+    
     protected ELResolver createBeanElResolver() {
         return new BeanELResolver();
     }
@@ -123,6 +188,7 @@ public class DefaultExpressionManager implements ExpressionManager {
     @Override
     public void setBeans(Map<Object, Object> beans) {
         this.beans = beans;
+        resetSharedElResolvers();
     }
 
     @Override
@@ -134,4 +200,18 @@ public class DefaultExpressionManager implements ExpressionManager {
     public void setFunctionDelegates(List<FlowableFunctionDelegate> functionDelegates) {
         this.functionDelegates = functionDelegates;
     }
+    
+    /**
+     * The resolvers that are shared by all evaluations, split by the position of the variable resolver in the chain.
+     */
+    protected static class SharedElResolvers {
+        
+        protected final ELResolver beforeVariableElResolver;
+        protected final ELResolver afterVariableElResolver;
+        
+        public SharedElResolvers(ELResolver beforeVariableElResolver, ELResolver afterVariableElResolver) {
+            this.beforeVariableElResolver = beforeVariableElResolver;
+            this.afterVariableElResolver = afterVariableElResolver;
+        }
+    }
 }
@@ -0,0 +1,43 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.event;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+
+/**
+ * Checks to do before creating an event, to avoid creating events no listener is interested in.
+ */
+public class EventDispatcherUtil {
+
+    public static boolean hasListenersFor(FlowableEventDispatcher eventDispatcher, FlowableEventType type) {
+        return hasListenersFor(eventDispatcher, type, null);
+    }
+
+    /**
+     * @param processDefinitionId
+     *            the process definition the event would belong to, or null when it belongs to none
+     * @return false when the event would not be dispatched to any listener. Dispatchers that don't implement {@link ListenerAwareEventDispatcher} are
+     *         assumed to have listeners for all events when enabled.
+     */
+    public static boolean hasListenersFor(FlowableEventDispatcher eventDispatcher, FlowableEventType type, String processDefinitionId) {
+        if (eventDispatcher == null || !eventDispatcher.isEnabled()) {
+            return false;
+        }
+        if (eventDispatcher instanceof ListenerAwareEventDispatcher) {
+            return ((ListenerAwareEventDispatcher) eventDispatcher).hasListenersFor(type, processDefinitionId);
+        }
+        return true;
+    }
+
+}
@@ -25,7 +25,7 @@ import org.flowable.engine.common.impl.interceptor.CommandContext;
  * 
  * @author Frederik Heremans
  */
-public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
+public class FlowableEventDispatcherImpl implements FlowableEventDispatcher, ListenerAwareEventDispatcher {
 
     protected FlowableEventSupport eventSupport;
     protected boolean enabled = true;
@@ -59,6 +59,30 @@ public class FlowableEventDispatcherImpl implements FlowableEventDispatcher {
         eventSupport.removeEventListener(listenerToRemove);
     }
 
+    @Override
+    public boolean hasListenersFor(FlowableEventType type, String processDefinitionId) {
+        if (!enabled) {
+            return false;
+        }
+        if (eventSupport.hasListenersFor(type)) {
+            return true;
+        }
+
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            AbstractEngineConfiguration engineConfiguration = commandContext.getCurrentEngineConfiguration();
+            if (engineConfiguration != null && engineConfiguration.getAdditionalEventDispatchActions() != null) {
+                for (EventDispatchAction eventDispatchAction : engineConfiguration.getAdditionalEventDispatchActions()) {
+                    if (!(eventDispatchAction instanceof ListenerAwareEventDispatchAction)
+                            || ((ListenerAwareEventDispatchAction) eventDispatchAction).hasListenersFor(commandContext, type, processDefinitionId)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     @Override
     public void dispatchEvent(FlowableEvent event) {
         if (enabled) {
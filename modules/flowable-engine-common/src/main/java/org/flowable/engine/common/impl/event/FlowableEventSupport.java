@@ -12,10 +12,10 @@
  */
 package org.flowable.engine.common.impl.event;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
@@ -28,27 +28,30 @@ import org.slf4j.LoggerFactory;
 /**
  * Class that allows adding and removing event listeners and dispatching events to the appropriate listeners.
  * 
+ * The listeners are kept in arrays per event type which are replaced, never changed, when a listener is added or removed. Dispatching an event and
+ * checking whether there are listeners for an event type therefore don't need any locking.
+ * 
  * @author Frederik Heremans
  */
 public class FlowableEventSupport {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(FlowableEventSupport.class);
 
-    protected List<FlowableEventListener> eventListeners;
-    protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
+    protected static final FlowableEventListener[] NO_LISTENERS = new FlowableEventListener[0];
+
+    protected volatile FlowableEventListener[] eventListeners;
+    protected volatile Map<FlowableEventType, FlowableEventListener[]> typedListeners;
 
     public FlowableEventSupport() {
-        eventListeners = new CopyOnWriteArrayList<>();
-        typedListeners = new HashMap<>();
+        eventListeners = NO_LISTENERS;
+        typedListeners = Collections.emptyMap();
     }
 
     public synchronized void addEventListener(FlowableEventListener listenerToAdd) {
         if (listenerToAdd == null) {
             throw new FlowableIllegalArgumentException("Listener cannot be null.");
         }
-        if (!eventListeners.contains(listenerToAdd)) {
-            eventListeners.add(listenerToAdd);
-        }
+        eventListeners = addListener(eventListeners, listenerToAdd);
     }
 
     public synchronized void addEventListener(FlowableEventListener listenerToAdd, FlowableEventType... types) {
@@ -66,12 +69,31 @@ public class FlowableEventSupport {
         }
     }
 
-    public void removeEventListener(FlowableEventListener listenerToRemove) {
-        eventListeners.remove(listenerToRemove);
+    public synchronized void removeEventListener(FlowableEventListener listenerToRemove) {
+        eventListeners = removeListener(eventListeners, listenerToRemove);
 
-        for (List<FlowableEventListener> listeners : typedListeners.values()) {
-            listeners.remove(listenerToRemove);
+        Map<FlowableEventType, FlowableEventListener[]> newTypedListeners = new HashMap<>();
+        for (Map.Entry<FlowableEventType, FlowableEventListener[]> entry : typedListeners.entrySet()) {
+            FlowableEventListener[] listeners = removeListener(entry.getValue(), listenerToRemove);
+            if (listeners.length > 0) {
+                newTypedListeners.put(entry.getKey(), listeners);
+            }
         }
+        typedListeners = newTypedListeners;
+    }
+
+    /**
+     * @return true when at least one listener has been added, either for all events or for specific event types.
+     */
+    public boolean hasListeners() {
+        return eventListeners.length > 0 || !typedListeners.isEmpty();
+    }
+
+    /**
+     * @return true when at least one listener has been added for all events or for the given event type.
+     */
+    public boolean hasListenersFor(FlowableEventType type) {
+        return eventListeners.length > 0 || typedListeners.containsKey(type);
     }
 
     public void dispatchEvent(FlowableEvent event) {
@@ -84,15 +106,13 @@ public class FlowableEventSupport {
         }
 
         // Call global listeners
-        if (!eventListeners.isEmpty()) {
-            for (FlowableEventListener listener : eventListeners) {
-                dispatchEvent(event, listener);
-            }
+        for (FlowableEventListener listener : eventListeners) {
+            dispatchEvent(event, listener);
         }
 
         // Call typed listeners, if any
-        List<FlowableEventListener> typed = typedListeners.get(event.getType());
-        if (typed != null && !typed.isEmpty()) {
+        FlowableEventListener[] typed = typedListeners.get(event.getType());
+        if (typed != null) {
             for (FlowableEventListener listener : typed) {
                 dispatchEvent(event, listener);
             }
@@ -114,15 +134,35 @@ public class FlowableEventSupport {
     }
 
     protected synchronized void addTypedEventListener(FlowableEventListener listener, FlowableEventType type) {
-        List<FlowableEventListener> listeners = typedListeners.get(type);
-        if (listeners == null) {
-            // Add an empty list of listeners for this type
-            listeners = new CopyOnWriteArrayList<>();
-            typedListeners.put(type, listeners);
+        FlowableEventListener[] listeners = typedListeners.get(type);
+        FlowableEventListener[] newListeners = addListener(listeners != null ? listeners : NO_LISTENERS, listener);
+        if (newListeners != listeners) {
+            Map<FlowableEventType, FlowableEventListener[]> newTypedListeners = new HashMap<>(typedListeners);
+            newTypedListeners.put(type, newListeners);
+            typedListeners = newTypedListeners;
+        }
+    }
+
+    protected FlowableEventListener[] addListener(FlowableEventListener[] listeners, FlowableEventListener listenerToAdd) {
+        for (FlowableEventListener listener : listeners) {
+            if (listener.equals(listenerToAdd)) {
+                return listeners;
+            }
         }
+        FlowableEventListener[] newListeners = Arrays.copyOf(listeners, listeners.length + 1);
+        newListeners[listeners.length] = listenerToAdd;
+        return newListeners;
+    }
 
-        if (!listeners.contains(listener)) {
-            listeners.add(listener);
+    protected FlowableEventListener[] removeListener(FlowableEventListener[] listeners, FlowableEventListener listenerToRemove) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i].equals(listenerToRemove)) {
+                FlowableEventListener[] newListeners = new FlowableEventListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, newListeners, 0, i);
+                System.arraycopy(listeners, i + 1, newListeners, i, listeners.length - i - 1);
+                return newListeners;
+            }
         }
+        return listeners;
     }
 }
@@ -0,0 +1,30 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.event;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+
+/**
+ * An {@link EventDispatchAction} that knows for which event types it has listeners to dispatch to. Actions not implementing this interface are
+ * assumed to have listeners for every event type.
+ */
+public interface ListenerAwareEventDispatchAction extends EventDispatchAction {
+
+    /**
+     * @param processDefinitionId
+     *            the process definition the event would belong to, or null when it belongs to none
+     */
+    boolean hasListenersFor(CommandContext commandContext, FlowableEventType type, String processDefinitionId);
+
+}
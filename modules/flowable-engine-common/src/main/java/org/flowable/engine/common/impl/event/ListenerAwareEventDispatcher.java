@@ -0,0 +1,34 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.event;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.api.delegate.event.FlowableEventType;
+
+/**
+ * A {@link FlowableEventDispatcher} that can tell whether any listener would be notified of an event, before the event is created. Internal to the
+ * engines, callers should use {@link EventDispatcherUtil#hasListenersFor(FlowableEventDispatcher, FlowableEventType, String)}, which also handles
+ * dispatchers not implementing this interface.
+ */
+public interface ListenerAwareEventDispatcher {
+
+    /**
+     * @param type
+     *            the type of the event that would be dispatched
+     * @param processDefinitionId
+     *            the process definition the event would belong to, or null when it belongs to none
+     * @return true, if the dispatcher is enabled and at least one listener could be notified of the event.
+     */
+    boolean hasListenersFor(FlowableEventType type, String processDefinitionId);
+
+}
@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.history;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Progress counters of the history cleaning job, as executed on this engine. Batches are only counted after their transaction has been committed.
+ */
+public class HistoryCleaningMetrics {
+
+    protected final AtomicLong runs = new AtomicLong();
+    protected final AtomicLong batches = new AtomicLong();
+    protected final AtomicLong deletedInstances = new AtomicLong();
+    protected volatile long lastRunStartTime;
+    protected volatile long lastBatchTime;
+    protected volatile int lastBatchSize;
+
+    public void runStarted(long startTime) {
+        runs.incrementAndGet();
+        lastRunStartTime = startTime;
+    }
+
+    public void batchCompleted(int deletedInstanceCount, long batchTime) {
+        batches.incrementAndGet();
+        deletedInstances.addAndGet(deletedInstanceCount);
+        lastBatchSize = deletedInstanceCount;
+        lastBatchTime = batchTime;
+    }
+
+    /**
+     * @return the number of times the cleaning was started by its cron expression.
+     */
+    public long getRuns() {
+        return runs.get();
+    }
+
+    public long getBatches() {
+        return batches.get();
+    }
+
+    /**
+     * @return the number of historic process or case instances removed, together with their activities, tasks, variables, etc.
+     */
+    public long getDeletedInstances() {
+        return deletedInstances.get();
+    }
+
+    /**
+     * @return the time (in milliseconds since the epoch) the last run was started, or 0 when the cleaning hasn't run yet.
+     */
+    public long getLastRunStartTime() {
+        return lastRunStartTime;
+    }
+
+    /**
+     * @return the time (in milliseconds since the epoch) the last batch was completed, or 0 when no batch was completed yet.
+     */
+    public long getLastBatchTime() {
+        return lastBatchTime;
+    }
+
+    public int getLastBatchSize() {
+        return lastBatchSize;
+    }
+
+    @Override
+    public String toString() {
+        return "HistoryCleaningMetrics[runs=" + getRuns()
+                + ", batches=" + getBatches()
+                + ", deletedInstances=" + getDeletedInstances()
+                + ", lastBatchSize=" + lastBatchSize + "]";
+    }
+
+}
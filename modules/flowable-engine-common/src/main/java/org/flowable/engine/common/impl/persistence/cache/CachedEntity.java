@@ -14,6 +14,7 @@ package org.flowable.engine.common.impl.persistence.cache;
 
 import java.util.HashMap;
 
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 
 /**
@@ -37,6 +38,9 @@ public class CachedEntity {
         if (storeState) {
             this.originalPersistentState = entity.getPersistentState();
             entity.setOriginalPersistentState(originalPersistentState);
+            if (entity instanceof DirtyTrackedEntity) {
+                ((DirtyTrackedEntity) entity).setDirty(false);
+            }
         } else if (entity.getOriginalPersistentState() == null){
             entity.setOriginalPersistentState(new HashMap<>(1));
         }
@@ -59,7 +63,12 @@ public class CachedEntity {
     }
 
     public boolean hasChanged() {
-        return entity.getPersistentState() != null && !entity.getPersistentState().equals(originalPersistentState);
+        // An entity that tracks its own changes and was not touched since it was loaded can't have changed, no need to build its persistent state
+        if (originalPersistentState != null && entity instanceof DirtyTrackedEntity && !((DirtyTrackedEntity) entity).isDirty()) {
+            return false;
+        }
+        Object persistentState = entity.getPersistentState();
+        return persistentState != null && !persistentState.equals(originalPersistentState);
     }
 
 }
\ No newline at end of file
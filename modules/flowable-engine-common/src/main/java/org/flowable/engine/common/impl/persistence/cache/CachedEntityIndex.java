@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.cache;
+
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+
+/**
+ * Secondary index of the {@link EntityCache}, grouping the cached entities of one class by a key derived from the entity (for example the process
+ * instance id of an execution). It allows queries on the cache to look at the entities that can match instead of all cached entities of a type.
+ * 
+ * The index key must be 'write once': it can go from null to a value during a command, but must not change afterwards.
+ * Entities with a null key are checked again on every lookup.
+ */
+public interface CachedEntityIndex<EntityImpl extends Entity> {
+
+    /**
+     * Returns the key under which the given entity is indexed, or null if it can't be indexed (yet).
+     */
+    Object getIndexKey(EntityImpl entity);
+
+}
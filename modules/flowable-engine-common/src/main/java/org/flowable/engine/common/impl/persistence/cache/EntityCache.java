@@ -59,6 +59,12 @@ public interface EntityCache extends Session {
      */
     <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass);
 
+    /**
+     * Returns the {@link CachedEntity} instances for the given type that are stored under the given key in the {@link CachedEntityIndex}. The index is
+     * created on first use. Returns null if no instances of the given type exist.
+     */
+    <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, CachedEntityIndex<?> index, Object indexKey);
+
     /**
      * Removes the {@link Entity} of the given type with the given id from the cache.
      */
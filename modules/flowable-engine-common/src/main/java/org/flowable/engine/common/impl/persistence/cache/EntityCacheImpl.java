@@ -16,8 +16,13 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 
@@ -26,20 +31,72 @@ import org.flowable.engine.common.impl.persistence.entity.Entity;
  */
 public class EntityCacheImpl implements EntityCache {
 
+    /**
+     * The super classes and interfaces of every entity class. Shared between all caches, as it only depends on the class hierarchy.
+     */
+    protected static final ConcurrentMap<Class<?>, Set<Class<?>>> ENTITY_TYPES = new ConcurrentHashMap<>();
+
     protected Map<Class<?>, Map<String, CachedEntity>> cachedObjects = new HashMap<>();
 
+    /**
+     * Maps every super class or interface of a cached entity class to the class cache of that entity class, so lookups by type don't need to check
+     * all cached classes.
+     */
+    protected Map<Class<?>, Map<String, CachedEntity>> classCachesByType = new HashMap<>();
+
+    /**
+     * The {@link CachedEntityIndex} instances per entity class, created when first used.
+     */
+    protected Map<Class<?>, Map<CachedEntityIndex<?>, IndexedClassCache>> classCacheIndexes = new HashMap<>();
+
     @Override
     public CachedEntity put(Entity entity, boolean storeState) {
         Map<String, CachedEntity> classCache = cachedObjects.get(entity.getClass());
         if (classCache == null) {
             classCache = new HashMap<>();
             cachedObjects.put(entity.getClass(), classCache);
+            registerClassCache(entity.getClass(), classCache);
         }
         CachedEntity cachedObject = new CachedEntity(entity, storeState);
         classCache.put(entity.getId(), cachedObject);
+
+        Map<CachedEntityIndex<?>, IndexedClassCache> indexes = classCacheIndexes.get(entity.getClass());
+        if (indexes != null) {
+            for (IndexedClassCache indexedClassCache : indexes.values()) {
+                indexedClassCache.add(cachedObject);
+            }
+        }
+
         return cachedObject;
     }
 
+    protected void registerClassCache(Class<?> entityClass, Map<String, CachedEntity> classCache) {
+        for (Class<?> entityType : getEntityTypes(entityClass)) {
+            if (!classCachesByType.containsKey(entityType)) {
+                classCachesByType.put(entityType, classCache);
+            }
+        }
+    }
+
+    protected Set<Class<?>> getEntityTypes(Class<?> entityClass) {
+        Set<Class<?>> entityTypes = ENTITY_TYPES.get(entityClass);
+        if (entityTypes == null) {
+            entityTypes = new LinkedHashSet<>();
+            collectEntityTypes(entityClass, entityTypes);
+            ENTITY_TYPES.putIfAbsent(entityClass, entityTypes);
+        }
+        return entityTypes;
+    }
+
+    protected void collectEntityTypes(Class<?> type, Set<Class<?>> entityTypes) {
+        if (type != null && entityTypes.add(type)) {
+            collectEntityTypes(type.getSuperclass(), entityTypes);
+            for (Class<?> interfaceType : type.getInterfaces()) {
+                collectEntityTypes(interfaceType, entityTypes);
+            }
+        }
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> T findInCache(Class<T> entityClass, String id) {
@@ -62,12 +119,7 @@ public class EntityCacheImpl implements EntityCache {
     }
 
     protected Map<String, CachedEntity> findClassCacheByCheckingSubclasses(Class<?> entityClass) {
-        for (Class<?> clazz : cachedObjects.keySet()) {
-            if (entityClass.isAssignableFrom(clazz)) {
-                return cachedObjects.get(clazz);
-            }
-        }
-        return null;
+        return classCachesByType.get(entityClass);
     }
 
     @Override
@@ -77,6 +129,13 @@ public class EntityCacheImpl implements EntityCache {
             return;
         }
         classCache.remove(entityId);
+
+        Map<CachedEntityIndex<?>, IndexedClassCache> indexes = classCacheIndexes.get(entityClass);
+        if (indexes != null) {
+            for (IndexedClassCache indexedClassCache : indexes.values()) {
+                indexedClassCache.remove(entityId);
+            }
+        }
     }
 
     @Override
@@ -88,6 +147,31 @@ public class EntityCacheImpl implements EntityCache {
         return null;
     }
 
+    @Override
+    public <T> Collection<CachedEntity> findInCacheAsCachedObjects(Class<T> entityClass, CachedEntityIndex<?> index, Object indexKey) {
+        Map<String, CachedEntity> classCache = cachedObjects.get(entityClass);
+        if (classCache == null) {
+            return null;
+        }
+
+        Map<CachedEntityIndex<?>, IndexedClassCache> indexes = classCacheIndexes.get(entityClass);
+        if (indexes == null) {
+            indexes = new HashMap<>();
+            classCacheIndexes.put(entityClass, indexes);
+        }
+
+        IndexedClassCache indexedClassCache = indexes.get(index);
+        if (indexedClassCache == null) {
+            indexedClassCache = new IndexedClassCache(index);
+            for (CachedEntity cachedObject : classCache.values()) {
+                indexedClassCache.add(cachedObject);
+            }
+            indexes.put(index, indexedClassCache);
+        }
+
+        return indexedClassCache.find(indexKey);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> List<T> findInCache(Class<T> entityClass) {
@@ -122,4 +206,78 @@ public class EntityCacheImpl implements EntityCache {
     public void flush() {
 
     }
+
+    /**
+     * The cached entities of one class, grouped by the key of a {@link CachedEntityIndex}.
+     */
+    protected static class IndexedClassCache {
+
+        protected CachedEntityIndex<Entity> index;
+        protected Map<Object, Map<String, CachedEntity>> cachedObjectsByKey = new HashMap<>();
+        protected Map<String, Object> keysById = new HashMap<>();
+
+        /** Entities that had no index key yet when they were added */
+        protected Map<String, CachedEntity> unkeyedCachedObjects = new HashMap<>();
+
+        @SuppressWarnings("unchecked")
+        public IndexedClassCache(CachedEntityIndex<?> index) {
+            this.index = (CachedEntityIndex<Entity>) index;
+        }
+
+        public void add(CachedEntity cachedObject) {
+            String id = cachedObject.getEntity().getId();
+            remove(id);
+
+            Object key = index.getIndexKey(cachedObject.getEntity());
+            if (key != null) {
+                addForKey(key, id, cachedObject);
+            } else {
+                unkeyedCachedObjects.put(id, cachedObject);
+            }
+        }
+
+        protected void addForKey(Object key, String id, CachedEntity cachedObject) {
+            Map<String, CachedEntity> cachedObjectsForKey = cachedObjectsByKey.get(key);
+            if (cachedObjectsForKey == null) {
+                cachedObjectsForKey = new HashMap<>();
+                cachedObjectsByKey.put(key, cachedObjectsForKey);
+            }
+            cachedObjectsForKey.put(id, cachedObject);
+            keysById.put(id, key);
+        }
+
+        public void remove(String id) {
+            Object key = keysById.remove(id);
+            if (key != null) {
+                Map<String, CachedEntity> cachedObjectsForKey = cachedObjectsByKey.get(key);
+                cachedObjectsForKey.remove(id);
+                if (cachedObjectsForKey.isEmpty()) {
+                    cachedObjectsByKey.remove(key);
+                }
+            } else {
+                unkeyedCachedObjects.remove(id);
+            }
+        }
+
+        public Collection<CachedEntity> find(Object key) {
+            if (!unkeyedCachedObjects.isEmpty()) {
+                Iterator<Map.Entry<String, CachedEntity>> unkeyedIterator = unkeyedCachedObjects.entrySet().iterator();
+                while (unkeyedIterator.hasNext()) {
+                    Map.Entry<String, CachedEntity> unkeyedEntry = unkeyedIterator.next();
+                    Object unkeyedKey = index.getIndexKey(unkeyedEntry.getValue().getEntity());
+                    if (unkeyedKey != null) {
+                        unkeyedIterator.remove();
+                        addForKey(unkeyedKey, unkeyedEntry.getKey(), unkeyedEntry.getValue());
+                    }
+                }
+            }
+
+            Map<String, CachedEntity> cachedObjectsForKey = cachedObjectsByKey.get(key);
+            if (cachedObjectsForKey != null) {
+                return cachedObjectsForKey.values();
+            }
+            return Collections.emptyList();
+        }
+
+    }
 }
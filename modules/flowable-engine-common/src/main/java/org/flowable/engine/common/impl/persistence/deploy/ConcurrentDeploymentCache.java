@@ -0,0 +1,274 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DeploymentCache} for high concurrency, that can be used instead of the {@link DefaultDeploymentCache} for any definition cache.
+ * 
+ * Lookups don't take a lock: the entries are kept in a {@link ConcurrentHashMap} and a lookup only records the access time of the entry.
+ * The cache can be limited by the number of entries, or by the total weight of the entries as calculated by a {@link DeploymentCacheWeigher}.
+ * When the limit is exceeded after adding an entry, entries are evicted under a lock, which is only taken when adding to a full cache.
+ * 
+ * Eviction uses a segmented LRU policy: an entry starts in the probationary segment and is promoted to the protected segment when it's
+ * looked up again after its first lookup, as the first lookup usually directly follows adding the entry. The least recently used probationary entry is evicted first, so a burst of definitions that are used only once
+ * doesn't flush the definitions that are used all the time. When the protected segment holds more than 80% of the weight,
+ * its least recently used entry is evicted instead.
+ * 
+ * Hits, misses and evictions are counted, see {@link #getStatistics()}.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    protected static final double PROTECTED_WEIGHT_RATIO = 0.8;
+
+    // Entries accessed within this interval are considered equally recent, this avoids writing the access time on every lookup
+    protected static final long ACCESS_TIME_RESOLUTION_NANOS = 1000000L;
+
+    protected ConcurrentMap<String, Node<T>> cache = new ConcurrentHashMap<>();
+    protected DeploymentCacheWeigher<T> weigher;
+    protected long maxWeight;
+    protected long maxProtectedWeight;
+
+    protected AtomicLong weight = new AtomicLong();
+    protected ReentrantLock evictionLock = new ReentrantLock();
+
+    protected StripedCounter hitCount = new StripedCounter();
+    protected StripedCounter missCount = new StripedCounter();
+    protected AtomicLong evictionCount = new AtomicLong();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(0L, null);
+    }
+
+    /**
+     * Cache which has a hard limit: no more elements will be cached than the limit.
+     */
+    public ConcurrentDeploymentCache(int limit) {
+        this((long) limit, null);
+    }
+
+    /**
+     * Cache which is limited by the total weight of its entries, as calculated by the given weigher.
+     * A maximum weight of zero or less means the cache has no limit.
+     */
+    public ConcurrentDeploymentCache(long maxWeight, DeploymentCacheWeigher<T> weigher) {
+        this.maxWeight = maxWeight;
+        this.maxProtectedWeight = (long) (maxWeight * PROTECTED_WEIGHT_RATIO);
+        this.weigher = weigher;
+    }
+
+    @Override
+    public T get(String id) {
+        Node<T> node = cache.get(id);
+        if (node == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        node.recordAccess();
+        return node.value;
+    }
+
+    @Override
+    public void add(String id, T obj) {
+        Node<T> node = new Node<>(id, obj, weigh(id, obj));
+        Node<T> previousNode = cache.put(id, node);
+        weight.addAndGet(previousNode != null ? node.weight - previousNode.weight : node.weight);
+
+        if (maxWeight > 0 && weight.get() > maxWeight) {
+            evict();
+        }
+    }
+
+    protected int weigh(String id, T obj) {
+        if (weigher == null) {
+            return 1;
+        }
+
+        int objectWeight = weigher.weigh(id, obj);
+        if (objectWeight < 0) {
+            throw new FlowableIllegalArgumentException("Weight of cached object " + id + " is negative: " + objectWeight);
+        }
+        return objectWeight;
+    }
+
+    protected void evict() {
+        evictionLock.lock();
+        try {
+            while (weight.get() > maxWeight) {
+                Node<T> victim = findVictim();
+                if (victim == null) {
+                    break;
+                }
+
+                if (cache.remove(victim.id, victim)) {
+                    weight.addAndGet(-victim.weight);
+                    evictionCount.incrementAndGet();
+                    if (LOGGER.isTraceEnabled()) {
+                        LOGGER.trace("Cache limit is reached, {} will be evicted", victim.id);
+                    }
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    protected Node<T> findVictim() {
+        Node<T> oldestProbationaryNode = null;
+        Node<T> oldestProtectedNode = null;
+        long protectedWeight = 0;
+
+        for (Node<T> node : cache.values()) {
+            if (node.isProtected) {
+                protectedWeight += node.weight;
+                if (oldestProtectedNode == null || node.accessTime - oldestProtectedNode.accessTime < 0) {
+                    oldestProtectedNode = node;
+                }
+            } else if (oldestProbationaryNode == null || node.accessTime - oldestProbationaryNode.accessTime < 0) {
+                oldestProbationaryNode = node;
+            }
+        }
+
+        if (oldestProbationaryNode == null || protectedWeight > maxProtectedWeight) {
+            return oldestProtectedNode;
+        }
+        return oldestProbationaryNode;
+    }
+
+    @Override
+    public void remove(String id) {
+        Node<T> node = cache.remove(id);
+        if (node != null) {
+            weight.addAndGet(-node.weight);
+        }
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void clear() {
+        for (String id : cache.keySet()) {
+            remove(id);
+        }
+    }
+
+    public DeploymentCacheStatistics getStatistics() {
+        return new DeploymentCacheStatistics(hitCount.sum(), missCount.sum(), evictionCount.get(), cache.size(), weight.get());
+    }
+
+    // For testing purposes only
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (Node<T> node : cache.values()) {
+            values.add(node.value);
+        }
+        return values;
+    }
+
+    // For testing purposes only
+    public int size() {
+        return cache.size();
+    }
+
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentDeploymentCache[maxWeight=" + maxWeight + ", " + getStatistics() + "]";
+    }
+
+    protected static class Node<T> {
+
+        protected final String id;
+        protected final T value;
+        protected final int weight;
+        protected volatile long accessTime;
+        protected volatile boolean accessed;
+        protected volatile boolean isProtected;
+
+        public Node(String id, T value, int weight) {
+            this.id = id;
+            this.value = value;
+            this.weight = weight;
+            this.accessTime = System.nanoTime();
+        }
+
+        public void recordAccess() {
+            if (!isProtected) {
+                if (accessed) {
+                    isProtected = true;
+                } else {
+                    accessed = true;
+                }
+            }
+
+            long now = System.nanoTime();
+            if (now - accessTime > ACCESS_TIME_RESOLUTION_NANOS) {
+                accessTime = now;
+            }
+        }
+    }
+
+    /**
+     * Counter that spreads the increments of different threads over different slots, so concurrent lookups don't contend on one value.
+     */
+    protected static class StripedCounter {
+
+        protected static final int STRIPES = 16;
+
+        // Only every eighth slot is used, so the used slots are on different cache lines
+        protected static final int PADDING = 8;
+
+        protected AtomicLongArray counts = new AtomicLongArray(STRIPES * PADDING);
+
+        public void increment() {
+            int stripe = (int) (Thread.currentThread().getId() % STRIPES);
+            counts.incrementAndGet(stripe * PADDING);
+        }
+
+        public long sum() {
+            long sum = 0;
+            for (int i = 0; i < STRIPES; i++) {
+                sum += counts.get(i * PADDING);
+            }
+            return sum;
+        }
+    }
+
+}
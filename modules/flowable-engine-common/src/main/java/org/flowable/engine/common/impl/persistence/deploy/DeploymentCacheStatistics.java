@@ -0,0 +1,69 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+/**
+ * Snapshot of the statistics of a {@link ConcurrentDeploymentCache}.
+ */
+public class DeploymentCacheStatistics {
+
+    protected long hitCount;
+    protected long missCount;
+    protected long evictionCount;
+    protected int size;
+    protected long weight;
+
+    public DeploymentCacheStatistics(long hitCount, long missCount, long evictionCount, int size, long weight) {
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+        this.size = size;
+        this.weight = weight;
+    }
+
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    public long getMissCount() {
+        return missCount;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    public double getHitRate() {
+        long requestCount = getRequestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public long getWeight() {
+        return weight;
+    }
+
+    @Override
+    public String toString() {
+        return "DeploymentCacheStatistics[hitCount=" + hitCount + ", missCount=" + missCount + ", evictionCount=" + evictionCount 
+                + ", size=" + size + ", weight=" + weight + "]";
+    }
+
+}
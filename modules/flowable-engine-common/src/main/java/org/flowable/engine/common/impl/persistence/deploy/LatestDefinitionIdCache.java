@@ -0,0 +1,190 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.deploy;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
+
+/**
+ * Node-local cache of the id of the latest version of a definition, by definition key and tenant id. It allows a deployment manager to find
+ * the latest version of a definition in its definition cache, without querying for it first.
+ *
+ * The cache is invalidated completely when a deployment is added or removed on this node: right away and again when the transaction commits
+ * or rolls back, so an id that was looked up concurrently, or an id of a definition that was rolled back, is not kept. To prevent such a lookup from caching an id after the invalidation, the value of
+ * {@link #getInvalidationStamp()} must be read before querying the latest definition and passed to {@link #put(String, String, String, long)}.
+ *
+ * Deployments done by other nodes of a cluster are not seen. A time to live can be set, after which an entry is looked up again.
+ */
+public class LatestDefinitionIdCache {
+
+    protected ConcurrentMap<CacheKey, CacheEntry> cache = new ConcurrentHashMap<>();
+    protected AtomicLong invalidationCount = new AtomicLong();
+
+    /** The time (in milliseconds) an entry is used before it is looked up again. Zero or less means entries don't expire. */
+    protected long timeToLive;
+
+    public LatestDefinitionIdCache() {
+    }
+
+    public LatestDefinitionIdCache(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    /**
+     * @return the id of the latest definition with the given key and tenant id, or null if it is not cached (anymore).
+     */
+    public String get(String definitionKey, String tenantId) {
+        CacheKey cacheKey = new CacheKey(definitionKey, tenantId);
+        CacheEntry cacheEntry = cache.get(cacheKey);
+        if (cacheEntry == null) {
+            return null;
+        }
+
+        if (timeToLive > 0 && System.currentTimeMillis() - cacheEntry.cacheTime > timeToLive) {
+            cache.remove(cacheKey, cacheEntry);
+            return null;
+        }
+        return cacheEntry.definitionId;
+    }
+
+    /**
+     * Caches the id of the latest definition, unless the cache was invalidated since the given stamp was read.
+     */
+    public void put(String definitionKey, String tenantId, String definitionId, long invalidationStamp) {
+        if (invalidationStamp != invalidationCount.get()) {
+            return;
+        }
+
+        CacheKey cacheKey = new CacheKey(definitionKey, tenantId);
+        CacheEntry cacheEntry = new CacheEntry(definitionId, System.currentTimeMillis());
+        cache.put(cacheKey, cacheEntry);
+
+        // The cache could have been invalidated between the check and the put
+        if (invalidationStamp != invalidationCount.get()) {
+            cache.remove(cacheKey, cacheEntry);
+        }
+    }
+
+    public long getInvalidationStamp() {
+        return invalidationCount.get();
+    }
+
+    public void invalidate() {
+        invalidationCount.incrementAndGet();
+        cache.clear();
+    }
+
+    /**
+     * Invalidates the cache now, and again after the current transaction has been committed or rolled back.
+     */
+    public void invalidateOnCommit(CommandContext commandContext) {
+        invalidate();
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            TransactionListener invalidateListener = new TransactionListener() {
+
+                @Override
+                public void execute(CommandContext commandContext) {
+                    invalidate();
+                }
+            };
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, invalidateListener);
+            transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, invalidateListener);
+
+        } else if (commandContext != null) {
+            commandContext.addCloseListener(new CommandContextCloseListener() {
+
+                @Override
+                public void closing(CommandContext commandContext) {
+                }
+
+                @Override
+                public void afterSessionsFlush(CommandContext commandContext) {
+                }
+
+                @Override
+                public void closed(CommandContext commandContext) {
+                    invalidate();
+                }
+
+                @Override
+                public void closeFailure(CommandContext commandContext) {
+                    invalidate();
+                }
+            });
+        }
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    protected static class CacheKey {
+
+        protected final String definitionKey;
+        protected final String tenantId;
+
+        public CacheKey(String definitionKey, String tenantId) {
+            this.definitionKey = definitionKey;
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = definitionKey != null ? definitionKey.hashCode() : 0;
+            return 31 * result + (tenantId != null ? tenantId.hashCode() : 0);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (this == object) {
+                return true;
+            }
+            if (!(object instanceof CacheKey)) {
+                return false;
+            }
+            CacheKey other = (CacheKey) object;
+            return (definitionKey != null ? definitionKey.equals(other.definitionKey) : other.definitionKey == null)
+                    && (tenantId != null ? tenantId.equals(other.tenantId) : other.tenantId == null);
+        }
+    }
+
+    protected static class CacheEntry {
+
+        protected final String definitionId;
+        protected final long cacheTime;
+
+        public CacheEntry(String definitionId, long cacheTime) {
+            this.definitionId = definitionId;
+            this.cacheTime = cacheTime;
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.common.impl.persistence.entity;
+
+import org.flowable.engine.common.impl.persistence.cache.CachedEntity;
+
+/**
+ * An {@link Entity} that keeps track itself of changes to its persistent state: every method that changes a field that is part of the
+ * {@link Entity#getPersistentState()} must mark the entity as dirty.
+ * 
+ * When flushing, the {@link CachedEntity} of an entity that is not dirty is seen as unchanged without building and comparing its persistent state.
+ */
+public interface DirtyTrackedEntity extends Entity {
+
+    boolean isDirty();
+
+    void setDirty(boolean dirty);
+
+}
@@ -17,14 +17,44 @@ import org.flowable.engine.common.api.delegate.event.FlowableEngineEvent;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEntityEvent;
 import org.flowable.engine.common.api.delegate.event.FlowableEvent;
-import org.flowable.engine.common.impl.event.EventDispatchAction;
+import org.flowable.engine.common.api.delegate.event.FlowableEventType;
 import org.flowable.engine.common.impl.event.FlowableEventSupport;
+import org.flowable.engine.common.impl.event.ListenerAwareEventDispatchAction;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.repository.ProcessDefinition;
 
-public class BpmnModelEventDispatchAction implements EventDispatchAction {
+/**
+ * Dispatches events to the event listeners defined in the process definition the event belongs to.
+ * 
+ * Whether such listeners exist for an event type is looked up in the event support of the cached process definition. A process definition that is
+ * not in the cache (for example after a restart, an eviction or a deployment by another engine) may have listeners for any type, as it's unknown
+ * which listeners it defines until it is parsed.
+ */
+public class BpmnModelEventDispatchAction implements ListenerAwareEventDispatchAction {
+
+    @Override
+    public boolean hasListenersFor(CommandContext commandContext, FlowableEventType type, String processDefinitionId) {
+        if (processDefinitionId == null || commandContext == null) {
+            // Events without a process definition are not dispatched to the listeners of a process definition
+            return false;
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (processEngineConfiguration == null) {
+            return true;
+        }
+
+        ProcessDefinitionCacheEntry cacheEntry = processEngineConfiguration.getProcessDefinitionCache().get(processDefinitionId);
+        if (cacheEntry == null || cacheEntry.getBpmnModel() == null) {
+            return true;
+        }
+        Object eventSupport = cacheEntry.getBpmnModel().getEventSupport();
+        return !(eventSupport instanceof FlowableEventSupport) || ((FlowableEventSupport) eventSupport).hasListenersFor(type);
+    }
 
     @Override
     public void dispatchEvent(CommandContext commandContext, FlowableEventSupport eventSupport, FlowableEvent event) {
@@ -98,6 +98,9 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isAutoActivate()) {
             asyncHistoryExecutor.start();
         }
+        if (processEngineConfiguration.getAsyncEventLogWriter() != null) {
+            processEngineConfiguration.getAsyncEventLogWriter().start();
+        }
     }
 
     @Override
@@ -109,6 +112,9 @@ public class ProcessEngineImpl implements ProcessEngine {
         if (asyncHistoryExecutor != null && asyncHistoryExecutor.isActive()) {
             asyncHistoryExecutor.shutdown();
         }
+        if (processEngineConfiguration.getAsyncEventLogWriter() != null) {
+            processEngineConfiguration.getAsyncEventLogWriter().shutdown();
+        }
 
         Runnable closeRunnable = processEngineConfiguration.getProcessEngineCloseRunnable();
         if (closeRunnable != null) {
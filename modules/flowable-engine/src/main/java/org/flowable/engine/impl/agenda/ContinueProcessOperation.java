@@ -24,6 +24,8 @@ import org.flowable.bpmn.model.SequenceFlow;
 import org.flowable.bpmn.model.SubProcess;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.event.EventDispatcherUtil;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.ExecutionListener;
@@ -240,20 +242,24 @@ public class ContinueProcessOperation extends AbstractOperation {
         LOGGER.debug("Executing activityBehavior {} on activity '{}' with execution {}", activityBehavior.getClass(), flowNode.getId(), execution.getId());
 
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-        if (processEngineConfiguration != null && processEngineConfiguration.getEventDispatcher().isEnabled()) {
-
+        if (processEngineConfiguration != null) {
+            FlowableEventDispatcher eventDispatcher = processEngineConfiguration.getEventDispatcher();
             if (flowNode instanceof Activity && ((Activity) flowNode).hasMultiInstanceLoopCharacteristics()) {
-                processEngineConfiguration.getEventDispatcher().dispatchEvent(
-                        FlowableEventBuilder.createMultiInstanceActivityEvent(FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_STARTED, flowNode.getId(),
-                                flowNode.getName(), execution.getId(), execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode));
+                if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_STARTED, execution.getProcessDefinitionId())) {
+                    eventDispatcher.dispatchEvent(
+                            FlowableEventBuilder.createMultiInstanceActivityEvent(FlowableEngineEventType.MULTI_INSTANCE_ACTIVITY_STARTED, flowNode.getId(),
+                                    flowNode.getName(), execution.getId(), execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode));
+                }
             }
-            else {
-                processEngineConfiguration.getEventDispatcher().dispatchEvent(
+            else if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ACTIVITY_STARTED, execution.getProcessDefinitionId())) {
+                eventDispatcher.dispatchEvent(
                         FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_STARTED, flowNode.getId(), flowNode.getName(), execution.getId(),
                                 execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode));
             }
         }
 
+        prefetchVariables(flowNode);
+
         try {
             activityBehavior.execute(execution);
         } catch (RuntimeException e) {
@@ -264,6 +270,17 @@ public class ContinueProcessOperation extends AbstractOperation {
         }
     }
 
+    /**
+     * Fetches the variables listed in the prefetchVariables extension element(s) of the flow node, so the activity behavior doesn't need to fetch
+     * all variables of the execution and its parents. The variable names are parsed when the process definition is parsed.
+     */
+    protected void prefetchVariables(FlowNode flowNode) {
+        List<String> variableNames = flowNode.getPrefetchVariableNames();
+        if (CollectionUtil.isNotEmpty(variableNames)) {
+            execution.prefetchVariables(variableNames);
+        }
+    }
+
     protected void continueThroughSequenceFlow(SequenceFlow sequenceFlow) {
 
         // Execution listener. Sequenceflow only 'take' makes sense ... but we've supported all three since the beginning
@@ -275,7 +292,7 @@ public class ContinueProcessOperation extends AbstractOperation {
 
         // Firing event that transition is being taken
         ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-        if (processEngineConfiguration != null && processEngineConfiguration.getEventDispatcher().isEnabled()) {
+        if (processEngineConfiguration != null && EventDispatcherUtil.hasListenersFor(processEngineConfiguration.getEventDispatcher(), FlowableEngineEventType.SEQUENCEFLOW_TAKEN, execution.getProcessDefinitionId())) {
             FlowElement sourceFlowElement = sequenceFlow.getSourceFlowElement();
             FlowElement targetFlowElement = sequenceFlow.getTargetFlowElement();
             processEngineConfiguration.getEventDispatcher().dispatchEvent(
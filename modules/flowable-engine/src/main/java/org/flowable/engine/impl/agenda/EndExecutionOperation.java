@@ -29,6 +29,8 @@ import org.flowable.bpmn.model.SubProcess;
 import org.flowable.bpmn.model.Transaction;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.event.EventDispatcherUtil;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.ExecutionListener;
@@ -171,9 +173,12 @@ public class EndExecutionOperation extends AbstractOperation {
                 executionEntityManager.deleteChildExecutions(parentExecution, null, false);
                 executionEntityManager.deleteExecutionAndRelatedData(parentExecution, null);
 
-                CommandContextUtil.getEventDispatcher(commandContext).dispatchEvent(
-                        FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, subProcess.getId(), subProcess.getName(),
-                                parentExecution.getId(), parentExecution.getProcessInstanceId(), parentExecution.getProcessDefinitionId(), subProcess));
+                FlowableEventDispatcher eventDispatcher = CommandContextUtil.getEventDispatcher(commandContext);
+                if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ACTIVITY_COMPLETED, parentExecution.getProcessDefinitionId())) {
+                    eventDispatcher.dispatchEvent(
+                            FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, subProcess.getId(), subProcess.getName(),
+                                    parentExecution.getId(), parentExecution.getProcessInstanceId(), parentExecution.getProcessDefinitionId(), subProcess));
+                }
 
                 ExecutionEntity subProcessParentExecution = parentExecution.getParent();
                 if (getNumberOfActiveChildExecutionsForExecution(executionEntityManager, subProcessParentExecution.getId()) == 0) {
@@ -293,9 +298,12 @@ public class EndExecutionOperation extends AbstractOperation {
         executionEntityManager.deleteChildExecutions(parentExecution, null, false);
         executionEntityManager.deleteExecutionAndRelatedData(parentExecution, null);
 
-        CommandContextUtil.getEventDispatcher(commandContext).dispatchEvent(
-                FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, subProcess.getId(), subProcess.getName(),
-                        parentExecution.getId(), parentExecution.getProcessInstanceId(), parentExecution.getProcessDefinitionId(), subProcess));
+        FlowableEventDispatcher eventDispatcher = CommandContextUtil.getEventDispatcher(commandContext);
+        if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ACTIVITY_COMPLETED, parentExecution.getProcessDefinitionId())) {
+            eventDispatcher.dispatchEvent(
+                    FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, subProcess.getId(), subProcess.getName(),
+                            parentExecution.getId(), parentExecution.getProcessInstanceId(), parentExecution.getProcessDefinitionId(), subProcess));
+        }
         return executionToContinue;
     }
 
@@ -14,6 +14,8 @@ package org.flowable.engine.impl.agenda;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.flowable.bpmn.model.FlowNode;
 import org.flowable.bpmn.model.Process;
@@ -55,8 +57,17 @@ public class ExecuteInactiveBehaviorsOperation extends AbstractOperation {
          * 
          */
 
+        // The inactive behaviours only depend on the process instance and the activity (see InclusiveGatewayActivityBehavior),
+        // so with gateway join counting they are executed once per process instance and activity
+        boolean executeOncePerActivity = CommandContextUtil.getProcessEngineConfiguration(commandContext).getPerformanceSettings().isEnableGatewayJoinCounting();
+        Set<String> handledProcessInstanceIds = new HashSet<>();
+
         for (ExecutionEntity executionEntity : involvedExecutions) {
 
+            if (executeOncePerActivity && !handledProcessInstanceIds.add(executionEntity.getProcessInstanceId())) {
+                continue;
+            }
+
             Process process = ProcessDefinitionUtil.getProcess(executionEntity.getProcessDefinitionId());
             Collection<String> flowNodeIdsWithInactivatedBehavior = new ArrayList<>();
             for (FlowNode flowNode : process.findFlowElementsOfType(FlowNode.class)) {
@@ -67,10 +78,12 @@ public class ExecuteInactiveBehaviorsOperation extends AbstractOperation {
 
             if (flowNodeIdsWithInactivatedBehavior.size() > 0) {
                 Collection<ExecutionEntity> inactiveExecutions = CommandContextUtil.getExecutionEntityManager(commandContext).findInactiveExecutionsByProcessInstanceId(executionEntity.getProcessInstanceId());
+                Set<String> executedActivityIds = new HashSet<>();
                 for (ExecutionEntity inactiveExecution : inactiveExecutions) {
                     if (!inactiveExecution.isActive()
                             && flowNodeIdsWithInactivatedBehavior.contains(inactiveExecution.getActivityId())
-                            && !inactiveExecution.isDeleted()) {
+                            && !inactiveExecution.isDeleted()
+                            && (!executeOncePerActivity || executedActivityIds.add(inactiveExecution.getActivityId()))) {
 
                         FlowNode flowNode = (FlowNode) process.getFlowElement(inactiveExecution.getActivityId(), true);
                         InactiveActivityBehavior inactiveActivityBehavior = ((InactiveActivityBehavior) flowNode.getBehavior());
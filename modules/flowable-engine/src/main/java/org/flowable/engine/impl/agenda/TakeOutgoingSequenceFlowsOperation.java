@@ -30,6 +30,7 @@ import org.flowable.bpmn.model.SubProcess;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.delegate.Expression;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.impl.event.EventDispatcherUtil;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.delegate.ExecutionListener;
@@ -118,7 +119,8 @@ public class TakeOutgoingSequenceFlowsOperation extends AbstractOperation {
             }
 
             if (!(execution.getCurrentFlowElement() instanceof SubProcess) &&
-                !(flowNode instanceof Activity && ((Activity) flowNode).hasMultiInstanceLoopCharacteristics())) {
+                !(flowNode instanceof Activity && ((Activity) flowNode).hasMultiInstanceLoopCharacteristics()) &&
+                EventDispatcherUtil.hasListenersFor(CommandContextUtil.getEventDispatcher(commandContext), FlowableEngineEventType.ACTIVITY_COMPLETED, execution.getProcessDefinitionId())) {
                     CommandContextUtil.getEventDispatcher(commandContext).dispatchEvent(
                             FlowableEventBuilder.createActivityEvent(FlowableEngineEventType.ACTIVITY_COMPLETED, flowNode.getId(), flowNode.getName(),
                                     execution.getId(), execution.getProcessInstanceId(), execution.getProcessDefinitionId(), flowNode));
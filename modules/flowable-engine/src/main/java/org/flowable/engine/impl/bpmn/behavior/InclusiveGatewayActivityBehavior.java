@@ -14,6 +14,8 @@ package org.flowable.engine.impl.bpmn.behavior;
 
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
@@ -39,6 +41,11 @@ public class InclusiveGatewayActivityBehavior extends GatewayActivityBehavior im
 
     private static final Logger LOGGER = LoggerFactory.getLogger(InclusiveGatewayActivityBehavior.class.getName());
 
+    /**
+     * Whether this gateway can be reached from an activity. The process model doesn't change, so this only needs to be determined once per activity.
+     */
+    protected Map<String, Boolean> reachableFromActivity = new ConcurrentHashMap<>();
+
     @Override
     public void execute(DelegateExecution execution) {
         // The join in the inclusive gateway works as follows:
@@ -70,7 +77,7 @@ public class InclusiveGatewayActivityBehavior extends GatewayActivityBehavior im
         while (!oneExecutionCanReachGateway && executionIterator.hasNext()) {
             ExecutionEntity executionEntity = executionIterator.next();
             if (!executionEntity.getActivityId().equals(execution.getCurrentActivityId())) {
-                boolean canReachGateway = ExecutionGraphUtil.isReachable(execution.getProcessDefinitionId(), executionEntity.getActivityId(), execution.getCurrentActivityId());
+                boolean canReachGateway = isReachable(execution.getProcessDefinitionId(), executionEntity.getActivityId(), execution.getCurrentActivityId());
                 if (canReachGateway) {
                     oneExecutionCanReachGateway = true;
                 }
@@ -100,4 +107,13 @@ public class InclusiveGatewayActivityBehavior extends GatewayActivityBehavior im
             CommandContextUtil.getAgenda(commandContext).planTakeOutgoingSequenceFlowsOperation(execution, true);
         }
     }
+
+    protected boolean isReachable(String processDefinitionId, String sourceActivityId, String gatewayActivityId) {
+        Boolean reachable = reachableFromActivity.get(sourceActivityId);
+        if (reachable == null) {
+            reachable = ExecutionGraphUtil.isReachable(processDefinitionId, sourceActivityId, gatewayActivityId);
+            reachableFromActivity.put(sourceActivityId, reachable);
+        }
+        return reachable;
+    }
 }
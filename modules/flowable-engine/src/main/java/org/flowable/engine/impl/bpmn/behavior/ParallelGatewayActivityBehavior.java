@@ -16,12 +16,14 @@ package org.flowable.engine.impl.bpmn.behavior;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.FlowNode;
 import org.flowable.bpmn.model.ParallelGateway;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntityManager;
@@ -74,14 +76,31 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
             multiInstanceExecution = findMultiInstanceParentExecution(execution);
         }
 
-        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager();
-        Collection<ExecutionEntity> joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
-        if (multiInstanceExecution != null) {
-            joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
-        }
-
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
         int nbrOfExecutionsToJoin = parallelGateway.getIncomingFlows().size();
-        int nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+
+        Collection<ExecutionEntity> joinedExecutions = null;
+        int nbrOfExecutionsCurrentlyJoined;
+        boolean countJoinedExecutions = multiInstanceExecution == null && nbrOfExecutionsToJoin > 1
+                && CommandContextUtil.getProcessEngineConfiguration(commandContext).getPerformanceSettings().isEnableGatewayJoinCounting();
+        if (countJoinedExecutions) {
+            nbrOfExecutionsCurrentlyJoined = incrementJoinCount(commandContext, execution);
+
+            // Only the last arrival needs the joined executions, which also verifies the count
+            if (nbrOfExecutionsCurrentlyJoined >= nbrOfExecutionsToJoin) {
+                joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
+                nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+                setJoinCount(commandContext, execution, nbrOfExecutionsCurrentlyJoined);
+            }
+
+        } else {
+            joinedExecutions = executionEntityManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
+            if (multiInstanceExecution != null) {
+                joinedExecutions = cleanJoinedExecutions(joinedExecutions, multiInstanceExecution);
+            }
+            nbrOfExecutionsCurrentlyJoined = joinedExecutions.size();
+        }
 
         // Fork
 
@@ -109,6 +128,10 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
                 }
             }
 
+            if (countJoinedExecutions) {
+                setJoinCount(commandContext, execution, 0);
+            }
+
             // TODO: potential optimization here: reuse more then 1 execution, only 1 currently
             CommandContextUtil.getAgenda().planTakeOutgoingSequenceFlowsOperation((ExecutionEntity) execution, false); // false -> ignoring conditions on parallel gw
 
@@ -118,6 +141,31 @@ public class ParallelGatewayActivityBehavior extends GatewayActivityBehavior {
 
     }
 
+    /**
+     * Counts the arriving execution in the join count of the gateway kept in the command context. The first arrival in a command context starts from
+     * the executions that were already waiting in the gateway in the database.
+     */
+    protected int incrementJoinCount(CommandContext commandContext, DelegateExecution execution) {
+        Map<String, Integer> gatewayJoinCounts = CommandContextUtil.getGatewayJoinCounts(commandContext);
+        String key = getJoinCountKey(execution);
+        Integer joinCount = gatewayJoinCounts.get(key);
+        if (joinCount == null) {
+            joinCount = (int) CommandContextUtil.getExecutionEntityManager(commandContext)
+                    .countInactiveExecutionsByActivityIdAndProcessInstanceId(execution.getCurrentActivityId(), execution.getProcessInstanceId());
+        }
+        joinCount++;
+        gatewayJoinCounts.put(key, joinCount);
+        return joinCount;
+    }
+
+    protected void setJoinCount(CommandContext commandContext, DelegateExecution execution, int joinCount) {
+        CommandContextUtil.getGatewayJoinCounts(commandContext).put(getJoinCountKey(execution), joinCount);
+    }
+
+    protected String getJoinCountKey(DelegateExecution execution) {
+        return execution.getProcessInstanceId() + "." + execution.getCurrentActivityId();
+    }
+
     protected Collection<ExecutionEntity> cleanJoinedExecutions(Collection<ExecutionEntity> joinedExecutions, DelegateExecution multiInstanceExecution) {
         List<ExecutionEntity> cleanedExecutions = new ArrayList<>();
         for (ExecutionEntity executionEntity : joinedExecutions) {
@@ -98,4 +98,12 @@ public class ScriptTaskActivityBehavior extends TaskActivityBehavior {
         }
     }
 
+    public String getScript() {
+        return script;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
 }
@@ -12,10 +12,13 @@
  */
 package org.flowable.engine.impl.bpmn.deployer;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.constants.BpmnXMLConstants;
@@ -30,6 +33,7 @@ import org.flowable.bpmn.model.ValuedDataObject;
 import org.flowable.engine.DynamicBpmnConstants;
 import org.flowable.engine.DynamicBpmnService;
 import org.flowable.engine.common.EngineDeployer;
+import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.repository.EngineDeployment;
 import org.flowable.engine.common.api.repository.EngineResource;
@@ -37,6 +41,7 @@ import org.flowable.engine.common.impl.cfg.IdGenerator;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
+import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
@@ -82,6 +87,7 @@ public class BpmnDeployer implements EngineDeployer {
 
         createAndPersistNewDiagramsIfNeeded(parsedDeployment);
         setProcessDefinitionDiagramNames(parsedDeployment);
+        persistBpmnModelSnapshots(parsedDeployment);
 
         if (deployment.isNew()) {
             Map<ProcessDefinitionEntity, ProcessDefinitionEntity> mapOfNewProcessDefinitionToPreviousVersion = getPreviousVersionsOfProcessDefinitions(parsedDeployment);
@@ -104,6 +110,58 @@ public class BpmnDeployer implements EngineDeployer {
         }
     }
 
+    /**
+     * Puts the given persisted process definition back into the process definition cache by parsing only the BPMN resource it was deployed from, instead
+     * of redeploying its whole deployment. The other resources of the deployment aren't loaded, and the steps that only matter for the first deployment
+     * (diagram generation and localization values) are skipped. Other process definitions of the same resource are cached as well.
+     *
+     * When the deployment has a snapshot of the BPMN model of the resource, the model is restored from it, so only the parse handlers run and the XML
+     * isn't converted.
+     */
+    public void redeployProcessDefinitionResource(DeploymentEntity deployment, ProcessDefinitionEntity persistedProcessDefinition) {
+        LOGGER.debug("Redeploying resource {} of deployment {}", persistedProcessDefinition.getResourceName(), deployment.getId());
+
+        ResourceEntityManager resourceEntityManager = CommandContextUtil.getResourceEntityManager();
+        ResourceEntity resource = resourceEntityManager.findResourceByDeploymentIdAndResourceName(deployment.getId(), persistedProcessDefinition.getResourceName());
+        if (resource == null) {
+            throw new FlowableException("resource '" + persistedProcessDefinition.getResourceName() + "' of deployment '" + deployment.getId() + "' not found");
+        }
+
+        List<ResourceEntity> resources = new ArrayList<>(2);
+        resources.add(resource);
+        ResourceEntity snapshotResource = resourceEntityManager.findResourceByDeploymentIdAndResourceName(deployment.getId(),
+                BpmnModelSnapshotUtil.getSnapshotResourceName(resource.getName()));
+        if (snapshotResource != null) {
+            resources.add(snapshotResource);
+        }
+
+        ParsedDeployment parsedDeployment = parsedDeploymentBuilderFactory
+                .getBuilderForDeployment(deployment)
+                .build(resources);
+
+        bpmnDeploymentHelper.copyDeploymentValuesToProcessDefinitions(
+                parsedDeployment.getDeployment(), parsedDeployment.getAllProcessDefinitions());
+        bpmnDeploymentHelper.setResourceNamesOnProcessDefinitions(parsedDeployment);
+
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            ProcessDefinitionEntity persistedVersion = persistedProcessDefinition;
+            if (!processDefinition.getKey().equals(persistedProcessDefinition.getKey())) {
+                persistedVersion = bpmnDeploymentHelper.getPersistedInstanceOfProcessDefinition(processDefinition);
+            }
+
+            if (persistedVersion != null) {
+                processDefinition.setId(persistedVersion.getId());
+                processDefinition.setVersion(persistedVersion.getVersion());
+                processDefinition.setSuspensionState(persistedVersion.getSuspensionState());
+                processDefinition.setHasStartFormKey(persistedVersion.hasStartFormKey());
+                processDefinition.setGraphicalNotationDefined(persistedVersion.isGraphicalNotationDefined());
+                processDefinition.setDiagramResourceName(persistedVersion.getDiagramResourceName());
+            }
+        }
+
+        cachingAndArtifactsManager.updateCachingAndArtifacts(parsedDeployment);
+    }
+
     /**
      * Creates new diagrams for process definitions if the deployment is new, the process definition in question supports it, and the engine is configured to make new diagrams.
      *
@@ -128,6 +186,33 @@ public class BpmnDeployer implements EngineDeployer {
         }
     }
 
+    /**
+     * Stores the snapshot of the BPMN model of each BPMN resource of a new deployment as a generated resource of the deployment, next to the BPMN
+     * resource. The snapshots are only written when single resource redeploys are enabled, see {@link ParsedDeploymentBuilder}.
+     */
+    protected void persistBpmnModelSnapshots(ParsedDeployment parsedDeployment) {
+        DeploymentEntity deploymentEntity = parsedDeployment.getDeployment();
+        if (!deploymentEntity.isNew()) {
+            return;
+        }
+
+        ResourceEntityManager resourceEntityManager = CommandContextUtil.getResourceEntityManager();
+        Set<BpmnParse> bpmnParses = new HashSet<>();
+        for (ProcessDefinitionEntity processDefinition : parsedDeployment.getAllProcessDefinitions()) {
+            BpmnParse bpmnParse = parsedDeployment.getBpmnParseForProcessDefinition(processDefinition);
+            if (bpmnParse.getBpmnModelSnapshot() != null && bpmnParses.add(bpmnParse)) {
+                ResourceEntity resource = resourceEntityManager.create();
+                resource.setName(BpmnModelSnapshotUtil.getSnapshotResourceName(parsedDeployment.getResourceForProcessDefinition(processDefinition).getName()));
+                resource.setBytes(bpmnParse.getBpmnModelSnapshot());
+                resource.setDeploymentId(deploymentEntity.getId());
+                resource.setGenerated(true);
+
+                resourceEntityManager.insert(resource, false);
+                deploymentEntity.addResource(resource);
+            }
+        }
+    }
+
     /**
      * Updates all the process definition entities to have the correct diagram resource name. Must be called after createAndPersistNewDiagramsAsNeeded to ensure that any newly-created diagrams already
      * have their resources attached to the deployment.
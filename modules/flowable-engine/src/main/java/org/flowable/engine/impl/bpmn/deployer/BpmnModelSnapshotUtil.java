@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.bpmn.deployer;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.common.api.FlowableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Static methods for writing and reading the snapshot of a converted {@link BpmnModel}, which is stored next to the BPMN resource of a deployment so the
+ * model can be restored without converting the XML again.
+ *
+ * A snapshot starts with its format version and the engine version that wrote it. A snapshot with another version is ignored, as the model classes may
+ * have changed since.
+ */
+public class BpmnModelSnapshotUtil {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnModelSnapshotUtil.class);
+
+    public static final String SNAPSHOT_RESOURCE_SUFFIX = ".bpmnmodel";
+
+    public static final int SNAPSHOT_FORMAT_VERSION = 1;
+
+    public static String getSnapshotResourceName(String bpmnResourceName) {
+        return bpmnResourceName + SNAPSHOT_RESOURCE_SUFFIX;
+    }
+
+    public static byte[] writeSnapshot(BpmnModel bpmnModel) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeInt(SNAPSHOT_FORMAT_VERSION);
+            objectOutputStream.writeUTF(ProcessEngine.VERSION);
+            objectOutputStream.writeObject(bpmnModel);
+        } catch (IOException e) {
+            throw new FlowableException("Could not write snapshot of BPMN model " + bpmnModel.getSourceSystemId(), e);
+        }
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * @return the restored model, or null if the snapshot was written by another format or engine version, or can't be read. The caller then converts
+     *         the XML resource instead.
+     */
+    public static BpmnModel readSnapshot(String snapshotResourceName, byte[] snapshot) {
+        try (ObjectInputStream objectInputStream = new BpmnModelInputStream(new ByteArrayInputStream(snapshot))) {
+            int formatVersion = objectInputStream.readInt();
+            String engineVersion = objectInputStream.readUTF();
+            if (formatVersion != SNAPSHOT_FORMAT_VERSION || !ProcessEngine.VERSION.equals(engineVersion)) {
+                LOGGER.debug("Ignoring snapshot {} of format version {} written by engine version {}", snapshotResourceName, formatVersion, engineVersion);
+                return null;
+            }
+            return (BpmnModel) objectInputStream.readObject();
+
+        } catch (IOException | ClassNotFoundException | ClassCastException e) {
+            LOGGER.warn("Could not read snapshot {}, the BPMN resource will be converted instead", snapshotResourceName, e);
+            return null;
+        }
+    }
+
+    /**
+     * Only resolves the classes a {@link BpmnModel} is made of.
+     */
+    protected static class BpmnModelInputStream extends ObjectInputStream {
+
+        public BpmnModelInputStream(InputStream inputStream) throws IOException {
+            super(inputStream);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass objectStreamClass) throws IOException, ClassNotFoundException {
+            String className = objectStreamClass.getName();
+            if (className.startsWith("[")) {
+                // Arrays of objects are checked by their component type, arrays of primitives are always allowed
+                int componentTypeIndex = className.lastIndexOf('[') + 1;
+                className = className.charAt(componentTypeIndex) == 'L' ? className.substring(componentTypeIndex + 1) : "java.lang.Object";
+            }
+            if (!className.startsWith("org.flowable.bpmn.model.") && !className.startsWith("java.lang.") && !className.startsWith("java.util.")) {
+                throw new InvalidClassException(className, "Class is not part of a BPMN model");
+            }
+            return super.resolveClass(objectStreamClass);
+        }
+    }
+
+}
@@ -14,17 +14,26 @@ package org.flowable.engine.impl.bpmn.deployer;
 
 import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.repository.EngineDeployment;
 import org.flowable.engine.common.api.repository.EngineResource;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cmd.DeploymentSettings;
 import org.flowable.engine.impl.persistence.entity.DeploymentEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,20 +53,52 @@ public class ParsedDeploymentBuilder {
     }
 
     public ParsedDeployment build() {
+        return build(((DeploymentEntity) deployment).getResources().values());
+    }
+
+    /**
+     * Parses only the given resources of the deployment, which is enough when not all process definitions of an existing deployment are needed. For an
+     * existing deployment, the model of a BPMN resource is restored from its snapshot resource when that is among the given resources.
+     */
+    public ParsedDeployment build(Collection<? extends EngineResource> resources) {
         List<ProcessDefinitionEntity> processDefinitions = new ArrayList<>();
         Map<ProcessDefinitionEntity, BpmnParse> processDefinitionsToBpmnParseMap = new LinkedHashMap<>();
         Map<ProcessDefinitionEntity, EngineResource> processDefinitionsToResourceMap = new LinkedHashMap<>();
 
         DeploymentEntity deploymentEntity = (DeploymentEntity) deployment;
-        for (EngineResource resource : deploymentEntity.getResources().values()) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        boolean createBpmnModelSnapshots = deployment.isNew() && processEngineConfiguration != null && processEngineConfiguration.isEnableSingleResourceRedeploy();
+
+        Map<String, EngineResource> resourcesByName = new HashMap<>();
+        for (EngineResource resource : resources) {
+            resourcesByName.put(resource.getName(), resource);
+        }
+
+        Map<EngineResource, BpmnParse> resourcesToBpmnParseMap = new LinkedHashMap<>();
+        for (EngineResource resource : resources) {
             if (isBpmnResource(resource.getName())) {
-                LOGGER.debug("Processing BPMN resource {}", resource.getName());
-                BpmnParse parse = createBpmnParseFromResource(resource);
-                for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
-                    processDefinitions.add(processDefinition);
-                    processDefinitionsToBpmnParseMap.put(processDefinition, parse);
-                    processDefinitionsToResourceMap.put(processDefinition, resource);
+                BpmnParse bpmnParse = createBpmnParseFromResource(resource);
+                if (createBpmnModelSnapshots) {
+                    bpmnParse.setCreateBpmnModelSnapshot(true);
+                } else if (!deployment.isNew()) {
+                    restoreBpmnModelFromSnapshot(bpmnParse, resourcesByName.get(BpmnModelSnapshotUtil.getSnapshotResourceName(resource.getName())));
                 }
+                resourcesToBpmnParseMap.put(resource, bpmnParse);
+            }
+        }
+
+        if (resourcesToBpmnParseMap.size() > 1 && processEngineConfiguration != null && processEngineConfiguration.getBpmnParseExecutorService() != null) {
+            convertAndValidateInParallel(resourcesToBpmnParseMap, processEngineConfiguration);
+        }
+
+        for (Map.Entry<EngineResource, BpmnParse> resourceToBpmnParse : resourcesToBpmnParseMap.entrySet()) {
+            EngineResource resource = resourceToBpmnParse.getKey();
+            LOGGER.debug("Processing BPMN resource {}", resource.getName());
+            BpmnParse parse = executeBpmnParse(resource, resourceToBpmnParse.getValue());
+            for (ProcessDefinitionEntity processDefinition : parse.getProcessDefinitions()) {
+                processDefinitions.add(processDefinition);
+                processDefinitionsToBpmnParseMap.put(processDefinition, parse);
+                processDefinitionsToResourceMap.put(processDefinition, resource);
             }
         }
 
@@ -93,6 +134,60 @@ public class ParsedDeploymentBuilder {
             bpmnParse.setValidateProcess(false);
         }
 
+        return bpmnParse;
+    }
+
+    /**
+     * Hands the model stored in the snapshot resource of an already deployed BPMN resource to its parse, so only the parse handlers run and the XML
+     * isn't converted again. The parse keeps converting the XML when there's no snapshot, or when it was written by another version.
+     */
+    protected void restoreBpmnModelFromSnapshot(BpmnParse bpmnParse, EngineResource snapshotResource) {
+        if (snapshotResource == null) {
+            return;
+        }
+
+        BpmnModel bpmnModel = BpmnModelSnapshotUtil.readSnapshot(snapshotResource.getName(), snapshotResource.getBytes());
+        if (bpmnModel != null) {
+            bpmnParse.setBpmnModel(bpmnModel);
+        }
+    }
+
+    /**
+     * Converts the XML of the resources to BPMN models and validates them on the BPMN parse executor service. The parse handlers need the command context
+     * and are applied afterwards, in this thread. A resource that fails here is left unconverted, so its error is reported when it is parsed again in
+     * this thread.
+     */
+    protected void convertAndValidateInParallel(Map<EngineResource, BpmnParse> resourcesToBpmnParseMap,
+            final ProcessEngineConfigurationImpl processEngineConfiguration) {
+
+        ExecutorService executorService = processEngineConfiguration.getBpmnParseExecutorService();
+        List<Future<?>> futures = new ArrayList<>(resourcesToBpmnParseMap.size());
+        for (final BpmnParse bpmnParse : resourcesToBpmnParseMap.values()) {
+            if (bpmnParse.getBpmnModel() != null) {
+                continue;
+            }
+            futures.add(executorService.submit(new Runnable() {
+
+                @Override
+                public void run() {
+                    bpmnParse.convertAndValidate(processEngineConfiguration);
+                }
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                LOGGER.debug("Could not convert BPMN resource in parallel, it will be parsed again", e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new FlowableException("Interrupted while parsing the BPMN resources of deployment " + deployment.getName(), e);
+            }
+        }
+    }
+
+    protected BpmnParse executeBpmnParse(EngineResource resource, BpmnParse bpmnParse) {
         try {
             bpmnParse.execute();
         } catch (Exception e) {
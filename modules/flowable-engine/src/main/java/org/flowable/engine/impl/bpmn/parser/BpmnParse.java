@@ -17,23 +17,32 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.constants.BpmnXMLConstants;
 import org.flowable.bpmn.converter.BpmnXMLConverter;
 import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.bpmn.model.BaseElement;
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.Event;
+import org.flowable.bpmn.model.ExtensionElement;
+import org.flowable.bpmn.model.FieldExtension;
 import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.FlowableListener;
 import org.flowable.bpmn.model.FlowNode;
 import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.HasExecutionListeners;
+import org.flowable.bpmn.model.ImplementationType;
 import org.flowable.bpmn.model.Process;
 import org.flowable.bpmn.model.SequenceFlow;
 import org.flowable.bpmn.model.SubProcess;
+import org.flowable.bpmn.model.UserTask;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
 import org.flowable.engine.common.api.repository.EngineDeployment;
@@ -42,7 +51,10 @@ import org.flowable.engine.common.impl.util.io.InputStreamSource;
 import org.flowable.engine.common.impl.util.io.StreamSource;
 import org.flowable.engine.common.impl.util.io.StringStreamSource;
 import org.flowable.engine.common.impl.util.io.UrlStreamSource;
+import org.flowable.engine.impl.bpmn.deployer.BpmnModelSnapshotUtil;
 import org.flowable.engine.impl.bpmn.parser.factory.ActivityBehaviorFactory;
+import org.flowable.engine.impl.bpmn.listener.ScriptExecutionListener;
+import org.flowable.engine.impl.bpmn.listener.ScriptTaskListener;
 import org.flowable.engine.impl.bpmn.parser.factory.ListenerFactory;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntity;
@@ -80,6 +92,10 @@ public class BpmnParse implements BpmnXMLConstants {
     protected boolean validateSchema = true;
     protected boolean validateProcess = true;
 
+    /** Whether a snapshot of the converted model is written before the parse handlers are applied, see {@link #getBpmnModelSnapshot()}. */
+    protected boolean createBpmnModelSnapshot;
+    protected byte[] bpmnModelSnapshot;
+
     protected StreamSource streamSource;
     protected String sourceSystemId;
 
@@ -96,6 +112,7 @@ public class BpmnParse implements BpmnXMLConstants {
     /** A map for storing sequence flow based on their id during parsing. */
     protected Map<String, SequenceFlow> sequenceFlows;
 
+    protected BpmnParser bpmnParser;
     protected BpmnParseHandlers bpmnParserHandlers;
 
     protected ProcessDefinitionEntity currentProcessDefinition;
@@ -121,6 +138,7 @@ public class BpmnParse implements BpmnXMLConstants {
      * Constructor to be called by the {@link BpmnParser}.
      */
     public BpmnParse(BpmnParser parser) {
+        this.bpmnParser = parser;
         this.activityBehaviorFactory = parser.getActivityBehaviorFactory();
         this.listenerFactory = parser.getListenerFactory();
         this.bpmnParserHandlers = parser.getBpmnParserHandlers();
@@ -134,63 +152,18 @@ public class BpmnParse implements BpmnXMLConstants {
     public BpmnParse execute() {
         try {
 
-            ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
-            BpmnXMLConverter converter = new BpmnXMLConverter();
-
-            boolean enableSafeBpmnXml = false;
-            String encoding = null;
-            if (processEngineConfiguration != null) {
-                enableSafeBpmnXml = processEngineConfiguration.isEnableSafeBpmnXml();
-                encoding = processEngineConfiguration.getXmlEncoding();
-            }
-
-            if (encoding != null) {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
-            } else {
-                bpmnModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
+            if (bpmnModel == null) {
+                convertAndValidate(CommandContextUtil.getProcessEngineConfiguration());
             }
 
-            // XSD validation goes first, then process/semantic validation
-            if (validateProcess) {
-                ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
-                if (processValidator == null) {
-                    LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
-                } else {
-                    List<ValidationError> validationErrors = processValidator.validate(bpmnModel);
-                    if (validationErrors != null && !validationErrors.isEmpty()) {
-
-                        StringBuilder warningBuilder = new StringBuilder();
-                        StringBuilder errorBuilder = new StringBuilder();
-
-                        for (ValidationError error : validationErrors) {
-                            if (error.isWarning()) {
-                                warningBuilder.append(error.toString());
-                                warningBuilder.append("\n");
-                            } else {
-                                errorBuilder.append(error.toString());
-                                errorBuilder.append("\n");
-                            }
-                        }
-
-                        // Throw exception if there is any error
-                        if (errorBuilder.length() > 0) {
-                            throw new FlowableException("Errors while parsing:\n" + errorBuilder);
-                        }
-
-                        // Write out warnings (if any)
-                        if (warningBuilder.length() > 0) {
-                            LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder.toString());
-                        }
-
-                    }
-                }
+            // The snapshot is taken before the parse handlers attach their behaviours to the model
+            if (createBpmnModelSnapshot) {
+                bpmnModelSnapshot = BpmnModelSnapshotUtil.writeSnapshot(bpmnModel);
             }
 
             bpmnModel.setSourceSystemId(sourceSystemId);
             bpmnModel.setEventSupport(new FlowableEventSupport());
 
-            // Validation successful (or no validation)
-
             // Attach logic to the processes (eg. map ActivityBehaviors to bpmn model elements)
             applyParseHandlers();
 
@@ -210,6 +183,72 @@ public class BpmnParse implements BpmnXMLConstants {
         return this;
     }
 
+    /**
+     * Converts the XML source to the {@link BpmnModel} and validates it against the XSD and the process validator, as far as enabled. This step doesn't
+     * need a command context, so it can be done upfront for several parses in parallel. {@link #execute()} only converts the source when this wasn't done
+     * yet.
+     */
+    public BpmnParse convertAndValidate(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        BpmnXMLConverter converter = new BpmnXMLConverter();
+        if (validateSchema && bpmnParser != null) {
+            converter.setSchema(bpmnParser.getBpmnXsdSchema());
+        }
+
+        boolean enableSafeBpmnXml = false;
+        String encoding = null;
+        if (processEngineConfiguration != null) {
+            enableSafeBpmnXml = processEngineConfiguration.isEnableSafeBpmnXml();
+            encoding = processEngineConfiguration.getXmlEncoding();
+        }
+
+        BpmnModel convertedModel;
+        if (encoding != null) {
+            convertedModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml, encoding);
+        } else {
+            convertedModel = converter.convertToBpmnModel(streamSource, validateSchema, enableSafeBpmnXml);
+        }
+
+        // XSD validation goes first, then process/semantic validation
+        if (validateProcess) {
+            ProcessValidator processValidator = processEngineConfiguration.getProcessValidator();
+            if (processValidator == null) {
+                LOGGER.warn("Process should be validated, but no process validator is configured on the process engine configuration!");
+            } else {
+                List<ValidationError> validationErrors = processValidator.validate(convertedModel);
+                if (validationErrors != null && !validationErrors.isEmpty()) {
+
+                    StringBuilder warningBuilder = new StringBuilder();
+                    StringBuilder errorBuilder = new StringBuilder();
+
+                    for (ValidationError error : validationErrors) {
+                        if (error.isWarning()) {
+                            warningBuilder.append(error.toString());
+                            warningBuilder.append("\n");
+                        } else {
+                            errorBuilder.append(error.toString());
+                            errorBuilder.append("\n");
+                        }
+                    }
+
+                    // Throw exception if there is any error
+                    if (errorBuilder.length() > 0) {
+                        throw new FlowableException("Errors while parsing:\n" + errorBuilder);
+                    }
+
+                    // Write out warnings (if any)
+                    if (warningBuilder.length() > 0) {
+                        LOGGER.warn("Following warnings encountered during process validation: {}", warningBuilder.toString());
+                    }
+
+                }
+            }
+        }
+
+        // Validation successful (or no validation)
+        bpmnModel = convertedModel;
+        return this;
+    }
+
     public BpmnParse name(String name) {
         this.name = name;
         return this;
@@ -279,6 +318,7 @@ public class BpmnParse implements BpmnXMLConstants {
         for (Process process : bpmnModel.getProcesses()) {
             currentProcess = process;
             if (process.isExecutable()) {
+                compileListenerScripts(process);
                 bpmnParserHandlers.parseElement(this, process);
             }
         }
@@ -300,6 +340,9 @@ public class BpmnParse implements BpmnXMLConstants {
         // Activities are parsed first
         for (FlowElement flowElement : flowElements) {
 
+            compileListenerScripts(flowElement);
+            parsePrefetchVariables(flowElement);
+
             // Sequence flow are also flow elements, but are only parsed once every activity is found
             if (flowElement instanceof SequenceFlow) {
                 sequenceFlowToParse.add((SequenceFlow) flowElement);
@@ -330,6 +373,86 @@ public class BpmnParse implements BpmnXMLConstants {
 
     }
 
+    /**
+     * Parses the variable names of the prefetchVariables extension elements of a flow node once, instead of on every execution of the flow node.
+     */
+    protected void parsePrefetchVariables(FlowElement flowElement) {
+        if (!(flowElement instanceof FlowNode)) {
+            return;
+        }
+
+        List<ExtensionElement> prefetchVariablesElements = flowElement.getExtensionElements().get(BpmnXMLConstants.ELEMENT_PREFETCH_VARIABLES);
+        if (prefetchVariablesElements != null && !prefetchVariablesElements.isEmpty()) {
+            List<String> variableNames = new ArrayList<>();
+            for (ExtensionElement prefetchVariablesElement : prefetchVariablesElements) {
+                if (StringUtils.isNotEmpty(prefetchVariablesElement.getElementText())) {
+                    for (String variableName : prefetchVariablesElement.getElementText().split(",")) {
+                        if (StringUtils.isNotBlank(variableName)) {
+                            variableNames.add(variableName.trim());
+                        }
+                    }
+                }
+            }
+            ((FlowNode) flowElement).setPrefetchVariableNames(variableNames.isEmpty() ? null : Collections.unmodifiableList(variableNames));
+        }
+    }
+
+    /**
+     * Puts the scripts of the {@link ScriptExecutionListener}s and {@link ScriptTaskListener}s of the element in the compiled script cache.
+     */
+    protected void compileListenerScripts(BaseElement element) {
+        if (element instanceof HasExecutionListeners) {
+            for (FlowableListener listener : ((HasExecutionListeners) element).getExecutionListeners()) {
+                compileListenerScript(listener, ScriptExecutionListener.class, element);
+            }
+        }
+        if (element instanceof UserTask) {
+            for (FlowableListener listener : ((UserTask) element).getTaskListeners()) {
+                compileListenerScript(listener, ScriptTaskListener.class, element);
+            }
+        }
+    }
+
+    protected void compileListenerScript(FlowableListener listener, Class<?> scriptListenerClass, BaseElement element) {
+        if (!ImplementationType.IMPLEMENTATION_TYPE_CLASS.equalsIgnoreCase(listener.getImplementationType())
+                || !scriptListenerClass.getName().equals(listener.getImplementation())) {
+            return;
+        }
+
+        String script = null;
+        String language = null;
+        for (FieldExtension fieldExtension : listener.getFieldExtensions()) {
+            String fieldText = fieldExtension.getStringValue() != null ? fieldExtension.getStringValue() : fieldExtension.getExpression();
+            if ("script".equals(fieldExtension.getFieldName())) {
+                script = fieldText;
+            } else if ("language".equals(fieldExtension.getFieldName())) {
+                language = fieldText;
+            }
+        }
+        compileScript(script, language, element);
+    }
+
+    /**
+     * Puts the script in the compiled script cache of the {@link org.flowable.engine.impl.scripting.ScriptingEngines}, so the first execution
+     * doesn't have to compile it. A script that can't be compiled doesn't fail the deployment, it will fail when executed as before.
+     */
+    public void compileScript(String script, String language, BaseElement element) {
+        if (StringUtils.isEmpty(script) || StringUtils.isEmpty(language)) {
+            return;
+        }
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration();
+        if (processEngineConfiguration == null || processEngineConfiguration.getScriptingEngines() == null) {
+            return;
+        }
+
+        try {
+            processEngineConfiguration.getScriptingEngines().compileScript(script, language);
+        } catch (FlowableException e) {
+            LOGGER.warn("Could not compile the {} script of {}: {}", language, element != null ? element.getId() : name, e.getMessage());
+        }
+    }
+
     // Diagram interchange
     // /////////////////////////////////////////////////////////////////
 
@@ -434,6 +557,21 @@ public class BpmnParse implements BpmnXMLConstants {
         this.validateProcess = validateProcess;
     }
 
+    public boolean isCreateBpmnModelSnapshot() {
+        return createBpmnModelSnapshot;
+    }
+
+    public void setCreateBpmnModelSnapshot(boolean createBpmnModelSnapshot) {
+        this.createBpmnModelSnapshot = createBpmnModelSnapshot;
+    }
+
+    /**
+     * @return the snapshot of the converted model, as written by {@link BpmnModelSnapshotUtil}, or null if no snapshot was requested.
+     */
+    public byte[] getBpmnModelSnapshot() {
+        return bpmnModelSnapshot;
+    }
+
     public List<ProcessDefinitionEntity> getProcessDefinitions() {
         return processDefinitions;
     }
@@ -12,6 +12,10 @@
  */
 package org.flowable.engine.impl.bpmn.parser;
 
+import javax.xml.validation.Schema;
+
+import org.flowable.bpmn.converter.BpmnXMLConverter;
+import org.flowable.bpmn.exceptions.XMLException;
 import org.flowable.engine.impl.bpmn.parser.factory.ActivityBehaviorFactory;
 import org.flowable.engine.impl.bpmn.parser.factory.ListenerFactory;
 import org.flowable.engine.impl.cfg.BpmnParseFactory;
@@ -46,6 +50,11 @@ public class BpmnParser {
     protected BpmnParseFactory bpmnParseFactory;
     protected BpmnParseHandlers bpmnParserHandlers;
 
+    /**
+     * The compiled BPMN 2.0 XSD, shared by all {@link BpmnParse} instances of this parser. Compiled on the first schema validation.
+     */
+    protected volatile Schema bpmnXsdSchema;
+
     /**
      * Creates a new {@link BpmnParse} instance that can be used to parse only one BPMN 2.0 process definition.
      */
@@ -53,6 +62,28 @@ public class BpmnParser {
         return bpmnParseFactory.createBpmnParse(this);
     }
 
+    public Schema getBpmnXsdSchema() {
+        Schema schema = bpmnXsdSchema;
+        if (schema == null) {
+            synchronized (this) {
+                schema = bpmnXsdSchema;
+                if (schema == null) {
+                    try {
+                        schema = new BpmnXMLConverter().getSchema();
+                    } catch (Exception e) {
+                        throw new XMLException("Could not compile the BPMN XSD", e);
+                    }
+                    bpmnXsdSchema = schema;
+                }
+            }
+        }
+        return schema;
+    }
+
+    public void setBpmnXsdSchema(Schema bpmnXsdSchema) {
+        this.bpmnXsdSchema = bpmnXsdSchema;
+    }
+
     public ActivityBehaviorFactory getActivityBehaviorFactory() {
         return activityBehaviorFactory;
     }
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.bpmn.parser.handler;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.bpmn.model.BaseElement;
 import org.flowable.bpmn.model.ScriptTask;
+import org.flowable.engine.impl.bpmn.behavior.ScriptTaskActivityBehavior;
 import org.flowable.engine.impl.bpmn.parser.BpmnParse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -38,7 +39,10 @@ public class ScriptTaskParseHandler extends AbstractActivityBpmnParseHandler<Scr
             LOGGER.warn("No script provided for scriptTask {}", scriptTask.getId());
         }
 
-        scriptTask.setBehavior(bpmnParse.getActivityBehaviorFactory().createScriptTaskActivityBehavior(scriptTask));
+        ScriptTaskActivityBehavior scriptTaskActivityBehavior = bpmnParse.getActivityBehaviorFactory().createScriptTaskActivityBehavior(scriptTask);
+        scriptTask.setBehavior(scriptTaskActivityBehavior);
+
+        bpmnParse.compileScript(scriptTaskActivityBehavior.getScript(), scriptTaskActivityBehavior.getLanguage(), scriptTask);
 
     }
 
@@ -53,6 +53,25 @@ public class PerformanceSettings {
      */
     protected boolean enableLocalization = true;
 
+    /**
+     * Experimental setting: when true, a parallel gateway join counts the executions arriving in it during a transaction, instead of fetching all the
+     * executions waiting in the gateway on every arrival. Only the count query for the first arrival in a transaction and the fetch for the last arrival
+     * remain, which makes a join of many branches linear instead of quadratic in the number of branches.
+     * 
+     * Inclusive gateway joins are evaluated once per process instance and gateway when the inactive executions are checked, instead of once per
+     * execution waiting in the gateway.
+     */
+    protected boolean enableGatewayJoinCounting;
+
+    /**
+     * Experimental setting: when true, the groups of the candidate user of a task query are cached engine wide for
+     * <code>candidateGroupsCacheExpirationTime</code> milliseconds, instead of being fetched from the identity service for every query.
+     * 
+     * Membership changes done through the idm engine invalidate the cached groups of the user immediately, other changes (eg. in an ldap system
+     * or on another node of the cluster) are visible after the expiration time.
+     */
+    protected boolean enableCandidateGroupsCache;
+
     public boolean isEnableEagerExecutionTreeFetching() {
         return enableEagerExecutionTreeFetching;
     }
@@ -101,4 +120,20 @@ public class PerformanceSettings {
         this.enableLocalization = enableLocalization;
     }
 
+    public boolean isEnableGatewayJoinCounting() {
+        return enableGatewayJoinCounting;
+    }
+
+    public void setEnableGatewayJoinCounting(boolean enableGatewayJoinCounting) {
+        this.enableGatewayJoinCounting = enableGatewayJoinCounting;
+    }
+
+    public boolean isEnableCandidateGroupsCache() {
+        return enableCandidateGroupsCache;
+    }
+
+    public void setEnableCandidateGroupsCache(boolean enableCandidateGroupsCache) {
+        this.enableCandidateGroupsCache = enableCandidateGroupsCache;
+    }
+
 }
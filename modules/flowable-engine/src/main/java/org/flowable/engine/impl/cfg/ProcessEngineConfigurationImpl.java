@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.cfg;
 
+import java.io.File;
 import java.io.InputStream;
 import java.net.URL;
 import java.util.ArrayList;
@@ -29,9 +30,14 @@ import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 import javax.xml.namespace.QName;
 
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 import org.apache.ibatis.session.Configuration;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.apache.ibatis.transaction.TransactionFactory;
@@ -69,6 +75,7 @@ import org.flowable.engine.common.impl.cfg.IdGenerator;
 import org.flowable.engine.common.impl.db.DbSchemaManager;
 import org.flowable.engine.common.impl.el.ExpressionManager;
 import org.flowable.engine.common.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.engine.common.impl.history.HistoryCleaningMetrics;
 import org.flowable.engine.common.impl.history.HistoryLevel;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandConfig;
@@ -82,6 +89,7 @@ import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.engine.common.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.LatestDefinitionIdCache;
 import org.flowable.engine.common.impl.util.ReflectUtil;
 import org.flowable.engine.common.runtime.Clock;
 import org.flowable.engine.compatibility.DefaultFlowable5CompatibilityHandlerFactory;
@@ -154,6 +162,7 @@ import org.flowable.engine.impl.bpmn.parser.handler.TransactionParseHandler;
 import org.flowable.engine.impl.bpmn.parser.handler.UserTaskParseHandler;
 import org.flowable.engine.impl.bpmn.webservice.MessageInstance;
 import org.flowable.engine.impl.cmd.RedeployV5ProcessDefinitionsCmd;
+import org.flowable.engine.impl.cmd.ScheduleHistoryCleanupJobCmd;
 import org.flowable.engine.impl.cmd.ValidateExecutionRelatedEntityCountCfgCmd;
 import org.flowable.engine.impl.cmd.ValidateTaskRelatedEntityCountCfgCmd;
 import org.flowable.engine.impl.cmd.ValidateV5EntitiesCmd;
@@ -168,6 +177,8 @@ import org.flowable.engine.impl.event.CompensationEventHandler;
 import org.flowable.engine.impl.event.EventHandler;
 import org.flowable.engine.impl.event.MessageEventHandler;
 import org.flowable.engine.impl.event.SignalEventHandler;
+import org.flowable.engine.impl.event.logger.AsyncEventLogWriter;
+import org.flowable.engine.impl.event.logger.EventLogDurability;
 import org.flowable.engine.impl.event.logger.EventLogger;
 import org.flowable.engine.impl.form.BooleanFormType;
 import org.flowable.engine.impl.form.DateFormType;
@@ -188,11 +199,14 @@ import org.flowable.engine.impl.history.async.AsyncHistoryManager;
 import org.flowable.engine.impl.history.async.AsyncHistorySession;
 import org.flowable.engine.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.engine.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.codec.BinaryAsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.interceptor.BpmnOverrideContextInterceptor;
 import org.flowable.engine.impl.interceptor.CommandInvoker;
 import org.flowable.engine.impl.interceptor.DelegateInterceptor;
 import org.flowable.engine.impl.interceptor.LoggingExecutionTreeCommandInvoker;
 import org.flowable.engine.impl.jobexecutor.AsyncContinuationJobHandler;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
 import org.flowable.engine.impl.jobexecutor.DefaultFailedJobCommandFactory;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.flowable.engine.impl.jobexecutor.TimerActivateProcessDefinitionHandler;
@@ -291,11 +305,13 @@ import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncRunnableExecution
 import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.VirtualThreadAsyncJobExecutor;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
 import org.flowable.task.service.InternalTaskLocalizationManager;
 import org.flowable.task.service.InternalTaskVariableScopeResolver;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.history.InternalHistoryTaskManager;
+import org.flowable.task.service.impl.CandidateGroupsCache;
 import org.flowable.task.service.impl.db.TaskDbSchemaManager;
 import org.flowable.validation.ProcessValidator;
 import org.flowable.validation.ProcessValidatorFactory;
@@ -409,6 +425,14 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int asyncHistoryJsonGroupingThreshold = 10;
     protected AsyncHistoryListener asyncHistoryListener;
 
+    /**
+     * When set, the data of the async history jobs is written with this codec instead of as json. The jobs get the type returned by the codec, and a
+     * history job handler for that type is registered. Jobs written before the codec was set are still executed by the json handlers, and a handler for
+     * the jobs of the {@link BinaryAsyncHistoryPayloadCodec} is always registered. The type of the codec is added to the async history job handler types
+     * of the job service, so failing jobs of that type are retried like the json ones.
+     */
+    protected AsyncHistoryPayloadCodec asyncHistoryPayloadCodec;
+
     // Job Manager
 
     protected JobManager jobManager;
@@ -445,9 +469,25 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int processDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
+    /**
+     * Whether the id of the latest process definition per key and tenant is cached, so that starting a process instance by key doesn't need to query
+     * for the latest version. Deployments done by other engines on the same database are only seen once the cached id expires, see
+     * {@link #latestProcessDefinitionCacheTimeToLive}.
+     */
+    protected boolean enableLatestProcessDefinitionCache;
+    protected long latestProcessDefinitionCacheTimeToLive; // In milliseconds, by default the ids don't expire
+    protected LatestDefinitionIdCache latestProcessDefinitionIdCache;
+
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
 
+    /**
+     * Whether cached process definition info is checked against the revision in the database on every read. When disabled, the cached info is
+     * used until it is saved through this engine, or until {@link #processDefinitionInfoCacheRefreshInterval} has passed.
+     */
+    protected boolean enableProcessDefinitionInfoCacheRevisionCheck = true;
+    protected long processDefinitionInfoCacheRefreshInterval; // In milliseconds, by default the info isn't refreshed
+
     protected int knowledgeBaseCacheLimit = -1;
     protected DeploymentCache<Object> knowledgeBaseCache;
 
@@ -624,6 +664,25 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected boolean asyncExecutorMessageQueueMode;
     protected boolean asyncHistoryExecutorMessageQueueMode;
 
+    /**
+     * The number of acquired history jobs the default async history executor executes together in one transaction. The async history job handlers
+     * then load the historic process instances, activity instances and tasks referenced by all jobs of a batch at once. Default 1: every history job
+     * gets its own transaction.
+     */
+    protected int asyncHistoryExecutorJobBatchSize = 1;
+
+    /**
+     * Set this to true to let the default async executor run every job on a virtual thread (falling back to platform threads on JVMs without virtual
+     * threads). In this mode the number of jobs in flight is bounded by {@link #asyncExecutorMaxConcurrentJobs} instead of the thread pool settings.
+     * When falling back to platform threads, it is also bounded by {@link #asyncExecutorMaxPoolSize}.
+     */
+    protected boolean asyncExecutorVirtualThreadMode;
+
+    /**
+     * The maximum number of jobs executed at the same time when {@link #asyncExecutorVirtualThreadMode} is enabled.
+     */
+    protected int asyncExecutorMaxConcurrentJobs = 1000;
+
     /**
      * Allows to define a custom factory for creating the {@link Runnable} that is executed by the async executor.
      * <p>
@@ -644,6 +703,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected ListenerFactory listenerFactory;
     protected BpmnParseFactory bpmnParseFactory;
 
+    /**
+     * When enabled, the BPMN resources of a deployment are converted and validated in parallel on the {@link #bpmnParseExecutorService}, before the parse
+     * handlers are applied to them one by one in the deploying thread. This also applies to the redeploy done when a process definition is no longer cached.
+     * Unless set, the executor service is created with at most {@link #bpmnParseThreadPoolSize} threads.
+     */
+    protected boolean enableParallelBpmnParsing;
+    protected int bpmnParseThreadPoolSize = Runtime.getRuntime().availableProcessors();
+    protected ExecutorService bpmnParseExecutorService;
+
     // PROCESS VALIDATION ///////////////////////////////////////////////////////
 
     protected ProcessValidator processValidator;
@@ -692,6 +760,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int historicTaskQueryLimit = 20000;
     protected int historicProcessInstancesQueryLimit = 20000;
 
+    protected int candidateGroupsCacheSize = 10000;
+    protected long candidateGroupsCacheExpirationTime = 5 * 60 * 1000L;
+
     protected String wsSyncFactoryClassName = DEFAULT_WS_SYNC_FACTORY;
     protected ConcurrentMap<QName, URL> wsOverridenEndpointAddresses = new ConcurrentHashMap<>();
 
@@ -719,9 +790,62 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected int batchSizeProcessInstances = 25;
     protected int batchSizeTasks = 25;
 
+    /**
+     * When enabled, deleting the process instances of a process definition (eg. when a deployment is deleted with cascade) removes the runtime data of
+     * the process instances with one delete statement per table for each batch of process instances, instead of loading and deleting every entity.
+     * This is only done when nothing needs to be notified or recorded about the deleted entities: no event listeners, no task delete listeners, and
+     * history that is not kept. Other process instances, like the ones linked to a sub or parent process instance, are deleted one by one.
+     */
+    protected boolean enableProcessInstanceBulkDelete;
+    protected int processInstanceBulkDeleteBatchSize = 100;
+
+    /**
+     * When a process definition is not (or no longer) in the process definition cache, only the BPMN resource it was deployed from is parsed again, instead of
+     * running all deployers for all resources of its deployment. Diagram generation and localization values, which were handled by the first deployment, are
+     * skipped.
+     *
+     * New deployments also store a snapshot of the converted BPMN model next to each BPMN resource (as a generated resource with the '.bpmnmodel' suffix).
+     * When the definition is parsed again, the model is restored from that snapshot and the XML isn't converted. Deployments without a snapshot, or with a
+     * snapshot of another engine version, are converted from their XML as before.
+     */
+    protected boolean enableSingleResourceRedeploy;
+
+    /**
+     * When enabled, a timer job ({@link BpmnHistoryCleanupJobHandler}) is scheduled on boot, which removes the history of process instances that ended
+     * longer than {@link #cleanInstancesEndedAfterNumberOfDays} ago. The job is started by the cron expression of {@link #historyCleaningTimeCycleConfig}
+     * and deletes the history in batches of {@link #cleanInstancesBatchSize} process instances, each in its own transaction, pausing
+     * {@link #historyCleaningBatchPause} milliseconds between two batches. When {@link #historyCleaningWindow} milliseconds have passed since the job was
+     * started, the remaining history is left for the next run.
+     * <p>
+     * The retention can be changed per process definition key with {@link #historyCleaningRetentionDays}, a negative value keeps the history forever.
+     */
+    protected boolean enableHistoryCleaning;
+    protected String historyCleaningTimeCycleConfig = "0 0 1 * * ?";
+    protected int cleanInstancesEndedAfterNumberOfDays = 365;
+    protected Map<String, Integer> historyCleaningRetentionDays = new HashMap<>();
+    protected int cleanInstancesBatchSize = 100;
+    protected long historyCleaningBatchPause = 1000L;
+    protected long historyCleaningWindow = 60 * 60 * 1000L;
+    protected HistoryCleaningMetrics historyCleaningMetrics = new HistoryCleaningMetrics();
+
     // Event logging to database
     protected boolean enableDatabaseEventLogging;
 
+    /**
+     * When enabled (together with {@link #enableDatabaseEventLogging}), the event log entries are not inserted in the transaction of the command, but
+     * handed to the {@link #asyncEventLogWriter} after the transaction is committed. The writer inserts them in batches of
+     * {@link #asyncEventLogBatchSize} entries from a queue of {@link #asyncEventLogQueueSize} entries. Entries that can't be written are dropped or
+     * spilled to {@link #asyncEventLogSpillFile}, depending on the {@link #asyncEventLogDurability}. The spill file defaults to a file named after
+     * the engine in the temporary directory, so engines don't replay each other's entries. The event logger listeners are notified when the
+     * entries are handed to the writer, not when they are written.
+     */
+    protected boolean enableAsyncDatabaseEventLogging;
+    protected int asyncEventLogQueueSize = 10000;
+    protected int asyncEventLogBatchSize = 100;
+    protected EventLogDurability asyncEventLogDurability = EventLogDurability.AT_MOST_ONCE;
+    protected File asyncEventLogSpillFile;
+    protected AsyncEventLogWriter asyncEventLogWriter;
+
     /**
      * Using field injection together with a delegate expression for a service task / execution listener / task listener is not thread-sade , see user guide section 'Field Injection' for more
      * information.
@@ -829,7 +953,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         initBehaviorFactory();
         initListenerFactory();
         initBpmnParser();
+        initBpmnParseExecutorService();
         initProcessDefinitionCache();
+        initLatestProcessDefinitionIdCache();
         initProcessDefinitionInfoCache();
         initAppResourceCache();
         initKnowledgeBaseCache();
@@ -1172,6 +1298,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         DefaultAsyncHistoryJobProducer asyncHistoryJobProducer = new DefaultAsyncHistoryJobProducer();
         //asyncHistoryJobProducer.setJsonGzipCompressionEnabled(isAsyncHistoryJsonGzipCompressionEnabled);
         //asyncHistoryJobProducer.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+        asyncHistoryJobProducer.setPayloadCodec(asyncHistoryPayloadCodec);
         asyncHistoryListener = asyncHistoryJobProducer;
     }
 
@@ -1311,6 +1438,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.taskServiceConfiguration.setEnableLocalization(this.performanceSettings.isEnableLocalization());
         this.taskServiceConfiguration.setTaskQueryLimit(this.taskQueryLimit);
         this.taskServiceConfiguration.setHistoricTaskQueryLimit(this.historicTaskQueryLimit);
+        this.taskServiceConfiguration.setEnableCandidateGroupsCache(this.performanceSettings.isEnableCandidateGroupsCache());
+        this.taskServiceConfiguration.setCandidateGroupsCacheSize(this.candidateGroupsCacheSize);
+        this.taskServiceConfiguration.setCandidateGroupsCacheExpirationTime(this.candidateGroupsCacheExpirationTime);
 
         this.taskServiceConfiguration.init();
 
@@ -1329,6 +1459,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.jobServiceConfiguration.setJobHandlers(this.jobHandlers);
         this.jobServiceConfiguration.setHistoryJobHandlers(this.historyJobHandlers);
+        this.jobServiceConfiguration.addAsyncHistoryJobHandlerType(BinaryAsyncHistoryPayloadCodec.JOB_TYPE);
+        if (this.asyncHistoryPayloadCodec != null) {
+            this.jobServiceConfiguration.addAsyncHistoryJobHandlerType(this.asyncHistoryPayloadCodec.getJobHandlerType());
+        }
         this.jobServiceConfiguration.setFailedJobCommandFactory(this.failedJobCommandFactory);
 
         List<AsyncRunnableExecutionExceptionHandler> exceptionHandlers = new ArrayList<>();
@@ -1380,6 +1514,11 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (engineConfigurations.containsKey(EngineConfigurationConstants.KEY_IDM_ENGINE_CONFIG)) {
             IdmEngineConfiguration idmEngineConfiguration = (IdmEngineConfiguration) engineConfigurations.get(EngineConfigurationConstants.KEY_IDM_ENGINE_CONFIG);
             this.taskServiceConfiguration.setIdmIdentityService(idmEngineConfiguration.getIdmIdentityService());
+
+            CandidateGroupsCache candidateGroupsCache = this.taskServiceConfiguration.getCandidateGroupsCache();
+            if (candidateGroupsCache != null && idmEngineConfiguration.getEventDispatcher() != null) {
+                idmEngineConfiguration.getEventDispatcher().addEventListener(candidateGroupsCache, CandidateGroupsCache.INVALIDATION_EVENT_TYPES);
+            }
         }
     }
 
@@ -1396,6 +1535,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    public void initLatestProcessDefinitionIdCache() {
+        if (latestProcessDefinitionIdCache == null && enableLatestProcessDefinitionCache) {
+            latestProcessDefinitionIdCache = new LatestDefinitionIdCache(latestProcessDefinitionCacheTimeToLive);
+        }
+    }
+
     public void initProcessDefinitionInfoCache() {
         if (processDefinitionInfoCache == null) {
             if (processDefinitionInfoCacheLimit <= 0) {
@@ -1403,6 +1548,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             } else {
                 processDefinitionInfoCache = new ProcessDefinitionInfoCache(commandExecutor, processDefinitionInfoCacheLimit);
             }
+            processDefinitionInfoCache.setCheckRevision(enableProcessDefinitionInfoCacheRevisionCheck);
+            processDefinitionInfoCache.setRefreshInterval(processDefinitionInfoCacheRefreshInterval);
         }
     }
 
@@ -1443,6 +1590,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             deploymentManager.setDeployers(deployers);
 
             deploymentManager.setProcessDefinitionCache(processDefinitionCache);
+            deploymentManager.setLatestProcessDefinitionIdCache(latestProcessDefinitionIdCache);
             deploymentManager.setProcessDefinitionInfoCache(processDefinitionInfoCache);
             deploymentManager.setAppResourceCache(appResourceCache);
             deploymentManager.setKnowledgeBaseCache(knowledgeBaseCache);
@@ -1565,6 +1713,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         bpmnParser.setBpmnParserHandlers(bpmnParseHandlers);
     }
 
+    public void initBpmnParseExecutorService() {
+        if (enableParallelBpmnParsing && bpmnParseExecutorService == null) {
+            // Idle threads are let go, so the pool doesn't need to be shut down when the engine is closed
+            BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("flowable-bpmn-parse-thread-%d").daemon(true).build();
+            ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(bpmnParseThreadPoolSize, bpmnParseThreadPoolSize, 60L, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), threadFactory);
+            threadPoolExecutor.allowCoreThreadTimeOut(true);
+            bpmnParseExecutorService = threadPoolExecutor;
+        }
+    }
+
     public List<BpmnParseHandler> getDefaultBpmnParseHandlers() {
 
         // Alphabetic list of default parse handler classes
@@ -1662,6 +1821,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         ProcessEventJobHandler processEventJobHandler = new ProcessEventJobHandler();
         jobHandlers.put(processEventJobHandler.getType(), processEventJobHandler);
 
+        BpmnHistoryCleanupJobHandler bpmnHistoryCleanupJobHandler = new BpmnHistoryCleanupJobHandler();
+        jobHandlers.put(bpmnHistoryCleanupJobHandler.getType(), bpmnHistoryCleanupJobHandler);
+
         // if we have custom job handlers, register them
         if (getCustomJobHandlers() != null) {
             for (JobHandler customJobHandler : getCustomJobHandlers()) {
@@ -1684,6 +1846,19 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
+            // Always registered, so binary jobs are still executed when the codec is removed from the configuration again
+            AsyncHistoryJobHandler asyncHistoryBinaryJobHandler = new AsyncHistoryJobHandler(BinaryAsyncHistoryPayloadCodec.JOB_TYPE, new BinaryAsyncHistoryPayloadCodec());
+            asyncHistoryBinaryJobHandler.initDefaultTransformers();
+            asyncHistoryBinaryJobHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+            historyJobHandlers.put(asyncHistoryBinaryJobHandler.getType(), asyncHistoryBinaryJobHandler);
+
+            if (asyncHistoryPayloadCodec != null) {
+                AsyncHistoryJobHandler asyncHistoryCodecJobHandler = new AsyncHistoryJobHandler(asyncHistoryPayloadCodec.getJobHandlerType(), asyncHistoryPayloadCodec);
+                asyncHistoryCodecJobHandler.initDefaultTransformers();
+                asyncHistoryCodecJobHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
+                historyJobHandlers.put(asyncHistoryCodecJobHandler.getType(), asyncHistoryCodecJobHandler);
+            }
+
             if (getCustomHistoryJobHandlers() != null) {
                 for (HistoryJobHandler customJobHandler : getCustomHistoryJobHandlers()) {
                     historyJobHandlers.put(customJobHandler.getType(), customJobHandler);
@@ -1697,7 +1872,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initAsyncExecutor() {
         if (asyncExecutor == null) {
-            DefaultAsyncJobExecutor defaultAsyncExecutor = new DefaultAsyncJobExecutor();
+            DefaultAsyncJobExecutor defaultAsyncExecutor;
+            if (asyncExecutorVirtualThreadMode) {
+                defaultAsyncExecutor = new VirtualThreadAsyncJobExecutor(asyncExecutorMaxConcurrentJobs);
+            } else {
+                defaultAsyncExecutor = new DefaultAsyncJobExecutor();
+            }
             if (asyncExecutorExecuteAsyncRunnableFactory != null) {
                 defaultAsyncExecutor.setExecuteAsyncRunnableFactory(asyncExecutorExecuteAsyncRunnableFactory);
             }
@@ -1747,11 +1927,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initAsyncHistoryExecutor() {
         if (asyncHistoryExecutor == null) {
-            DefaultAsyncJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
+            DefaultAsyncHistoryJobExecutor defaultAsyncHistoryExecutor = new DefaultAsyncHistoryJobExecutor();
 
             // Message queue mode
             defaultAsyncHistoryExecutor.setMessageQueueMode(asyncHistoryExecutorMessageQueueMode);
 
+            // Batching
+            if (asyncHistoryExecutorJobBatchSize > 1) {
+                defaultAsyncHistoryExecutor.setHistoryJobBatchSize(asyncHistoryExecutorJobBatchSize);
+                defaultAsyncHistoryExecutor.setMaxAsyncJobsDuePerAcquisition(asyncHistoryExecutorJobBatchSize);
+            }
+
             // Thread pool config
             defaultAsyncHistoryExecutor.setCorePoolSize(asyncExecutorCorePoolSize);
             defaultAsyncHistoryExecutor.setMaxPoolSize(asyncExecutorMaxPoolSize);
@@ -2046,7 +2232,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         if (enableDatabaseEventLogging) {
             // Database event logging uses the default logging mechanism and adds
             // a specific event listener to the list of event listeners
-            getEventDispatcher().addEventListener(new EventLogger(clock, objectMapper));
+            EventLogger eventLogger = new EventLogger(clock, objectMapper);
+            if (enableAsyncDatabaseEventLogging) {
+                if (asyncEventLogWriter == null) {
+                    asyncEventLogWriter = new AsyncEventLogWriter(commandExecutor, objectMapper);
+                    asyncEventLogWriter.setQueueSize(asyncEventLogQueueSize);
+                    asyncEventLogWriter.setBatchSize(asyncEventLogBatchSize);
+                    asyncEventLogWriter.setDurability(asyncEventLogDurability);
+                    if (asyncEventLogSpillFile == null && asyncEventLogDurability == EventLogDurability.SPILL_TO_FILE) {
+                        asyncEventLogSpillFile = new File(System.getProperty("java.io.tmpdir"),
+                                "flowable-event-log-" + processEngineName.replaceAll("[^A-Za-z0-9._-]", "_") + ".spill");
+                    }
+                    asyncEventLogWriter.setSpillFile(asyncEventLogSpillFile);
+                }
+                eventLogger.setAsyncEventLogWriter(asyncEventLogWriter);
+            }
+            getEventDispatcher().addEventListener(eventLogger);
         }
     }
 
@@ -2093,6 +2294,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             commandExecutor.execute(new ValidateTaskRelatedEntityCountCfgCmd());
         }
 
+        commandExecutor.execute(new ScheduleHistoryCleanupJobCmd());
+
         // if Flowable 5 support is needed configure the Flowable 5 job processors via the compatibility handler
         if (flowable5CompatibilityEnabled) {
             flowable5CompatibilityHandler.setJobProcessor(this.flowable5JobProcessors);
@@ -2564,6 +2767,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public int getCandidateGroupsCacheSize() {
+        return candidateGroupsCacheSize;
+    }
+
+    public ProcessEngineConfigurationImpl setCandidateGroupsCacheSize(int candidateGroupsCacheSize) {
+        this.candidateGroupsCacheSize = candidateGroupsCacheSize;
+        return this;
+    }
+
+    public long getCandidateGroupsCacheExpirationTime() {
+        return candidateGroupsCacheExpirationTime;
+    }
+
+    public ProcessEngineConfigurationImpl setCandidateGroupsCacheExpirationTime(long candidateGroupsCacheExpirationTime) {
+        this.candidateGroupsCacheExpirationTime = candidateGroupsCacheExpirationTime;
+        return this;
+    }
+
     public int getHistoricProcessInstancesQueryLimit() {
         return historicProcessInstancesQueryLimit;
     }
@@ -2753,6 +2974,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableParallelBpmnParsing() {
+        return enableParallelBpmnParsing;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableParallelBpmnParsing(boolean enableParallelBpmnParsing) {
+        this.enableParallelBpmnParsing = enableParallelBpmnParsing;
+        return this;
+    }
+
+    public int getBpmnParseThreadPoolSize() {
+        return bpmnParseThreadPoolSize;
+    }
+
+    public ProcessEngineConfigurationImpl setBpmnParseThreadPoolSize(int bpmnParseThreadPoolSize) {
+        this.bpmnParseThreadPoolSize = bpmnParseThreadPoolSize;
+        return this;
+    }
+
+    public ExecutorService getBpmnParseExecutorService() {
+        return bpmnParseExecutorService;
+    }
+
+    public ProcessEngineConfigurationImpl setBpmnParseExecutorService(ExecutorService bpmnParseExecutorService) {
+        this.bpmnParseExecutorService = bpmnParseExecutorService;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setBeans(Map<Object, Object> beans) {
         this.beans = beans;
@@ -2835,6 +3083,105 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableProcessInstanceBulkDelete() {
+        return enableProcessInstanceBulkDelete;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessInstanceBulkDelete(boolean enableProcessInstanceBulkDelete) {
+        this.enableProcessInstanceBulkDelete = enableProcessInstanceBulkDelete;
+        return this;
+    }
+
+    public int getProcessInstanceBulkDeleteBatchSize() {
+        return processInstanceBulkDeleteBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessInstanceBulkDeleteBatchSize(int processInstanceBulkDeleteBatchSize) {
+        this.processInstanceBulkDeleteBatchSize = processInstanceBulkDeleteBatchSize;
+        return this;
+    }
+
+    public boolean isEnableSingleResourceRedeploy() {
+        return enableSingleResourceRedeploy;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableSingleResourceRedeploy(boolean enableSingleResourceRedeploy) {
+        this.enableSingleResourceRedeploy = enableSingleResourceRedeploy;
+        return this;
+    }
+
+    public boolean isEnableHistoryCleaning() {
+        return enableHistoryCleaning;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableHistoryCleaning(boolean enableHistoryCleaning) {
+        this.enableHistoryCleaning = enableHistoryCleaning;
+        return this;
+    }
+
+    public String getHistoryCleaningTimeCycleConfig() {
+        return historyCleaningTimeCycleConfig;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningTimeCycleConfig(String historyCleaningTimeCycleConfig) {
+        this.historyCleaningTimeCycleConfig = historyCleaningTimeCycleConfig;
+        return this;
+    }
+
+    public int getCleanInstancesEndedAfterNumberOfDays() {
+        return cleanInstancesEndedAfterNumberOfDays;
+    }
+
+    public ProcessEngineConfigurationImpl setCleanInstancesEndedAfterNumberOfDays(int cleanInstancesEndedAfterNumberOfDays) {
+        this.cleanInstancesEndedAfterNumberOfDays = cleanInstancesEndedAfterNumberOfDays;
+        return this;
+    }
+
+    public Map<String, Integer> getHistoryCleaningRetentionDays() {
+        return historyCleaningRetentionDays;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningRetentionDays(Map<String, Integer> historyCleaningRetentionDays) {
+        this.historyCleaningRetentionDays = historyCleaningRetentionDays;
+        return this;
+    }
+
+    public int getCleanInstancesBatchSize() {
+        return cleanInstancesBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setCleanInstancesBatchSize(int cleanInstancesBatchSize) {
+        this.cleanInstancesBatchSize = cleanInstancesBatchSize;
+        return this;
+    }
+
+    public long getHistoryCleaningBatchPause() {
+        return historyCleaningBatchPause;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningBatchPause(long historyCleaningBatchPause) {
+        this.historyCleaningBatchPause = historyCleaningBatchPause;
+        return this;
+    }
+
+    public long getHistoryCleaningWindow() {
+        return historyCleaningWindow;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningWindow(long historyCleaningWindow) {
+        this.historyCleaningWindow = historyCleaningWindow;
+        return this;
+    }
+
+    public HistoryCleaningMetrics getHistoryCleaningMetrics() {
+        return historyCleaningMetrics;
+    }
+
+    public ProcessEngineConfigurationImpl setHistoryCleaningMetrics(HistoryCleaningMetrics historyCleaningMetrics) {
+        this.historyCleaningMetrics = historyCleaningMetrics;
+        return this;
+    }
+
     public int getProcessDefinitionCacheLimit() {
         return processDefinitionCacheLimit;
     }
@@ -2844,6 +3191,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableLatestProcessDefinitionCache() {
+        return enableLatestProcessDefinitionCache;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableLatestProcessDefinitionCache(boolean enableLatestProcessDefinitionCache) {
+        this.enableLatestProcessDefinitionCache = enableLatestProcessDefinitionCache;
+        return this;
+    }
+
+    public long getLatestProcessDefinitionCacheTimeToLive() {
+        return latestProcessDefinitionCacheTimeToLive;
+    }
+
+    public ProcessEngineConfigurationImpl setLatestProcessDefinitionCacheTimeToLive(long latestProcessDefinitionCacheTimeToLive) {
+        this.latestProcessDefinitionCacheTimeToLive = latestProcessDefinitionCacheTimeToLive;
+        return this;
+    }
+
+    public LatestDefinitionIdCache getLatestProcessDefinitionIdCache() {
+        return latestProcessDefinitionIdCache;
+    }
+
+    public ProcessEngineConfigurationImpl setLatestProcessDefinitionIdCache(LatestDefinitionIdCache latestProcessDefinitionIdCache) {
+        this.latestProcessDefinitionIdCache = latestProcessDefinitionIdCache;
+        return this;
+    }
+
+    public boolean isEnableProcessDefinitionInfoCacheRevisionCheck() {
+        return enableProcessDefinitionInfoCacheRevisionCheck;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableProcessDefinitionInfoCacheRevisionCheck(boolean enableProcessDefinitionInfoCacheRevisionCheck) {
+        this.enableProcessDefinitionInfoCacheRevisionCheck = enableProcessDefinitionInfoCacheRevisionCheck;
+        return this;
+    }
+
+    public long getProcessDefinitionInfoCacheRefreshInterval() {
+        return processDefinitionInfoCacheRefreshInterval;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionInfoCacheRefreshInterval(long processDefinitionInfoCacheRefreshInterval) {
+        this.processDefinitionInfoCacheRefreshInterval = processDefinitionInfoCacheRefreshInterval;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -2967,6 +3359,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isEnableAsyncDatabaseEventLogging() {
+        return enableAsyncDatabaseEventLogging;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableAsyncDatabaseEventLogging(boolean enableAsyncDatabaseEventLogging) {
+        this.enableAsyncDatabaseEventLogging = enableAsyncDatabaseEventLogging;
+        return this;
+    }
+
+    public int getAsyncEventLogQueueSize() {
+        return asyncEventLogQueueSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventLogQueueSize(int asyncEventLogQueueSize) {
+        this.asyncEventLogQueueSize = asyncEventLogQueueSize;
+        return this;
+    }
+
+    public int getAsyncEventLogBatchSize() {
+        return asyncEventLogBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventLogBatchSize(int asyncEventLogBatchSize) {
+        this.asyncEventLogBatchSize = asyncEventLogBatchSize;
+        return this;
+    }
+
+    public EventLogDurability getAsyncEventLogDurability() {
+        return asyncEventLogDurability;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventLogDurability(EventLogDurability asyncEventLogDurability) {
+        this.asyncEventLogDurability = asyncEventLogDurability;
+        return this;
+    }
+
+    public File getAsyncEventLogSpillFile() {
+        return asyncEventLogSpillFile;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventLogSpillFile(File asyncEventLogSpillFile) {
+        this.asyncEventLogSpillFile = asyncEventLogSpillFile;
+        return this;
+    }
+
+    public AsyncEventLogWriter getAsyncEventLogWriter() {
+        return asyncEventLogWriter;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncEventLogWriter(AsyncEventLogWriter asyncEventLogWriter) {
+        this.asyncEventLogWriter = asyncEventLogWriter;
+        return this;
+    }
+
     @Override
     public ProcessEngineConfigurationImpl setUsingRelationalDatabase(boolean usingRelationalDatabase) {
         this.usingRelationalDatabase = usingRelationalDatabase;
@@ -3010,6 +3456,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public ProcessEngineConfigurationImpl setEnableGatewayJoinCounting(boolean enableGatewayJoinCounting) {
+        this.performanceSettings.setEnableGatewayJoinCounting(enableGatewayJoinCounting);
+        return this;
+    }
+
+    public ProcessEngineConfigurationImpl setEnableCandidateGroupsCache(boolean enableCandidateGroupsCache) {
+        this.performanceSettings.setEnableCandidateGroupsCache(enableCandidateGroupsCache);
+        return this;
+    }
+
     public AttachmentDataManager getAttachmentDataManager() {
         return attachmentDataManager;
     }
@@ -3374,6 +3830,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public AsyncHistoryPayloadCodec getAsyncHistoryPayloadCodec() {
+        return asyncHistoryPayloadCodec;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryPayloadCodec(AsyncHistoryPayloadCodec asyncHistoryPayloadCodec) {
+        this.asyncHistoryPayloadCodec = asyncHistoryPayloadCodec;
+        return this;
+    }
+
     public JobManager getJobManager() {
         return jobManager;
     }
@@ -3819,6 +4284,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorVirtualThreadMode() {
+        return asyncExecutorVirtualThreadMode;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorVirtualThreadMode(boolean asyncExecutorVirtualThreadMode) {
+        this.asyncExecutorVirtualThreadMode = asyncExecutorVirtualThreadMode;
+        return this;
+    }
+
+    public int getAsyncExecutorMaxConcurrentJobs() {
+        return asyncExecutorMaxConcurrentJobs;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorMaxConcurrentJobs(int asyncExecutorMaxConcurrentJobs) {
+        this.asyncExecutorMaxConcurrentJobs = asyncExecutorMaxConcurrentJobs;
+        return this;
+    }
+
     public boolean isAsyncHistoryExecutorIsMessageQueueMode() {
         return asyncHistoryExecutorMessageQueueMode;
     }
@@ -3827,4 +4310,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.asyncHistoryExecutorMessageQueueMode = asyncHistoryExecutorMessageQueueMode;
         return this;
     }
+
+    public int getAsyncHistoryExecutorJobBatchSize() {
+        return asyncHistoryExecutorJobBatchSize;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncHistoryExecutorJobBatchSize(int asyncHistoryExecutorJobBatchSize) {
+        this.asyncHistoryExecutorJobBatchSize = asyncHistoryExecutorJobBatchSize;
+        return this;
+    }
 }
@@ -78,6 +78,7 @@ public class ChangeDeploymentTenantIdCmd implements Command<Void>, Serializable
 
         // Clear process definition cache
         CommandContextUtil.getProcessEngineConfiguration(commandContext).getProcessDefinitionCache().clear();
+        CommandContextUtil.getProcessEngineConfiguration(commandContext).getDeploymentManager().invalidateLatestProcessDefinitionIds();
 
         return null;
 
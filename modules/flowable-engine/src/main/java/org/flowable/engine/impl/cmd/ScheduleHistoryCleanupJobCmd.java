@@ -0,0 +1,72 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.cmd;
+
+import java.util.List;
+
+import org.flowable.engine.common.impl.calendar.BusinessCalendar;
+import org.flowable.engine.common.impl.calendar.CycleBusinessCalendar;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.TimerJobQueryImpl;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+
+/**
+ * Makes sure the repeating timer job of the history cleaning exists when it is enabled, with the configured cron expression, and removes the
+ * history cleaning timer jobs when it is disabled.
+ */
+public class ScheduleHistoryCleanupJobCmd implements Command<Void> {
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+        String timeCycleConfig = processEngineConfiguration.getHistoryCleaningTimeCycleConfig();
+
+        boolean scheduled = false;
+        List<Job> timerJobs = new TimerJobQueryImpl(commandContext).handlerType(BpmnHistoryCleanupJobHandler.TYPE).list();
+        for (Job timerJob : timerJobs) {
+            if (!processEngineConfiguration.isEnableHistoryCleaning()) {
+                timerJobService.deleteTimerJob((TimerJobEntity) timerJob);
+
+            } else if (timerJob.getJobHandlerConfiguration() == null) {
+                // The repeating job is recreated when its cron expression was changed, the jobs of the batches of a run are left alone
+                if (scheduled || !timeCycleConfig.equals(((TimerJobEntity) timerJob).getRepeat())) {
+                    timerJobService.deleteTimerJob((TimerJobEntity) timerJob);
+                } else {
+                    scheduled = true;
+                }
+            }
+        }
+
+        if (processEngineConfiguration.isEnableHistoryCleaning() && !scheduled) {
+            BusinessCalendar businessCalendar = processEngineConfiguration.getBusinessCalendarManager().getBusinessCalendar(CycleBusinessCalendar.NAME);
+
+            TimerJobEntity timerJob = timerJobService.createTimerJob();
+            timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+            timerJob.setJobHandlerType(BpmnHistoryCleanupJobHandler.TYPE);
+            timerJob.setRepeat(timeCycleConfig);
+            timerJob.setDuedate(businessCalendar.resolveDuedate(timeCycleConfig));
+            timerJobService.scheduleTimerJob(timerJob);
+        }
+
+        return null;
+    }
+
+}
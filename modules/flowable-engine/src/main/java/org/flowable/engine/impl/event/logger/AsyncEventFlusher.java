@@ -0,0 +1,106 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.event.logger.handler.EventLoggerEventHandler;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Creates the event log entries when the command context is closing, but hands them to the {@link AsyncEventLogWriter} only after the transaction
+ * is committed, instead of inserting them in the transaction of the command. The entries are handed over by a {@link TransactionState#COMMITTED}
+ * listener, so with an external (Spring or JTA) transaction this happens after the outer transaction commits. Without a transaction context they are
+ * handed over when the command context is closed.
+ */
+public class AsyncEventFlusher extends AbstractEventFlusher {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventFlusher.class);
+
+    protected AsyncEventLogWriter asyncEventLogWriter;
+    protected List<EventLogEntryEntity> eventLogEntries;
+    protected boolean committedListenerAdded;
+
+    public AsyncEventFlusher(AsyncEventLogWriter asyncEventLogWriter) {
+        this.asyncEventLogWriter = asyncEventLogWriter;
+    }
+
+    @Override
+    public void addEventHandler(EventLoggerEventHandler eventHandler) {
+        super.addEventHandler(eventHandler);
+
+        // Handlers are added while the command is executed, when the transaction context is still available
+        if (!committedListenerAdded) {
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                    @Override
+                    public void execute(CommandContext commandContext) {
+                        writeEventLogEntries();
+                    }
+                });
+                committedListenerAdded = true;
+            }
+        }
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+        if (commandContext.getException() != null) {
+            return; // Not interested in events about exceptions
+        }
+
+        eventLogEntries = new ArrayList<>(eventHandlers.size());
+        for (EventLoggerEventHandler eventHandler : eventHandlers) {
+            try {
+                eventLogEntries.add(eventHandler.generateEventLogEntry(commandContext));
+            } catch (Exception e) {
+                LOGGER.warn("Could not create event log", e);
+            }
+        }
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        if (!committedListenerAdded) {
+            writeEventLogEntries();
+        }
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+        eventLogEntries = null;
+    }
+
+    protected void writeEventLogEntries() {
+        if (eventLogEntries != null && !eventLogEntries.isEmpty()) {
+            asyncEventLogWriter.addEventLogEntries(eventLogEntries);
+        }
+        eventLogEntries = null;
+    }
+
+}
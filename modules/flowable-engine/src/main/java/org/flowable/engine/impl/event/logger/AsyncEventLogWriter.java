@@ -0,0 +1,412 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntity;
+import org.flowable.engine.impl.persistence.entity.EventLogEntryEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Writes event log entries to the database in a background thread, in batches of {@link #getBatchSize()} entries per transaction (which are inserted
+ * with one multi-row insert statement when bulk insert is enabled).
+ * 
+ * The entries are kept in a bounded queue. What happens with entries that don't fit in the queue, that can't be written, or that are still in the
+ * queue when the engine is closed is determined by the {@link EventLogDurability}. Entries spilled to a file are written to the database when the
+ * writer is started again; an entry can be written twice when the engine stops while doing this. Every writer needs a spill file of its own.
+ * 
+ * Entries added after the writer is shut down are written in the calling thread.
+ */
+public class AsyncEventLogWriter implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncEventLogWriter.class);
+
+    protected CommandExecutor commandExecutor;
+    protected ObjectMapper objectMapper;
+
+    protected int queueSize = 10000;
+    protected int batchSize = 100;
+    protected long flushInterval = 500L;
+    protected long shutdownTimeout = 10000L;
+    protected EventLogDurability durability = EventLogDurability.AT_MOST_ONCE;
+    protected File spillFile;
+
+    protected BlockingQueue<EventLogEntryEntity> queue;
+    protected Thread writerThread;
+    protected volatile boolean active;
+    protected volatile boolean shutdown;
+
+    protected AtomicLong writtenEntries = new AtomicLong();
+    protected AtomicLong droppedEntries = new AtomicLong();
+    protected AtomicLong spilledEntries = new AtomicLong();
+
+    public AsyncEventLogWriter(CommandExecutor commandExecutor, ObjectMapper objectMapper) {
+        this.commandExecutor = commandExecutor;
+        this.objectMapper = objectMapper;
+    }
+
+    public synchronized void start() {
+        if (active) {
+            return;
+        }
+        if (durability == EventLogDurability.SPILL_TO_FILE && spillFile == null) {
+            throw new FlowableIllegalArgumentException("A spill file is required for durability " + durability);
+        }
+
+        queue = new ArrayBlockingQueue<>(queueSize);
+        shutdown = false;
+        active = true;
+        writerThread = new Thread(this, "flowable-event-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public synchronized void shutdown() {
+        if (!active) {
+            return;
+        }
+
+        shutdown = true;
+        active = false;
+        try {
+            writerThread.join(shutdownTimeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Entries the writer thread didn't get to in time
+        List<EventLogEntryEntity> remainingEntries = new ArrayList<>();
+        queue.drainTo(remainingEntries);
+        if (!remainingEntries.isEmpty()) {
+            handleUnwrittenEntries(remainingEntries);
+        }
+        writerThread = null;
+    }
+
+    /**
+     * Called after the transaction that created the entries has been committed.
+     */
+    public void addEventLogEntries(List<EventLogEntryEntity> eventLogEntries) {
+        if (shutdown) {
+            writeBatch(new ArrayList<>(eventLogEntries));
+            return;
+        }
+
+        List<EventLogEntryEntity> overflow = null;
+        for (EventLogEntryEntity eventLogEntry : eventLogEntries) {
+            if (!active || !queue.offer(eventLogEntry)) {
+                if (overflow == null) {
+                    overflow = new ArrayList<>();
+                }
+                overflow.add(eventLogEntry);
+            }
+        }
+
+        if (overflow != null) {
+            handleUnwrittenEntries(overflow);
+        }
+
+        if (shutdown) {
+            // Shut down while the entries were queued: the entries that weren't drained by the shutdown anymore are written here
+            List<EventLogEntryEntity> remainingEntries = new ArrayList<>();
+            queue.drainTo(remainingEntries);
+            if (!remainingEntries.isEmpty()) {
+                writeBatch(remainingEntries);
+            }
+        }
+    }
+
+    @Override
+    public void run() {
+        if (durability == EventLogDurability.SPILL_TO_FILE) {
+            writeSpilledEntries();
+        }
+
+        List<EventLogEntryEntity> batch = new ArrayList<>(batchSize);
+        while (active || !queue.isEmpty()) {
+            try {
+                EventLogEntryEntity eventLogEntry = queue.poll(flushInterval, TimeUnit.MILLISECONDS);
+                if (eventLogEntry != null) {
+                    batch.add(eventLogEntry);
+                    queue.drainTo(batch, batchSize - 1);
+                    writeBatch(batch);
+                    batch.clear();
+                }
+
+            } catch (InterruptedException e) {
+                LOGGER.debug("Event log writer interrupted");
+                return;
+
+            } catch (Throwable t) {
+                LOGGER.warn("Unexpected error in the event log writer", t);
+                batch.clear();
+            }
+        }
+    }
+
+    protected void writeBatch(final List<EventLogEntryEntity> batch) {
+        try {
+            insertEventLogEntries(batch);
+            writtenEntries.addAndGet(batch.size());
+        } catch (Exception e) {
+            LOGGER.warn("Could not write {} event log entries", batch.size(), e);
+            handleUnwrittenEntries(batch);
+        }
+    }
+
+    protected void insertEventLogEntries(final List<EventLogEntryEntity> eventLogEntries) {
+        // A new transaction, as entries added after the shutdown are written in the thread of the command that committed them
+        commandExecutor.execute(commandExecutor.getDefaultConfig().transactionRequiresNew(), new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                EventLogEntryEntityManager eventLogEntryEntityManager = CommandContextUtil.getEventLogEntryEntityManager(commandContext);
+                for (EventLogEntryEntity eventLogEntry : eventLogEntries) {
+                    eventLogEntryEntityManager.insert(eventLogEntry, false);
+                }
+                return null;
+            }
+        });
+    }
+
+    protected void handleUnwrittenEntries(List<EventLogEntryEntity> eventLogEntries) {
+        if (durability == EventLogDurability.SPILL_TO_FILE) {
+            try {
+                spill(eventLogEntries);
+                spilledEntries.addAndGet(eventLogEntries.size());
+                return;
+            } catch (Exception e) {
+                LOGGER.warn("Could not spill event log entries to {}", spillFile, e);
+            }
+        }
+
+        long dropped = droppedEntries.addAndGet(eventLogEntries.size());
+        LOGGER.warn("Dropped {} event log entries, {} in total", eventLogEntries.size(), dropped);
+    }
+
+    protected void spill(List<EventLogEntryEntity> eventLogEntries) throws IOException {
+        List<JsonNode> jsonNodes = new ArrayList<>(eventLogEntries.size());
+        for (EventLogEntryEntity eventLogEntry : eventLogEntries) {
+            jsonNodes.add(toJson(eventLogEntry));
+        }
+        spillJson(jsonNodes);
+    }
+
+    protected synchronized void spillJson(List<JsonNode> jsonNodes) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(spillFile.toPath(), StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (JsonNode jsonNode : jsonNodes) {
+                writer.write(objectMapper.writeValueAsString(jsonNode));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Writes the entries spilled by a previous run to the database. The spill file is renamed first, so entries spilled in the meantime go to a new file.
+     */
+    protected void writeSpilledEntries() {
+        File replayFile = new File(spillFile.getPath() + ".replay");
+        try {
+            synchronized (this) {
+                if (spillFile.exists() && !replayFile.exists()) {
+                    Files.move(spillFile.toPath(), replayFile.toPath(), StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+            if (!replayFile.exists()) {
+                return;
+            }
+
+            List<JsonNode> batch = new ArrayList<>(batchSize);
+            try (BufferedReader reader = Files.newBufferedReader(replayFile.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        batch.add(objectMapper.readTree(line));
+                    }
+                    if (batch.size() == batchSize) {
+                        writeSpilledBatch(batch);
+                        batch.clear();
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeSpilledBatch(batch);
+            }
+
+            // Entries that still couldn't be written were spilled to the new spill file
+            Files.delete(replayFile.toPath());
+
+        } catch (Exception e) {
+            LOGGER.warn("Could not write the spilled event log entries of {}", replayFile, e);
+        }
+    }
+
+    protected void writeSpilledBatch(final List<JsonNode> batch) throws IOException {
+        try {
+            commandExecutor.execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    EventLogEntryEntityManager eventLogEntryEntityManager = CommandContextUtil.getEventLogEntryEntityManager(commandContext);
+                    for (JsonNode jsonNode : batch) {
+                        EventLogEntryEntity eventLogEntry = eventLogEntryEntityManager.create();
+                        fromJson(jsonNode, eventLogEntry);
+                        eventLogEntryEntityManager.insert(eventLogEntry, false);
+                    }
+                    return null;
+                }
+            });
+            writtenEntries.addAndGet(batch.size());
+
+        } catch (Exception e) {
+            LOGGER.warn("Could not write {} spilled event log entries", batch.size(), e);
+            spillJson(batch);
+        }
+    }
+
+    protected ObjectNode toJson(EventLogEntryEntity eventLogEntry) {
+        ObjectNode objectNode = objectMapper.createObjectNode();
+        objectNode.put("type", eventLogEntry.getType());
+        objectNode.put("processDefinitionId", eventLogEntry.getProcessDefinitionId());
+        objectNode.put("processInstanceId", eventLogEntry.getProcessInstanceId());
+        objectNode.put("executionId", eventLogEntry.getExecutionId());
+        objectNode.put("taskId", eventLogEntry.getTaskId());
+        objectNode.put("userId", eventLogEntry.getUserId());
+        if (eventLogEntry.getTimeStamp() != null) {
+            objectNode.put("timeStamp", eventLogEntry.getTimeStamp().getTime());
+        }
+        if (eventLogEntry.getData() != null) {
+            objectNode.put("data", eventLogEntry.getData());
+        }
+        return objectNode;
+    }
+
+    protected void fromJson(JsonNode jsonNode, EventLogEntryEntity eventLogEntry) {
+        eventLogEntry.setType(getText(jsonNode, "type"));
+        eventLogEntry.setProcessDefinitionId(getText(jsonNode, "processDefinitionId"));
+        eventLogEntry.setProcessInstanceId(getText(jsonNode, "processInstanceId"));
+        eventLogEntry.setExecutionId(getText(jsonNode, "executionId"));
+        eventLogEntry.setTaskId(getText(jsonNode, "taskId"));
+        eventLogEntry.setUserId(getText(jsonNode, "userId"));
+        if (jsonNode.hasNonNull("timeStamp")) {
+            eventLogEntry.setTimeStamp(new Date(jsonNode.get("timeStamp").asLong()));
+        }
+        if (jsonNode.hasNonNull("data")) {
+            try {
+                eventLogEntry.setData(jsonNode.get("data").binaryValue());
+            } catch (IOException e) {
+                throw new FlowableException("Could not read the data of a spilled event log entry", e);
+            }
+        }
+    }
+
+    protected String getText(JsonNode jsonNode, String fieldName) {
+        JsonNode fieldNode = jsonNode.get(fieldName);
+        return fieldNode != null && !fieldNode.isNull() ? fieldNode.asText() : null;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public boolean isShutdown() {
+        return shutdown;
+    }
+
+    public long getWrittenEntries() {
+        return writtenEntries.get();
+    }
+
+    public long getDroppedEntries() {
+        return droppedEntries.get();
+    }
+
+    public long getSpilledEntries() {
+        return spilledEntries.get();
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public long getShutdownTimeout() {
+        return shutdownTimeout;
+    }
+
+    public void setShutdownTimeout(long shutdownTimeout) {
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    public EventLogDurability getDurability() {
+        return durability;
+    }
+
+    public void setDurability(EventLogDurability durability) {
+        this.durability = durability;
+    }
+
+    public File getSpillFile() {
+        return spillFile;
+    }
+
+    public void setSpillFile(File spillFile) {
+        this.spillFile = spillFile;
+    }
+
+}
@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.event.logger;
+
+/**
+ * What the {@link AsyncEventLogWriter} does with event log entries it can't write to the database: when its queue is full, when writing a batch
+ * fails or when the engine is closed before the queue is empty.
+ */
+public enum EventLogDurability {
+
+    /**
+     * The entries are dropped and a warning is logged.
+     */
+    AT_MOST_ONCE,
+
+    /**
+     * The entries are appended to a local file, which is written to the database when the writer is started again.
+     */
+    SPILL_TO_FILE
+
+}
@@ -65,6 +65,9 @@ public class EventLogger implements FlowableEventListener {
     // Listeners for new events
     protected List<EventLoggerListener> listeners;
 
+    // When set, the events are written after the transaction by this writer
+    protected AsyncEventLogWriter asyncEventLogWriter;
+
     public EventLogger() {
         initializeDefaultHandlers();
     }
@@ -212,6 +215,9 @@ public class EventLogger implements FlowableEventListener {
      * Subclasses that want something else than the database flusher should override this method
      */
     protected EventFlusher createEventFlusher() {
+        if (asyncEventLogWriter != null) {
+            return new AsyncEventFlusher(asyncEventLogWriter);
+        }
         return null;
     }
 
@@ -239,4 +245,12 @@ public class EventLogger implements FlowableEventListener {
         this.listeners = listeners;
     }
 
+    public AsyncEventLogWriter getAsyncEventLogWriter() {
+        return asyncEventLogWriter;
+    }
+
+    public void setAsyncEventLogWriter(AsyncEventLogWriter asyncEventLogWriter) {
+        this.asyncEventLogWriter = asyncEventLogWriter;
+    }
+
 }
@@ -12,19 +12,66 @@
  */
 package org.flowable.engine.impl.history.async;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.util.CommandContextUtil;
-import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.BatchHistoryJobHandler;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 
-public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandler {
+public abstract class AbstractAsyncHistoryJobHandler implements BatchHistoryJobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractAsyncHistoryJobHandler.class);
 
     protected boolean isAsyncHistoryJsonGroupingEnabled;
+    protected AsyncHistoryPayloadCodec payloadCodec;
+
+    @Override
+    public void prepareBatch(List<HistoryJobEntity> jobs, CommandContext commandContext) {
+        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+        Map<String, JsonNode> historyNodes = new HashMap<>();
+        List<JsonNode> historyElements = new ArrayList<>();
+        for (HistoryJobEntity job : jobs) {
+            if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
+                try {
+                    JsonNode historyNode = readHistoryNode(job, objectMapper);
+                    historyNodes.put(job.getId(), historyNode);
+                    if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
+                        for (JsonNode jsonNode : historyNode) {
+                            historyElements.add(jsonNode);
+                        }
+                    } else {
+                        historyElements.add(historyNode);
+                    }
+
+                } catch (Exception e) {
+                    // The error is reported when the job itself is executed
+                    LOGGER.debug("Could not read async history json of job {} while preparing the batch", job.getId(), e);
+                }
+            }
+        }
+
+        commandContext.addAttribute(getPreparedHistoryNodesAttributeKey(), historyNodes);
+        prepareHistoryElements(commandContext, historyElements);
+    }
+
+    /**
+     * Called with all history elements of a batch of jobs before they are processed, for example to load the historic entities they refer to at once.
+     */
+    protected void prepareHistoryElements(CommandContext commandContext, List<JsonNode> historyElements) {
+
+    }
 
     @Override
     public void execute(HistoryJobEntity job, String configuration, CommandContext commandContext) {
@@ -32,8 +79,10 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
             try {
 
-                byte[] bytes = getJobBytes(job);
-                JsonNode historyNode = objectMapper.readTree(bytes);
+                JsonNode historyNode = getPreparedHistoryNode(commandContext, job);
+                if (historyNode == null) {
+                    historyNode = readHistoryNode(job, objectMapper);
+                }
                 if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
                     ArrayNode arrayNode = (ArrayNode) historyNode;
                     for (JsonNode jsonNode : arrayNode) {
@@ -54,6 +103,27 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         }
     }
 
+    @SuppressWarnings("unchecked")
+    protected JsonNode getPreparedHistoryNode(CommandContext commandContext, HistoryJobEntity job) {
+        Map<String, JsonNode> historyNodes = (Map<String, JsonNode>) commandContext.getAttribute(getPreparedHistoryNodesAttributeKey());
+        if (historyNodes != null) {
+            return historyNodes.remove(job.getId());
+        }
+        return null;
+    }
+
+    protected String getPreparedHistoryNodesAttributeKey() {
+        return "preparedHistoryNodes-" + getType();
+    }
+
+    protected JsonNode readHistoryNode(HistoryJobEntity job, ObjectMapper objectMapper) throws Exception {
+        byte[] bytes = getJobBytes(job);
+        if (payloadCodec != null) {
+            return payloadCodec.decode(bytes, objectMapper);
+        }
+        return objectMapper.readTree(bytes);
+    }
+
     protected byte[] getJobBytes(HistoryJobEntity job) {
         return job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
     }
@@ -67,5 +137,13 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
     public void setAsyncHistoryJsonGroupingEnabled(boolean isAsyncHistoryJsonGroupingEnabled) {
         this.isAsyncHistoryJsonGroupingEnabled = isAsyncHistoryJsonGroupingEnabled;
     }
+
+    public AsyncHistoryPayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+
+    public void setPayloadCodec(AsyncHistoryPayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
     
 }
@@ -14,10 +14,14 @@ package org.flowable.engine.impl.history.async;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityEndHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityFullHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityStartHistoryJsonTransformer;
@@ -41,6 +45,7 @@ import org.flowable.engine.impl.history.async.json.transformer.TaskPropertyChang
 import org.flowable.engine.impl.history.async.json.transformer.VariableCreatedHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.VariableRemovedHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.VariableUpdatedHistoryJsonTransformer;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,11 +59,26 @@ public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
 
     public static final String JOB_TYPE = "async-history";
 
+    protected static final int MAX_IDS_PER_PREPARE_QUERY = 500;
+
+    protected String jobType;
     protected Map<String, List<HistoryJsonTransformer>> historyJsonTransformers = new HashMap<>();
 
+    public AsyncHistoryJobHandler() {
+        this(JOB_TYPE, null);
+    }
+
+    /**
+     * Creates a handler for history jobs of the given type, of which the data is written with the given codec instead of as json.
+     */
+    public AsyncHistoryJobHandler(String jobType, AsyncHistoryPayloadCodec payloadCodec) {
+        this.jobType = jobType;
+        this.payloadCodec = payloadCodec;
+    }
+
     @Override
     public String getType() {
-        return JOB_TYPE;
+        return jobType;
     }
 
     public void initDefaultTransformers() {
@@ -99,6 +119,70 @@ public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
         historyJsonTransformers.get(historyJsonTransformer.getType()).add(historyJsonTransformer);
     }
 
+    /**
+     * Loads the historic process instances, unfinished activity instances and tasks referenced by the elements of a batch with one query each,
+     * so the transformers find them in the entity cache instead of querying them one by one.
+     */
+    @Override
+    protected void prepareHistoryElements(CommandContext commandContext, List<JsonNode> historyElements) {
+        Set<String> processInstanceIds = new LinkedHashSet<>();
+        Set<String> executionIds = new LinkedHashSet<>();
+        Set<String> taskIds = new LinkedHashSet<>();
+        for (JsonNode historyElement : historyElements) {
+            String type = getStringFromJson(historyElement, HistoryJsonConstants.TYPE);
+            JsonNode historicalJsonData = historyElement.get(HistoryJsonConstants.DATA);
+            if (type == null || historicalJsonData == null) {
+                continue;
+            }
+
+            addIfNotEmpty(processInstanceIds, getStringFromJson(historicalJsonData, HistoryJsonConstants.PROCESS_INSTANCE_ID));
+            if (HistoryJsonConstants.TYPE_PROCESS_INSTANCE_DELETED.equals(type)) {
+                addIfNotEmpty(processInstanceIds, getStringFromJson(historicalJsonData, HistoryJsonConstants.ID));
+            }
+
+            if (historicalJsonData.has(HistoryJsonConstants.ACTIVITY_ID)) {
+                addIfNotEmpty(executionIds, getStringFromJson(historicalJsonData, HistoryJsonConstants.EXECUTION_ID));
+            }
+
+            if (type.startsWith("task-") && !HistoryJsonConstants.TYPE_TASK_CREATED.equals(type)) {
+                addIfNotEmpty(taskIds, getStringFromJson(historicalJsonData, HistoryJsonConstants.ID));
+            }
+        }
+
+        for (List<String> ids : partition(processInstanceIds)) {
+            CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).findHistoricProcessInstancesByIds(ids);
+        }
+        for (List<String> ids : partition(executionIds)) {
+            CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).findUnfinishedHistoricActivityInstancesByExecutionIds(ids);
+        }
+        for (List<String> ids : partition(taskIds)) {
+            CommandContextUtil.getHistoricTaskService().findHistoricTasksByIds(ids);
+        }
+    }
+
+    /**
+     * Splits the ids in lists of at most {@link #MAX_IDS_PER_PREPARE_QUERY}, as some databases limit the number of values in an IN clause.
+     */
+    protected List<List<String>> partition(Set<String> ids) {
+        List<String> idList = new ArrayList<>(ids);
+        List<List<String>> partitions = new ArrayList<>();
+        for (int i = 0; i < idList.size(); i += MAX_IDS_PER_PREPARE_QUERY) {
+            partitions.add(idList.subList(i, Math.min(i + MAX_IDS_PER_PREPARE_QUERY, idList.size())));
+        }
+        return partitions;
+    }
+
+    protected String getStringFromJson(JsonNode jsonNode, String fieldName) {
+        JsonNode fieldNode = jsonNode.get(fieldName);
+        return fieldNode != null && !fieldNode.isNull() ? fieldNode.asText() : null;
+    }
+
+    protected void addIfNotEmpty(Set<String> ids, String id) {
+        if (StringUtils.isNotEmpty(id)) {
+            ids.add(id);
+        }
+    }
+
     @Override
     protected void processHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode) {
         
@@ -21,12 +21,14 @@ import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.service.HistoryJobService;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -35,6 +37,7 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
     protected boolean isJsonGzipCompressionEnabled;
     protected boolean isAsyncHistoryJsonGroupingEnabled;
     protected int asyncHistoryJsonGroupingThreshold;
+    protected AsyncHistoryPayloadCodec payloadCodec;
     
     @Override
     public void historyDataGenerated(List<ObjectNode> historyObjectNodes) {
@@ -44,7 +47,12 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
     protected void createJobsWithHistoricalData(List<ObjectNode> historyObjectNodes, CommandContext commandContext) {
         AsyncHistorySession asyncHistorySession = commandContext.getSession(AsyncHistorySession.class);
         if (isAsyncHistoryJsonGroupingEnabled && historyObjectNodes.size() >= asyncHistoryJsonGroupingThreshold) {
-            String jobType = isJsonGzipCompressionEnabled ? AsyncHistoryJobZippedHandler.JOB_TYPE : AsyncHistoryJobHandler.JOB_TYPE;
+            String jobType;
+            if (payloadCodec != null) {
+                jobType = payloadCodec.getJobHandlerType();
+            } else {
+                jobType = isJsonGzipCompressionEnabled ? AsyncHistoryJobZippedHandler.JOB_TYPE : AsyncHistoryJobHandler.JOB_TYPE;
+            }
             HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, jobType);
             ArrayNode arrayNode = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper().createArrayNode();
             for (ObjectNode historyJsonNode : historyObjectNodes) {
@@ -53,8 +61,9 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
             addJsonToJob(commandContext, jobEntity, arrayNode, isJsonGzipCompressionEnabled);
             
         } else {
+            String jobType = payloadCodec != null ? payloadCodec.getJobHandlerType() : AsyncHistoryJobHandler.JOB_TYPE;
             for (ObjectNode historyJsonNode : historyObjectNodes) {
-                HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, AsyncHistoryJobHandler.JOB_TYPE);
+                HistoryJobEntity jobEntity = createAndInsertJobEntity(commandContext, asyncHistorySession, jobType);
                 addJsonToJob(commandContext, jobEntity, historyJsonNode, false);
             }
             
@@ -74,8 +83,14 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
     }
 
     protected void addJsonToJob(CommandContext commandContext, HistoryJobEntity jobEntity, JsonNode rootObjectNode, boolean applyCompression) {
+        ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
+        if (payloadCodec != null) {
+            jobEntity.setAdvancedJobHandlerConfigurationBytes(payloadCodec.encode(rootObjectNode, objectMapper));
+            return;
+        }
+
         try {
-            byte[] bytes = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper().writeValueAsBytes(rootObjectNode);
+            byte[] bytes = objectMapper.writeValueAsBytes(rootObjectNode);
             if (applyCompression) {
                 bytes = compress(bytes);
             }
@@ -119,5 +134,13 @@ public class DefaultAsyncHistoryJobProducer implements AsyncHistoryListener {
     public void setAsyncHistoryJsonGroupingThreshold(int asyncHistoryJsonGroupingThreshold) {
         this.asyncHistoryJsonGroupingThreshold = asyncHistoryJsonGroupingThreshold;
     }
+
+    public AsyncHistoryPayloadCodec getPayloadCodec() {
+        return payloadCodec;
+    }
+
+    public void setPayloadCodec(AsyncHistoryPayloadCodec payloadCodec) {
+        this.payloadCodec = payloadCodec;
+    }
     
 }
@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.codec;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Converts the history data of an async history job to the bytes stored with the job, and back.
+ * 
+ * The history jobs written with a codec get the job handler type of the codec, so a job is always read with the codec it was written with. Jobs
+ * written without a codec are stored as plain (optionally gzipped) json.
+ */
+public interface AsyncHistoryPayloadCodec {
+
+    /**
+     * The job handler type of the history jobs whose data is written with this codec.
+     */
+    String getJobHandlerType();
+
+    byte[] encode(JsonNode historyNode, ObjectMapper objectMapper);
+
+    JsonNode decode(byte[] bytes, ObjectMapper objectMapper);
+
+}
@@ -0,0 +1,406 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.impl.history.async.AsyncHistoryDateUtil;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Writes async history data in a compact binary form instead of json, optionally compressed with the {@link Lz4BlockCompressor}.
+ * 
+ * The encoding knows the shape of the async history data: field names and frequent values (history types, variable types, booleans) are written as
+ * a small number, and text values holding a date or a long, which is how the async history manager passes them, are written as a variable length
+ * number. Decoding gives back exactly the json tree that was encoded.
+ */
+public class BinaryAsyncHistoryPayloadCodec implements AsyncHistoryPayloadCodec {
+
+    public static final String JOB_TYPE = "async-history-binary";
+
+    protected static final int FORMAT_VERSION = 1;
+    protected static final int FLAG_COMPRESSED = 1;
+
+    protected static final int TAG_NULL = 0;
+    protected static final int TAG_OBJECT = 1;
+    protected static final int TAG_ARRAY = 2;
+    protected static final int TAG_TEXT = 3;
+    protected static final int TAG_KNOWN_TEXT = 4;
+    protected static final int TAG_DATE_TEXT = 5;
+    protected static final int TAG_LONG_TEXT = 6;
+    protected static final int TAG_JSON = 7;
+
+    /**
+     * Field names and values with a fixed id, which is the position in this array plus one. Only append to this array: the ids are stored in the
+     * history jobs that are not executed yet.
+     */
+    protected static final String[] KNOWN_TEXTS = {
+            HistoryJsonConstants.TYPE, HistoryJsonConstants.DATA, HistoryJsonConstants.ID, HistoryJsonConstants.NAME, HistoryJsonConstants.DESCRIPTION,
+            HistoryJsonConstants.REVISION, HistoryJsonConstants.CATEGORY, HistoryJsonConstants.EXECUTION_ID, HistoryJsonConstants.SOURCE_EXECUTION_ID,
+            HistoryJsonConstants.IS_MULTI_INSTANCE_ROOT_EXECUTION, HistoryJsonConstants.PROCESS_INSTANCE_ID, HistoryJsonConstants.TASK_ID,
+            HistoryJsonConstants.BUSINESS_KEY, HistoryJsonConstants.PROCESS_DEFINITION_ID, HistoryJsonConstants.PROCESS_DEFINITION_KEY,
+            HistoryJsonConstants.PROCESS_DEFINITION_NAME, HistoryJsonConstants.PROCESS_DEFINITION_VERSION, HistoryJsonConstants.DEPLOYMENT_ID,
+            HistoryJsonConstants.START_TIME, HistoryJsonConstants.END_TIME, HistoryJsonConstants.CREATE_TIME, HistoryJsonConstants.CLAIM_TIME,
+            HistoryJsonConstants.LAST_UPDATED_TIME, HistoryJsonConstants.START_USER_ID, HistoryJsonConstants.START_ACTIVITY_ID,
+            HistoryJsonConstants.ACTIVITY_ID, HistoryJsonConstants.ACTIVITY_NAME, HistoryJsonConstants.ACTIVITY_TYPE,
+            HistoryJsonConstants.SUPER_PROCESS_INSTANCE_ID, HistoryJsonConstants.DELETE_REASON, HistoryJsonConstants.PARENT_TASK_ID,
+            HistoryJsonConstants.ASSIGNEE, HistoryJsonConstants.ACTIVITY_ASSIGNEE_HANDLED, HistoryJsonConstants.OWNER,
+            HistoryJsonConstants.IDENTITY_LINK_TYPE, HistoryJsonConstants.TASK_DEFINITION_KEY, HistoryJsonConstants.FORM_KEY,
+            HistoryJsonConstants.PRIORITY, HistoryJsonConstants.DUE_DATE, HistoryJsonConstants.PROPERTY, HistoryJsonConstants.VARIABLE_TYPE,
+            HistoryJsonConstants.VARIABLE_TEXT_VALUE, HistoryJsonConstants.VARIABLE_TEXT_VALUE2, HistoryJsonConstants.VARIABLE_DOUBLE_VALUE,
+            HistoryJsonConstants.VARIABLE_LONG_VALUE, HistoryJsonConstants.VARIABLE_BYTES_VALUE, HistoryJsonConstants.FORM_PROPERTY_ID,
+            HistoryJsonConstants.FORM_PROPERTY_VALUE, HistoryJsonConstants.USER_ID, HistoryJsonConstants.GROUP_ID, HistoryJsonConstants.TENANT_ID,
+            HistoryJsonConstants.CALLBACK_ID, HistoryJsonConstants.CALLBACK_TYPE, HistoryJsonConstants.TIMESTAMP,
+
+            HistoryJsonConstants.TYPE_PROCESS_INSTANCE_START, HistoryJsonConstants.TYPE_SUBPROCESS_INSTANCE_START,
+            HistoryJsonConstants.TYPE_PROCESS_INSTANCE_PROPERTY_CHANGED, HistoryJsonConstants.TYPE_SET_PROCESS_DEFINITION,
+            HistoryJsonConstants.TYPE_ACTIVITY_START, HistoryJsonConstants.TYPE_ACTIVITY_END, HistoryJsonConstants.TYPE_ACTIVITY_FULL,
+            HistoryJsonConstants.TYPE_FORM_PROPERTIES_SUBMITTED, HistoryJsonConstants.TYPE_HISTORIC_DETAIL_VARIABLE_UPDATE,
+            HistoryJsonConstants.TYPE_IDENTITY_LINK_CREATED, HistoryJsonConstants.TYPE_IDENTITY_LINK_DELETED, HistoryJsonConstants.TYPE_TASK_CREATED,
+            HistoryJsonConstants.TYPE_TASK_ASSIGNEE_CHANGED, HistoryJsonConstants.TYPE_TASK_OWNER_CHANGED, HistoryJsonConstants.TYPE_TASK_PROPERTY_CHANGED,
+            HistoryJsonConstants.TYPE_TASK_ENDED, HistoryJsonConstants.TYPE_VARIABLE_CREATED, HistoryJsonConstants.TYPE_VARIABLE_UPDATED,
+            HistoryJsonConstants.TYPE_VARIABLE_REMOVED, HistoryJsonConstants.TYPE_PROCESS_INSTANCE_END, HistoryJsonConstants.TYPE_PROCESS_INSTANCE_DELETED,
+            HistoryJsonConstants.TYPE_PROCESS_INSTANCE_DELETED_BY_PROCDEF_ID,
+
+            "true", "false",
+            "string", "longString", "integer", "long", "short", "double", "boolean", "date", "null", "bytes", "serializable", "json", "longJson", "uuid",
+            "startEvent", "endEvent", "userTask", "serviceTask", "scriptTask", "exclusiveGateway", "parallelGateway", "inclusiveGateway", "subProcess",
+            "callActivity", "boundaryEvent", "intermediateCatchEvent",
+            "candidate", "assignee", "owner", "starter", "participant"
+    };
+
+    protected static final Map<String, Integer> KNOWN_TEXT_IDS = new HashMap<>();
+
+    static {
+        for (int i = 0; i < KNOWN_TEXTS.length; i++) {
+            KNOWN_TEXT_IDS.put(KNOWN_TEXTS[i], i + 1);
+        }
+    }
+
+    protected boolean compressionEnabled = true;
+    protected int compressionThreshold = 128;
+    protected Lz4BlockCompressor compressor = new Lz4BlockCompressor();
+
+    @Override
+    public String getJobHandlerType() {
+        return JOB_TYPE;
+    }
+
+    @Override
+    public byte[] encode(JsonNode historyNode, ObjectMapper objectMapper) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        writeNode(out, historyNode);
+        byte[] bytes = out.toByteArray();
+
+        if (compressionEnabled && bytes.length >= compressionThreshold) {
+            byte[] compressed = compressor.compress(bytes);
+            if (compressed.length < bytes.length) {
+                ByteArrayOutputStream result = new ByteArrayOutputStream(compressed.length + 8);
+                result.write(FORMAT_VERSION);
+                result.write(FLAG_COMPRESSED);
+                writeVarLong(result, bytes.length);
+                result.write(compressed, 0, compressed.length);
+                return result.toByteArray();
+            }
+        }
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream(bytes.length + 2);
+        result.write(FORMAT_VERSION);
+        result.write(0);
+        result.write(bytes, 0, bytes.length);
+        return result.toByteArray();
+    }
+
+    @Override
+    public JsonNode decode(byte[] bytes, ObjectMapper objectMapper) {
+        if (bytes.length < 2 || bytes[0] != FORMAT_VERSION) {
+            throw new FlowableException("Unsupported async history payload format");
+        }
+
+        BinaryReader reader = new BinaryReader(bytes, 2);
+        if ((bytes[1] & FLAG_COMPRESSED) != 0) {
+            int uncompressedLength = (int) reader.readVarLong();
+            byte[] uncompressed = compressor.decompress(bytes, reader.position, bytes.length - reader.position, uncompressedLength);
+            reader = new BinaryReader(uncompressed, 0);
+        }
+
+        try {
+            return readNode(reader, objectMapper);
+        } catch (IOException | IndexOutOfBoundsException e) {
+            throw new FlowableException("Could not decode async history payload", e);
+        }
+    }
+
+    protected void writeNode(ByteArrayOutputStream out, JsonNode node) {
+        if (node == null || node.isNull()) {
+            out.write(TAG_NULL);
+
+        } else if (node.isObject()) {
+            out.write(TAG_OBJECT);
+            writeVarLong(out, node.size());
+            Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                writeFieldName(out, field.getKey());
+                writeNode(out, field.getValue());
+            }
+
+        } else if (node.isArray()) {
+            out.write(TAG_ARRAY);
+            writeVarLong(out, node.size());
+            for (JsonNode element : node) {
+                writeNode(out, element);
+            }
+
+        } else if (node.isTextual()) {
+            writeText(out, node.textValue());
+
+        } else {
+            // Not produced by the async history manager, but kept as json to be able to encode any tree
+            out.write(TAG_JSON);
+            writeString(out, node.toString());
+        }
+    }
+
+    protected void writeFieldName(ByteArrayOutputStream out, String fieldName) {
+        Integer knownTextId = KNOWN_TEXT_IDS.get(fieldName);
+        if (knownTextId != null) {
+            writeVarLong(out, knownTextId);
+        } else {
+            writeVarLong(out, 0);
+            writeString(out, fieldName);
+        }
+    }
+
+    protected void writeText(ByteArrayOutputStream out, String text) {
+        Integer knownTextId = KNOWN_TEXT_IDS.get(text);
+        if (knownTextId != null) {
+            out.write(TAG_KNOWN_TEXT);
+            writeVarLong(out, knownTextId);
+            return;
+        }
+
+        Long longValue = parseCanonicalLong(text);
+        if (longValue != null) {
+            out.write(TAG_LONG_TEXT);
+            writeVarLong(out, zigZag(longValue));
+            return;
+        }
+
+        Date date = parseCanonicalDate(text);
+        if (date != null) {
+            out.write(TAG_DATE_TEXT);
+            writeVarLong(out, zigZag(date.getTime()));
+            return;
+        }
+
+        out.write(TAG_TEXT);
+        writeString(out, text);
+    }
+
+    /**
+     * Returns the long value of the text when writing that value back with {@link Long#toString(long)} gives exactly the same text, null otherwise.
+     */
+    protected Long parseCanonicalLong(String text) {
+        int length = text.length();
+        if (length == 0 || length > 20) {
+            return null;
+        }
+        int start = text.charAt(0) == '-' ? 1 : 0;
+        if (start == length || (text.charAt(start) == '0' && (length > start + 1 || start == 1))) {
+            return null; // only a sign, leading zeros or -0
+        }
+        for (int i = start; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+        try {
+            return Long.valueOf(text);
+        } catch (NumberFormatException e) {
+            return null; // out of range
+        }
+    }
+
+    /**
+     * Returns the date of the text when formatting that date with {@link AsyncHistoryDateUtil#formatDate(Date)} gives exactly the same text, null otherwise.
+     */
+    protected Date parseCanonicalDate(String text) {
+        if (text.length() != 24 || text.charAt(4) != '-' || text.charAt(10) != 'T' || text.charAt(23) != 'Z') {
+            return null;
+        }
+        Date date = AsyncHistoryDateUtil.parseDate(text);
+        if (date != null && text.equals(AsyncHistoryDateUtil.formatDate(date))) {
+            return date;
+        }
+        return null;
+    }
+
+    protected JsonNode readNode(BinaryReader reader, ObjectMapper objectMapper) throws IOException {
+        int tag = reader.readByte();
+        switch (tag) {
+        case TAG_NULL:
+            return objectMapper.getNodeFactory().nullNode();
+
+        case TAG_OBJECT:
+            ObjectNode objectNode = objectMapper.createObjectNode();
+            int fieldCount = (int) reader.readVarLong();
+            for (int i = 0; i < fieldCount; i++) {
+                String fieldName = readFieldName(reader);
+                objectNode.set(fieldName, readNode(reader, objectMapper));
+            }
+            return objectNode;
+
+        case TAG_ARRAY:
+            ArrayNode arrayNode = objectMapper.createArrayNode();
+            int elementCount = (int) reader.readVarLong();
+            for (int i = 0; i < elementCount; i++) {
+                arrayNode.add(readNode(reader, objectMapper));
+            }
+            return arrayNode;
+
+        case TAG_TEXT:
+            return objectMapper.getNodeFactory().textNode(reader.readString());
+
+        case TAG_KNOWN_TEXT:
+            return objectMapper.getNodeFactory().textNode(getKnownText(reader.readVarLong()));
+
+        case TAG_LONG_TEXT:
+            return objectMapper.getNodeFactory().textNode(Long.toString(unZigZag(reader.readVarLong())));
+
+        case TAG_DATE_TEXT:
+            return objectMapper.getNodeFactory().textNode(AsyncHistoryDateUtil.formatDate(new Date(unZigZag(reader.readVarLong()))));
+
+        case TAG_JSON:
+            return objectMapper.readTree(reader.readString());
+
+        default:
+            throw new FlowableException("Unknown tag " + tag + " in async history payload");
+        }
+    }
+
+    protected String readFieldName(BinaryReader reader) {
+        long knownTextId = reader.readVarLong();
+        if (knownTextId == 0) {
+            return reader.readString();
+        }
+        return getKnownText(knownTextId);
+    }
+
+    protected String getKnownText(long knownTextId) {
+        if (knownTextId < 1 || knownTextId > KNOWN_TEXTS.length) {
+            throw new FlowableException("Unknown text id " + knownTextId + " in async history payload");
+        }
+        return KNOWN_TEXTS[(int) knownTextId - 1];
+    }
+
+    protected void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes, 0, bytes.length);
+    }
+
+    protected static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    protected static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    protected static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public boolean isCompressionEnabled() {
+        return compressionEnabled;
+    }
+
+    public void setCompressionEnabled(boolean compressionEnabled) {
+        this.compressionEnabled = compressionEnabled;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public Lz4BlockCompressor getCompressor() {
+        return compressor;
+    }
+
+    public void setCompressor(Lz4BlockCompressor compressor) {
+        this.compressor = compressor;
+    }
+
+    protected static class BinaryReader {
+
+        protected byte[] bytes;
+        protected int position;
+
+        public BinaryReader(byte[] bytes, int position) {
+            this.bytes = bytes;
+            this.position = position;
+        }
+
+        public int readByte() {
+            return bytes[position++] & 0xFF;
+        }
+
+        public long readVarLong() {
+            long value = 0;
+            int shift = 0;
+            int b;
+            do {
+                if (shift > 63) {
+                    throw new FlowableException("Malformed variable length number in async history payload");
+                }
+                b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            return value;
+        }
+
+        public String readString() {
+            int length = (int) readVarLong();
+            if (length < 0 || position + length > bytes.length) {
+                throw new FlowableException("Malformed text in async history payload");
+            }
+            String value = new String(bytes, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+
+}
@@ -0,0 +1,202 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.codec;
+
+import java.util.Arrays;
+
+import org.flowable.engine.common.api.FlowableException;
+
+/**
+ * A pure Java compressor writing the LZ4 block format: sequences of literals followed by a match of at least 4 bytes within the previous 64KB. It
+ * trades compression ratio for speed, which suits the small, repetitive payloads of async history jobs better than gzip.
+ * 
+ * The compressed bytes do not contain the uncompressed length, it has to be stored by the caller and given to {@link #decompress(byte[], int, int, int)}.
+ */
+public class Lz4BlockCompressor {
+
+    protected static final int MIN_MATCH = 4;
+    protected static final int LAST_LITERALS = 5;
+    protected static final int MATCH_FIND_LIMIT = 12;
+    protected static final int MAX_DISTANCE = 65535;
+    protected static final int HASH_LOG = 12;
+
+    public byte[] compress(byte[] src) {
+        ByteBuffer out = new ByteBuffer(src.length / 2 + 16);
+        int length = src.length;
+        int anchor = 0;
+
+        if (length > MATCH_FIND_LIMIT) {
+            int[] hashTable = new int[1 << HASH_LOG];
+            Arrays.fill(hashTable, -1);
+
+            int matchFindLimit = length - MATCH_FIND_LIMIT;
+            int matchLimit = length - LAST_LITERALS;
+            int position = 0;
+            while (position < matchFindLimit) {
+                int sequence = readInt(src, position);
+                int hash = hash(sequence);
+                int reference = hashTable[hash];
+                hashTable[hash] = position;
+
+                if (reference >= 0 && position - reference <= MAX_DISTANCE && readInt(src, reference) == sequence) {
+                    int matchLength = MIN_MATCH;
+                    while (position + matchLength < matchLimit && src[reference + matchLength] == src[position + matchLength]) {
+                        matchLength++;
+                    }
+
+                    writeSequence(out, src, anchor, position - anchor, position - reference, matchLength);
+                    position += matchLength;
+                    anchor = position;
+
+                } else {
+                    position++;
+                }
+            }
+        }
+
+        writeLastLiterals(out, src, anchor, length - anchor);
+        return out.toByteArray();
+    }
+
+    public byte[] decompress(byte[] src, int offset, int length, int uncompressedLength) {
+        byte[] dest = new byte[uncompressedLength];
+        int position = offset;
+        int end = offset + length;
+        int destPosition = 0;
+
+        try {
+            while (position < end) {
+                int token = src[position++] & 0xFF;
+
+                int literalLength = token >>> 4;
+                if (literalLength == 15) {
+                    int value;
+                    do {
+                        value = src[position++] & 0xFF;
+                        literalLength += value;
+                    } while (value == 255);
+                }
+                System.arraycopy(src, position, dest, destPosition, literalLength);
+                position += literalLength;
+                destPosition += literalLength;
+
+                if (position >= end) {
+                    break; // the last sequence only has literals
+                }
+
+                int distance = (src[position] & 0xFF) | ((src[position + 1] & 0xFF) << 8);
+                position += 2;
+                if (distance == 0 || distance > destPosition) {
+                    throw new FlowableException("Corrupt compressed data: invalid match distance " + distance);
+                }
+
+                int matchLength = token & 0x0F;
+                if (matchLength == 15) {
+                    int value;
+                    do {
+                        value = src[position++] & 0xFF;
+                        matchLength += value;
+                    } while (value == 255);
+                }
+                matchLength += MIN_MATCH;
+
+                // Byte by byte, as the match can overlap with the bytes it produces
+                int matchPosition = destPosition - distance;
+                for (int i = 0; i < matchLength; i++) {
+                    dest[destPosition++] = dest[matchPosition + i];
+                }
+            }
+
+        } catch (IndexOutOfBoundsException e) {
+            throw new FlowableException("Corrupt compressed data", e);
+        }
+
+        if (destPosition != uncompressedLength) {
+            throw new FlowableException("Corrupt compressed data: expected " + uncompressedLength + " bytes, but got " + destPosition);
+        }
+        return dest;
+    }
+
+    protected void writeSequence(ByteBuffer out, byte[] src, int literalOffset, int literalLength, int distance, int matchLength) {
+        int extraMatchLength = matchLength - MIN_MATCH;
+        out.write((Math.min(literalLength, 15) << 4) | Math.min(extraMatchLength, 15));
+        if (literalLength >= 15) {
+            writeLength(out, literalLength - 15);
+        }
+        out.write(src, literalOffset, literalLength);
+        out.write(distance & 0xFF);
+        out.write((distance >>> 8) & 0xFF);
+        if (extraMatchLength >= 15) {
+            writeLength(out, extraMatchLength - 15);
+        }
+    }
+
+    protected void writeLastLiterals(ByteBuffer out, byte[] src, int literalOffset, int literalLength) {
+        out.write(Math.min(literalLength, 15) << 4);
+        if (literalLength >= 15) {
+            writeLength(out, literalLength - 15);
+        }
+        out.write(src, literalOffset, literalLength);
+    }
+
+    protected void writeLength(ByteBuffer out, int length) {
+        while (length >= 255) {
+            out.write(255);
+            length -= 255;
+        }
+        out.write(length);
+    }
+
+    protected int readInt(byte[] bytes, int position) {
+        return (bytes[position] & 0xFF) | ((bytes[position + 1] & 0xFF) << 8) | ((bytes[position + 2] & 0xFF) << 16) | ((bytes[position + 3] & 0xFF) << 24);
+    }
+
+    protected int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    /**
+     * A growable byte array without the synchronization of {@link java.io.ByteArrayOutputStream}.
+     */
+    protected static class ByteBuffer {
+
+        protected byte[] bytes;
+        protected int size;
+
+        public ByteBuffer(int initialCapacity) {
+            this.bytes = new byte[Math.max(initialCapacity, 16)];
+        }
+
+        public void write(int b) {
+            ensureCapacity(size + 1);
+            bytes[size++] = (byte) b;
+        }
+
+        public void write(byte[] src, int offset, int length) {
+            ensureCapacity(size + length);
+            System.arraycopy(src, offset, bytes, size, length);
+            size += length;
+        }
+
+        protected void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(capacity, bytes.length * 2));
+            }
+        }
+
+        public byte[] toByteArray() {
+            return Arrays.copyOf(bytes, size);
+        }
+    }
+
+}
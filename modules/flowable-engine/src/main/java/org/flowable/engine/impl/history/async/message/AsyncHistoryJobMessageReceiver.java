@@ -20,6 +20,7 @@ import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.asyncexecutor.message.AsyncJobMessageReceiver;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.service.HistoryJobService;
@@ -94,8 +95,14 @@ public class AsyncHistoryJobMessageReceiver {
     protected JsonNode getHistoryJobData(HistoryJobEntity job) {
         ObjectMapper objectMapper = processEngineConfiguration.getObjectMapper();
         if (job.getAdvancedJobHandlerConfigurationByteArrayRef() != null) {
+            byte[] bytes = job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
+            AsyncHistoryPayloadCodec payloadCodec = processEngineConfiguration.getAsyncHistoryPayloadCodec();
+            if (payloadCodec != null && payloadCodec.getJobHandlerType().equals(job.getJobHandlerType())) {
+                return payloadCodec.decode(bytes, objectMapper);
+            }
+
             try {
-                return objectMapper.readTree(job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes());
+                return objectMapper.readTree(bytes);
             } catch (IOException e) {
                 throw new FlowableException("Could not deserialize json for history job data", e);
             }
@@ -0,0 +1,169 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.jobexecutor;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.dmn.api.DmnEngineConfigurationApi;
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.history.HistoryCleaningMetrics;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.JobHandler;
+import org.flowable.job.service.TimerJobService;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Removes the history of process instances that ended before their retention period, see
+ * {@link ProcessEngineConfigurationImpl#isEnableHistoryCleaning()}.
+ *
+ * Every execution deletes one batch of historic process instances in the transaction of the job. A run is started by the repeating cron timer job,
+ * which has no configuration. When a batch was full, a timer job for the next batch is created, due after the configured pause, with the end
+ * of the time window of the run (in milliseconds since the epoch) as configuration. No more batches are scheduled once the window has passed.
+ */
+public class BpmnHistoryCleanupJobHandler implements JobHandler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BpmnHistoryCleanupJobHandler.class);
+
+    public static final String TYPE = "bpmn-history-cleanup";
+
+    protected static final long DAY_IN_MILLIS = 24L * 60 * 60 * 1000;
+
+    @Override
+    public String getType() {
+        return TYPE;
+    }
+
+    @Override
+    public void execute(JobEntity job, String configuration, VariableScope variableScope, CommandContext commandContext) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = CommandContextUtil.getProcessEngineConfiguration(commandContext);
+        if (!processEngineConfiguration.isEnableHistoryCleaning()) {
+            return;
+        }
+
+        Date now = processEngineConfiguration.getClock().getCurrentTime();
+
+        final boolean runStart = StringUtils.isEmpty(configuration);
+        long windowEnd;
+        if (runStart) {
+            windowEnd = now.getTime() + processEngineConfiguration.getHistoryCleaningWindow();
+        } else {
+            windowEnd = Long.parseLong(configuration);
+        }
+
+        int batchSize = processEngineConfiguration.getCleanInstancesBatchSize();
+        List<String> processInstanceIds = findProcessInstanceIdsToClean(processEngineConfiguration, now, batchSize, commandContext);
+        if (!processInstanceIds.isEmpty()) {
+            deleteHistoricProcessInstances(processInstanceIds, commandContext);
+        }
+
+        long nextBatchTime = now.getTime() + processEngineConfiguration.getHistoryCleaningBatchPause();
+        if (processInstanceIds.size() >= batchSize && nextBatchTime < windowEnd) {
+            scheduleNextBatch(new Date(nextBatchTime), windowEnd, commandContext);
+        }
+
+        LOGGER.debug("Deleted the history of {} process instances", processInstanceIds.size());
+
+        final HistoryCleaningMetrics metrics = processEngineConfiguration.getHistoryCleaningMetrics();
+        if (metrics != null) {
+            final long startTime = now.getTime();
+            final int deletedProcessInstanceCount = processInstanceIds.size();
+            TransactionContext transactionContext = Context.getTransactionContext();
+            if (transactionContext != null) {
+                transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                    @Override
+                    public void execute(CommandContext commandContext) {
+                        if (runStart) {
+                            metrics.runStarted(startTime);
+                        }
+                        metrics.batchCompleted(deletedProcessInstanceCount, System.currentTimeMillis());
+                    }
+                });
+            }
+        }
+    }
+
+    protected List<String> findProcessInstanceIdsToClean(ProcessEngineConfigurationImpl processEngineConfiguration, Date now, int batchSize,
+            CommandContext commandContext) {
+
+        HistoricProcessInstanceEntityManager historicProcessInstanceEntityManager = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext);
+        List<String> processInstanceIds = new ArrayList<>();
+
+        Map<String, Integer> retentionDays = processEngineConfiguration.getHistoryCleaningRetentionDays();
+        if (retentionDays != null) {
+            for (Map.Entry<String, Integer> retention : retentionDays.entrySet()) {
+                if (processInstanceIds.size() >= batchSize) {
+                    return processInstanceIds;
+                }
+                if (retention.getValue() != null && retention.getValue() >= 0) {
+                    processInstanceIds.addAll(historicProcessInstanceEntityManager.findHistoricProcessInstanceIdsEndedBefore(
+                            getEndedBefore(now, retention.getValue()), retention.getKey(), null, batchSize - processInstanceIds.size()));
+                }
+            }
+        }
+
+        int defaultRetentionDays = processEngineConfiguration.getCleanInstancesEndedAfterNumberOfDays();
+        if (processInstanceIds.size() < batchSize && defaultRetentionDays >= 0) {
+            processInstanceIds.addAll(historicProcessInstanceEntityManager.findHistoricProcessInstanceIdsEndedBefore(getEndedBefore(now, defaultRetentionDays),
+                    null, retentionDays != null && !retentionDays.isEmpty() ? retentionDays.keySet() : null, batchSize - processInstanceIds.size()));
+        }
+
+        return processInstanceIds;
+    }
+
+    protected Date getEndedBefore(Date now, int retentionDays) {
+        return new Date(now.getTime() - retentionDays * DAY_IN_MILLIS);
+    }
+
+    protected void deleteHistoricProcessInstances(List<String> processInstanceIds, CommandContext commandContext) {
+        // The rows are deleted with one statement per table, executed in the order of the entity dependencies when the session is flushed
+        CommandContextUtil.getCommentEntityManager(commandContext).deleteCommentsByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getAttachmentEntityManager(commandContext).deleteAttachmentsByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricDetailEntityManager(commandContext).deleteHistoricDetailsByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricVariableService().deleteHistoricVariableInstancesByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext).deleteHistoricActivityInstancesByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricIdentityLinkService().deleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricTaskService().deleteHistoricTaskInstancesByProcessInstanceIds(processInstanceIds);
+        CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext).deleteHistoricProcessInstancesByIds(processInstanceIds);
+
+        DmnEngineConfigurationApi dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration(commandContext);
+        if (dmnEngineConfiguration != null) {
+            dmnEngineConfiguration.getDmnHistoryService().deleteHistoricDecisionExecutionsByInstanceIds(processInstanceIds);
+        }
+    }
+
+    protected void scheduleNextBatch(Date duedate, long windowEnd, CommandContext commandContext) {
+        TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+        TimerJobEntity timerJob = timerJobService.createTimerJob();
+        timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
+        timerJob.setJobHandlerType(TYPE);
+        timerJob.setJobHandlerConfiguration(String.valueOf(windowEnd));
+        timerJob.setDuedate(duedate);
+        timerJobService.scheduleTimerJob(timerJob);
+    }
+
+}
@@ -25,6 +25,7 @@ import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.LatestDefinitionIdCache;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.ProcessDefinitionQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -44,6 +45,7 @@ import org.flowable.engine.repository.ProcessDefinition;
 public class DeploymentManager {
 
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
+    protected LatestDefinitionIdCache latestProcessDefinitionIdCache;
     protected ProcessDefinitionInfoCache processDefinitionInfoCache;
     protected DeploymentCache<Object> appResourceCache;
     protected DeploymentCache<Object> knowledgeBaseCache; // Needs to be object to avoid an import to Drools in this core class
@@ -58,6 +60,10 @@ public class DeploymentManager {
     }
 
     public void deploy(DeploymentEntity deployment, Map<String, Object> deploymentSettings) {
+        if (deployment.isNew()) {
+            invalidateLatestProcessDefinitionIds();
+        }
+
         for (EngineDeployer deployer : deployers) {
             deployer.deploy(deployment, deploymentSettings);
         }
@@ -83,24 +89,76 @@ public class DeploymentManager {
     }
 
     public ProcessDefinition findDeployedLatestProcessDefinitionByKey(String processDefinitionKey) {
-        ProcessDefinition processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
+        ProcessDefinition processDefinition = findCachedLatestProcessDefinition(processDefinitionKey, null);
+        if (processDefinition != null) {
+            return processDefinition;
+        }
+
+        long invalidationStamp = latestProcessDefinitionIdCache != null ? latestProcessDefinitionIdCache.getInvalidationStamp() : 0L;
+        processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKey(processDefinitionKey);
 
         if (processDefinition == null) {
             throw new FlowableObjectNotFoundException("no processes deployed with key '" + processDefinitionKey + "'", ProcessDefinition.class);
         }
         processDefinition = resolveProcessDefinition(processDefinition).getProcessDefinition();
+        cacheLatestProcessDefinitionId(processDefinitionKey, null, processDefinition, invalidationStamp);
         return processDefinition;
     }
 
     public ProcessDefinition findDeployedLatestProcessDefinitionByKeyAndTenantId(String processDefinitionKey, String tenantId) {
+        // A null tenant id is not cached, as it would share the cache key of the lookup without tenant
+        boolean useCache = tenantId != null;
+        if (useCache) {
+            ProcessDefinition processDefinition = findCachedLatestProcessDefinition(processDefinitionKey, tenantId);
+            if (processDefinition != null) {
+                return processDefinition;
+            }
+        }
+
+        long invalidationStamp = latestProcessDefinitionIdCache != null ? latestProcessDefinitionIdCache.getInvalidationStamp() : 0L;
         ProcessDefinition processDefinition = processDefinitionEntityManager.findLatestProcessDefinitionByKeyAndTenantId(processDefinitionKey, tenantId);
         if (processDefinition == null) {
             throw new FlowableObjectNotFoundException("no processes deployed with key '" + processDefinitionKey + "' for tenant identifier '" + tenantId + "'", ProcessDefinition.class);
         }
         processDefinition = resolveProcessDefinition(processDefinition).getProcessDefinition();
+        if (useCache) {
+            cacheLatestProcessDefinitionId(processDefinitionKey, tenantId, processDefinition, invalidationStamp);
+        }
         return processDefinition;
     }
 
+    /**
+     * Returns the latest process definition for the key and tenant id when both its id and the process definition itself are cached.
+     */
+    protected ProcessDefinition findCachedLatestProcessDefinition(String processDefinitionKey, String tenantId) {
+        if (latestProcessDefinitionIdCache != null) {
+            String processDefinitionId = latestProcessDefinitionIdCache.get(processDefinitionKey, tenantId);
+            if (processDefinitionId != null) {
+                ProcessDefinitionCacheEntry cacheEntry = processDefinitionCache.get(processDefinitionId);
+                if (cacheEntry != null) {
+                    return cacheEntry.getProcessDefinition();
+                }
+            }
+        }
+        return null;
+    }
+
+    protected void cacheLatestProcessDefinitionId(String processDefinitionKey, String tenantId, ProcessDefinition processDefinition, long invalidationStamp) {
+        if (latestProcessDefinitionIdCache != null) {
+            latestProcessDefinitionIdCache.put(processDefinitionKey, tenantId, processDefinition.getId(), invalidationStamp);
+        }
+    }
+
+    /**
+     * Clears the cached ids of the latest process definitions, now and when the current transaction commits. To be called when the latest
+     * version of a process definition changes.
+     */
+    public void invalidateLatestProcessDefinitionIds() {
+        if (latestProcessDefinitionIdCache != null) {
+            latestProcessDefinitionIdCache.invalidateOnCommit(CommandContextUtil.getCommandContext());
+        }
+    }
+
     public ProcessDefinition findDeployedProcessDefinitionByKeyAndVersionAndTenantId(String processDefinitionKey, Integer processDefinitionVersion, String tenantId) {
         ProcessDefinition processDefinition = (ProcessDefinitionEntity) processDefinitionEntityManager
                 .findProcessDefinitionByKeyAndVersionAndTenantId(processDefinitionKey, processDefinitionVersion, tenantId);
@@ -127,7 +185,11 @@ public class DeploymentManager {
 
             DeploymentEntity deployment = deploymentEntityManager.findById(deploymentId);
             deployment.setNew(false);
-            deploy(deployment, null);
+            if (isSingleResourceRedeployPossible(processDefinition)) {
+                processEngineConfiguration.getBpmnDeployer().redeployProcessDefinitionResource(deployment, (ProcessDefinitionEntity) processDefinition);
+            } else {
+                deploy(deployment, null);
+            }
             cachedProcessDefinition = processDefinitionCache.get(processDefinitionId);
 
             if (cachedProcessDefinition == null) {
@@ -137,6 +199,14 @@ public class DeploymentManager {
         return cachedProcessDefinition;
     }
 
+    protected boolean isSingleResourceRedeployPossible(ProcessDefinition processDefinition) {
+        return processEngineConfiguration != null
+                && processEngineConfiguration.isEnableSingleResourceRedeploy()
+                && processEngineConfiguration.getBpmnDeployer() != null
+                && processDefinition instanceof ProcessDefinitionEntity
+                && processDefinition.getResourceName() != null;
+    }
+
     public Object getAppResourceObject(String deploymentId) {
         Object appResourceObject = appResourceCache.get(deploymentId);
 
@@ -184,6 +254,8 @@ public class DeploymentManager {
             throw new FlowableObjectNotFoundException("Could not find a deployment with id '" + deploymentId + "'.", DeploymentEntity.class);
         }
 
+        invalidateLatestProcessDefinitionIds();
+
         if (Flowable5Util.isFlowable5Deployment(deployment, processEngineConfiguration)) {
             processEngineConfiguration.getFlowable5CompatibilityHandler().deleteDeployment(deploymentId, cascade);
             return;
@@ -237,6 +309,14 @@ public class DeploymentManager {
         this.processDefinitionCache = processDefinitionCache;
     }
 
+    public LatestDefinitionIdCache getLatestProcessDefinitionIdCache() {
+        return latestProcessDefinitionIdCache;
+    }
+
+    public void setLatestProcessDefinitionIdCache(LatestDefinitionIdCache latestProcessDefinitionIdCache) {
+        this.latestProcessDefinitionIdCache = latestProcessDefinitionIdCache;
+    }
+
     public ProcessDefinitionInfoCache getProcessDefinitionInfoCache() {
         return processDefinitionInfoCache;
     }
@@ -18,9 +18,13 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.interceptor.Command;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.CommandContextCloseListener;
 import org.flowable.engine.common.impl.interceptor.CommandExecutor;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
@@ -43,6 +47,16 @@ public class ProcessDefinitionInfoCache {
     protected Map<String, ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
 
+    /**
+     * Whether the revision of the cached info is compared with the database on every get. When disabled, cached info is used until it is saved
+     * through this engine or, if set, the refresh interval has passed.
+     */
+    protected boolean checkRevision = true;
+    protected long refreshInterval; // In milliseconds, only used when the revision isn't checked. Zero or less means no refresh.
+
+    // Revisions of the info committed through this engine, info with a lower revision was read before the commit and isn't cached
+    protected Map<String, Integer> committedRevisions = Collections.synchronizedMap(new HashMap<String, Integer>());
+
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
@@ -71,6 +85,13 @@ public class ProcessDefinitionInfoCache {
     }
 
     public ProcessDefinitionInfoCacheObject get(final String processDefinitionId) {
+        if (!checkRevision) {
+            ProcessDefinitionInfoCacheObject cachedObject = cache.get(processDefinitionId);
+            if (cachedObject != null && !isRefreshNeeded(cachedObject)) {
+                return cachedObject;
+            }
+        }
+
         ProcessDefinitionInfoCacheObject infoCacheObject = null;
         Command<ProcessDefinitionInfoCacheObject> cacheCommand = new Command<ProcessDefinitionInfoCacheObject>() {
 
@@ -97,6 +118,65 @@ public class ProcessDefinitionInfoCache {
         cache.remove(id);
     }
 
+    /**
+     * Removes the cached info now, and again after the current transaction has been committed, so info read before the commit isn't kept.
+     */
+    public void removeOnCommit(final String id, CommandContext commandContext) {
+        removeOnCommit(id, null, commandContext);
+    }
+
+    /**
+     * Removes the cached info now, and again after the current transaction has been committed. The committed revision of the given info entity
+     * is remembered, so info that was read before the commit but is only retrieved afterwards isn't put in the cache again.
+     */
+    public void removeOnCommit(final String id, final ProcessDefinitionInfoEntity infoEntity, CommandContext commandContext) {
+        remove(id);
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                @Override
+                public void execute(CommandContext commandContext) {
+                    removeCommitted(id, infoEntity);
+                }
+            });
+
+        } else {
+            commandContext.addCloseListener(new CommandContextCloseListener() {
+
+                @Override
+                public void closing(CommandContext commandContext) {
+                }
+
+                @Override
+                public void afterSessionsFlush(CommandContext commandContext) {
+                }
+
+                @Override
+                public void closed(CommandContext commandContext) {
+                    removeCommitted(id, infoEntity);
+                }
+
+                @Override
+                public void closeFailure(CommandContext commandContext) {
+                }
+            });
+        }
+    }
+
+    protected void removeCommitted(String id, ProcessDefinitionInfoEntity infoEntity) {
+        if (infoEntity != null) {
+            synchronized (committedRevisions) {
+                Integer committedRevision = committedRevisions.get(id);
+                if (committedRevision == null || committedRevision < infoEntity.getRevision()) {
+                    committedRevisions.put(id, infoEntity.getRevision());
+                }
+            }
+        }
+        remove(id);
+    }
+
     public void clear() {
         cache.clear();
     }
@@ -110,19 +190,15 @@ public class ProcessDefinitionInfoCache {
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
         ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
-            cacheObject = new ProcessDefinitionInfoCacheObject();
-            cacheObject.setRevision(0);
-            cacheObject.setInfoNode(objectMapper.createObjectNode());
-        }
-
         ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
-        if (infoEntity != null && infoEntity.getRevision() != cacheObject.getRevision()) {
-            cacheObject.setRevision(infoEntity.getRevision());
-            if (infoEntity.getInfoJsonId() != null) {
+        int revision = infoEntity != null ? infoEntity.getRevision() : 0;
+
+        // A new object is created for changed info, so the cached object is never changed to info of another revision
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        if (cacheObject == null || cacheObject.getRevision() != revision) {
+            cacheObject = new ProcessDefinitionInfoCacheObject();
+            cacheObject.setRevision(revision);
+            if (infoEntity != null && infoEntity.getInfoJsonId() != null) {
                 byte[] infoBytes = infoEntityManager.findInfoJsonById(infoEntity.getInfoJsonId());
                 try {
                     ObjectNode infoNode = (ObjectNode) objectMapper.readTree(infoBytes);
@@ -130,13 +206,41 @@ public class ProcessDefinitionInfoCache {
                 } catch (Exception e) {
                     throw new FlowableException("Error reading json info node for process definition " + processDefinitionId, e);
                 }
+            } else {
+                cacheObject.setInfoNode(objectMapper.createObjectNode());
             }
-        } else if (infoEntity == null) {
-            cacheObject.setRevision(0);
-            cacheObject.setInfoNode(objectMapper.createObjectNode());
+        }
+        cacheObject.setRefreshTime(System.currentTimeMillis());
+
+        Integer committedRevision = committedRevisions.get(processDefinitionId);
+        if (committedRevision != null && revision < committedRevision) {
+            // Read before a change of this engine was committed, for example in a transaction that started earlier
+            LOGGER.debug("Not caching revision {} of the info of process definition {}, revision {} is committed", revision, processDefinitionId, committedRevision);
+        } else {
+            cache.put(processDefinitionId, cacheObject);
         }
 
         return cacheObject;
     }
 
+    protected boolean isRefreshNeeded(ProcessDefinitionInfoCacheObject cacheObject) {
+        return refreshInterval > 0 && System.currentTimeMillis() - cacheObject.getRefreshTime() > refreshInterval;
+    }
+
+    public boolean isCheckRevision() {
+        return checkRevision;
+    }
+
+    public void setCheckRevision(boolean checkRevision) {
+        this.checkRevision = checkRevision;
+    }
+
+    public long getRefreshInterval() {
+        return refreshInterval;
+    }
+
+    public void setRefreshInterval(long refreshInterval) {
+        this.refreshInterval = refreshInterval;
+    }
+
 }
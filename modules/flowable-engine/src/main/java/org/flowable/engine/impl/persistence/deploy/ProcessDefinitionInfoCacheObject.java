@@ -22,6 +22,7 @@ public class ProcessDefinitionInfoCacheObject {
     protected String id;
     protected int revision;
     protected ObjectNode infoNode;
+    protected long refreshTime;
 
     public String getId() {
         return id;
@@ -46,4 +47,12 @@ public class ProcessDefinitionInfoCacheObject {
     public void setInfoNode(ObjectNode infoNode) {
         this.infoNode = infoNode;
     }
-}
\ No newline at end of file
+
+    public long getRefreshTime() {
+        return refreshTime;
+    }
+
+    public void setRefreshTime(long refreshTime) {
+        this.refreshTime = refreshTime;
+    }
+}
@@ -14,12 +14,18 @@ package org.flowable.engine.impl.persistence.entity;
 
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.event.EventDispatcherUtil;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.persistence.AbstractManager;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
+import org.flowable.job.api.Job;
+import org.flowable.task.api.Task;
 
 /**
  * @author Joram Barrez
@@ -54,9 +60,13 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
         getDataManager().insert(entity);
 
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-        if (fireCreateEvent && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity));
-            eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity));
+        if (fireCreateEvent) {
+            if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_CREATED, getProcessDefinitionId(entity))) {
+                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity));
+            }
+            if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_INITIALIZED, getProcessDefinitionId(entity))) {
+                eventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity));
+            }
         }
     }
 
@@ -69,7 +79,7 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
     public EntityImpl update(EntityImpl entity, boolean fireUpdateEvent) {
         EntityImpl updatedEntity = getDataManager().update(entity);
 
-        if (fireUpdateEvent && getEventDispatcher().isEnabled()) {
+        if (fireUpdateEvent && EventDispatcherUtil.hasListenersFor(getEventDispatcher(), FlowableEngineEventType.ENTITY_UPDATED, getProcessDefinitionId(entity))) {
             getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, entity));
         }
 
@@ -91,10 +101,28 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
     public void delete(EntityImpl entity, boolean fireDeleteEvent) {
         getDataManager().delete(entity);
 
-        if (fireDeleteEvent && getEventDispatcher().isEnabled()) {
+        if (fireDeleteEvent && EventDispatcherUtil.hasListenersFor(getEventDispatcher(), FlowableEngineEventType.ENTITY_DELETED, getProcessDefinitionId(entity))) {
             getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, entity));
         }
     }
 
+    /**
+     * The process definition the entity events of the given entity belong to, as determined by {@link FlowableEventBuilder#createEntityEvent}.
+     */
+    protected String getProcessDefinitionId(EntityImpl entity) {
+        if (entity instanceof Job) {
+            return ((Job) entity).getProcessDefinitionId();
+        } else if (entity instanceof DelegateExecution) {
+            return ((DelegateExecution) entity).getProcessDefinitionId();
+        } else if (entity instanceof IdentityLinkEntity) {
+            return ((IdentityLinkEntity) entity).getProcessDefId();
+        } else if (entity instanceof Task) {
+            return ((Task) entity).getProcessDefinitionId();
+        } else if (entity instanceof ProcessDefinition) {
+            return ((ProcessDefinition) entity).getId();
+        }
+        return null;
+    }
+
     protected abstract DataManager<EntityImpl> getDataManager();
 }
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
@@ -91,6 +92,16 @@ public class AttachmentEntityManagerImpl extends AbstractEntityManager<Attachmen
         }
     }
 
+    @Override
+    public void deleteAttachmentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        // The contents are referenced by the attachments, so their ids need to be known before the attachments are deleted
+        ByteArrayEntityManager byteArrayEntityManager = getByteArrayEntityManager();
+        for (String contentId : attachmentDataManager.findAttachmentContentIdsByProcessInstanceIds(processInstanceIds)) {
+            byteArrayEntityManager.deleteByteArrayById(contentId);
+        }
+        attachmentDataManager.deleteAttachmentsByProcessInstanceIds(processInstanceIds);
+    }
+
     protected void checkHistoryEnabled() {
         if (!getHistoryManager().isHistoryEnabled()) {
             throw new FlowableException("In order to use attachments, history should be enabled");
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.api.FlowableException;
@@ -133,6 +134,11 @@ public class CommentEntityManagerImpl extends AbstractEntityManager<CommentEntit
         commentDataManager.deleteCommentsByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public void deleteCommentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        commentDataManager.deleteCommentsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public List<Comment> findCommentsByProcessInstanceId(String processInstanceId) {
         checkHistoryEnabled();
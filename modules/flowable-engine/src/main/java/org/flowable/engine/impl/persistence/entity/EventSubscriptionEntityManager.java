@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -48,6 +49,11 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     void deleteEventSubscriptionsForProcessDefinition(String processDefinitionId);
 
+    /**
+     * Deletes the event subscriptions of the given process instances, without loading them first and without dispatching events.
+     */
+    void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     /* Event receival */
 
     void eventReceived(EventSubscriptionEntity eventSubscriptionEntity, Object payload, boolean processASync);
@@ -14,6 +14,7 @@
 package org.flowable.engine.impl.persistence.entity;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.bpmn.model.Signal;
@@ -250,6 +251,11 @@ public class EventSubscriptionEntityManagerImpl extends AbstractEntityManager<Ev
         eventSubscriptionDataManager.deleteEventSubscriptionsForProcessDefinition(processDefinitionId);
     }
 
+    @Override
+    public void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        eventSubscriptionDataManager.deleteEventSubscriptionsByProcessInstanceIds(processInstanceIds);
+    }
+
     // Processing /////////////////////////////////////////////////////////////
 
     @Override
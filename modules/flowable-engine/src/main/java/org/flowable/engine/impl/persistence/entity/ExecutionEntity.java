@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -137,4 +138,9 @@ public interface ExecutionEntity extends DelegateExecution, Execution, ProcessIn
     
     Object setVariableLocal(String variableName, Object value, ExecutionEntity sourceExecution, boolean fetchAllVariables);
 
+    /**
+     * Fetches the given variables of this execution and its parents in one go, so they can be used without fetching all variables of these executions.
+     */
+    void prefetchVariables(Collection<String> variableNames);
+
 }
@@ -15,10 +15,13 @@ package org.flowable.engine.impl.persistence.entity;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.FlowableListener;
@@ -27,6 +30,7 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.db.SuspensionState;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.engine.impl.persistence.CountingExecutionEntity;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.CountingEntityUtil;
@@ -47,7 +51,7 @@ import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
  * @author Joram Barrez
  */
 
-public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionEntity, CountingExecutionEntity {
+public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionEntity, CountingExecutionEntity, DirtyTrackedEntity {
 
     private static final long serialVersionUID = 1L;
 
@@ -290,6 +294,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         } else {
             this.activityId = null;
         }
+        markDirty();
     }
 
     @Override
@@ -335,6 +340,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setBusinessKey(String businessKey) {
         this.businessKey = businessKey;
+        markDirty();
     }
 
     @Override
@@ -347,6 +353,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
         this.processDefinitionId = processDefinitionId;
+        markDirty();
     }
 
     @Override
@@ -446,6 +453,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         } else {
             this.parentId = null;
         }
+        markDirty();
     }
 
     // super- and subprocess executions /////////////////////////////////////////
@@ -473,6 +481,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         } else {
             this.superExecutionId = null;
         }
+        markDirty();
     }
 
     protected void ensureSuperExecutionInitialized() {
@@ -519,6 +528,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         } else {
             this.rootProcessInstanceId = null;
         }
+        markDirty();
     }
 
     @Override
@@ -529,6 +539,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setRootProcessInstanceId(String rootProcessInstanceId) {
         this.rootProcessInstanceId = rootProcessInstanceId;
+        markDirty();
     }
 
     // scopes ///////////////////////////////////////////////////////////////////
@@ -541,11 +552,13 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setScope(boolean isScope) {
         this.isScope = isScope;
+        markDirty();
     }
 
     @Override
     public void forceUpdate() {
         this.forcedUpdate = true;
+        markDirty();
     }
 
     // VariableScopeImpl methods //////////////////////////////////////////////////////////////////
@@ -626,7 +639,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
 
                 // Not in local cache, check if defined on this scope
                 // Create it if it doesn't exist yet
-                VariableInstanceEntity variable = getSpecificVariable(variableName);
+                VariableInstanceEntity variable = isVariableAbsent(variableName) ? null : getSpecificVariable(variableName);
                 if (variable != null) {
                     updateVariableInstance(variable, value, sourceExecution);
                     usedVariablesCache.put(variableName, variable);
@@ -785,6 +798,36 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
         return CommandContextUtil.getVariableService().findVariableInstancesByExecutionAndNames(id, variableNames);
     }
 
+    @Override
+    protected void prefetchVariables(List<VariableScopeImpl> variableScopes, Collection<String> variableNames) {
+        if (variableScopes.size() == 1) {
+            super.prefetchVariables(variableScopes, variableNames);
+            return;
+        }
+
+        // All parent scopes of an execution are executions, so the variables of the whole chain can be fetched in one query
+        Set<String> executionIds = new HashSet<>();
+        for (VariableScopeImpl variableScope : variableScopes) {
+            executionIds.add(((ExecutionEntityImpl) variableScope).getId());
+        }
+
+        Map<String, List<VariableInstanceEntity>> variablesByExecutionId = new HashMap<>();
+        for (VariableInstanceEntity variable : CommandContextUtil.getVariableService().findVariableInstancesByExecutionIdsAndNames(executionIds, variableNames)) {
+            List<VariableInstanceEntity> executionVariables = variablesByExecutionId.get(variable.getExecutionId());
+            if (executionVariables == null) {
+                executionVariables = new ArrayList<>();
+                variablesByExecutionId.put(variable.getExecutionId(), executionVariables);
+            }
+            executionVariables.add(variable);
+        }
+
+        for (VariableScopeImpl variableScope : variableScopes) {
+            ExecutionEntityImpl execution = (ExecutionEntityImpl) variableScope;
+            List<VariableInstanceEntity> executionVariables = variablesByExecutionId.get(execution.getId());
+            execution.cachePrefetchedVariables(variableNames, executionVariables != null ? executionVariables : Collections.<VariableInstanceEntity>emptyList());
+        }
+    }
+
     // event subscription support //////////////////////////////////////////////
 
     @Override
@@ -873,6 +916,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setParentId(String parentId) {
         this.parentId = parentId;
+        markDirty();
     }
 
     @Override
@@ -888,6 +932,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setConcurrent(boolean isConcurrent) {
         this.isConcurrent = isConcurrent;
+        markDirty();
     }
 
     @Override
@@ -898,11 +943,13 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setActive(boolean isActive) {
         this.isActive = isActive;
+        markDirty();
     }
 
     @Override
     public void inactivate() {
         this.isActive = false;
+        markDirty();
     }
 
     @Override
@@ -943,6 +990,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setSuspensionState(int suspensionState) {
         this.suspensionState = suspensionState;
+        markDirty();
     }
 
     @Override
@@ -958,6 +1006,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setEventScope(boolean isEventScope) {
         this.isEventScope = isEventScope;
+        markDirty();
     }
 
     @Override
@@ -968,6 +1017,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setMultiInstanceRoot(boolean isMultiInstanceRoot) {
         this.isMultiInstanceRoot = isMultiInstanceRoot;
+        markDirty();
     }
 
     @Override
@@ -978,6 +1028,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
         this.isCountEnabled = isCountEnabled;
+        markDirty();
     }
 
     @Override
@@ -997,6 +1048,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setName(String name) {
         this.name = name;
+        markDirty();
     }
 
     @Override
@@ -1051,6 +1103,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setLockTime(Date lockTime) {
         this.lockTime = lockTime;
+        markDirty();
     }
 
     @Override
@@ -1089,6 +1142,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setStartActivityId(String startActivityId) {
         this.startActivityId = startActivityId;
+        markDirty();
     }
 
     @Override
@@ -1099,6 +1153,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setStartUserId(String startUserId) {
         this.startUserId = startUserId;
+        markDirty();
     }
 
     @Override
@@ -1109,6 +1164,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setStartTime(Date startTime) {
         this.startTime = startTime;
+        markDirty();
     }
 
     @Override
@@ -1119,6 +1175,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setEventSubscriptionCount(int eventSubscriptionCount) {
         this.eventSubscriptionCount = eventSubscriptionCount;
+        markDirty();
     }
 
     @Override
@@ -1129,6 +1186,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setTaskCount(int taskCount) {
         this.taskCount = taskCount;
+        markDirty();
     }
 
     @Override
@@ -1139,6 +1197,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setJobCount(int jobCount) {
         this.jobCount = jobCount;
+        markDirty();
     }
 
     @Override
@@ -1149,6 +1208,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setTimerJobCount(int timerJobCount) {
         this.timerJobCount = timerJobCount;
+        markDirty();
     }
 
     @Override
@@ -1159,6 +1219,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setSuspendedJobCount(int suspendedJobCount) {
         this.suspendedJobCount = suspendedJobCount;
+        markDirty();
     }
 
     @Override
@@ -1169,6 +1230,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setDeadLetterJobCount(int deadLetterJobCount) {
         this.deadLetterJobCount = deadLetterJobCount;
+        markDirty();
     }
 
     @Override
@@ -1179,6 +1241,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setVariableCount(int variableCount) {
         this.variableCount = variableCount;
+        markDirty();
     }
 
     @Override
@@ -1189,6 +1252,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
         this.identityLinkCount = identityLinkCount;
+        markDirty();
     }
     
     @Override
@@ -1199,6 +1263,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setCallbackId(String callbackId) {
         this.callbackId = callbackId;
+        markDirty();
     }
 
     @Override
@@ -1209,6 +1274,7 @@ public class ExecutionEntityImpl extends VariableScopeImpl implements ExecutionE
     @Override
     public void setCallbackType(String callbackType) {
         this.callbackType = callbackType;
+        markDirty();
     }
 
     // toString /////////////////////////////////////////////////////////////////
@@ -64,6 +64,8 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     Collection<ExecutionEntity> findInactiveExecutionsByActivityIdAndProcessInstanceId(String activityId, String processInstanceId);
 
+    long countInactiveExecutionsByActivityIdAndProcessInstanceId(String activityId, String processInstanceId);
+
     List<Execution> findExecutionsByNativeQuery(Map<String, Object> parameterMap);
 
     List<ProcessInstance> findProcessInstanceByNativeQuery(Map<String, Object> parameterMap);
@@ -21,18 +21,27 @@ import java.util.Comparator;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.bpmn.model.BoundaryEvent;
+import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.FlowableListener;
+import org.flowable.bpmn.model.UserTask;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.event.EventDispatcherUtil;
+import org.flowable.engine.common.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.engine.common.impl.event.FlowableEventSupport;
 import org.flowable.engine.common.impl.identity.Authentication;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
+import org.flowable.engine.delegate.TaskListener;
 import org.flowable.engine.delegate.event.impl.FlowableEventBuilder;
 import org.flowable.engine.history.DeleteReason;
 import org.flowable.engine.impl.ExecutionQueryImpl;
@@ -43,7 +52,9 @@ import org.flowable.engine.impl.persistence.entity.data.ExecutionDataManager;
 import org.flowable.engine.impl.runtime.callback.ProcessInstanceState;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.impl.util.CountingEntityUtil;
+import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.impl.util.IdentityLinkUtil;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.impl.util.ProcessInstanceHelper;
 import org.flowable.engine.impl.util.TaskHelper;
 import org.flowable.engine.repository.ProcessDefinition;
@@ -204,6 +215,11 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         return executionDataManager.findInactiveExecutionsByActivityIdAndProcessInstanceId(activityId, processInstanceId);
     }
 
+    @Override
+    public long countInactiveExecutionsByActivityIdAndProcessInstanceId(String activityId, String processInstanceId) {
+        return executionDataManager.countInactiveExecutionsByActivityIdAndProcessInstanceId(activityId, processInstanceId);
+    }
+
     @Override
     public List<Execution> findExecutionsByNativeQuery(Map<String, Object> parameterMap) {
         return executionDataManager.findExecutionsByNativeQuery(parameterMap);
@@ -264,7 +280,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         }
 
         // Fire events
-        if (getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.hasListenersFor(getEventDispatcher(), FlowableEngineEventType.ENTITY_CREATED, processInstanceExecution.getProcessDefinitionId())) {
             getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, processInstanceExecution));
         }
 
@@ -295,8 +311,10 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             LOGGER.debug("Child execution {} created with parent {}", childExecution, parentExecutionEntity.getId());
         }
 
-        if (getEventDispatcher().isEnabled()) {
+        if (EventDispatcherUtil.hasListenersFor(getEventDispatcher(), FlowableEngineEventType.ENTITY_CREATED, childExecution.getProcessDefinitionId())) {
             getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, childExecution));
+        }
+        if (EventDispatcherUtil.hasListenersFor(getEventDispatcher(), FlowableEngineEventType.ENTITY_INITIALIZED, childExecution.getProcessDefinitionId())) {
             getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, childExecution));
         }
 
@@ -337,7 +355,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         }
 
         FlowableEventDispatcher flowableEventDispatcher = processEngineConfiguration.getEventDispatcher();
-        if (flowableEventDispatcher != null && flowableEventDispatcher.isEnabled()) {
+        if (EventDispatcherUtil.hasListenersFor(flowableEventDispatcher, FlowableEngineEventType.ENTITY_CREATED, subProcessInstance.getProcessDefinitionId())) {
             flowableEventDispatcher.dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, subProcessInstance));
         }
 
@@ -376,6 +394,20 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
     public void deleteProcessInstancesByProcessDefinition(String processDefinitionId, String deleteReason, boolean cascade) {
         List<String> processInstanceIds = executionDataManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
 
+        if (!processInstanceIds.isEmpty() && isProcessInstanceBulkDeletePossible(processDefinitionId, cascade)) {
+            List<String> linkedProcessInstanceIds = executionDataManager.findLinkedProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
+            Set<String> linkedProcessInstanceIdSet = new HashSet<>(linkedProcessInstanceIds);
+            List<String> bulkDeleteProcessInstanceIds = new ArrayList<>(processInstanceIds.size());
+            for (String processInstanceId : processInstanceIds) {
+                if (!linkedProcessInstanceIdSet.contains(processInstanceId)) {
+                    bulkDeleteProcessInstanceIds.add(processInstanceId);
+                }
+            }
+
+            bulkDeleteProcessInstances(bulkDeleteProcessInstanceIds);
+            processInstanceIds = linkedProcessInstanceIds;
+        }
+
         for (String processInstanceId : processInstanceIds) {
             deleteProcessInstance(processInstanceId, deleteReason, cascade);
         }
@@ -385,6 +417,75 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
         }
     }
 
+    /**
+     * The runtime data of process instances can only be deleted in bulk when nothing needs to be notified or recorded for the deleted entities.
+     */
+    protected boolean isProcessInstanceBulkDeletePossible(String processDefinitionId, boolean cascade) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = getProcessEngineConfiguration();
+        if (!processEngineConfiguration.isEnableProcessInstanceBulkDelete()) {
+            return false;
+        }
+
+        // Without cascade the history of the process instances is kept, which needs every instance to be ended
+        if (!cascade && getHistoryManager().isHistoryEnabled()) {
+            return false;
+        }
+
+        if (Flowable5Util.isFlowable5ProcessDefinitionId(CommandContextUtil.getCommandContext(), processDefinitionId)) {
+            return false;
+        }
+
+        BpmnModel bpmnModel = ProcessDefinitionUtil.getBpmnModel(processDefinitionId);
+        if (bpmnModel == null || hasEventListeners(bpmnModel)) {
+            return false;
+        }
+
+        for (org.flowable.bpmn.model.Process process : bpmnModel.getProcesses()) {
+            for (UserTask userTask : process.findFlowElementsOfType(UserTask.class, true)) {
+                for (FlowableListener taskListener : userTask.getTaskListeners()) {
+                    if (TaskListener.EVENTNAME_DELETE.equals(taskListener.getEvent()) || TaskListener.EVENTNAME_ALL_EVENTS.equals(taskListener.getEvent())) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return true;
+    }
+
+    protected boolean hasEventListeners(BpmnModel bpmnModel) {
+        FlowableEventDispatcher eventDispatcher = getEventDispatcher();
+        if (eventDispatcher == null || !eventDispatcher.isEnabled()) {
+            return false;
+        }
+
+        if (!(eventDispatcher instanceof FlowableEventDispatcherImpl) || ((FlowableEventDispatcherImpl) eventDispatcher).getEventSupport().hasListeners()) {
+            return true;
+        }
+
+        return bpmnModel.getEventSupport() instanceof FlowableEventSupport && ((FlowableEventSupport) bpmnModel.getEventSupport()).hasListeners();
+    }
+
+    /**
+     * Deletes the runtime data of the given process instances with one statement per table for each batch of process instances. The process instances
+     * can't be linked to other process instances, as these would not be deleted or notified.
+     */
+    protected void bulkDeleteProcessInstances(List<String> processInstanceIds) {
+        int batchSize = Math.max(1, getProcessEngineConfiguration().getProcessInstanceBulkDeleteBatchSize());
+        for (int fromIndex = 0; fromIndex < processInstanceIds.size(); fromIndex += batchSize) {
+            List<String> batch = processInstanceIds.subList(fromIndex, Math.min(fromIndex + batchSize, processInstanceIds.size()));
+
+            // The delete order of the tables is determined when the session is flushed
+            CommandContextUtil.getIdentityLinkService().deleteIdentityLinksByProcessInstanceIds(batch);
+            CommandContextUtil.getVariableService().deleteVariablesByProcessInstanceIds(batch);
+            CommandContextUtil.getTaskService().deleteTasksByProcessInstanceIds(batch);
+            CommandContextUtil.getJobService().deleteJobsByProcessInstanceIds(batch);
+            CommandContextUtil.getTimerJobService().deleteTimerJobsByProcessInstanceIds(batch);
+            getEventSubscriptionEntityManager().deleteEventSubscriptionsByProcessInstanceIds(batch);
+            executionDataManager.deleteExecutionsByProcessInstanceIds(batch);
+        }
+    }
+
     @Override
     public void deleteProcessInstance(String processInstanceId, String deleteReason, boolean cascade) {
         ExecutionEntity execution = findById(processInstanceId);
@@ -838,7 +939,7 @@ public class ExecutionEntityManagerImpl extends AbstractEntityManager<ExecutionE
             executionEntity.setBusinessKey(businessKey);
             getHistoryManager().updateProcessBusinessKeyInHistory(executionEntity);
 
-            if (getEventDispatcher().isEnabled()) {
+            if (EventDispatcherUtil.hasListenersFor(getEventDispatcher(), FlowableEngineEventType.ENTITY_UPDATED, executionEntity.getProcessDefinitionId())) {
                 getEventDispatcher().dispatchEvent(FlowableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, executionEntity));
             }
 
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +31,11 @@ public interface HistoricActivityInstanceEntityManager extends EntityManager<His
 
     List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByProcessInstanceId(String processInstanceId);
 
+    /**
+     * Loads the unfinished historic activity instances of the given executions in one query, making them available in the entity cache of the current command.
+     */
+    List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByExecutionIds(Collection<String> executionIds);
+
     long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
     List<HistoricActivityInstance> findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
@@ -40,4 +46,6 @@ public interface HistoricActivityInstanceEntityManager extends EntityManager<His
 
     void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId);
 
+    void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> historicProcessInstanceIds);
+
 }
\ No newline at end of file
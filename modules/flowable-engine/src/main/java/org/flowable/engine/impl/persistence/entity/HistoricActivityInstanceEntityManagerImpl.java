@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -56,6 +57,11 @@ public class HistoricActivityInstanceEntityManagerImpl extends AbstractEntityMan
         return historicActivityInstanceDataManager.findUnfinishedHistoricActivityInstancesByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByExecutionIds(Collection<String> executionIds) {
+        return historicActivityInstanceDataManager.findUnfinishedHistoricActivityInstancesByExecutionIds(executionIds);
+    }
+
     @Override
     public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId) {
         if (getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
@@ -63,6 +69,11 @@ public class HistoricActivityInstanceEntityManagerImpl extends AbstractEntityMan
         }
     }
 
+    @Override
+    public void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        historicActivityInstanceDataManager.deleteHistoricActivityInstancesByProcessInstanceIds(historicProcessInstanceIds);
+    }
+
     @Override
     public long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery) {
         return historicActivityInstanceDataManager.findHistoricActivityInstanceCountByQueryCriteria(historicActivityInstanceQuery);
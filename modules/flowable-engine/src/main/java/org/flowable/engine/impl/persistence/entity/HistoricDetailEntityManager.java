@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -41,4 +42,6 @@ public interface HistoricDetailEntityManager extends EntityManager<HistoricDetai
 
     void deleteHistoricDetailsByProcessInstanceId(String historicProcessInstanceId);
 
+    void deleteHistoricDetailsByProcessInstanceIds(Collection<String> historicProcessInstanceIds);
+
 }
\ No newline at end of file
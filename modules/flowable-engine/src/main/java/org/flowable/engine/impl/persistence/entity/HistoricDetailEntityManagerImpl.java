@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -109,6 +110,11 @@ public class HistoricDetailEntityManagerImpl extends AbstractEntityManager<Histo
         }
     }
 
+    @Override
+    public void deleteHistoricDetailsByProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        historicDetailDataManager.deleteHistoricDetailsByProcessInstanceIds(historicProcessInstanceIds);
+    }
+
     @Override
     public long findHistoricDetailCountByQueryCriteria(HistoricDetailQueryImpl historicVariableUpdateQuery) {
         return historicDetailDataManager.findHistoricDetailCountByQueryCriteria(historicVariableUpdateQuery);
@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -43,4 +45,20 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
     
     long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
+    /**
+     * Finds the ids of at most maxResults historic process instances that ended before the given date. When a process definition key is given, only
+     * instances of that definition are returned. Instances of the excluded process definition keys are never returned.
+     */
+    List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, String processDefinitionKey, Collection<String> excludedProcessDefinitionKeys, int maxResults);
+
+    /**
+     * Deletes the historic process instances with the given ids, without loading them first and without deleting their related data.
+     */
+    void deleteHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds);
+
+    /**
+     * Loads the historic process instances with the given ids in one query, making them available in the entity cache of the current command.
+     */
+    List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds);
+
 }
\ No newline at end of file
@@ -13,7 +13,9 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -92,6 +94,21 @@ public class HistoricProcessInstanceEntityManagerImpl extends AbstractEntityMana
         return historicProcessInstanceDataManager.findHistoricProcessInstanceCountByNativeQuery(parameterMap);
     }
 
+    @Override
+    public List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, String processDefinitionKey, Collection<String> excludedProcessDefinitionKeys, int maxResults) {
+        return historicProcessInstanceDataManager.findHistoricProcessInstanceIdsEndedBefore(endedBefore, processDefinitionKey, excludedProcessDefinitionKeys, maxResults);
+    }
+
+    @Override
+    public void deleteHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds) {
+        historicProcessInstanceDataManager.deleteHistoricProcessInstancesByIds(historicProcessInstanceIds);
+    }
+
+    @Override
+    public List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds) {
+        return historicProcessInstanceDataManager.findHistoricProcessInstancesByIds(historicProcessInstanceIds);
+    }
+
     public HistoricProcessInstanceDataManager getHistoricProcessInstanceDataManager() {
         return historicProcessInstanceDataManager;
     }
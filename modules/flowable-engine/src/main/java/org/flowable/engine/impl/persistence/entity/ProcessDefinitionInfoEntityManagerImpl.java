@@ -65,8 +65,10 @@ public class ProcessDefinitionInfoEntityManagerImpl extends
 
             if (processDefinitionInfo.getInfoJsonId() == null) {
                 processDefinitionInfo.setInfoJsonId(ref.getId());
-                updateProcessDefinitionInfo(processDefinitionInfo);
             }
+
+            // Always update, so the revision changes and cached info is refreshed
+            updateProcessDefinitionInfo(processDefinitionInfo);
         }
     }
 
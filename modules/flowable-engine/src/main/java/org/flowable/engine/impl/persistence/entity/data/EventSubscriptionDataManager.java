@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -63,4 +64,6 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     void deleteEventSubscriptionsForProcessDefinition(String processDefinitionId);
 
+    void deleteEventSubscriptionsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
@@ -55,8 +55,22 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     Collection<ExecutionEntity> findInactiveExecutionsByActivityIdAndProcessInstanceId(final String activityId, final String processInstanceId);
 
+    /**
+     * Counts the inactive executions in the activity in the database, without loading them. Changes of the current transaction that aren't flushed
+     * yet are not taken into account.
+     */
+    long countInactiveExecutionsByActivityIdAndProcessInstanceId(final String activityId, final String processInstanceId);
+
     List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
 
+    /**
+     * Returns the ids of the process instances of the given process definition that are linked to other instances or tasks: sub process instances,
+     * process instances that have a sub process instance or a callback, and process instances with tasks that have sub tasks.
+     */
+    List<String> findLinkedProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
+
+    void deleteExecutionsByProcessInstanceIds(Collection<String> processInstanceIds);
+
     List<Execution> findExecutionsByNativeQuery(Map<String, Object> parameterMap);
 
     List<ProcessInstance> findProcessInstanceByNativeQuery(Map<String, Object> parameterMap);
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -31,8 +32,12 @@ public interface HistoricActivityInstanceDataManager extends DataManager<Histori
 
     List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByProcessInstanceId(String processInstanceId);
 
+    List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByExecutionIds(Collection<String> executionIds);
+
     void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId);
 
+    void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> historicProcessInstanceIds);
+
     long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
     List<HistoricActivityInstance> findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
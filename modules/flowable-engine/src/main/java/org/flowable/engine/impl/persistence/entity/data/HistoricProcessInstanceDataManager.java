@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
@@ -42,4 +44,10 @@ public interface HistoricProcessInstanceDataManager extends DataManager<Historic
 
     long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
+    List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, String processDefinitionKey, Collection<String> excludedProcessDefinitionKeys, int maxResults);
+
+    void deleteHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds);
+
+    List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds);
+
 }
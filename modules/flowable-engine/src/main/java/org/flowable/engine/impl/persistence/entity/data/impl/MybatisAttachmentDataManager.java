@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -51,4 +53,15 @@ public class MybatisAttachmentDataManager extends AbstractProcessDataManager<Att
         return getDbSqlSession().selectList("selectAttachmentsByTaskId", taskId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findAttachmentContentIdsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getDbSqlSession().selectListNoCacheCheck("selectAttachmentContentIdsByProcessInstanceIds", new ArrayList<>(processInstanceIds));
+    }
+
+    @Override
+    public void deleteAttachmentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteAttachmentsByProcessInstanceIds", new ArrayList<>(processInstanceIds), AttachmentEntityImpl.class);
+    }
+
 }
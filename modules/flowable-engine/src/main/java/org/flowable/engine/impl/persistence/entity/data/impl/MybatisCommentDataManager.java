@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -86,6 +88,11 @@ public class MybatisCommentDataManager extends AbstractProcessDataManager<Commen
         getDbSqlSession().delete("deleteCommentsByProcessInstanceId", processInstanceId, CommentEntityImpl.class);
     }
 
+    @Override
+    public void deleteCommentsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteCommentsByProcessInstanceIds", new ArrayList<>(processInstanceIds), CommentEntityImpl.class);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<Comment> findCommentsByProcessInstanceId(String processInstanceId) {
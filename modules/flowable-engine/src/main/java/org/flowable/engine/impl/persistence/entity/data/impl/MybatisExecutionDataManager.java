@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
@@ -212,12 +213,37 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
     }
 
+    @Override
+    public long countInactiveExecutionsByActivityIdAndProcessInstanceId(final String activityId, final String processInstanceId) {
+        HashMap<String, Object> params = new HashMap<>(3);
+        params.put("activityId", activityId);
+        params.put("processInstanceId", processInstanceId);
+        params.put("isActive", false);
+        return (Long) getDbSqlSession().selectOne("selectInactiveExecutionCountInActivityAndProcessInstance", params);
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId) {
         return getDbSqlSession().selectListNoCacheCheck("selectProcessInstanceIdsByProcessDefinitionId", processDefinitionId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findLinkedProcessInstanceIdsByProcessDefinitionId(String processDefinitionId) {
+        return getDbSqlSession().selectListNoCacheCheck("selectLinkedProcessInstanceIdsByProcessDefinitionId", processDefinitionId);
+    }
+
+    @Override
+    public void deleteExecutionsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        List<String> processInstanceIdList = new ArrayList<>(processInstanceIds);
+
+        // Child executions reference each other through their parent, which some databases check for every deleted row
+        getDbSqlSession().update("clearChildExecutionParentIdsByProcessInstanceIds", processInstanceIdList);
+        getDbSqlSession().delete("bulkDeleteChildExecutionsByProcessInstanceIds", processInstanceIdList, ExecutionEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteProcessInstancesByIds", processInstanceIdList, ExecutionEntityImpl.class);
+    }
+
     @Override
     public long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery) {
         return (Long) getDbSqlSession().selectOne("selectExecutionCountByQueryCriteria", executionQuery);
@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -72,11 +74,22 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
         return getList("selectUnfinishedHistoricActivityInstanceExecutionIdAndActivityId", params, unfinishedHistoricActivityInstanceMatcher, true);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByExecutionIds(Collection<String> executionIds) {
+        return getDbSqlSession().selectList("selectUnfinishedHistoricActivityInstancesByExecutionIds", new ArrayList<>(executionIds));
+    }
+
     @Override
     public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId) {
         getDbSqlSession().delete("deleteHistoricActivityInstancesByProcessInstanceId", historicProcessInstanceId, HistoricActivityInstanceEntityImpl.class);
     }
 
+    @Override
+    public void deleteHistoricActivityInstancesByProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricActivityInstancesByProcessInstanceIds", new ArrayList<>(historicProcessInstanceIds), HistoricActivityInstanceEntityImpl.class);
+    }
+
     @Override
     public long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery) {
         return (Long) getDbSqlSession().selectOne("selectHistoricActivityInstanceCountByQueryCriteria", historicActivityInstanceQuery);
@@ -12,12 +12,15 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
 import org.flowable.engine.history.HistoricDetail;
 import org.flowable.engine.impl.HistoricDetailQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.entity.ByteArrayEntityImpl;
 import org.flowable.engine.impl.persistence.entity.HistoricDetailAssignmentEntity;
 import org.flowable.engine.impl.persistence.entity.HistoricDetailAssignmentEntityImpl;
 import org.flowable.engine.impl.persistence.entity.HistoricDetailEntity;
@@ -98,4 +101,11 @@ public class MybatisHistoricDetailDataManager extends AbstractProcessDataManager
         return (Long) getDbSqlSession().selectOne("selectHistoricDetailCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void deleteHistoricDetailsByProcessInstanceIds(Collection<String> historicProcessInstanceIds) {
+        List<String> historicProcessInstanceIdList = new ArrayList<>(historicProcessInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricDetailByteArraysByProcessInstanceIds", historicProcessInstanceIdList, ByteArrayEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteHistoricDetailsByProcessInstanceIds", historicProcessInstanceIdList, HistoricDetailEntityImpl.class);
+    }
+
 }
@@ -12,10 +12,15 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.flowable.engine.common.impl.db.ListQueryParameterObject;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -119,4 +124,27 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return (Long) getDbSqlSession().selectOne("selectHistoricProcessInstanceCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findHistoricProcessInstanceIdsEndedBefore(Date endedBefore, String processDefinitionKey, Collection<String> excludedProcessDefinitionKeys, int maxResults) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("endedBefore", endedBefore);
+        params.put("processDefinitionKey", processDefinitionKey);
+        if (excludedProcessDefinitionKeys != null && !excludedProcessDefinitionKeys.isEmpty()) {
+            params.put("excludedProcessDefinitionKeys", new ArrayList<>(excludedProcessDefinitionKeys));
+        }
+        return getDbSqlSession().selectListWithRawParameterNoCacheCheck("selectHistoricProcessInstanceIdsEndedBefore", new ListQueryParameterObject(params, 0, maxResults));
+    }
+
+    @Override
+    public void deleteHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricProcessInstancesByIds", new ArrayList<>(historicProcessInstanceIds), HistoricProcessInstanceEntityImpl.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> historicProcessInstanceIds) {
+        return getDbSqlSession().selectList("selectHistoricProcessInstancesByIds", new ArrayList<>(historicProcessInstanceIds));
+    }
+
 }
@@ -13,16 +13,28 @@
 package org.flowable.engine.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
 
 /**
  * @author Joram Barrez
  */
-public class ExecutionByProcessInstanceMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> {
+public class ExecutionByProcessInstanceMatcher extends CachedEntityMatcherAdapter<ExecutionEntity> implements IndexedCachedEntityMatcher<ExecutionEntity> {
 
     @Override
     public boolean isRetained(ExecutionEntity entity, Object parameter) {
         return entity.getProcessInstanceId() != null && entity.getProcessInstanceId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<ExecutionEntity> getIndex() {
+        return ExecutionsByProcessInstanceIdIndex.getInstance();
+    }
+
+    @Override
+    public Object getIndexKey(Object parameter) {
+        return parameter;
+    }
+
+}
@@ -12,11 +12,16 @@
  */
 package org.flowable.engine.impl.scripting;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.script.Bindings;
+import javax.script.Compilable;
+import javax.script.CompiledScript;
 import javax.script.ScriptContext;
 import javax.script.ScriptEngine;
 import javax.script.ScriptEngineFactory;
@@ -42,6 +47,17 @@ public class ScriptingEngines {
     protected boolean cacheScriptingEngines = true;
     protected Map<String, ScriptEngine> cachedEngines;
 
+    /**
+     * Scripts of engines that implement {@link Compilable} are compiled once and kept in a least recently used cache of at most
+     * {@link #compiledScriptCacheLimit} scripts, keyed by language and script text. Only done for engines that allow multi-threaded access (see
+     * {@link #getEngineByName(String)}), as the compiled scripts are shared between executions.
+     */
+    protected boolean cacheCompiledScripts = true;
+    protected int compiledScriptCacheLimit = 1000;
+    protected Map<CompiledScriptKey, CompiledScript> compiledScripts;
+    protected AtomicLong compiledScriptCacheHits = new AtomicLong();
+    protected AtomicLong compiledScriptCacheMisses = new AtomicLong();
+
     public ScriptingEngines(ScriptBindingsFactory scriptBindingsFactory) {
         this(new ScriptEngineManager());
         this.scriptBindingsFactory = scriptBindingsFactory;
@@ -50,6 +66,15 @@ public class ScriptingEngines {
     public ScriptingEngines(ScriptEngineManager scriptEngineManager) {
         this.scriptEngineManager = scriptEngineManager;
         cachedEngines = new HashMap<>();
+        compiledScripts = Collections.synchronizedMap(new LinkedHashMap<CompiledScriptKey, CompiledScript>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CompiledScriptKey, CompiledScript> eldest) {
+                return size() > compiledScriptCacheLimit;
+            }
+        });
     }
 
     public ScriptingEngines addScriptEngineFactory(ScriptEngineFactory scriptEngineFactory) {
@@ -81,15 +106,97 @@ public class ScriptingEngines {
         return cacheScriptingEngines;
     }
 
+    public void setCacheCompiledScripts(boolean cacheCompiledScripts) {
+        this.cacheCompiledScripts = cacheCompiledScripts;
+    }
+
+    public boolean isCacheCompiledScripts() {
+        return cacheCompiledScripts;
+    }
+
+    public int getCompiledScriptCacheLimit() {
+        return compiledScriptCacheLimit;
+    }
+
+    public void setCompiledScriptCacheLimit(int compiledScriptCacheLimit) {
+        this.compiledScriptCacheLimit = compiledScriptCacheLimit;
+    }
+
+    public long getCompiledScriptCacheHits() {
+        return compiledScriptCacheHits.get();
+    }
+
+    public long getCompiledScriptCacheMisses() {
+        return compiledScriptCacheMisses.get();
+    }
+
+    public int getCompiledScriptCacheSize() {
+        return compiledScripts.size();
+    }
+
+    public void clearCompiledScriptCache() {
+        compiledScripts.clear();
+    }
+
+    /**
+     * Compiles the script and puts it in the compiled script cache, if the scripting engine of the language supports it. Used when deploying, so the
+     * first execution doesn't need to compile the script.
+     * 
+     * @return true when the script is in the compiled script cache
+     */
+    public boolean compileScript(String script, String language) {
+        ScriptEngine scriptEngine = getEngineByName(language);
+        if (!isCompiledScriptCacheable(scriptEngine)) {
+            return false;
+        }
+
+        CompiledScriptKey key = new CompiledScriptKey(language, script);
+        if (!compiledScripts.containsKey(key)) {
+            compiledScripts.put(key, compile(scriptEngine, script));
+        }
+        return true;
+    }
+
     protected Object evaluate(String script, String language, Bindings bindings) {
         ScriptEngine scriptEngine = getEngineByName(language);
         try {
+            if (isCompiledScriptCacheable(scriptEngine)) {
+                return getCompiledScript(scriptEngine, script, language).eval(bindings);
+            }
             return scriptEngine.eval(script, bindings);
         } catch (ScriptException e) {
             throw new FlowableException("problem evaluating script: " + e.getMessage(), e);
         }
     }
 
+    protected boolean isCompiledScriptCacheable(ScriptEngine scriptEngine) {
+        // The JUEL engine resolves the variables when parsing the expression, so its compiled scripts can't be reused
+        return cacheCompiledScripts && compiledScriptCacheLimit > 0 && scriptEngine instanceof Compilable && !(scriptEngine instanceof JuelScriptEngine)
+                && scriptEngine.getFactory().getParameter("THREADING") != null;
+    }
+
+    protected CompiledScript getCompiledScript(ScriptEngine scriptEngine, String script, String language) {
+        CompiledScriptKey key = new CompiledScriptKey(language, script);
+        CompiledScript compiledScript = compiledScripts.get(key);
+        if (compiledScript != null) {
+            compiledScriptCacheHits.incrementAndGet();
+            return compiledScript;
+        }
+
+        compiledScriptCacheMisses.incrementAndGet();
+        compiledScript = compile(scriptEngine, script);
+        compiledScripts.put(key, compiledScript);
+        return compiledScript;
+    }
+
+    protected CompiledScript compile(ScriptEngine scriptEngine, String script) {
+        try {
+            return ((Compilable) scriptEngine).compile(script);
+        } catch (ScriptException e) {
+            throw new FlowableException("problem compiling script: " + e.getMessage(), e);
+        }
+    }
+
     protected ScriptEngine getEngineByName(String language) {
         ScriptEngine scriptEngine = null;
 
@@ -146,4 +253,34 @@ public class ScriptingEngines {
     public void setScriptBindingsFactory(ScriptBindingsFactory scriptBindingsFactory) {
         this.scriptBindingsFactory = scriptBindingsFactory;
     }
+
+    protected static class CompiledScriptKey {
+
+        protected final String language;
+        protected final String script;
+        protected final int hashCode;
+
+        public CompiledScriptKey(String language, String script) {
+            this.language = language;
+            this.script = script;
+            this.hashCode = 31 * language.hashCode() + script.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof CompiledScriptKey)) {
+                return false;
+            }
+            CompiledScriptKey other = (CompiledScriptKey) obj;
+            return hashCode == other.hashCode && language.equals(other.language) && script.equals(other.script);
+        }
+    }
 }
@@ -72,6 +72,7 @@ import org.flowable.variable.service.VariableServiceConfiguration;
 public class CommandContextUtil {
     
     public static final String ATTRIBUTE_INVOLVED_EXECUTIONS = "ctx.attribute.involvedExecutions";
+    public static final String ATTRIBUTE_GATEWAY_JOIN_COUNTS = "ctx.attribute.gatewayJoinCounts";
     
     public static ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
         return getProcessEngineConfiguration(getCommandContext());
@@ -397,6 +398,19 @@ public class CommandContextUtil {
         return getInvolvedExecutions(commandContext) != null;
     }
     
+    /**
+     * The number of executions that joined in a gateway, as counted during this command context.
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Integer> getGatewayJoinCounts(CommandContext commandContext) {
+        Map<String, Integer> gatewayJoinCounts = (Map<String, Integer>) commandContext.getAttribute(ATTRIBUTE_GATEWAY_JOIN_COUNTS);
+        if (gatewayJoinCounts == null) {
+            gatewayJoinCounts = new HashMap<>();
+            commandContext.addAttribute(ATTRIBUTE_GATEWAY_JOIN_COUNTS, gatewayJoinCounts);
+        }
+        return gatewayJoinCounts;
+    }
+    
     public static TableDataManager getTableDataManager() {
         return getTableDataManager(getCommandContext());
     }
@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import java.io.File;
+import java.util.List;
+
+import org.flowable.engine.event.EventLogEntry;
+import org.flowable.engine.impl.event.logger.AsyncEventLogWriter;
+import org.flowable.engine.impl.event.logger.EventLogDurability;
+import org.flowable.engine.impl.event.logger.EventLogger;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+/**
+ * Tests the {@link EventLogger} writing its entries through an {@link AsyncEventLogWriter}.
+ */
+public class AsyncDatabaseEventLoggerTest extends PluggableFlowableTestCase {
+
+    protected EventLogger databaseEventLogger;
+    protected AsyncEventLogWriter asyncEventLogWriter;
+    protected File spillFile;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+
+        spillFile = File.createTempFile("flowable-event-log", ".spill");
+        spillFile.delete();
+
+        asyncEventLogWriter = new AsyncEventLogWriter(processEngineConfiguration.getCommandExecutor(), processEngineConfiguration.getObjectMapper());
+        asyncEventLogWriter.setFlushInterval(50L);
+        asyncEventLogWriter.setSpillFile(spillFile);
+
+        databaseEventLogger = new EventLogger(processEngineConfiguration.getClock(), processEngineConfiguration.getObjectMapper());
+        databaseEventLogger.setAsyncEventLogWriter(asyncEventLogWriter);
+        runtimeService.addEventListener(databaseEventLogger);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        runtimeService.removeEventListener(databaseEventLogger);
+        asyncEventLogWriter.shutdown();
+
+        for (EventLogEntry eventLogEntry : managementService.getEventLogEntries(null, null)) {
+            managementService.deleteEventLogEntry(eventLogEntry.getLogNumber());
+        }
+        spillFile.delete();
+
+        super.tearDown();
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testEntriesWrittenAfterCommit() {
+        asyncEventLogWriter.start();
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId());
+
+        // Shutting down waits until the queued entries are written
+        asyncEventLogWriter.shutdown();
+
+        List<EventLogEntry> eventLogEntries = managementService.getEventLogEntriesByProcessInstanceId(processInstance.getId());
+        assertFalse(eventLogEntries.isEmpty());
+        assertEquals(managementService.getEventLogEntries(null, null).size(), asyncEventLogWriter.getWrittenEntries());
+        assertEquals(0, asyncEventLogWriter.getDroppedEntries());
+        assertEquals(0, asyncEventLogWriter.getSpilledEntries());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testEntriesWrittenAfterShutdown() {
+        asyncEventLogWriter.start();
+        asyncEventLogWriter.shutdown();
+        assertTrue(asyncEventLogWriter.isShutdown());
+
+        // The writer thread is gone, so the entries are written when the command commits
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        assertFalse(managementService.getEventLogEntriesByProcessInstanceId(processInstance.getId()).isEmpty());
+        assertEquals(managementService.getEventLogEntries(null, null).size(), asyncEventLogWriter.getWrittenEntries());
+        assertEquals(0, asyncEventLogWriter.getDroppedEntries());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testEntriesDroppedWhenWriterNotActive() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        assertTrue(asyncEventLogWriter.getDroppedEntries() > 0);
+        assertTrue(managementService.getEventLogEntriesByProcessInstanceId(processInstance.getId()).isEmpty());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testSpilledEntriesWrittenOnStart() {
+        asyncEventLogWriter.setDurability(EventLogDurability.SPILL_TO_FILE);
+
+        // The writer isn't running, so the entries go to the spill file
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        long spilledEntries = asyncEventLogWriter.getSpilledEntries();
+        assertTrue(spilledEntries > 0);
+        assertEquals(0, asyncEventLogWriter.getDroppedEntries());
+        assertTrue(spillFile.exists());
+        assertTrue(managementService.getEventLogEntriesByProcessInstanceId(processInstance.getId()).isEmpty());
+
+        asyncEventLogWriter.start();
+        asyncEventLogWriter.shutdown();
+
+        assertEquals(spilledEntries, managementService.getEventLogEntries(null, null).size());
+        assertFalse(spillFile.exists());
+        assertFalse(new File(spillFile.getPath() + ".replay").exists());
+    }
+
+}
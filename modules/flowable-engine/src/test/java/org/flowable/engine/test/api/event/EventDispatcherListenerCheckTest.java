@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.event;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.impl.event.EventDispatcherUtil;
+import org.flowable.engine.common.impl.event.FlowableEventDispatcherImpl;
+import org.flowable.engine.common.impl.event.FlowableEventSupport;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.test.Deployment;
+
+public class EventDispatcherListenerCheckTest extends PluggableFlowableTestCase {
+
+    public void testHasListenersForEventType() {
+        FlowableEventDispatcherImpl dispatcher = new FlowableEventDispatcherImpl();
+        assertFalse(EventDispatcherUtil.hasListenersFor(dispatcher, FlowableEngineEventType.ENTITY_CREATED));
+
+        TestFlowableEventListener typedListener = new TestFlowableEventListener();
+        dispatcher.addEventListener(typedListener, FlowableEngineEventType.ENTITY_CREATED);
+        assertTrue(EventDispatcherUtil.hasListenersFor(dispatcher, FlowableEngineEventType.ENTITY_CREATED));
+        assertFalse(EventDispatcherUtil.hasListenersFor(dispatcher, FlowableEngineEventType.ENTITY_DELETED));
+
+        TestFlowableEventListener listener = new TestFlowableEventListener();
+        dispatcher.addEventListener(listener);
+        assertTrue(EventDispatcherUtil.hasListenersFor(dispatcher, FlowableEngineEventType.ENTITY_DELETED));
+
+        dispatcher.setEnabled(false);
+        assertFalse(EventDispatcherUtil.hasListenersFor(dispatcher, FlowableEngineEventType.ENTITY_CREATED));
+        dispatcher.setEnabled(true);
+
+        dispatcher.removeEventListener(listener);
+        assertFalse(EventDispatcherUtil.hasListenersFor(dispatcher, FlowableEngineEventType.ENTITY_DELETED));
+        dispatcher.removeEventListener(typedListener);
+        assertFalse(EventDispatcherUtil.hasListenersFor(dispatcher, FlowableEngineEventType.ENTITY_CREATED));
+        assertFalse(dispatcher.getEventSupport().hasListeners());
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/api/runtime/oneTaskProcess.bpmn20.xml")
+    public void testListenerOfProcessDefinitionIsTakenIntoAccount() {
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult();
+        BpmnModel bpmnModel = repositoryService.getBpmnModel(processDefinition.getId());
+
+        TestFlowableEventListener listener = new TestFlowableEventListener();
+        ((FlowableEventSupport) bpmnModel.getEventSupport()).addEventListener(listener, FlowableEngineEventType.TASK_ASSIGNED);
+
+        final String processDefinitionId = processDefinition.getId();
+        assertTrue(hasListenersFor(FlowableEngineEventType.TASK_ASSIGNED, processDefinitionId));
+        assertFalse(hasListenersFor(FlowableEngineEventType.TASK_COMPLETED, processDefinitionId));
+        assertFalse(hasListenersFor(FlowableEngineEventType.TASK_ASSIGNED, null));
+
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        taskService.setAssignee(taskService.createTaskQuery().singleResult().getId(), "kermit");
+        assertEquals(1, listener.getEventsReceived().size());
+        assertEquals(FlowableEngineEventType.TASK_ASSIGNED, listener.getEventsReceived().get(0).getType());
+
+        // The listeners of a process definition that is not in the cache are unknown until it is parsed again
+        processEngineConfiguration.getProcessDefinitionCache().remove(processDefinitionId);
+        assertTrue(hasListenersFor(FlowableEngineEventType.TASK_COMPLETED, processDefinitionId));
+    }
+
+    protected boolean hasListenersFor(final FlowableEngineEventType type, final String processDefinitionId) {
+        return managementService.executeCommand(new Command<Boolean>() {
+
+            @Override
+            public Boolean execute(CommandContext commandContext) {
+                return EventDispatcherUtil.hasListenersFor(processEngineConfiguration.getEventDispatcher(), type, processDefinitionId);
+            }
+        });
+    }
+
+}
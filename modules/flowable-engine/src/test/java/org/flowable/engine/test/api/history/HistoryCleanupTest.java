@@ -0,0 +1,187 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.history;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.impl.history.HistoryCleaningMetrics;
+import org.flowable.engine.impl.cmd.ScheduleHistoryCleanupJobCmd;
+import org.flowable.engine.impl.jobexecutor.BpmnHistoryCleanupJobHandler;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+
+public class HistoryCleanupTest extends PluggableFlowableTestCase {
+
+    protected HistoryCleaningMetrics metrics;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        metrics = new HistoryCleaningMetrics();
+        processEngineConfiguration.setEnableHistoryCleaning(true);
+        processEngineConfiguration.setCleanInstancesBatchSize(2);
+        processEngineConfiguration.setHistoryCleaningBatchPause(0);
+        processEngineConfiguration.setHistoryCleaningMetrics(metrics);
+        managementService.executeCommand(new ScheduleHistoryCleanupJobCmd());
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.setEnableHistoryCleaning(false);
+        managementService.executeCommand(new ScheduleHistoryCleanupJobCmd());
+        processEngineConfiguration.setCleanInstancesBatchSize(100);
+        processEngineConfiguration.setHistoryCleaningBatchPause(1000L);
+        processEngineConfiguration.setHistoryCleaningRetentionDays(new HashMap<String, Integer>());
+        processEngineConfiguration.setHistoryCleaningMetrics(new HistoryCleaningMetrics());
+        processEngineConfiguration.getClock().reset();
+        super.tearDown();
+    }
+
+    public void testCleanupJobScheduledOnce() {
+        List<Job> timerJobs = managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).list();
+        assertEquals(1, timerJobs.size());
+
+        managementService.executeCommand(new ScheduleHistoryCleanupJobCmd());
+        assertEquals(timerJobs.get(0).getId(), managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult().getId());
+
+        // A changed cron expression replaces the job
+        processEngineConfiguration.setHistoryCleaningTimeCycleConfig("0 0 2 * * ?");
+        try {
+            managementService.executeCommand(new ScheduleHistoryCleanupJobCmd());
+            Job timerJob = managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult();
+            assertFalse(timerJobs.get(0).getId().equals(timerJob.getId()));
+        } finally {
+            processEngineConfiguration.setHistoryCleaningTimeCycleConfig("0 0 1 * * ?");
+        }
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testCleanupEndedProcessInstancesInBatches() {
+        for (int i = 0; i < 5; i++) {
+            startAndCompleteProcessInstance();
+        }
+        ProcessInstance runningProcessInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        assertEquals(6, historyService.createHistoricProcessInstanceQuery().count());
+
+        // Nothing has ended long enough ago yet
+        executeCleanupJobs();
+        assertEquals(6, historyService.createHistoricProcessInstanceQuery().count());
+
+        moveClockDays(366);
+        executeCleanupJobs();
+
+        assertEquals(1, historyService.createHistoricProcessInstanceQuery().count());
+        assertEquals(runningProcessInstance.getId(), historyService.createHistoricProcessInstanceQuery().singleResult().getId());
+        assertEquals(1, historyService.createHistoricTaskInstanceQuery().count());
+        assertEquals(0, historyService.createHistoricVariableInstanceQuery().count());
+        assertEquals(0, historyService.createHistoricDetailQuery().count());
+        assertEquals(historyService.createHistoricActivityInstanceQuery().processInstanceId(runningProcessInstance.getId()).count(),
+                historyService.createHistoricActivityInstanceQuery().count());
+        assertEquals(0, getTableCount("ACT_HI_COMMENT"));
+        assertEquals(0, getTableCount("ACT_HI_IDENTITYLINK"));
+        assertEquals(1, getTableCount("ACT_GE_BYTEARRAY")); // the process definition resource
+
+        // 5 instances in batches of 2: the third batch was not full, so no more batches were scheduled
+        assertEquals(5, metrics.getDeletedInstances());
+        assertEquals(4, metrics.getBatches());
+        assertEquals(2, metrics.getRuns());
+
+        runtimeService.deleteProcessInstance(runningProcessInstance.getId(), null);
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml",
+            "org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml" })
+    public void testRetentionPerProcessDefinitionKey() {
+        startAndCompleteProcessInstance();
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("twoTasksProcess");
+        completeTasks(processInstance.getId());
+        assertEquals(2, historyService.createHistoricProcessInstanceQuery().count());
+
+        Map<String, Integer> retentionDays = new HashMap<>();
+        retentionDays.put("twoTasksProcess", -1);
+        processEngineConfiguration.setHistoryCleaningRetentionDays(retentionDays);
+
+        moveClockDays(366);
+        executeCleanupJobs();
+        assertEquals(1, historyService.createHistoricProcessInstanceQuery().count());
+        assertEquals(processInstance.getId(), historyService.createHistoricProcessInstanceQuery().singleResult().getId());
+
+        retentionDays.put("twoTasksProcess", 400);
+        executeCleanupJobs();
+        assertEquals(1, historyService.createHistoricProcessInstanceQuery().count());
+
+        moveClockDays(40);
+        executeCleanupJobs();
+        assertEquals(0, historyService.createHistoricProcessInstanceQuery().count());
+        assertEquals(0, historyService.createHistoricTaskInstanceQuery().count());
+    }
+
+    protected void startAndCompleteProcessInstance() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("name", "kermit");
+        variables.put("bytes", "someBytes".getBytes());
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+        taskService.addComment(null, processInstance.getId(), "a comment");
+        completeTasks(processInstance.getId());
+    }
+
+    protected void completeTasks(String processInstanceId) {
+        List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().processInstanceId(processInstanceId).list();
+        while (!tasks.isEmpty()) {
+            for (org.flowable.task.api.Task task : tasks) {
+                taskService.addUserIdentityLink(task.getId(), "gonzo", "participant");
+                taskService.complete(task.getId());
+            }
+            tasks = taskService.createTaskQuery().processInstanceId(processInstanceId).list();
+        }
+        assertProcessEnded(processInstanceId);
+    }
+
+    protected long getTableCount(String tableName) {
+        return managementService.getTableCount().get(processEngineConfiguration.getDatabaseTablePrefix() + tableName);
+    }
+
+    protected void moveClockDays(int days) {
+        Date now = processEngineConfiguration.getClock().getCurrentTime();
+        processEngineConfiguration.getClock().setCurrentTime(new Date(now.getTime() + days * 24L * 60 * 60 * 1000));
+    }
+
+    /**
+     * Executes the repeating cleanup job, and the jobs of the batches it scheduled.
+     */
+    protected void executeCleanupJobs() {
+        Job cronJob = managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).singleResult();
+        executeTimerJob(cronJob);
+
+        List<Job> timerJobs = managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).list();
+        while (timerJobs.size() > 1) {
+            for (Job timerJob : timerJobs) {
+                if (timerJob.getJobHandlerConfiguration() != null) {
+                    executeTimerJob(timerJob);
+                }
+            }
+            timerJobs = managementService.createTimerJobQuery().handlerType(BpmnHistoryCleanupJobHandler.TYPE).list();
+        }
+    }
+
+    protected void executeTimerJob(Job timerJob) {
+        Job job = managementService.moveTimerToExecutableJob(timerJob.getId());
+        managementService.executeJob(job.getId());
+    }
+
+}
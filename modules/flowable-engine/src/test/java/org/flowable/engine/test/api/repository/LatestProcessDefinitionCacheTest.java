@@ -0,0 +1,170 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.repository;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.deploy.LatestDefinitionIdCache;
+import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+
+public class LatestProcessDefinitionCacheTest extends PluggableFlowableTestCase {
+
+    private static final String ONE_TASK_PROCESS = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml";
+
+    protected LatestDefinitionIdCache originalCache;
+    protected LatestDefinitionIdCache latestProcessDefinitionIdCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        DeploymentManager deploymentManager = processEngineConfiguration.getDeploymentManager();
+        originalCache = deploymentManager.getLatestProcessDefinitionIdCache();
+        latestProcessDefinitionIdCache = new LatestDefinitionIdCache();
+        deploymentManager.setLatestProcessDefinitionIdCache(latestProcessDefinitionIdCache);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.getDeploymentManager().setLatestProcessDefinitionIdCache(originalCache);
+        super.tearDown();
+    }
+
+    public void testStartByKeyUsesLatestVersion() {
+        String firstDeploymentId = deploy(null);
+        String secondDeploymentId = null;
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertEquals(1, getVersion(processInstance));
+            assertEquals(1, latestProcessDefinitionIdCache.size());
+
+            // Served from the cache
+            processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertEquals(1, getVersion(processInstance));
+
+            // A new deployment invalidates the cache
+            secondDeploymentId = deploy(null);
+            assertEquals(0, latestProcessDefinitionIdCache.size());
+            processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertEquals(2, getVersion(processInstance));
+
+            // Removing the latest deployment falls back to the previous version
+            repositoryService.deleteDeployment(secondDeploymentId, true);
+            secondDeploymentId = null;
+            assertEquals(0, latestProcessDefinitionIdCache.size());
+            processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertEquals(1, getVersion(processInstance));
+
+        } finally {
+            if (secondDeploymentId != null) {
+                repositoryService.deleteDeployment(secondDeploymentId, true);
+            }
+            repositoryService.deleteDeployment(firstDeploymentId, true);
+        }
+    }
+
+    public void testStartByKeyAndTenantId() {
+        String tenantDeploymentId = deploy("myTenant");
+        String otherTenantDeploymentId = deploy("otherTenant");
+        String newTenantDeploymentId = null;
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKeyAndTenantId("oneTaskProcess", "myTenant");
+            assertEquals("myTenant", processInstance.getTenantId());
+            processInstance = runtimeService.startProcessInstanceByKeyAndTenantId("oneTaskProcess", "otherTenant");
+            assertEquals("otherTenant", processInstance.getTenantId());
+            assertEquals(2, latestProcessDefinitionIdCache.size());
+
+            newTenantDeploymentId = deploy("myTenant");
+            processInstance = runtimeService.startProcessInstanceByKeyAndTenantId("oneTaskProcess", "myTenant");
+            assertEquals(2, getVersion(processInstance));
+            processInstance = runtimeService.startProcessInstanceByKeyAndTenantId("oneTaskProcess", "otherTenant");
+            assertEquals(1, getVersion(processInstance));
+
+        } finally {
+            if (newTenantDeploymentId != null) {
+                repositoryService.deleteDeployment(newTenantDeploymentId, true);
+            }
+            repositoryService.deleteDeployment(tenantDeploymentId, true);
+            repositoryService.deleteDeployment(otherTenantDeploymentId, true);
+        }
+    }
+
+    public void testEvictedDefinitionIsQueriedAgain() {
+        String deploymentId = deploy(null);
+        try {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertEquals(1, latestProcessDefinitionIdCache.size());
+
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertEquals(1, getVersion(processInstance));
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    public void testRolledBackDeploymentIsNotCached() {
+        String deploymentId = deploy(null);
+        try {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertEquals(1, latestProcessDefinitionIdCache.size());
+
+            try {
+                processEngineConfiguration.getCommandExecutor().execute(new Command<Void>() {
+
+                    @Override
+                    public Void execute(CommandContext commandContext) {
+                        deploy(null);
+                        // Makes the new version visible to the lookup in this transaction, which caches its id
+                        CommandContextUtil.getDbSqlSession(commandContext).flush();
+                        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+                        assertEquals(2, getVersion(processInstance));
+                        assertEquals(1, latestProcessDefinitionIdCache.size());
+
+                        throw new FlowableException("Roll back the deployment");
+                    }
+                });
+                fail("Exception expected");
+            } catch (FlowableException e) {
+                assertEquals("Roll back the deployment", e.getMessage());
+            }
+
+            // The id of the rolled back version is not used anymore
+            assertEquals(0, latestProcessDefinitionIdCache.size());
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            assertEquals(1, getVersion(processInstance));
+            assertEquals(1, repositoryService.createDeploymentQuery().count());
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    protected String deploy(String tenantId) {
+        if (tenantId != null) {
+            return repositoryService.createDeployment().addClasspathResource(ONE_TASK_PROCESS).tenantId(tenantId).deploy().getId();
+        }
+        return repositoryService.createDeployment().addClasspathResource(ONE_TASK_PROCESS).deploy().getId();
+    }
+
+    protected int getVersion(ProcessInstance processInstance) {
+        ProcessDefinition processDefinition = repositoryService.getProcessDefinition(processInstance.getProcessDefinitionId());
+        return processDefinition.getVersion();
+    }
+
+}
@@ -0,0 +1,75 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.repository;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+
+public class ParallelBpmnParsingTest extends PluggableFlowableTestCase {
+
+    protected ExecutorService executorService;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        executorService = Executors.newFixedThreadPool(2);
+        processEngineConfiguration.setBpmnParseExecutorService(executorService);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.setBpmnParseExecutorService(null);
+        executorService.shutdownNow();
+        super.tearDown();
+    }
+
+    public void testDeployAndRedeployMultipleResources() {
+        String deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskSubProcess.bpmn20.xml")
+                .deploy()
+                .getId();
+
+        try {
+            assertEquals(3, repositoryService.createProcessDefinitionQuery().deploymentId(deploymentId).count());
+
+            // A cache miss redeploys all resources of the deployment
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("twoTasksProcess");
+            assertEquals(1, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId, true);
+        }
+    }
+
+    public void testInvalidResourceFailsDeployment() {
+        try {
+            repositoryService.createDeployment()
+                    .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                    .addClasspathResource("org/flowable/engine/test/api/repository/nonSchemaConformantXml.bpmn20.xml")
+                    .deploy();
+            fail();
+        } catch (XMLException e) {
+            // expected exception
+        }
+
+        assertEquals(0, repositoryService.createDeploymentQuery().count());
+    }
+
+}
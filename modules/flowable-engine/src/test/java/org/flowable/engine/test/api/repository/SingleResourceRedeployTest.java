@@ -0,0 +1,160 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.repository;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.impl.bpmn.deployer.BpmnModelSnapshotUtil;
+import org.flowable.engine.impl.bpmn.parser.BpmnParse;
+import org.flowable.engine.impl.bpmn.parser.BpmnParser;
+import org.flowable.engine.impl.cfg.BpmnParseFactory;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.repository.ProcessDefinition;
+import org.flowable.engine.runtime.ProcessInstance;
+
+public class SingleResourceRedeployTest extends PluggableFlowableTestCase {
+
+    protected String deploymentId;
+
+    protected BpmnParseFactory originalBpmnParseFactory;
+    protected int xmlConversionCount;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        processEngineConfiguration.setEnableSingleResourceRedeploy(true);
+
+        // Counts the BPMN resources that are converted from their XML
+        BpmnParser bpmnParser = processEngineConfiguration.getBpmnParser();
+        originalBpmnParseFactory = bpmnParser.getBpmnParseFactory();
+        bpmnParser.setBpmnParseFactory(new BpmnParseFactory() {
+
+            @Override
+            public BpmnParse createBpmnParse(BpmnParser bpmnParser) {
+                return new BpmnParse(bpmnParser) {
+
+                    @Override
+                    public BpmnParse convertAndValidate(ProcessEngineConfigurationImpl processEngineConfiguration) {
+                        xmlConversionCount++;
+                        return super.convertAndValidate(processEngineConfiguration);
+                    }
+                };
+            }
+        });
+
+        deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml")
+                .deploy()
+                .getId();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.getBpmnParser().setBpmnParseFactory(originalBpmnParseFactory);
+        repositoryService.deleteDeployment(deploymentId, true);
+        processEngineConfiguration.setEnableSingleResourceRedeploy(false);
+        super.tearDown();
+    }
+
+    public void testOnlyResourceOfProcessDefinitionIsParsed() {
+        ProcessDefinition oneTaskProcess = repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult();
+        ProcessDefinition twoTasksProcess = repositoryService.createProcessDefinitionQuery().processDefinitionKey("twoTasksProcess").singleResult();
+
+        DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = processEngineConfiguration.getProcessDefinitionCache();
+        processDefinitionCache.clear();
+        xmlConversionCount = 0;
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("twoTasksProcess");
+        assertEquals(twoTasksProcess.getId(), processInstance.getProcessDefinitionId());
+        assertEquals(1, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+
+        assertTrue(processDefinitionCache.contains(twoTasksProcess.getId()));
+        assertFalse(processDefinitionCache.contains(oneTaskProcess.getId()));
+
+        ProcessDefinition cachedProcessDefinition = processDefinitionCache.get(twoTasksProcess.getId()).getProcessDefinition();
+        assertEquals(twoTasksProcess.getVersion(), cachedProcessDefinition.getVersion());
+        assertEquals(twoTasksProcess.getResourceName(), cachedProcessDefinition.getResourceName());
+        assertEquals(twoTasksProcess.getDeploymentId(), cachedProcessDefinition.getDeploymentId());
+
+        // The model was restored from its snapshot
+        assertEquals(0, xmlConversionCount);
+    }
+
+    public void testBpmnModelSnapshotsAreDeployed() {
+        List<String> resourceNames = repositoryService.getDeploymentResourceNames(deploymentId);
+        assertEquals(4, resourceNames.size());
+        assertTrue(resourceNames.contains("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml.bpmnmodel"));
+        assertTrue(resourceNames.contains("org/flowable/engine/test/api/twoTasksProcess.bpmn20.xml.bpmnmodel"));
+        assertEquals(2, xmlConversionCount);
+    }
+
+    public void testXmlIsConvertedWithoutSnapshot() {
+        processEngineConfiguration.setEnableSingleResourceRedeploy(false);
+        String deploymentWithoutSnapshotId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+                .deploy()
+                .getId();
+        processEngineConfiguration.setEnableSingleResourceRedeploy(true);
+
+        try {
+            assertEquals(1, repositoryService.getDeploymentResourceNames(deploymentWithoutSnapshotId).size());
+
+            processEngineConfiguration.getProcessDefinitionCache().clear();
+            xmlConversionCount = 0;
+
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            ProcessDefinition processDefinition = repositoryService.getProcessDefinition(processInstance.getProcessDefinitionId());
+            assertEquals(deploymentWithoutSnapshotId, processDefinition.getDeploymentId());
+            assertEquals(1, xmlConversionCount);
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentWithoutSnapshotId, true);
+        }
+    }
+
+    public void testSnapshotOfOtherEngineVersionIsIgnored() throws Exception {
+        BpmnModel bpmnModel = repositoryService.getBpmnModel(repositoryService.createProcessDefinitionQuery().processDefinitionKey("oneTaskProcess").singleResult().getId());
+        assertNotNull(BpmnModelSnapshotUtil.readSnapshot("current", BpmnModelSnapshotUtil.writeSnapshot(bpmnModel)));
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeInt(BpmnModelSnapshotUtil.SNAPSHOT_FORMAT_VERSION);
+            objectOutputStream.writeUTF("5.0.0");
+            objectOutputStream.writeObject(bpmnModel);
+        }
+        assertNull(BpmnModelSnapshotUtil.readSnapshot("other", outputStream.toByteArray()));
+    }
+
+    public void testSuspensionStateIsKept() {
+        repositoryService.suspendProcessDefinitionByKey("oneTaskProcess");
+        processEngineConfiguration.getProcessDefinitionCache().clear();
+
+        try {
+            runtimeService.startProcessInstanceByKey("oneTaskProcess");
+            fail();
+        } catch (FlowableException e) {
+            // expected exception
+        }
+
+        repositoryService.activateProcessDefinitionByKey("oneTaskProcess");
+    }
+
+}
@@ -0,0 +1,179 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.runtime;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.impl.db.BulkDeleteOperation;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.api.event.TestFlowableEventListener;
+import org.flowable.job.api.Job;
+
+public class ProcessInstanceBulkDeleteTest extends PluggableFlowableTestCase {
+
+    private static final String BULK_DELETE_PROCESS = "org/flowable/engine/test/api/runtime/ProcessInstanceBulkDeleteTest.bulkDeleteProcess.bpmn20.xml";
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        processEngineConfiguration.setEnableProcessInstanceBulkDelete(true);
+        processEngineConfiguration.setProcessInstanceBulkDeleteBatchSize(2);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processEngineConfiguration.setEnableProcessInstanceBulkDelete(false);
+        processEngineConfiguration.setProcessInstanceBulkDeleteBatchSize(100);
+        super.tearDown();
+    }
+
+    public void testDeleteDeploymentWithCascade() {
+        final String deploymentId = repositoryService.createDeployment().addClasspathResource(BULK_DELETE_PROCESS).deploy().getId();
+        for (int i = 0; i < 5; i++) {
+            startProcessInstance();
+        }
+
+        // Move some jobs to the other job tables, and let one of them fail to get an exception stack trace
+        ProcessInstance suspendedProcessInstance = startProcessInstance();
+        runtimeService.suspendProcessInstanceById(suspendedProcessInstance.getId());
+        Job job = managementService.createJobQuery().processInstanceId(startProcessInstance().getId()).singleResult();
+        managementService.moveJobToDeadLetterJob(job.getId());
+        job = managementService.createJobQuery().processInstanceId(startProcessInstance().getId()).singleResult();
+        try {
+            managementService.executeJob(job.getId());
+            fail("Exception expected");
+        } catch (FlowableException e) {
+            // expected
+        }
+        assertNotNull(managementService.getTimerJobExceptionStacktrace(job.getId()));
+
+        assertEquals(8, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(2, managementService.createSuspendedJobQuery().count());
+        assertEquals(1, managementService.createDeadLetterJobQuery().count());
+
+        // The delete statements are collected before the session is flushed
+        Map<String, Integer> deleteStatementCounts = processEngineConfiguration.getCommandExecutor().execute(new Command<Map<String, Integer>>() {
+
+            @Override
+            public Map<String, Integer> execute(CommandContext commandContext) {
+                repositoryService.deleteDeployment(deploymentId, true);
+                return countBulkDeleteStatements(commandContext);
+            }
+        });
+        assertRuntimeTablesEmpty();
+
+        // The byte arrays of each batch of 2 process instances are deleted with one statement per table instead of one statement per byte array
+        assertEquals(4, getCount(deleteStatementCounts, "bulkDeleteVariableByteArraysNoRevisionCheck"));
+        assertEquals(0, getCount(deleteStatementCounts, "deleteVariableByteArrayNoRevisionCheck"));
+        assertTrue(getCount(deleteStatementCounts, "bulkDeleteJobByteArraysNoRevisionCheck") > 0);
+        assertEquals(0, getCount(deleteStatementCounts, "deleteJobByteArrayNoRevisionCheck"));
+    }
+
+    public void testDeleteDeploymentWithEventListener() {
+        String deploymentId = repositoryService.createDeployment().addClasspathResource(BULK_DELETE_PROCESS).deploy().getId();
+        TestFlowableEventListener listener = new TestFlowableEventListener();
+        processEngineConfiguration.getEventDispatcher().addEventListener(listener);
+        try {
+            startProcessInstance();
+            startProcessInstance();
+            listener.clearEventsReceived();
+
+            repositoryService.deleteDeployment(deploymentId, true);
+            assertRuntimeTablesEmpty();
+
+            // The listener still gets notified of the cancelled process instances
+            int cancelledEvents = 0;
+            for (FlowableEvent event : listener.getEventsReceived()) {
+                if (event.getType() == FlowableEngineEventType.PROCESS_CANCELLED) {
+                    cancelledEvents++;
+                }
+            }
+            assertEquals(2, cancelledEvents);
+
+        } finally {
+            processEngineConfiguration.getEventDispatcher().removeEventListener(listener);
+        }
+    }
+
+    public void testDeleteDeploymentWithCalledProcessInstances() {
+        String deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/engine/test/api/runtime/callActivity.bpmn20.xml")
+                .addClasspathResource("org/flowable/engine/test/api/runtime/calledActivity.bpmn20.xml")
+                .deploy()
+                .getId();
+
+        runtimeService.startProcessInstanceByKey("callActivity");
+        runtimeService.startProcessInstanceByKey("calledActivity");
+        assertEquals(3, runtimeService.createProcessInstanceQuery().count());
+
+        repositoryService.deleteDeployment(deploymentId, true);
+        assertRuntimeTablesEmpty();
+    }
+
+    protected ProcessInstance startProcessInstance() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("bean", new FailingBean());
+        variables.put("name", "kermit");
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("bulkDeleteProcess", variables);
+
+        org.flowable.task.api.Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.setVariableLocal(task.getId(), "taskBean", new DummySerializable());
+        taskService.addCandidateGroup(task.getId(), "management");
+        runtimeService.addUserIdentityLink(processInstance.getId(), "gonzo", "participant");
+        return processInstance;
+    }
+
+    protected Map<String, Integer> countBulkDeleteStatements(CommandContext commandContext) {
+        Map<String, Integer> statementCounts = new HashMap<>();
+        for (List<BulkDeleteOperation> bulkDeleteOperations : CommandContextUtil.getDbSqlSession(commandContext).getBulkDeleteOperations().values()) {
+            for (BulkDeleteOperation bulkDeleteOperation : bulkDeleteOperations) {
+                statementCounts.put(bulkDeleteOperation.getStatement(), getCount(statementCounts, bulkDeleteOperation.getStatement()) + 1);
+            }
+        }
+        return statementCounts;
+    }
+
+    protected int getCount(Map<String, Integer> statementCounts, String statement) {
+        Integer count = statementCounts.get(statement);
+        return count != null ? count : 0;
+    }
+
+    protected void assertRuntimeTablesEmpty() {
+        for (Map.Entry<String, Long> tableCount : managementService.getTableCount().entrySet()) {
+            String tableName = tableCount.getKey();
+            if (tableName.startsWith("ACT_RU_") || tableName.equals("ACT_GE_BYTEARRAY")) {
+                assertEquals(tableName, 0L, tableCount.getValue().longValue());
+            }
+        }
+    }
+
+    public static class FailingBean implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        public boolean check() {
+            throw new FlowableException("Failing on purpose");
+        }
+    }
+
+}
@@ -24,15 +24,21 @@ import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.engine.common.impl.history.HistoryLevel;
+import org.flowable.engine.common.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.identitylink.api.IdentityLinkInfo;
+import org.flowable.idm.api.event.FlowableIdmEventType;
 import org.flowable.task.api.DelegationState;
 import org.flowable.task.api.Task;
 import org.flowable.task.api.TaskQuery;
+import org.flowable.task.service.TaskServiceConfiguration;
+import org.flowable.task.service.impl.CandidateGroupsCache;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
@@ -730,6 +736,64 @@ public class TaskQueryTest extends PluggableFlowableTestCase {
         }
     }
 
+    public void testQueryByCandidateUserWithCandidateGroupsCache() {
+        TaskServiceConfiguration taskServiceConfiguration = (TaskServiceConfiguration) processEngineConfiguration.getServiceConfigurations().get(EngineConfigurationConstants.KEY_TASK_SERVICE_CONFIG);
+        CandidateGroupsCache candidateGroupsCache = new CandidateGroupsCache(10, 60000L, processEngineConfiguration.getClock());
+        taskServiceConfiguration.setCandidateGroupsCache(candidateGroupsCache);
+        processEngineConfiguration.getEventDispatcher().addEventListener(candidateGroupsCache, CandidateGroupsCache.INVALIDATION_EVENT_TYPES);
+        try {
+            assertEquals(3, taskService.createTaskQuery().taskCandidateUser("fozzie").count());
+            assertEquals(1, candidateGroupsCache.size());
+            assertEquals(3, taskService.createTaskQuery().taskCandidateUser("fozzie").list().size());
+
+            // Membership changes through the identity service invalidate the cached groups
+            identityService.createMembership("fozzie", "accountancy");
+            assertEquals(0, candidateGroupsCache.size());
+            assertEquals(5, taskService.createTaskQuery().taskCandidateUser("fozzie").count());
+
+            identityService.deleteMembership("fozzie", "management");
+            assertEquals(3, taskService.createTaskQuery().taskCandidateUser("fozzie").count());
+
+            // Groups cached before the change is committed (by another transaction) are removed again after the commit
+            final CandidateGroupsCache cache = candidateGroupsCache;
+            FlowableEventListener staleGroupsListener = new FlowableEventListener() {
+
+                @Override
+                public void onEvent(FlowableEvent event) {
+                    cache.add("fozzie", Collections.singletonList("accountancy"));
+                }
+
+                @Override
+                public boolean isFailOnException() {
+                    return true;
+                }
+            };
+            processEngineConfiguration.getEventDispatcher().addEventListener(staleGroupsListener, FlowableIdmEventType.MEMBERSHIP_CREATED);
+            try {
+                identityService.createMembership("fozzie", "management");
+                assertEquals(0, candidateGroupsCache.size());
+                assertEquals(5, taskService.createTaskQuery().taskCandidateUser("fozzie").count());
+            } finally {
+                processEngineConfiguration.getEventDispatcher().removeEventListener(staleGroupsListener);
+            }
+            identityService.deleteMembership("fozzie", "management");
+            assertEquals(3, taskService.createTaskQuery().taskCandidateUser("fozzie").count());
+
+            // Other changes are only visible when the cached groups are expired
+            processEngineConfiguration.getEventDispatcher().removeEventListener(candidateGroupsCache);
+            identityService.deleteMembership("fozzie", "accountancy");
+            assertEquals(3, taskService.createTaskQuery().taskCandidateUser("fozzie").count());
+
+            processEngineConfiguration.getClock().setCurrentTime(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + 60001L));
+            assertEquals(0, taskService.createTaskQuery().taskCandidateUser("fozzie").count());
+
+        } finally {
+            processEngineConfiguration.getEventDispatcher().removeEventListener(candidateGroupsCache);
+            taskServiceConfiguration.setCandidateGroupsCache(null);
+            processEngineConfiguration.getClock().reset();
+        }
+    }
+
     public void testQueryByCandidateUserOr() {
         TaskQuery query = taskService.createTaskQuery().or().taskId("invalid").taskCandidateUser("kermit");
         assertEquals(11, query.count());
@@ -20,13 +20,17 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.engine.delegate.DelegateExecution;
 import org.flowable.engine.delegate.JavaDelegate;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.Deployment;
 import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 import org.joda.time.DateTime;
 import org.joda.time.LocalDate;
 
@@ -400,6 +404,21 @@ public class VariablesTest extends PluggableFlowableTestCase {
         assertEquals("HELLO world!", varValue);
     }
 
+    @org.flowable.engine.test.Deployment
+    public void testPrefetchVariables() {
+
+        Map<String, Object> vars = generateVariables();
+        vars.put("testVar", "hello");
+        vars.put("testVar2", "world");
+        String processInstanceId = runtimeService.startProcessInstanceByKey("variablesPrefetchTestProcess", vars).getId();
+
+        taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId()); // Triggers service task invocation
+
+        // Only the variables of the prefetch hint are fetched, the absent one isn't queried again
+        assertEquals(new HashSet<>(Arrays.asList("testVar", "testVar2")), PrefetchVariablesDelegate.fetchedVariableNames);
+        assertEquals("hello world false", runtimeService.getVariable(processInstanceId, "result"));
+    }
+
     @org.flowable.engine.test.Deployment
     public void testGetVariableInDelegateMixed() {
 
@@ -632,6 +651,23 @@ public class VariablesTest extends PluggableFlowableTestCase {
         }
     }
 
+    public static class PrefetchVariablesDelegate implements JavaDelegate {
+
+        static Set<String> fetchedVariableNames;
+
+        @Override
+        public void execute(DelegateExecution execution) {
+            String value = execution.getVariable("testVar") + " " + execution.getVariable("testVar2") + " " + execution.hasVariable("missingVar");
+
+            fetchedVariableNames = new HashSet<>();
+            for (VariableInstanceEntity variableInstance : CommandContextUtil.getEntityCache().findInCache(VariableInstanceEntity.class)) {
+                fetchedVariableNames.add(variableInstance.getName());
+            }
+
+            execution.setVariable("result", value);
+        }
+    }
+
     // ////////////////////////////////////////
 
     public static class TestJavaDelegate4 implements JavaDelegate {
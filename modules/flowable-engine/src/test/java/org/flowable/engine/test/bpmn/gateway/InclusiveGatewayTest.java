@@ -93,6 +93,16 @@ public class InclusiveGatewayTest extends PluggableFlowableTestCase {
         runtimeService.deleteProcessInstance(pi.getId(), "testing deletion");
     }
 
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/InclusiveGatewayTest.testPartialMergingInclusiveGateway.bpmn20.xml")
+    public void testPartialMergingInclusiveGatewayWithJoinCounting() {
+        processEngineConfiguration.getPerformanceSettings().setEnableGatewayJoinCounting(true);
+        try {
+            testPartialMergingInclusiveGateway();
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setEnableGatewayJoinCounting(false);
+        }
+    }
+
     @Deployment
     public void testNoSequenceFlowSelected() {
         try {
@@ -110,6 +110,55 @@ public class ParallelGatewayTest extends PluggableFlowableTestCase {
         assertEquals("Task C", tasks.get(0).getName());
     }
 
+    @Deployment
+    public void testJoinCounting() {
+        processEngineConfiguration.getPerformanceSettings().setEnableGatewayJoinCounting(true);
+        try {
+            // Five branches arrive in the join in the same transaction, the other five in separate transactions
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("joinCounting");
+            TaskQuery query = taskService.createTaskQuery().processInstanceId(processInstance.getId()).orderByTaskName().asc();
+            List<Task> tasks = query.list();
+            assertEquals(5, tasks.size());
+
+            for (int i = 0; i < 4; i++) {
+                taskService.complete(tasks.get(i).getId());
+                assertEquals(4 - i, query.count());
+            }
+            assertEquals(9, countExecutionsWaitingInJoin(processInstance.getId()));
+
+            taskService.complete(tasks.get(4).getId());
+            Task afterJoinTask = query.singleResult();
+            assertEquals("afterJoin", afterJoinTask.getTaskDefinitionKey());
+            assertEquals(0, countExecutionsWaitingInJoin(processInstance.getId()));
+
+            taskService.complete(afterJoinTask.getId());
+            assertProcessEnded(processInstance.getId());
+
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setEnableGatewayJoinCounting(false);
+        }
+    }
+
+    protected long countExecutionsWaitingInJoin(final String processInstanceId) {
+        return managementService.executeCommand(new Command<Long>() {
+
+            @Override
+            public Long execute(CommandContext commandContext) {
+                return CommandContextUtil.getExecutionEntityManager(commandContext).countInactiveExecutionsByActivityIdAndProcessInstanceId("join", processInstanceId);
+            }
+        });
+    }
+
+    @Deployment(resources = "org/flowable/engine/test/bpmn/gateway/ParallelGatewayTest.testNestedForkJoin.bpmn20.xml")
+    public void testNestedForkJoinWithJoinCounting() {
+        processEngineConfiguration.getPerformanceSettings().setEnableGatewayJoinCounting(true);
+        try {
+            testNestedForkJoin();
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setEnableGatewayJoinCounting(false);
+        }
+    }
+
     /**
      * https://activiti.atlassian.net/browse/ACT-1222
      */
@@ -0,0 +1,135 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.bpmn.usertask;
+
+import org.flowable.engine.DynamicBpmnConstants;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandConfig;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.cmd.SaveProcessDefinitionInfoCmd;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
+import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class DefinitionInfoCacheWithoutRevisionCheckTest extends PluggableFlowableTestCase {
+
+    protected ProcessDefinitionInfoCache processDefinitionInfoCache;
+
+    @Override
+    protected void setUp() throws Exception {
+        super.setUp();
+        processDefinitionInfoCache = processEngineConfiguration.getDeploymentManager().getProcessDefinitionInfoCache();
+        processDefinitionInfoCache.setCheckRevision(false);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        processDefinitionInfoCache.setCheckRevision(true);
+        processDefinitionInfoCache.setRefreshInterval(0);
+        super.tearDown();
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/usertask/DisabledDefinitionInfoCacheTest.testChangeFormKey.bpmn20.xml" })
+    public void testSaveInvalidatesCachedInfo() {
+        String processDefinitionId = startAndCompleteTask("test");
+
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskFormKey("task1", "test2");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        startAndCompleteTask("test2");
+
+        infoNode = dynamicBpmnService.changeUserTaskFormKey("task1", "test3");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        startAndCompleteTask("test3");
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/usertask/DisabledDefinitionInfoCacheTest.testChangeFormKey.bpmn20.xml" })
+    public void testInfoSavedElsewhereIsSeenAfterRefresh() throws Exception {
+        final String processDefinitionId = startAndCompleteTask("test");
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskFormKey("task1", "test2");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        startAndCompleteTask("test2");
+
+        // Save the info without going through the cache, like another engine would
+        final ObjectNode otherInfoNode = dynamicBpmnService.changeUserTaskFormKey("task1", "test3");
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
+                ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
+                try {
+                    infoEntityManager.updateInfoJson(infoEntity.getId(), processEngineConfiguration.getObjectMapper().writeValueAsBytes(otherInfoNode));
+                } catch (Exception e) {
+                    throw new RuntimeException(e);
+                }
+                return null;
+            }
+        });
+
+        // The cached info is trusted
+        startAndCompleteTask("test2");
+
+        processDefinitionInfoCache.setRefreshInterval(1);
+        Thread.sleep(10);
+        startAndCompleteTask("test3");
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/usertask/DisabledDefinitionInfoCacheTest.testChangeFormKey.bpmn20.xml" })
+    public void testInfoReadBeforeCommitIsNotCached() {
+        final String processDefinitionId = startAndCompleteTask("test");
+        ObjectNode infoNode = dynamicBpmnService.changeUserTaskFormKey("task1", "test2");
+        dynamicBpmnService.saveProcessDefinitionInfo(processDefinitionId, infoNode);
+        startAndCompleteTask("test2");
+
+        final ObjectNode otherInfoNode = dynamicBpmnService.changeUserTaskFormKey("task1", "test3");
+        managementService.executeCommand(new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                // Reads the info in this transaction, before the change below is committed
+                ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
+                ProcessDefinitionInfoEntity infoEntity = infoEntityManager.findProcessDefinitionInfoByProcessDefinitionId(processDefinitionId);
+                infoEntityManager.findInfoJsonById(infoEntity.getInfoJsonId());
+
+                processEngineConfiguration.getCommandExecutor().execute(new CommandConfig().transactionRequiresNew(),
+                        new SaveProcessDefinitionInfoCmd(processDefinitionId, otherInfoNode));
+
+                // This transaction still sees the info it read before, but it is not put in the cache again
+                assertEquals("test2", getFormKey(processDefinitionInfoCache.get(processDefinitionId).getInfoNode()));
+                return null;
+            }
+        });
+
+        startAndCompleteTask("test3");
+    }
+
+    protected String getFormKey(ObjectNode infoNode) {
+        return infoNode.get(DynamicBpmnConstants.BPMN_NODE).get("task1").get(DynamicBpmnConstants.USER_TASK_FORM_KEY).asText();
+    }
+
+    protected String startAndCompleteTask(String expectedFormKey) {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("dynamicUserTask");
+        org.flowable.task.api.Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        assertEquals(expectedFormKey, task.getFormKey());
+        taskService.complete(task.getId());
+        assertProcessEnded(processInstance.getId());
+        return processInstance.getProcessDefinitionId();
+    }
+
+}
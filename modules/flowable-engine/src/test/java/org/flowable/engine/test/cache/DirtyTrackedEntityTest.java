@@ -0,0 +1,151 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.cache.CachedEntity;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackedEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.TaskEntity;
+import org.flowable.task.service.impl.persistence.entity.TaskEntityImpl;
+
+/**
+ * Tests the {@link CachedEntity#hasChanged()} shortcut for entities implementing {@link DirtyTrackedEntity}.
+ */
+public class DirtyTrackedEntityTest extends PluggableFlowableTestCase {
+
+    public void testUnchangedExecutionSkipsPersistentStateComparison() {
+        StateCountingExecutionEntity execution = new StateCountingExecutionEntity();
+        execution.setId("execution");
+        execution.setName("name");
+
+        CachedEntity cachedEntity = new CachedEntity(execution, true);
+        assertEquals(1, execution.persistentStateCount);
+        assertFalse(execution.isDirty());
+
+        assertFalse(cachedEntity.hasChanged());
+        assertEquals(1, execution.persistentStateCount);
+
+        // Setting the same value marks the entity dirty, but the comparison shows nothing changed
+        execution.setName("name");
+        assertTrue(execution.isDirty());
+        assertFalse(cachedEntity.hasChanged());
+        assertEquals(2, execution.persistentStateCount);
+
+        execution.setName("otherName");
+        assertTrue(cachedEntity.hasChanged());
+
+        StateCountingExecutionEntity countedExecution = new StateCountingExecutionEntity();
+        countedExecution.setId("countedExecution");
+        CachedEntity countedCachedEntity = new CachedEntity(countedExecution, true);
+        countedExecution.setTaskCount(countedExecution.getTaskCount() + 1);
+        assertTrue(countedCachedEntity.hasChanged());
+    }
+
+    public void testUnchangedTaskSkipsPersistentStateComparison() {
+        StateCountingTaskEntity task = new StateCountingTaskEntity();
+        task.setId("task");
+        task.setAssignee("kermit");
+
+        CachedEntity cachedEntity = new CachedEntity(task, true);
+        assertFalse(cachedEntity.hasChanged());
+        assertEquals(1, task.persistentStateCount);
+
+        task.setAssignee("fozzie");
+        assertTrue(cachedEntity.hasChanged());
+        assertEquals(2, task.persistentStateCount);
+    }
+
+    public void testUnchangedTaskIsNotUpdated() {
+        Task task = taskService.newTask();
+        task.setName("original");
+        taskService.saveTask(task);
+        final String taskId = task.getId();
+
+        try {
+            final int revision = managementService.executeCommand(new Command<Integer>() {
+
+                @Override
+                public Integer execute(CommandContext commandContext) {
+                    TaskEntity taskEntity = CommandContextUtil.getTaskService(commandContext).getTask(taskId);
+                    CachedEntity cachedEntity = getCachedTask(commandContext, taskId);
+                    assertFalse(((DirtyTrackedEntity) taskEntity).isDirty());
+                    assertFalse(cachedEntity.hasChanged());
+                    return taskEntity.getRevision();
+                }
+            });
+            assertEquals(revision, getTaskRevision(taskId));
+
+            managementService.executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    TaskEntity taskEntity = CommandContextUtil.getTaskService(commandContext).getTask(taskId);
+                    taskEntity.setName("changed");
+                    assertTrue(getCachedTask(commandContext, taskId).hasChanged());
+                    return null;
+                }
+            });
+            assertEquals("changed", taskService.createTaskQuery().taskId(taskId).singleResult().getName());
+            assertEquals(revision + 1, getTaskRevision(taskId));
+
+        } finally {
+            taskService.deleteTask(taskId, true);
+        }
+    }
+
+    protected CachedEntity getCachedTask(CommandContext commandContext, String taskId) {
+        return CommandContextUtil.getEntityCache(commandContext).getAllCachedEntities().get(TaskEntityImpl.class).get(taskId);
+    }
+
+    protected int getTaskRevision(final String taskId) {
+        return managementService.executeCommand(new Command<Integer>() {
+
+            @Override
+            public Integer execute(CommandContext commandContext) {
+                return CommandContextUtil.getTaskService(commandContext).getTask(taskId).getRevision();
+            }
+        });
+    }
+
+    protected static class StateCountingExecutionEntity extends ExecutionEntityImpl {
+
+        private static final long serialVersionUID = 1L;
+
+        protected int persistentStateCount;
+
+        @Override
+        public Object getPersistentState() {
+            persistentStateCount++;
+            return super.getPersistentState();
+        }
+    }
+
+    protected static class StateCountingTaskEntity extends TaskEntityImpl {
+
+        private static final long serialVersionUID = 1L;
+
+        protected int persistentStateCount;
+
+        @Override
+        public Object getPersistentState() {
+            persistentStateCount++;
+            return super.getPersistentState();
+        }
+    }
+
+}
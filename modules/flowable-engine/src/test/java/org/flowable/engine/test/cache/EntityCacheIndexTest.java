@@ -0,0 +1,98 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.cache;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collection;
+
+import org.flowable.engine.common.impl.persistence.cache.CachedEntity;
+import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
+import org.flowable.engine.common.impl.persistence.entity.Entity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.persistence.entity.data.impl.cachematcher.ExecutionsByProcessInstanceIdIndex;
+import org.junit.Test;
+
+/**
+ * Tests for the type and {@link org.flowable.engine.common.impl.persistence.cache.CachedEntityIndex} lookups of the {@link EntityCacheImpl}.
+ */
+public class EntityCacheIndexTest {
+
+    @Test
+    public void testFindBySuperType() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        ExecutionEntityImpl execution = createExecution("1", null);
+        entityCache.put(execution, false);
+
+        assertSame(execution, entityCache.findInCache(ExecutionEntity.class, "1"));
+        assertSame(execution, entityCache.findInCache(Entity.class, "1"));
+        assertEquals(1, entityCache.findInCache(ExecutionEntity.class).size());
+        assertNull(entityCache.findInCache(ExecutionEntity.class, "2"));
+        assertTrue(entityCache.findInCache(String.class).isEmpty());
+    }
+
+    @Test
+    public void testIndexLookup() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+        for (int i = 0; i < 10; i++) {
+            entityCache.put(createExecution("a" + i, "processA"), false);
+            entityCache.put(createExecution("b" + i, "processB"), false);
+        }
+
+        Collection<CachedEntity> cachedObjects = findByProcessInstanceId(entityCache, "processA");
+        assertEquals(10, cachedObjects.size());
+        for (CachedEntity cachedObject : cachedObjects) {
+            assertEquals("processA", ((ExecutionEntity) cachedObject.getEntity()).getProcessInstanceId());
+        }
+
+        // Entities added after the index was created are indexed as well
+        entityCache.put(createExecution("a10", "processA"), false);
+        assertEquals(11, findByProcessInstanceId(entityCache, "processA").size());
+
+        entityCache.cacheRemove(ExecutionEntityImpl.class, "a0");
+        assertEquals(10, findByProcessInstanceId(entityCache, "processA").size());
+        assertEquals(10, findByProcessInstanceId(entityCache, "processB").size());
+        assertTrue(findByProcessInstanceId(entityCache, "processC").isEmpty());
+    }
+
+    @Test
+    public void testIndexKeySetAfterPut() {
+        EntityCacheImpl entityCache = new EntityCacheImpl();
+
+        // A process instance only gets its process instance id after it is inserted
+        ExecutionEntityImpl processInstance = createExecution("pi", null);
+        entityCache.put(processInstance, false);
+        assertTrue(findByProcessInstanceId(entityCache, "pi").isEmpty());
+
+        processInstance.setProcessInstanceId("pi");
+        Collection<CachedEntity> cachedObjects = findByProcessInstanceId(entityCache, "pi");
+        assertEquals(1, cachedObjects.size());
+        assertSame(processInstance, cachedObjects.iterator().next().getEntity());
+    }
+
+    protected Collection<CachedEntity> findByProcessInstanceId(EntityCacheImpl entityCache, String processInstanceId) {
+        return entityCache.findInCacheAsCachedObjects(ExecutionEntityImpl.class, ExecutionsByProcessInstanceIdIndex.getInstance(), processInstanceId);
+    }
+
+    protected ExecutionEntityImpl createExecution(String id, String processInstanceId) {
+        ExecutionEntityImpl execution = new ExecutionEntityImpl();
+        execution.setId(id);
+        execution.setProcessInstanceId(processInstanceId);
+        return execution;
+    }
+
+}
@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableOptimisticLockingException;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+
+/**
+ * Runs the basic runtime operations with the inserts, updates and deletes flushed as JDBC batches.
+ */
+public class BatchedFlushTest extends ResourceFlowableTestCase {
+
+    public BatchedFlushTest() {
+        super("org/flowable/engine/test/db/batched-flush.flowable.cfg.xml");
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testStartAndCompleteWithVariables() {
+        assertTrue(processEngineConfiguration.getDbSqlSessionFactory().isBatchedFlushEnabled());
+
+        Map<String, Object> variables = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            variables.put("var" + i, "value" + i);
+        }
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+        assertEquals(10, runtimeService.getVariables(processInstance.getId()).size());
+
+        for (int i = 0; i < 10; i++) {
+            variables.put("var" + i, "updatedValue" + i);
+        }
+        runtimeService.setVariables(processInstance.getId(), variables);
+        assertEquals("updatedValue5", runtimeService.getVariable(processInstance.getId(), "var5"));
+
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult();
+        taskService.complete(task.getId());
+
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(0, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(1, historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId()).finished().count());
+        assertEquals(10, historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).count());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testOptimisticLockingOnUpdate() {
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        Task task1 = taskService.createTaskQuery().singleResult();
+        Task task2 = taskService.createTaskQuery().singleResult();
+
+        task1.setDescription("test description one");
+        taskService.saveTask(task1);
+
+        try {
+            task2.setDescription("test description two");
+            taskService.saveTask(task2);
+
+            fail("Expecting exception");
+        } catch (FlowableOptimisticLockingException e) {
+            // Expected exception
+        }
+
+        assertEquals("test description one", taskService.createTaskQuery().singleResult().getDescription());
+    }
+
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testDeleteProcessInstance() {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("var", "value");
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", variables);
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+
+        assertEquals(0, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(0, taskService.createTaskQuery().processInstanceId(processInstance.getId()).count());
+    }
+
+}
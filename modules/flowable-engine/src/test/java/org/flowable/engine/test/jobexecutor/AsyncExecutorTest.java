@@ -12,19 +12,29 @@
  */
 package org.flowable.engine.test.jobexecutor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
 import org.flowable.engine.impl.test.JobTestHelper;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
+import org.flowable.job.service.impl.asyncexecutor.AsyncJobExecutorMetrics;
 import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.VirtualThreadAsyncJobExecutor;
 import org.junit.Assert;
 import org.junit.Test;
 import org.slf4j.Logger;
@@ -212,6 +222,116 @@ public class AsyncExecutorTest {
         }
     }
 
+    @Test
+    public void testVirtualThreadModeAsyncExecution() throws Exception {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+            processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
+            processEngineConfiguration.setDatabaseSchemaUpdate("true");
+            processEngineConfiguration.setAsyncExecutorActivate(true);
+            processEngineConfiguration.setAsyncExecutorVirtualThreadMode(true);
+            processEngineConfiguration.setAsyncExecutorMaxConcurrentJobs(4);
+            processEngineConfiguration.setAsyncExecutorDefaultAsyncJobAcquireWaitTime(50);
+            processEngine = processEngineConfiguration.buildProcessEngine();
+
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml");
+
+            for (int i = 0; i < 10; i++) {
+                processEngine.getRuntimeService().startProcessInstanceByKey("asyncScript");
+            }
+            waitForAllJobsBeingExecuted(processEngine);
+
+            Assert.assertEquals(0, processEngine.getManagementService().createJobQuery().count());
+            Assert.assertEquals(10, processEngine.getTaskService().createTaskQuery().taskName("Task after script").count());
+
+            AsyncExecutor asyncExecutor = processEngine.getProcessEngineConfiguration().getAsyncExecutor();
+            Assert.assertTrue(asyncExecutor instanceof VirtualThreadAsyncJobExecutor);
+            VirtualThreadAsyncJobExecutor virtualThreadAsyncExecutor = (VirtualThreadAsyncJobExecutor) asyncExecutor;
+
+            // The permit of the last job is released just after its transaction is committed
+            long waitUntil = System.currentTimeMillis() + 5000L;
+            while (virtualThreadAsyncExecutor.getMetrics().getActiveJobs() > 0 && System.currentTimeMillis() < waitUntil) {
+                Thread.sleep(10L);
+            }
+
+            AsyncJobExecutorMetrics metrics = virtualThreadAsyncExecutor.getMetrics();
+            Assert.assertTrue(VirtualThreadAsyncJobExecutor.MODE_VIRTUAL_THREADS.equals(metrics.getExecutionMode())
+                    || VirtualThreadAsyncJobExecutor.MODE_PLATFORM_THREADS.equals(metrics.getExecutionMode()));
+            Assert.assertEquals(4, metrics.getMaxConcurrentJobs());
+            Assert.assertEquals(0, metrics.getActiveJobs());
+            Assert.assertEquals(10, metrics.getCompletedJobs());
+            Assert.assertEquals(metrics.getSubmittedJobs(), metrics.getCompletedJobs());
+            Assert.assertEquals(4, asyncExecutor.getRemainingCapacity());
+
+        } finally {
+
+            // Clean up
+            cleanup(processEngine);
+        }
+    }
+
+    @Test
+    public void testJobsOfOneTransactionHandedToAsyncExecutorTogether() {
+
+        ProcessEngine processEngine = null;
+
+        try {
+            ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+            processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:activiti-AsyncExecutorTest;DB_CLOSE_DELAY=1000");
+            processEngineConfiguration.setDatabaseSchemaUpdate("true");
+            processEngineConfiguration.setAsyncExecutorActivate(true);
+
+            // The first hand-over fails, which should not prevent the other jobs from being handed over
+            final RecordingAsyncExecutor recordingAsyncExecutor = new RecordingAsyncExecutor(1);
+            recordingAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(50);
+            recordingAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(50);
+            processEngineConfiguration.setAsyncExecutor(recordingAsyncExecutor);
+            processEngine = processEngineConfiguration.buildProcessEngine();
+
+            setClockToCurrentTime(processEngine);
+            deploy(processEngine, "AsyncExecutorTest.testAsyncScriptExecution.bpmn20.xml");
+
+            final ProcessEngine processEngineCopy = processEngine;
+            processEngine.getManagementService().executeCommand(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    for (int i = 0; i < 5; i++) {
+                        processEngineCopy.getRuntimeService().startProcessInstanceByKey("asyncScript");
+                    }
+                    return null;
+                }
+            });
+
+            JobTestHelper.waitForJobExecutorOnCondition(processEngine.getProcessEngineConfiguration(), 10000L, 100L, new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws Exception {
+                    return processEngineCopy.getTaskService().createTaskQuery().taskName("Task after script").count() == 4;
+                }
+            });
+
+            // All five jobs are handed to the async executor in one command, after the transaction is committed
+            Assert.assertEquals(5, recordingAsyncExecutor.getJobIds().size());
+            Assert.assertEquals(5, new HashSet<>(recordingAsyncExecutor.getJobIds()).size());
+            Assert.assertEquals(1, recordingAsyncExecutor.getCommandContexts().size());
+
+            // The job that could not be handed over stays locked, until the lock expires
+            Assert.assertEquals(1, processEngine.getManagementService().createJobQuery().count());
+            Assert.assertEquals(recordingAsyncExecutor.getJobIds().get(0), processEngine.getManagementService().createJobQuery().singleResult().getId());
+
+        } finally {
+
+            // Clean up
+            if (processEngine != null) {
+                cleanup(processEngine);
+            }
+        }
+    }
+
     // Helpers ////////////////////////////////////////////////////////
 
     private ProcessEngine createProcessEngine(boolean enableAsyncExecutor) {
@@ -304,4 +424,37 @@ public class AsyncExecutorTest {
 
     }
 
+    static class RecordingAsyncExecutor extends DefaultAsyncJobExecutor {
+
+        protected int failingHandOvers;
+        protected List<String> jobIds = Collections.synchronizedList(new ArrayList<String>());
+        protected Set<CommandContext> commandContexts = Collections.synchronizedSet(new HashSet<CommandContext>());
+
+        public RecordingAsyncExecutor(int failingHandOvers) {
+            this.failingHandOvers = failingHandOvers;
+        }
+
+        @Override
+        public boolean executeAsyncJob(JobInfo job) {
+            jobIds.add(job.getId());
+            commandContexts.add(Context.getCommandContext());
+            synchronized (this) {
+                if (failingHandOvers > 0) {
+                    failingHandOvers--;
+                    throw new FlowableException("Failing hand-over of job " + job.getId());
+                }
+            }
+            return super.executeAsyncJob(job);
+        }
+
+        public List<String> getJobIds() {
+            return jobIds;
+        }
+
+        public Set<CommandContext> getCommandContexts() {
+            return commandContexts;
+        }
+
+    }
+
 }
@@ -17,6 +17,7 @@ import java.util.Map;
 
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.util.CollectionUtil;
+import org.flowable.engine.impl.scripting.ScriptingEngines;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -79,6 +80,23 @@ public class ScriptTaskTest extends PluggableFlowableTestCase {
         assertEquals(42, ((Number) runtimeService.getVariable(id, "sum")).intValue());
     }
 
+    @Deployment
+    public void testCompiledScriptCache() {
+        ScriptingEngines scriptingEngines = processEngineConfiguration.getScriptingEngines();
+        long hits = scriptingEngines.getCompiledScriptCacheHits();
+        long misses = scriptingEngines.getCompiledScriptCacheMisses();
+
+        // The scripts of the script task and the listener were compiled when deploying
+        for (int i = 0; i < 3; i++) {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testCompiledScriptCache", CollectionUtil.map("a", 20, "b", i));
+            assertEquals(20 + i, ((Number) runtimeService.getVariable(processInstance.getId(), "sum")).intValue());
+            assertEquals("compiledListener", runtimeService.getVariable(processInstance.getId(), "listenerVar"));
+        }
+
+        assertEquals(hits + 6, scriptingEngines.getCompiledScriptCacheHits());
+        assertEquals(misses, scriptingEngines.getCompiledScriptCacheMisses());
+    }
+
     public void testNoScriptProvided() {
         try {
             repositoryService.createDeployment().addClasspathResource("org/flowable/examples/bpmn/scripttask/ScriptTaskTest.testNoScriptProvided.bpmn20.xml").deploy();
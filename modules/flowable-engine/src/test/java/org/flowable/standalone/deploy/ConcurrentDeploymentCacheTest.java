@@ -0,0 +1,151 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.deploy;
+
+import java.text.MessageFormat;
+
+import org.flowable.engine.common.impl.persistence.deploy.ConcurrentDeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheStatistics;
+import org.flowable.engine.common.impl.persistence.deploy.DeploymentCacheWeigher;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
+import org.flowable.engine.impl.test.ResourceFlowableTestCase;
+import org.flowable.engine.repository.Deployment;
+import org.flowable.engine.repository.ProcessDefinition;
+
+public class ConcurrentDeploymentCacheTest extends ResourceFlowableTestCase {
+
+    public ConcurrentDeploymentCacheTest() {
+        super("org/flowable/standalone/deploy/concurrent.deployment.cache.test.flowable.cfg.xml");
+    }
+
+    public void testDeploymentCacheLimit() {
+        int processDefinitionCacheLimit = 3; // This is set in the configuration above
+
+        ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) processEngineConfiguration.getProcessDefinitionCache();
+        assertEquals(0, processDefinitionCache.size());
+
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        try {
+            for (int i = 1; i <= 5; i++) {
+                repositoryService.createDeployment().addString("Process " + i + ".bpmn20.xml", MessageFormat.format(processDefinitionTemplate, i)).deploy();
+
+                if (i < processDefinitionCacheLimit) {
+                    assertEquals(i, processDefinitionCache.size());
+                } else {
+                    assertEquals(processDefinitionCacheLimit, processDefinitionCache.size());
+                }
+            }
+            assertEquals(2, processDefinitionCache.getStatistics().getEvictionCount());
+
+            // An evicted process definition is a miss and is cached again when it's used
+            ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().processDefinitionKey("myProcess1").singleResult();
+            long missCount = processDefinitionCache.getStatistics().getMissCount();
+            runtimeService.startProcessInstanceById(processDefinition.getId());
+            assertTrue(processDefinitionCache.getStatistics().getMissCount() > missCount);
+            assertTrue(processDefinitionCache.contains(processDefinition.getId()));
+
+            long hitCount = processDefinitionCache.getStatistics().getHitCount();
+            runtimeService.startProcessInstanceById(processDefinition.getId());
+            assertTrue(processDefinitionCache.getStatistics().getHitCount() > hitCount);
+            assertEquals(processDefinitionCacheLimit, processDefinitionCache.size());
+
+        } finally {
+            for (Deployment deployment : repositoryService.createDeploymentQuery().list()) {
+                repositoryService.deleteDeployment(deployment.getId(), true);
+            }
+        }
+    }
+
+    public void testProtectedEntriesAreEvictedLast() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(3);
+        cache.add("a", "a");
+        cache.add("b", "b");
+        cache.add("c", "c");
+
+        // a is used repeatedly, so it's protected and b is the least recently used probationary entry
+        assertEquals("a", cache.get("a"));
+        assertEquals("a", cache.get("a"));
+        cache.add("d", "d");
+
+        assertTrue(cache.contains("a"));
+        assertFalse(cache.contains("b"));
+        assertTrue(cache.contains("c"));
+        assertTrue(cache.contains("d"));
+
+        assertNull(cache.get("b"));
+        DeploymentCacheStatistics statistics = cache.getStatistics();
+        assertEquals(2, statistics.getHitCount());
+        assertEquals(1, statistics.getMissCount());
+        assertEquals(1, statistics.getEvictionCount());
+        assertEquals(3, statistics.getSize());
+    }
+
+    public void testFirstLookupDoesNotProtectEntry() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("a", "a");
+        assertEquals("a", cache.get("a"));
+        cache.add("b", "b");
+
+        // a was looked up only once, so it's still probationary and the least recently used entry
+        cache.add("c", "c");
+        assertFalse(cache.contains("a"));
+        assertTrue(cache.contains("b"));
+        assertTrue(cache.contains("c"));
+    }
+
+    public void testWeightLimit() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(10, new DeploymentCacheWeigher<String>() {
+
+            @Override
+            public int weigh(String id, String object) {
+                return object.length();
+            }
+        });
+
+        cache.add("a", "aaaa");
+        cache.add("b", "bbbbbb");
+        assertEquals(10, cache.getWeight());
+
+        cache.add("c", "cc");
+        assertFalse(cache.contains("a"));
+        assertEquals(8, cache.getWeight());
+
+        // replacing an entry replaces its weight
+        cache.add("b", "b");
+        assertEquals(3, cache.getWeight());
+
+        cache.remove("c");
+        assertEquals(1, cache.getWeight());
+
+        cache.clear();
+        assertEquals(0, cache.getWeight());
+        assertEquals(0, cache.size());
+    }
+
+    public void testProcessDefinitionCacheEntryWeigher() {
+        String processDefinitionTemplate = DeploymentCacheTestUtil.readTemplateFile("/org/flowable/standalone/deploy/deploymentCacheTest.bpmn20.xml");
+        Deployment deployment = repositoryService.createDeployment().addString("Process.bpmn20.xml", MessageFormat.format(processDefinitionTemplate, 1)).deploy();
+        try {
+            ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().deploymentId(deployment.getId()).singleResult();
+            ProcessDefinitionCacheEntry cacheEntry = processEngineConfiguration.getProcessDefinitionCache().get(processDefinition.getId());
+
+            // 1 + start event, user task, end event and 2 sequence flows
+            assertEquals(6, new ProcessDefinitionCacheEntryWeigher().weigh(processDefinition.getId(), cacheEntry));
+
+        } finally {
+            repositoryService.deleteDeployment(deployment.getId(), true);
+        }
+    }
+
+}
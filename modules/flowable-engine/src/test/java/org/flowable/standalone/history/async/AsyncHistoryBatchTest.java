@@ -0,0 +1,131 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.engine.HistoryService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.RuntimeService;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncHistoryJobExecutor;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests executing history jobs in batches, on an engine of its own so the batch size is configured before the async history executor starts.
+ */
+public class AsyncHistoryBatchTest {
+
+    protected ProcessEngine processEngine;
+    protected RecordingAsyncHistoryJobHandler recordingJobHandler;
+
+    @Before
+    public void createProcessEngine() {
+        recordingJobHandler = new RecordingAsyncHistoryJobHandler();
+        recordingJobHandler.initDefaultTransformers();
+
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-AsyncHistoryBatchTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryExecutorJobBatchSize(5);
+        processEngineConfiguration.setCustomHistoryJobHandlers(Collections.<HistoryJobHandler>singletonList(recordingJobHandler));
+        // Started by the test once all history jobs exist, so the first acquisition finds a full batch
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+    }
+
+    @After
+    public void closeProcessEngine() {
+        for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+            processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+        }
+        processEngine.close();
+    }
+
+    @Test
+    public void testHistoryJobsExecutedInBatches() {
+        RuntimeService runtimeService = processEngine.getRuntimeService();
+        TaskService taskService = processEngine.getTaskService();
+        HistoryService historyService = processEngine.getHistoryService();
+
+        DefaultAsyncHistoryJobExecutor asyncHistoryExecutor = (DefaultAsyncHistoryJobExecutor) processEngine.getProcessEngineConfiguration().getAsyncHistoryExecutor();
+        Assert.assertEquals(5, asyncHistoryExecutor.getHistoryJobBatchSize());
+        Assert.assertEquals(5, asyncHistoryExecutor.getMaxAsyncJobsDuePerAcquisition());
+
+        processEngine.getRepositoryService().createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+            processInstanceIds.add(processInstanceId);
+            taskService.setAssignee(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId(), "johnDoe");
+        }
+        for (String processInstanceId : processInstanceIds) {
+            taskService.complete(taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId());
+        }
+
+        long historyJobCount = processEngine.getManagementService().createHistoryJobQuery().count();
+        Assert.assertTrue(historyJobCount > 5);
+        HistoryTestHelper.waitForJobExecutorToProcessAllHistoryJobs(processEngine.getProcessEngineConfiguration(), processEngine.getManagementService(), 10000L, 100L);
+        Assert.assertEquals(0, processEngine.getManagementService().createHistoryJobQuery().count());
+
+        // The jobs were acquired in batches of 5 and every batch was prepared and executed in one transaction
+        List<Integer> batchSizes = recordingJobHandler.getBatchSizes();
+        Assert.assertFalse(batchSizes.isEmpty());
+        int batchedJobCount = 0;
+        for (Integer batchSize : batchSizes) {
+            Assert.assertTrue(batchSize > 1 && batchSize <= 5);
+            batchedJobCount += batchSize;
+        }
+        Assert.assertTrue(batchSizes.contains(5));
+        Assert.assertTrue(batchedJobCount <= historyJobCount);
+
+        for (String processInstanceId : processInstanceIds) {
+            HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+            Assert.assertNotNull(historicProcessInstance);
+            Assert.assertNotNull(historicProcessInstance.getEndTime());
+
+            Assert.assertEquals("johnDoe", historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult().getAssignee());
+            Assert.assertEquals(3, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).finished().count());
+        }
+    }
+
+    static class RecordingAsyncHistoryJobHandler extends AsyncHistoryJobHandler {
+
+        protected List<Integer> batchSizes = Collections.synchronizedList(new ArrayList<Integer>());
+
+        @Override
+        public void prepareBatch(List<HistoryJobEntity> jobs, CommandContext commandContext) {
+            batchSizes.add(jobs.size());
+            super.prepareBatch(jobs, commandContext);
+        }
+
+        public List<Integer> getBatchSizes() {
+            return new ArrayList<>(batchSizes);
+        }
+    }
+
+}
@@ -0,0 +1,163 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.HistoryService;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.TaskService;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.engine.history.HistoricProcessInstance;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.engine.impl.history.async.AsyncHistoryJobHandler;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.history.async.codec.AsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.codec.BinaryAsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.json.transformer.HistoryJsonTransformer;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Tests executing async history jobs of which the data is written with a payload codec, on an engine of its own as the codec is configured before the
+ * engine is built.
+ */
+public class AsyncHistoryPayloadCodecTest {
+
+    protected ProcessEngine processEngine;
+    protected NotApplicableOnceTransformer notApplicableOnceTransformer;
+
+    @After
+    public void closeProcessEngine() {
+        if (processEngine != null) {
+            for (org.flowable.engine.repository.Deployment deployment : processEngine.getRepositoryService().createDeploymentQuery().list()) {
+                processEngine.getRepositoryService().deleteDeployment(deployment.getId(), true);
+            }
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void testHistoryWrittenWithBinaryCodec() {
+        createProcessEngine(new BinaryAsyncHistoryPayloadCodec());
+        runProcessAndAssertHistory(BinaryAsyncHistoryPayloadCodec.JOB_TYPE);
+    }
+
+    @Test
+    public void testHistoryWrittenWithCustomCodec() {
+        createProcessEngine(new BinaryAsyncHistoryPayloadCodec() {
+
+            @Override
+            public String getJobHandlerType() {
+                return "custom-async-history";
+            }
+        });
+        runProcessAndAssertHistory("custom-async-history");
+
+        // Jobs of the binary codec can still be executed
+        ProcessEngineConfigurationImpl processEngineConfiguration = (ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration();
+        Assert.assertTrue(processEngineConfiguration.getHistoryJobHandlers().containsKey(BinaryAsyncHistoryPayloadCodec.JOB_TYPE));
+    }
+
+    protected void createProcessEngine(AsyncHistoryPayloadCodec payloadCodec) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setJdbcUrl("jdbc:h2:mem:flowable-AsyncHistoryPayloadCodecTest;DB_CLOSE_DELAY=1000");
+        processEngineConfiguration.setDatabaseSchemaUpdate("true");
+        processEngineConfiguration.setAsyncHistoryEnabled(true);
+        processEngineConfiguration.setAsyncHistoryPayloadCodec(payloadCodec);
+        // Started by the test once all history jobs exist
+        processEngineConfiguration.setAsyncHistoryExecutorActivate(false);
+        processEngine = processEngineConfiguration.buildProcessEngine();
+
+        notApplicableOnceTransformer = new NotApplicableOnceTransformer();
+        AsyncHistoryJobHandler jobHandler = (AsyncHistoryJobHandler) processEngineConfiguration.getHistoryJobHandlers().get(payloadCodec.getJobHandlerType());
+        jobHandler.addHistoryJsonTransformer(notApplicableOnceTransformer);
+    }
+
+    protected void runProcessAndAssertHistory(String jobHandlerType) {
+        TaskService taskService = processEngine.getTaskService();
+        HistoryService historyService = processEngine.getHistoryService();
+
+        JobServiceConfiguration jobServiceConfiguration = (JobServiceConfiguration) processEngine.getProcessEngineConfiguration().getServiceConfigurations()
+                .get(EngineConfigurationConstants.KEY_JOB_SERVICE_CONFIG);
+        Assert.assertTrue(jobServiceConfiguration.getAsyncHistoryJobHandlerTypes().contains(jobHandlerType));
+
+        processEngine.getRepositoryService().createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+        String processInstanceId = processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess").getId();
+        String taskId = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult().getId();
+        taskService.setAssignee(taskId, "johnDoe");
+        taskService.complete(taskId);
+
+        List<HistoryJob> historyJobs = processEngine.getManagementService().createHistoryJobQuery().list();
+        Assert.assertFalse(historyJobs.isEmpty());
+        for (HistoryJob historyJob : historyJobs) {
+            Assert.assertEquals(jobHandlerType, historyJob.getJobHandlerType());
+        }
+
+        HistoryTestHelper.waitForJobExecutorToProcessAllHistoryJobs(processEngine.getProcessEngineConfiguration(), processEngine.getManagementService(), 10000L, 100L);
+        Assert.assertEquals(0, processEngine.getManagementService().createHistoryJobQuery().count());
+
+        // The process end job was not applicable at first, and was executed again after it was unacquired with decremented retries
+        Assert.assertEquals(2, notApplicableOnceTransformer.getApplicableChecks());
+        int numberOfRetries = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getAsyncHistoryExecutorNumberOfRetries();
+        Assert.assertEquals(numberOfRetries - 1, notApplicableOnceTransformer.getRetriesOnTransform());
+
+        HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstanceId).singleResult();
+        Assert.assertNotNull(historicProcessInstance);
+        Assert.assertNotNull(historicProcessInstance.getEndTime());
+        Assert.assertEquals("theEnd", historicProcessInstance.getEndActivityId());
+
+        Assert.assertEquals("johnDoe", historyService.createHistoricTaskInstanceQuery().processInstanceId(processInstanceId).singleResult().getAssignee());
+        Assert.assertEquals(3, historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).finished().count());
+    }
+
+    static class NotApplicableOnceTransformer implements HistoryJsonTransformer {
+
+        protected AtomicInteger applicableChecks = new AtomicInteger();
+        protected volatile int retriesOnTransform = -1;
+
+        @Override
+        public String getType() {
+            return HistoryJsonConstants.TYPE_PROCESS_INSTANCE_END;
+        }
+
+        @Override
+        public boolean isApplicable(ObjectNode historicalData, CommandContext commandContext) {
+            return applicableChecks.incrementAndGet() > 1;
+        }
+
+        @Override
+        public void transformJson(HistoryJobEntity job, ObjectNode historicalData, CommandContext commandContext) {
+            retriesOnTransform = job.getRetries();
+        }
+
+        public int getApplicableChecks() {
+            return applicableChecks.get();
+        }
+
+        public int getRetriesOnTransform() {
+            return retriesOnTransform;
+        }
+    }
+
+}
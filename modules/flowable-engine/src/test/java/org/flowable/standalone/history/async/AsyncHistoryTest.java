@@ -16,15 +16,18 @@ import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 
+import org.flowable.engine.common.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.engine.common.impl.util.CollectionUtil;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricProcessInstance;
 import org.flowable.engine.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.engine.impl.history.async.AsyncHistoryJobZippedHandler;
+import org.flowable.engine.impl.history.async.codec.BinaryAsyncHistoryPayloadCodec;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.test.Deployment;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.Job;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.task.api.history.HistoricTaskInstance;
 
@@ -43,6 +46,20 @@ public class AsyncHistoryTest extends PluggableFlowableTestCase {
         super.tearDown();
     }
 
+    public void testBinaryHistoryJobHandlerIsRegistered() {
+        if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
+            return;
+        }
+
+        // Registered without a payload codec, so binary jobs written before the codec was removed are still executed
+        assertNull(processEngineConfiguration.getAsyncHistoryPayloadCodec());
+        assertTrue(processEngineConfiguration.getHistoryJobHandlers().containsKey(BinaryAsyncHistoryPayloadCodec.JOB_TYPE));
+
+        JobServiceConfiguration jobServiceConfiguration = (JobServiceConfiguration) processEngineConfiguration.getServiceConfigurations()
+                .get(EngineConfigurationConstants.KEY_JOB_SERVICE_CONFIG);
+        assertTrue(jobServiceConfiguration.getAsyncHistoryJobHandlerTypes().contains(BinaryAsyncHistoryPayloadCodec.JOB_TYPE));
+    }
+
     public void testOneTaskProcess() {
         if (!processEngineConfiguration.isAsyncHistoryEnabled()) {
             return;
@@ -0,0 +1,105 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import java.util.Date;
+import java.util.Random;
+
+import org.flowable.engine.impl.history.async.AsyncHistoryDateUtil;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.history.async.codec.BinaryAsyncHistoryPayloadCodec;
+import org.flowable.engine.impl.history.async.codec.Lz4BlockCompressor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class BinaryAsyncHistoryPayloadCodecTest {
+
+    protected ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void testEncodeAndDecodeHistoryData() throws Exception {
+        BinaryAsyncHistoryPayloadCodec codec = new BinaryAsyncHistoryPayloadCodec();
+
+        ArrayNode historyNode = objectMapper.createArrayNode();
+        for (int i = 0; i < 10; i++) {
+            historyNode.add(createHistoryNode(i));
+        }
+
+        byte[] bytes = codec.encode(historyNode, objectMapper);
+        Assert.assertTrue(bytes.length < objectMapper.writeValueAsBytes(historyNode).length);
+        Assert.assertEquals(historyNode, codec.decode(bytes, objectMapper));
+
+        codec.setCompressionEnabled(false);
+        Assert.assertEquals(historyNode, codec.decode(codec.encode(historyNode, objectMapper), objectMapper));
+    }
+
+    @Test
+    public void testValuesThatLookLikeLongsOrDatesAreKept() throws Exception {
+        BinaryAsyncHistoryPayloadCodec codec = new BinaryAsyncHistoryPayloadCodec();
+
+        ObjectNode dataNode = objectMapper.createObjectNode();
+        dataNode.put("leadingZero", "007");
+        dataNode.put("negativeZero", "-0");
+        dataNode.put("minLong", Long.toString(Long.MIN_VALUE));
+        dataNode.put("tooLarge", "99999999999999999999");
+        dataNode.put("dateWithoutMillis", "2017-10-18T12:34:56Z");
+        dataNode.put("dateWithOffset", "2017-10-18T12:34:56.789+0200");
+        dataNode.put("emptyText", "");
+        dataNode.put("unicode", "\u00e9\u4e2d\u6587");
+        dataNode.putNull("nullValue");
+        dataNode.put("numberValue", 42);
+        dataNode.put("booleanValue", true);
+
+        Assert.assertEquals(dataNode, codec.decode(codec.encode(dataNode, objectMapper), objectMapper));
+    }
+
+    @Test
+    public void testCompressAndDecompress() {
+        Lz4BlockCompressor compressor = new Lz4BlockCompressor();
+        Random random = new Random(42);
+
+        for (int length : new int[] { 0, 1, 12, 13, 100, 70000, 200000 }) {
+            byte[] bytes = new byte[length];
+            for (int i = 0; i < length; i++) {
+                // a small alphabet gives both repeated and unique sequences
+                bytes[i] = (byte) ('a' + random.nextInt(i % 3 == 0 ? 26 : 4));
+            }
+
+            byte[] compressed = compressor.compress(bytes);
+            Assert.assertArrayEquals(bytes, compressor.decompress(compressed, 0, compressed.length, length));
+        }
+    }
+
+    protected ObjectNode createHistoryNode(int index) {
+        ObjectNode historyNode = objectMapper.createObjectNode();
+        historyNode.put(HistoryJsonConstants.TYPE, HistoryJsonConstants.TYPE_ACTIVITY_END);
+
+        ObjectNode dataNode = historyNode.putObject(HistoryJsonConstants.DATA);
+        dataNode.put(HistoryJsonConstants.PROCESS_INSTANCE_ID, "12345");
+        dataNode.put(HistoryJsonConstants.EXECUTION_ID, Integer.toString(12350 + index));
+        dataNode.put(HistoryJsonConstants.ACTIVITY_ID, "theTask" + index);
+        dataNode.put(HistoryJsonConstants.ACTIVITY_TYPE, "userTask");
+        dataNode.put(HistoryJsonConstants.START_TIME, AsyncHistoryDateUtil.formatDate(new Date(1508323200000L + index)));
+        dataNode.put(HistoryJsonConstants.END_TIME, AsyncHistoryDateUtil.formatDate(new Date(1508323260000L + index)));
+        dataNode.put(HistoryJsonConstants.TIMESTAMP, AsyncHistoryDateUtil.formatDate(new Date(1508323260000L + index)));
+        dataNode.put(HistoryJsonConstants.VARIABLE_LONG_VALUE, Long.toString(-index));
+        dataNode.put(HistoryJsonConstants.ACTIVITY_ASSIGNEE_HANDLED, "true");
+        return historyNode;
+    }
+
+}
@@ -34,6 +34,7 @@ import org.flowable.engine.common.impl.persistence.cache.EntityCache;
 import org.flowable.engine.common.impl.persistence.cache.EntityCacheImpl;
 import org.flowable.engine.common.impl.persistence.deploy.DefaultDeploymentCache;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.LatestDefinitionIdCache;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.form.api.FormEngineConfigurationApi;
 import org.flowable.form.api.FormManagementService;
@@ -139,6 +140,14 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration impleme
     protected int formDefinitionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<FormDefinitionCacheEntry> formDefinitionCache;
 
+    /**
+     * Whether the id of the latest form definition per key and tenant is cached, so that looking it up by key doesn't need a query. Deployments done by other
+     * engines on the same database are only seen once the cached id expires, see {@link #latestFormDefinitionCacheTimeToLive}.
+     */
+    protected boolean enableLatestFormDefinitionCache;
+    protected long latestFormDefinitionCacheTimeToLive; // In milliseconds, by default the ids don't expire
+    protected LatestDefinitionIdCache latestFormDefinitionIdCache;
+
     public static FormEngineConfiguration createFormEngineConfigurationFromResourceDefault() {
         return createFormEngineConfigurationFromResource("flowable.form.cfg.xml", "formEngineConfiguration");
     }
@@ -419,7 +428,12 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration impleme
             }
         }
 
+        if (latestFormDefinitionIdCache == null && enableLatestFormDefinitionCache) {
+            latestFormDefinitionIdCache = new LatestDefinitionIdCache(latestFormDefinitionCacheTimeToLive);
+        }
+
         deploymentManager = new DeploymentManager(formDefinitionCache, this);
+        deploymentManager.setLatestFormDefinitionIdCache(latestFormDefinitionIdCache);
         deploymentManager.setDeployers(deployers);
         deploymentManager.setDeploymentEntityManager(deploymentEntityManager);
         deploymentManager.setFormDefinitionEntityManager(formDefinitionEntityManager);
@@ -555,6 +569,33 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isEnableLatestFormDefinitionCache() {
+        return enableLatestFormDefinitionCache;
+    }
+
+    public FormEngineConfiguration setEnableLatestFormDefinitionCache(boolean enableLatestFormDefinitionCache) {
+        this.enableLatestFormDefinitionCache = enableLatestFormDefinitionCache;
+        return this;
+    }
+
+    public long getLatestFormDefinitionCacheTimeToLive() {
+        return latestFormDefinitionCacheTimeToLive;
+    }
+
+    public FormEngineConfiguration setLatestFormDefinitionCacheTimeToLive(long latestFormDefinitionCacheTimeToLive) {
+        this.latestFormDefinitionCacheTimeToLive = latestFormDefinitionCacheTimeToLive;
+        return this;
+    }
+
+    public LatestDefinitionIdCache getLatestFormDefinitionIdCache() {
+        return latestFormDefinitionIdCache;
+    }
+
+    public FormEngineConfiguration setLatestFormDefinitionIdCache(LatestDefinitionIdCache latestFormDefinitionIdCache) {
+        this.latestFormDefinitionIdCache = latestFormDefinitionIdCache;
+        return this;
+    }
+
     public FormDeploymentDataManager getDeploymentDataManager() {
         return deploymentDataManager;
     }
@@ -62,6 +62,7 @@ public class SetDeploymentTenantIdCmd implements Command<Void>, Serializable {
         for (FormDefinition formDefinition : formDefinitions) {
             CommandContextUtil.getFormEngineConfiguration().getFormDefinitionCache().remove(formDefinition.getId());
         }
+        CommandContextUtil.getFormEngineConfiguration().getDeploymentManager().invalidateLatestFormDefinitionIds();
 
         CommandContextUtil.getDeploymentEntityManager(commandContext).update(deployment);
 
@@ -17,6 +17,7 @@ import java.util.List;
 import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.api.FlowableObjectNotFoundException;
 import org.flowable.engine.common.impl.persistence.deploy.DeploymentCache;
+import org.flowable.engine.common.impl.persistence.deploy.LatestDefinitionIdCache;
 import org.flowable.form.api.FormDefinition;
 import org.flowable.form.engine.FormEngineConfiguration;
 import org.flowable.form.engine.impl.FormDefinitionQueryImpl;
@@ -25,6 +26,7 @@ import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityMana
 import org.flowable.form.engine.impl.persistence.entity.FormDeploymentEntity;
 import org.flowable.form.engine.impl.persistence.entity.FormDeploymentEntityManager;
 import org.flowable.form.engine.impl.persistence.entity.FormResourceEntity;
+import org.flowable.form.engine.impl.util.CommandContextUtil;
 
 /**
  * @author Tijs Rademakers
@@ -34,6 +36,7 @@ public class DeploymentManager {
 
     protected FormEngineConfiguration engineConfig;
     protected DeploymentCache<FormDefinitionCacheEntry> formCache;
+    protected LatestDefinitionIdCache latestFormDefinitionIdCache;
 
     protected List<Deployer> deployers;
     protected FormDefinitionEntityManager formDefinitionEntityManager;
@@ -45,6 +48,10 @@ public class DeploymentManager {
     }
 
     public void deploy(FormDeploymentEntity deployment) {
+        if (deployment.isNew()) {
+            invalidateLatestFormDefinitionIds();
+        }
+
         for (Deployer deployer : deployers) {
             deployer.deploy(deployment);
         }
@@ -70,25 +77,70 @@ public class DeploymentManager {
     }
 
     public FormDefinitionEntity findDeployedLatestFormDefinitionByKey(String formDefinitionKey) {
-        FormDefinitionEntity formDefinition = formDefinitionEntityManager.findLatestFormDefinitionByKey(formDefinitionKey);
+        FormDefinitionEntity formDefinition = findCachedLatestFormDefinition(formDefinitionKey, null);
+        if (formDefinition != null) {
+            return formDefinition;
+        }
+
+        long invalidationStamp = latestFormDefinitionIdCache != null ? latestFormDefinitionIdCache.getInvalidationStamp() : 0L;
+        formDefinition = formDefinitionEntityManager.findLatestFormDefinitionByKey(formDefinitionKey);
 
         if (formDefinition == null) {
             throw new FlowableObjectNotFoundException("no form definitions deployed with key '" + formDefinitionKey + "'");
         }
         formDefinition = resolveFormDefinition(formDefinition).getFormDefinitionEntity();
+        cacheLatestFormDefinitionId(formDefinitionKey, null, formDefinition, invalidationStamp);
         return formDefinition;
     }
 
     public FormDefinitionEntity findDeployedLatestFormDefinitionByKeyAndTenantId(String formDefinitionKey, String tenantId) {
+        // A null tenant id is not cached, as it would share the cache key of the lookup without tenant
+        boolean useCache = tenantId != null;
+        if (useCache) {
+            FormDefinitionEntity formDefinition = findCachedLatestFormDefinition(formDefinitionKey, tenantId);
+            if (formDefinition != null) {
+                return formDefinition;
+            }
+        }
+
+        long invalidationStamp = latestFormDefinitionIdCache != null ? latestFormDefinitionIdCache.getInvalidationStamp() : 0L;
         FormDefinitionEntity formDefinition = formDefinitionEntityManager.findLatestFormDefinitionByKeyAndTenantId(formDefinitionKey, tenantId);
 
         if (formDefinition == null) {
             throw new FlowableObjectNotFoundException("no form definitions deployed with key '" + formDefinitionKey + "' for tenant identifier '" + tenantId + "'");
         }
         formDefinition = resolveFormDefinition(formDefinition).getFormDefinitionEntity();
+        if (useCache) {
+            cacheLatestFormDefinitionId(formDefinitionKey, tenantId, formDefinition, invalidationStamp);
+        }
         return formDefinition;
     }
 
+    protected FormDefinitionEntity findCachedLatestFormDefinition(String formDefinitionKey, String tenantId) {
+        if (latestFormDefinitionIdCache != null) {
+            String id = latestFormDefinitionIdCache.get(formDefinitionKey, tenantId);
+            if (id != null) {
+                FormDefinitionCacheEntry cacheEntry = formCache.get(id);
+                if (cacheEntry != null) {
+                    return cacheEntry.getFormDefinitionEntity();
+                }
+            }
+        }
+        return null;
+    }
+
+    protected void cacheLatestFormDefinitionId(String formDefinitionKey, String tenantId, FormDefinitionEntity formDefinition, long invalidationStamp) {
+        if (latestFormDefinitionIdCache != null) {
+            latestFormDefinitionIdCache.put(formDefinitionKey, tenantId, formDefinition.getId(), invalidationStamp);
+        }
+    }
+
+    public void invalidateLatestFormDefinitionIds() {
+        if (latestFormDefinitionIdCache != null) {
+            latestFormDefinitionIdCache.invalidateOnCommit(CommandContextUtil.getCommandContext());
+        }
+    }
+
     public FormDefinitionEntity findDeployedLatestFormDefinitionByKeyAndParentDeploymentId(String formDefinitionKey, String parentDeploymentId) {
         FormDefinitionEntity formDefinition = formDefinitionEntityManager.findLatestFormDefinitionByKeyAndParentDeploymentId(formDefinitionKey, parentDeploymentId);
 
@@ -156,6 +208,8 @@ public class DeploymentManager {
             throw new FlowableObjectNotFoundException("Could not find a deployment with id '" + deploymentId + "'.");
         }
 
+        invalidateLatestFormDefinitionIds();
+
         // Remove any form definition from the cache
         List<FormDefinition> forms = new FormDefinitionQueryImpl().deploymentId(deploymentId).list();
 
@@ -167,6 +221,14 @@ public class DeploymentManager {
         }
     }
 
+    public LatestDefinitionIdCache getLatestFormDefinitionIdCache() {
+        return latestFormDefinitionIdCache;
+    }
+
+    public void setLatestFormDefinitionIdCache(LatestDefinitionIdCache latestFormDefinitionIdCache) {
+        this.latestFormDefinitionIdCache = latestFormDefinitionIdCache;
+    }
+
     public List<Deployer> getDeployers() {
         return deployers;
     }
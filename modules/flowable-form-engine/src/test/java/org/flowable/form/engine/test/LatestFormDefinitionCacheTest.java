@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.form.engine.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import org.flowable.engine.common.api.FlowableObjectNotFoundException;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.deploy.LatestDefinitionIdCache;
+import org.flowable.form.api.FormDeployment;
+import org.flowable.form.engine.impl.persistence.deploy.DeploymentManager;
+import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntity;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LatestFormDefinitionCacheTest extends AbstractFlowableFormTest {
+
+    protected LatestDefinitionIdCache originalCache;
+    protected LatestDefinitionIdCache latestFormDefinitionIdCache;
+
+    @Before
+    public void setLatestFormDefinitionIdCache() {
+        DeploymentManager deploymentManager = formEngineConfiguration.getDeploymentManager();
+        originalCache = deploymentManager.getLatestFormDefinitionIdCache();
+        latestFormDefinitionIdCache = new LatestDefinitionIdCache();
+        deploymentManager.setLatestFormDefinitionIdCache(latestFormDefinitionIdCache);
+    }
+
+    @After
+    public void restoreLatestFormDefinitionIdCache() {
+        formEngineConfiguration.getDeploymentManager().setLatestFormDefinitionIdCache(originalCache);
+        for (FormDeployment deployment : repositoryService.createDeploymentQuery().list()) {
+            repositoryService.deleteDeployment(deployment.getId());
+        }
+    }
+
+    @Test
+    public void testChangeDeploymentTenantId() {
+        String deploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/form/engine/test/deployment/simple.form")
+                .tenantId("tenantA")
+                .deploy()
+                .getId();
+
+        FormDefinitionEntity formDefinition = findLatestFormDefinition("form1", "tenantA");
+        assertEquals("tenantA", formDefinition.getTenantId());
+        assertEquals(1, latestFormDefinitionIdCache.size());
+
+        repositoryService.setDeploymentTenantId(deploymentId, "tenantB");
+        assertEquals(0, latestFormDefinitionIdCache.size());
+
+        // Puts the form definition back in the form definition cache, the id cached for the old tenant must not be used anymore
+        assertEquals("tenantB", findLatestFormDefinition("form1", "tenantB").getTenantId());
+        try {
+            findLatestFormDefinition("form1", "tenantA");
+            fail("Exception expected");
+        } catch (FlowableObjectNotFoundException e) {
+            // expected
+        }
+    }
+
+    protected FormDefinitionEntity findLatestFormDefinition(final String formDefinitionKey, final String tenantId) {
+        return formEngineConfiguration.getCommandExecutor().execute(new Command<FormDefinitionEntity>() {
+
+            @Override
+            public FormDefinitionEntity execute(CommandContext commandContext) {
+                return formEngineConfiguration.getDeploymentManager().findDeployedLatestFormDefinitionByKeyAndTenantId(formDefinitionKey, tenantId);
+            }
+        });
+    }
+
+}
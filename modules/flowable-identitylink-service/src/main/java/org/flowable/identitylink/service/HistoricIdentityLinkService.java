@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.identitylink.service.impl.persistence.entity.HistoricIdentityLinkEntity;
@@ -40,4 +41,14 @@ public interface HistoricIdentityLinkService {
     void deleteHistoricIdentityLinksByProcessInstanceId(String processInstanceId);
     
     void deleteHistoricIdentityLinksByTaskId(String taskId);
+
+    /**
+     * Deletes the historic identity links of the given process instances and their tasks, without loading them first.
+     */
+    void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    /**
+     * Deletes the historic identity links of the historic tasks of the given scopes of the given scope type, without loading them first.
+     */
+    void deleteHistoricIdentityLinksByScopeIds(Collection<String> scopeIds, String scopeType);
 }
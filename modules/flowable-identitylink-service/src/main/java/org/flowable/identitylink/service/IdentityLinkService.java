@@ -61,5 +61,10 @@ public interface IdentityLinkService {
     List<IdentityLinkEntity> deleteIdentityLinksByTaskId(String taskId);
     
     void deleteIdentityLinksByProcessDefinitionId(String processDefinitionId);
+
+    /**
+     * Deletes the identity links of the given process instances and their tasks, without loading them first and without dispatching events.
+     */
+    void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
     
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.identitylink.service.HistoricIdentityLinkService;
@@ -76,4 +77,14 @@ public class HistoricIdentityLinkServiceImpl extends ServiceImpl implements Hist
     public void deleteHistoricIdentityLinksByTaskId(String taskId) {
         getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksByTaskId(taskId);
     }
+
+    @Override
+    public void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricIdentityLinksByScopeIds(Collection<String> scopeIds, String scopeType) {
+        getHistoricIdentityLinkEntityManager().deleteHistoricIdentityLinksByScopeIds(scopeIds, scopeType);
+    }
 }
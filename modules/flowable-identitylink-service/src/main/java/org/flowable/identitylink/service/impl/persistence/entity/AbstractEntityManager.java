@@ -14,6 +14,7 @@ package org.flowable.identitylink.service.impl.persistence.entity;
 
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.event.EventDispatcherUtil;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -54,9 +55,13 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
         getDataManager().insert(entity);
 
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-        if (fireCreateEvent && eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableIdentityLinkEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity));
-            eventDispatcher.dispatchEvent(FlowableIdentityLinkEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity));
+        if (fireCreateEvent && eventDispatcher != null) {
+            if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_CREATED)) {
+                eventDispatcher.dispatchEvent(FlowableIdentityLinkEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity));
+            }
+            if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_INITIALIZED)) {
+                eventDispatcher.dispatchEvent(FlowableIdentityLinkEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity));
+            }
         }
     }
 
@@ -70,7 +75,7 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
         EntityImpl updatedEntity = getDataManager().update(entity);
 
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-        if (fireUpdateEvent && eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (fireUpdateEvent && EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_UPDATED)) {
             eventDispatcher.dispatchEvent(FlowableIdentityLinkEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, entity));
         }
 
@@ -93,7 +98,7 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
         getDataManager().delete(entity);
 
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-        if (fireDeleteEvent && eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (fireDeleteEvent && EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_DELETED)) {
             eventDispatcher.dispatchEvent(FlowableIdentityLinkEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, entity));
         }
     }
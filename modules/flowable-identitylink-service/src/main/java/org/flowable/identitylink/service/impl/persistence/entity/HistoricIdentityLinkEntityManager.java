@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
@@ -29,4 +30,8 @@ public interface HistoricIdentityLinkEntityManager extends EntityManager<Histori
 
     void deleteHistoricIdentityLinksByProcInstance(String processInstanceId);
 
+    void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricIdentityLinksByScopeIds(Collection<String> scopeIds, String scopeType);
+
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.identitylink.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -67,6 +68,16 @@ public class HistoricIdentityLinkEntityManagerImpl extends AbstractEntityManager
 
     }
 
+    @Override
+    public void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicIdentityLinkDataManager.deleteHistoricIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricIdentityLinksByScopeIds(Collection<String> scopeIds, String scopeType) {
+        historicIdentityLinkDataManager.deleteHistoricIdentityLinksByScopeIds(scopeIds, scopeType);
+    }
+
     public HistoricIdentityLinkDataManager getHistoricIdentityLinkDataManager() {
         return historicIdentityLinkDataManager;
     }
@@ -60,4 +60,6 @@ public interface IdentityLinkEntityManager extends EntityManager<IdentityLinkEnt
 
     void deleteIdentityLinksByProcDef(String processDefId);
 
+    void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
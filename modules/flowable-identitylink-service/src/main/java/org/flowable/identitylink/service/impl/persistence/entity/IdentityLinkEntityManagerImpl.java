@@ -215,6 +215,11 @@ public class IdentityLinkEntityManagerImpl extends AbstractEntityManager<Identit
         identityLinkDataManager.deleteIdentityLinksByProcDef(processDefId);
     }
 
+    @Override
+    public void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        identityLinkDataManager.deleteIdentityLinksByProcessInstanceIds(processInstanceIds);
+    }
+
     public IdentityLinkDataManager getIdentityLinkDataManager() {
         return identityLinkDataManager;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -26,4 +27,8 @@ public interface HistoricIdentityLinkDataManager extends DataManager<HistoricIde
 
     List<HistoricIdentityLinkEntity> findHistoricIdentityLinksByProcessInstanceId(String processInstanceId);
 
+    void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricIdentityLinksByScopeIds(Collection<String> scopeIds, String scopeType);
+
 }
@@ -12,7 +12,11 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.engine.common.impl.db.AbstractDataManager;
 import org.flowable.engine.common.impl.db.CachedEntityMatcher;
@@ -49,4 +53,17 @@ public class MybatisHistoricIdentityLinkDataManager extends AbstractDataManager<
         return getList("selectHistoricIdentityLinksByProcessInstance", processInstanceId, historicIdentityLinksByProcInstMatcher, true);
     }
 
+    @Override
+    public void deleteHistoricIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricIdentityLinksByProcessInstanceIds", new ArrayList<>(processInstanceIds), HistoricIdentityLinkEntityImpl.class);
+    }
+
+    @Override
+    public void deleteHistoricIdentityLinksByScopeIds(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeIds", new ArrayList<>(scopeIds));
+        params.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteHistoricIdentityLinksByScopeIds", params, HistoricIdentityLinkEntityImpl.class);
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.identitylink.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -95,4 +97,9 @@ public class MybatisIdentityLinkDataManager extends AbstractDataManager<Identity
         getDbSqlSession().delete("deleteIdentityLinkByProcDef", processDefId, IdentityLinkEntityImpl.class);
     }
 
+    @Override
+    public void deleteIdentityLinksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteIdentityLinksByProcessInstanceIds", new ArrayList<>(processInstanceIds), IdentityLinkEntityImpl.class);
+    }
+
 }
@@ -0,0 +1,31 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service;
+
+import java.util.List;
+
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+/**
+ * A {@link HistoryJobHandler} that can prepare several history jobs that are executed in the same transaction, for example by loading the data all of
+ * them need with one query instead of one query per job.
+ */
+public interface BatchHistoryJobHandler extends HistoryJobHandler {
+
+    /**
+     * Called once before the given jobs, which all have the type of this handler, are executed one by one in the same command.
+     */
+    void prepareBatch(List<HistoryJobEntity> jobs, CommandContext commandContext);
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.job.api.JobInfo;
@@ -68,4 +69,9 @@ public interface JobService {
     void deleteSuspendedJobsByExecutionId(String executionId);
     
     void deleteDeadLetterJobsByExecutionId(String executionId);
+
+    /**
+     * Deletes the async, suspended and dead letter jobs of the given process instances, without loading them first and without dispatching events.
+     */
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
 }
@@ -53,9 +53,12 @@ import org.flowable.job.service.impl.persistence.entity.data.impl.MybatisTimerJo
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Tijs Rademakers
@@ -109,6 +112,13 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
 
     protected Map<String, HistoryJobHandler> historyJobHandlers;
 
+    /**
+     * The job handler types of the async history jobs. A failing job of one of these types is unacquired with decremented retries, see
+     * {@link org.flowable.job.service.impl.asyncexecutor.UnacquireAsyncHistoryJobExceptionHandler}. Engines add the types of the history job handlers
+     * they register next to the default ones.
+     */
+    protected Set<String> asyncHistoryJobHandlerTypes = new HashSet<>(Arrays.asList("async-history", "async-history-zipped", "cmmn-async-history"));
+
     protected int asyncExecutorNumberOfRetries;
     protected int asyncExecutorResetExpiredJobsMaxTimeout;
 
@@ -446,6 +456,20 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public Set<String> getAsyncHistoryJobHandlerTypes() {
+        return asyncHistoryJobHandlerTypes;
+    }
+
+    public JobServiceConfiguration setAsyncHistoryJobHandlerTypes(Set<String> asyncHistoryJobHandlerTypes) {
+        this.asyncHistoryJobHandlerTypes = asyncHistoryJobHandlerTypes;
+        return this;
+    }
+
+    public JobServiceConfiguration addAsyncHistoryJobHandlerType(String asyncHistoryJobHandlerType) {
+        this.asyncHistoryJobHandlerTypes.add(asyncHistoryJobHandlerType);
+        return this;
+    }
+
     public int getAsyncExecutorNumberOfRetries() {
         return asyncExecutorNumberOfRetries;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
@@ -48,4 +49,9 @@ public interface TimerJobService {
     void deleteTimerJob(TimerJobEntity timerJob);
     
     void deleteTimerJobsByExecutionId(String executionId);
+
+    /**
+     * Deletes the timer jobs of the given process instances, without loading them first and without dispatching events.
+     */
+    void deleteTimerJobsByProcessInstanceIds(Collection<String> processInstanceIds);
 }
@@ -169,4 +169,11 @@ public class JobServiceImpl extends ServiceImpl implements JobService {
             }
         }
     }
+
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getJobEntityManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+        getSuspendedJobEntityManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+        getDeadLetterJobEntityManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+    }
 }
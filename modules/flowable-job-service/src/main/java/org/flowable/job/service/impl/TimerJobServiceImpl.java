@@ -103,4 +103,9 @@ public class TimerJobServiceImpl extends ServiceImpl implements TimerJobService
             }
         }
     }
+
+    @Override
+    public void deleteTimerJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getTimerJobEntityManager().deleteJobsByProcessInstanceIds(processInstanceIds);
+    }
 }
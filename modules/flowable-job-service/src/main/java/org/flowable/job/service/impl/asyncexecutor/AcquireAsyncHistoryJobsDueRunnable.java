@@ -0,0 +1,78 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.engine.common.impl.interceptor.CommandExecutor;
+import org.flowable.job.api.HistoryJob;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntityManager;
+
+/**
+ * Acquires history jobs and hands them to the {@link DefaultAsyncHistoryJobExecutor} in batches of {@link DefaultAsyncHistoryJobExecutor#getHistoryJobBatchSize()}
+ * jobs, each batch being executed in one transaction. The jobs are ordered by creation time, so data of earlier transactions is written first.
+ */
+public class AcquireAsyncHistoryJobsDueRunnable extends AcquireAsyncJobsDueRunnable {
+
+    protected static final Comparator<JobInfoEntity> CREATE_TIME_COMPARATOR = new Comparator<JobInfoEntity>() {
+
+        @Override
+        public int compare(JobInfoEntity job1, JobInfoEntity job2) {
+            Date createTime1 = job1 instanceof HistoryJob ? ((HistoryJob) job1).getCreateTime() : null;
+            Date createTime2 = job2 instanceof HistoryJob ? ((HistoryJob) job2).getCreateTime() : null;
+            if (createTime1 != null && createTime2 != null && !createTime1.equals(createTime2)) {
+                return createTime1.compareTo(createTime2);
+            }
+            return job1.getId().compareTo(job2.getId());
+        }
+    };
+
+    protected final DefaultAsyncHistoryJobExecutor asyncHistoryExecutor;
+
+    public AcquireAsyncHistoryJobsDueRunnable(String name, DefaultAsyncHistoryJobExecutor asyncHistoryExecutor,
+            JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager) {
+        super(name, asyncHistoryExecutor, jobEntityManager);
+        this.asyncHistoryExecutor = asyncHistoryExecutor;
+    }
+
+    @Override
+    protected long acquireAndExecuteJobs(CommandExecutor commandExecutor, int remainingCapacity) {
+        // One place in the queue holds a whole batch
+        int batchSize = asyncHistoryExecutor.getHistoryJobBatchSize();
+        int remainingJobCapacity = remainingCapacity > Integer.MAX_VALUE / batchSize ? Integer.MAX_VALUE : remainingCapacity * batchSize;
+        return super.acquireAndExecuteJobs(commandExecutor, remainingJobCapacity);
+    }
+
+    @Override
+    protected List<JobInfoEntity> offerJobs(AcquiredJobEntities acquiredJobs) {
+        List<JobInfoEntity> jobs = new ArrayList<>(acquiredJobs.getJobs());
+        Collections.sort(jobs, CREATE_TIME_COMPARATOR);
+
+        List<JobInfoEntity> rejected = new ArrayList<>();
+        int batchSize = asyncHistoryExecutor.getHistoryJobBatchSize();
+        for (int i = 0; i < jobs.size(); i += batchSize) {
+            List<JobInfoEntity> batch = new ArrayList<>(jobs.subList(i, Math.min(i + batchSize, jobs.size())));
+            boolean batchSuccessFullyOffered = asyncHistoryExecutor.executeAsyncHistoryJobs(batch);
+            if (!batchSuccessFullyOffered) {
+                rejected.addAll(batch);
+            }
+        }
+        return rejected;
+    }
+
+}
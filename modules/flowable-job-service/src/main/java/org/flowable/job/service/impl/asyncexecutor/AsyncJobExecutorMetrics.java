@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+/**
+ * Immutable snapshot of the job execution counters of a {@link VirtualThreadAsyncJobExecutor}.
+ */
+public class AsyncJobExecutorMetrics {
+
+    protected final String executionMode;
+    protected final int maxConcurrentJobs;
+    protected final int activeJobs;
+    protected final long submittedJobs;
+    protected final long rejectedJobs;
+    protected final long completedJobs;
+    protected final long totalExecutionTimeNanos;
+    protected final long uptimeMillis;
+
+    public AsyncJobExecutorMetrics(String executionMode, int maxConcurrentJobs, int activeJobs, long submittedJobs, long rejectedJobs,
+            long completedJobs, long totalExecutionTimeNanos, long uptimeMillis) {
+        this.executionMode = executionMode;
+        this.maxConcurrentJobs = maxConcurrentJobs;
+        this.activeJobs = activeJobs;
+        this.submittedJobs = submittedJobs;
+        this.rejectedJobs = rejectedJobs;
+        this.completedJobs = completedJobs;
+        this.totalExecutionTimeNanos = totalExecutionTimeNanos;
+        this.uptimeMillis = uptimeMillis;
+    }
+
+    /**
+     * The kind of threads jobs are executed on: {@link VirtualThreadAsyncJobExecutor#MODE_VIRTUAL_THREADS} or
+     * {@link VirtualThreadAsyncJobExecutor#MODE_PLATFORM_THREADS}. Null when the executor has not been started.
+     */
+    public String getExecutionMode() {
+        return executionMode;
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public int getActiveJobs() {
+        return activeJobs;
+    }
+
+    public long getSubmittedJobs() {
+        return submittedJobs;
+    }
+
+    public long getRejectedJobs() {
+        return rejectedJobs;
+    }
+
+    public long getCompletedJobs() {
+        return completedJobs;
+    }
+
+    public long getTotalExecutionTimeNanos() {
+        return totalExecutionTimeNanos;
+    }
+
+    public long getUptimeMillis() {
+        return uptimeMillis;
+    }
+
+    /**
+     * @return the average wall clock time (in milliseconds) spent executing a job, or 0 when no job completed yet.
+     */
+    public double getAverageExecutionTimeMillis() {
+        if (completedJobs == 0) {
+            return 0.0;
+        }
+        return totalExecutionTimeNanos / 1000000.0 / completedJobs;
+    }
+
+    /**
+     * @return the number of completed jobs per second since the executor was started.
+     */
+    public double getThroughputPerSecond() {
+        if (uptimeMillis <= 0) {
+            return 0.0;
+        }
+        return completedJobs * 1000.0 / uptimeMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "AsyncJobExecutorMetrics[mode=" + executionMode
+                + ", maxConcurrentJobs=" + maxConcurrentJobs
+                + ", activeJobs=" + activeJobs
+                + ", submittedJobs=" + submittedJobs
+                + ", rejectedJobs=" + rejectedJobs
+                + ", completedJobs=" + completedJobs
+                + ", averageExecutionTimeMillis=" + getAverageExecutionTimeMillis()
+                + ", throughputPerSecond=" + getThroughputPerSecond() + "]";
+    }
+
+}
@@ -12,8 +12,19 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.flowable.job.api.JobInfo;
+
 public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
     
+    /**
+     * The number of acquired history jobs that are executed together in one transaction. With the default of 1, every history job gets its own
+     * transaction. Larger batches reduce the number of transactions and allow handlers to load the historic data of all jobs at once.
+     */
+    protected int historyJobBatchSize = 1;
+
     public DefaultAsyncHistoryJobExecutor() {
         setTimerRunnableNeeded(false);
         setAcquireRunnableThreadName("flowable-acquire-history-jobs");
@@ -28,4 +39,46 @@ public class DefaultAsyncHistoryJobExecutor extends DefaultAsyncJobExecutor {
         }
     }
 
+    @Override
+    protected void initializeRunnables() {
+        if (historyJobBatchSize > 1 && !isMessageQueueMode && asyncJobsDueRunnable == null) {
+            asyncJobsDueRunnable = new AcquireAsyncHistoryJobsDueRunnable(acquireRunnableThreadName, this, jobEntityManager);
+        }
+        super.initializeRunnables();
+    }
+
+    /**
+     * Hands the given history jobs to the thread pool to be executed in one transaction.
+     * 
+     * @return false if the thread pool queue was full and the jobs were unacquired
+     */
+    public boolean executeAsyncHistoryJobs(List<? extends JobInfo> jobs) {
+        if (jobs.size() == 1 || isMessageQueueMode || !isActive) {
+            boolean allJobsOffered = true;
+            for (JobInfo job : jobs) {
+                allJobsOffered &= executeAsyncJob(job);
+            }
+            return allJobsOffered;
+        }
+
+        try {
+            executorService.execute(new ExecuteAsyncHistoryJobsRunnable(jobs, this));
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            for (JobInfo job : jobs) {
+                unacquireJob(job);
+            }
+            return false;
+        }
+    }
+
+    public int getHistoryJobBatchSize() {
+        return historyJobBatchSize;
+    }
+
+    public void setHistoryJobBatchSize(int historyJobBatchSize) {
+        this.historyJobBatchSize = historyJobBatchSize;
+    }
+
 }
@@ -89,26 +89,32 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
             // This can happen while already in a command context (for example in a transaction listener
             // after the async executor has been hinted that a new async job is created)
             // or not (when executed in the acquire thread runnable)
-
-            CommandContext commandContext = Context.getCommandContext();
-            if (commandContext != null) {
-                CommandContextUtil.getJobManager(commandContext).unacquire(job);
-
-            } else {
-                jobServiceConfiguration.getCommandExecutor().execute(new Command<Void>() {
-                    @Override
-                    public Void execute(CommandContext commandContext) {
-                        CommandContextUtil.getJobManager(commandContext).unacquire(job);
-                        return null;
-                    }
-                });
-            }
+            unacquireJob(job);
 
             // Job queue full, returning true so (if wanted) the acquiring can be throttled
             return false;
         }
     }
 
+    /**
+     * Unlocks a job that could not be handed to the executor service, so it can be picked up again later.
+     */
+    protected void unacquireJob(final JobInfo job) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext != null) {
+            CommandContextUtil.getJobManager(commandContext).unacquire(job);
+
+        } else {
+            jobServiceConfiguration.getCommandExecutor().execute(new Command<Void>() {
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    CommandContextUtil.getJobManager(commandContext).unacquire(job);
+                    return null;
+                }
+            });
+        }
+    }
+
     @Override
     protected void startAdditionalComponents() {
         if (!isMessageQueueMode) {
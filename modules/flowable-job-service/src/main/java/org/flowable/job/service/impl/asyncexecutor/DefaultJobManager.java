@@ -12,9 +12,11 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
@@ -45,6 +47,7 @@ import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobByteArrayRef;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
@@ -62,6 +65,8 @@ public class DefaultJobManager implements JobManager {
 
     public static final String CYCLE_TYPE = "cycle";
 
+    protected static final String ATTRIBUTE_ADDED_ASYNC_JOBS = "ctx.attribute.addedAsyncJobs";
+
     protected JobServiceConfiguration jobServiceConfiguration;
 
     public DefaultJobManager() {
@@ -391,13 +396,24 @@ public class DefaultJobManager implements JobManager {
     }
 
     protected void hintAsyncExecutor(JobEntity job) {
-        if (Context.getTransactionContext() != null) {
-            JobAddedTransactionListener jobAddedTransactionListener = new JobAddedTransactionListener(job, getAsyncExecutor());
-            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, jobAddedTransactionListener);
-        } else {
-            AsyncJobAddedNotification jobAddedNotification = new AsyncJobAddedNotification(job, getAsyncExecutor());
-            getCommandContext().addCloseListener(jobAddedNotification);
+        // All jobs created in the same command context are handed to the async executor together, 
+        // so only one additional command is needed after the transaction is committed
+        CommandContext commandContext = getCommandContext();
+        @SuppressWarnings("unchecked")
+        List<JobInfoEntity> addedJobs = (List<JobInfoEntity>) commandContext.getAttribute(ATTRIBUTE_ADDED_ASYNC_JOBS);
+        if (addedJobs == null) {
+            addedJobs = new ArrayList<>();
+            commandContext.addAttribute(ATTRIBUTE_ADDED_ASYNC_JOBS, addedJobs);
+
+            if (Context.getTransactionContext() != null) {
+                JobAddedTransactionListener jobAddedTransactionListener = new JobAddedTransactionListener(addedJobs, getAsyncExecutor());
+                Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, jobAddedTransactionListener);
+            } else {
+                AsyncJobAddedNotification jobAddedNotification = new AsyncJobAddedNotification(addedJobs, getAsyncExecutor());
+                commandContext.addCloseListener(jobAddedNotification);
+            }
         }
+        addedJobs.add(job);
     }
 
     @Override
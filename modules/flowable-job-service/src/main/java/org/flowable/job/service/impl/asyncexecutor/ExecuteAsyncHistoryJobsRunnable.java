@@ -0,0 +1,68 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.cmd.ExecuteAsyncHistoryJobsCmd;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes several history jobs in one transaction. When that transaction fails, for example because one of the jobs is not applicable yet, each job
+ * is executed again on its own, so the failure handling of a single job (retries, unacquiring) stays the same as without batching.
+ */
+public class ExecuteAsyncHistoryJobsRunnable implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncHistoryJobsRunnable.class);
+
+    protected List<? extends JobInfo> jobs;
+    protected AbstractAsyncExecutor asyncExecutor;
+
+    public ExecuteAsyncHistoryJobsRunnable(List<? extends JobInfo> jobs, AbstractAsyncExecutor asyncExecutor) {
+        this.jobs = jobs;
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    @Override
+    public void run() {
+        List<String> jobIds = new ArrayList<>(jobs.size());
+        for (JobInfo job : jobs) {
+            jobIds.add(job.getId());
+        }
+
+        try {
+            asyncExecutor.getJobServiceConfiguration().getCommandExecutor().execute(new ExecuteAsyncHistoryJobsCmd(jobIds));
+
+        } catch (Throwable exception) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Could not execute {} history jobs in one transaction, executing them one by one. Exception message: {}", 
+                        jobs.size(), exception.getMessage());
+            }
+            executeJobsOneByOne();
+        }
+    }
+
+    protected void executeJobsOneByOne() {
+        for (JobInfo job : jobs) {
+            try {
+                asyncExecutor.createRunnableForJob(job).run();
+            } catch (Throwable exception) {
+                LOGGER.error("Error while executing history job {}", job.getId(), exception);
+            }
+        }
+    }
+
+}
@@ -12,6 +12,9 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.flowable.engine.common.impl.cfg.TransactionListener;
 import org.flowable.engine.common.impl.cfg.TransactionPropagation;
 import org.flowable.engine.common.impl.interceptor.Command;
@@ -31,10 +34,21 @@ public class JobAddedTransactionListener implements TransactionListener {
     private static final Logger LOGGER = LoggerFactory.getLogger(JobAddedTransactionListener.class);
 
     protected JobInfoEntity job;
+    protected List<JobInfoEntity> jobs;
     protected AsyncExecutor asyncExecutor;
 
     public JobAddedTransactionListener(JobInfoEntity job, AsyncExecutor asyncExecutor) {
         this.job = job;
+        this.jobs = Collections.singletonList(job);
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Hands all given jobs to the async executor in one command, instead of one command per job.
+     * Jobs can still be added to the list until the listener is executed.
+     */
+    public JobAddedTransactionListener(List<JobInfoEntity> jobs, AsyncExecutor asyncExecutor) {
+        this.jobs = jobs;
         this.asyncExecutor = asyncExecutor;
     }
 
@@ -46,9 +60,16 @@ public class JobAddedTransactionListener implements TransactionListener {
             @Override
             public Void execute(CommandContext commandContext) {
                 if (LOGGER.isTraceEnabled()) {
-                    LOGGER.trace("notifying job executor of new job");
+                    LOGGER.trace("notifying job executor of {} new job(s)", jobs.size());
+                }
+                for (JobInfoEntity job : jobs) {
+                    try {
+                        asyncExecutor.executeAsyncJob(job);
+                    } catch (RuntimeException e) {
+                        // The job stays locked until its lock expires and is then acquired again, the other jobs can still be handed over
+                        LOGGER.error("Could not hand job {} to the async executor", job.getId(), e);
+                    }
                 }
-                asyncExecutor.executeAsyncJob(job);
                 return null;
             }
         });
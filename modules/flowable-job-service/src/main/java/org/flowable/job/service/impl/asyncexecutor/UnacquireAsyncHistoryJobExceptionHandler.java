@@ -23,8 +23,7 @@ public class UnacquireAsyncHistoryJobExceptionHandler implements AsyncRunnableEx
 
     @Override
     public boolean handleException(final JobServiceConfiguration jobServiceConfiguration, final JobInfo job, final Throwable exception) {
-        if (job != null 
-                && ("async-history".equals(job.getJobHandlerType()) || "async-history-zipped".equals(job.getJobHandlerType()) ) ) {
+        if (job != null && jobServiceConfiguration.getAsyncHistoryJobHandlerTypes().contains(job.getJobHandlerType())) {
             
             return jobServiceConfiguration.getCommandExecutor().execute(new Command<Boolean>() {
                 @Override
@@ -0,0 +1,214 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.flowable.job.api.JobInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link DefaultAsyncJobExecutor} that runs every acquired job on its own virtual thread when the JVM supports them (Java 21+), and on a pool of
+ * platform threads otherwise.
+ *
+ * Instead of the capacity of a job queue, the number of jobs in flight is bounded by a semaphore of {@link #maxConcurrentJobs} permits: the acquire
+ * thread only fetches as many jobs as there are free permits, and a job that can't get a permit is unacquired right away.
+ *
+ * On platform threads, one thread is needed per job in flight, so the number of concurrent jobs is then also limited by {@link #maxPoolSize}.
+ */
+public class VirtualThreadAsyncJobExecutor extends DefaultAsyncJobExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(VirtualThreadAsyncJobExecutor.class);
+
+    public static final String MODE_VIRTUAL_THREADS = "virtual-threads";
+    public static final String MODE_PLATFORM_THREADS = "platform-threads";
+    public static final String MODE_CUSTOM = "custom";
+
+    /** The maximum number of jobs that are executed at the same time. When falling back to platform threads, {@link #maxPoolSize} applies as well */
+    protected int maxConcurrentJobs = 1000;
+
+    /** Whether to fall back to platform threads when virtual threads are not available. If false, starting the executor fails on such JVMs */
+    protected boolean platformThreadFallback = true;
+
+    protected Semaphore concurrentJobsSemaphore;
+    protected int concurrentJobsLimit;
+    protected String executionMode;
+
+    protected final AtomicLong submittedJobs = new AtomicLong();
+    protected final AtomicLong rejectedJobs = new AtomicLong();
+    protected final AtomicLong completedJobs = new AtomicLong();
+    protected final AtomicLong totalExecutionTimeNanos = new AtomicLong();
+    protected volatile long startTime;
+
+    public VirtualThreadAsyncJobExecutor() {
+    }
+
+    public VirtualThreadAsyncJobExecutor(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    @Override
+    protected boolean executeAsyncJob(final JobInfo job, final Runnable runnable) {
+        final Semaphore semaphore = concurrentJobsSemaphore;
+        if (semaphore == null || !semaphore.tryAcquire()) {
+            rejectedJobs.incrementAndGet();
+            unacquireJob(job);
+            return false;
+        }
+
+        try {
+            executorService.execute(new Runnable() {
+
+                @Override
+                public void run() {
+                    long start = System.nanoTime();
+                    try {
+                        runnable.run();
+                    } finally {
+                        totalExecutionTimeNanos.addAndGet(System.nanoTime() - start);
+                        completedJobs.incrementAndGet();
+                        semaphore.release();
+                    }
+                }
+            });
+            submittedJobs.incrementAndGet();
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            semaphore.release();
+            rejectedJobs.incrementAndGet();
+            unacquireJob(job);
+            return false;
+        }
+    }
+
+    @Override
+    protected void initAsyncJobExecutionThreadPool() {
+        concurrentJobsLimit = maxConcurrentJobs;
+
+        if (executorService == null) {
+            executorService = createVirtualThreadExecutorService();
+            if (executorService != null) {
+                executionMode = MODE_VIRTUAL_THREADS;
+
+            } else if (platformThreadFallback) {
+                concurrentJobsLimit = Math.min(maxConcurrentJobs, maxPoolSize);
+                LOGGER.info("Virtual threads are not available, creating platform thread executor service with at most {} threads and keepAliveTime {}",
+                        concurrentJobsLimit, keepAliveTime);
+
+                // The semaphore keeps the number of jobs at the number of threads, so the queue only holds the jobs submitted while a thread is finishing
+                BasicThreadFactory threadFactory = new BasicThreadFactory.Builder().namingPattern("flowable-async-job-executor-thread-%d").build();
+                ThreadPoolExecutor threadPoolExecutor = new ThreadPoolExecutor(concurrentJobsLimit, concurrentJobsLimit, keepAliveTime, TimeUnit.MILLISECONDS,
+                        new LinkedBlockingQueue<Runnable>(concurrentJobsLimit), threadFactory);
+                threadPoolExecutor.allowCoreThreadTimeOut(keepAliveTime > 0);
+                executorService = threadPoolExecutor;
+                executionMode = MODE_PLATFORM_THREADS;
+
+            } else {
+                throw new IllegalStateException("Virtual threads are not supported by this JVM and the platform thread fallback is disabled");
+            }
+
+        } else if (executionMode == null) {
+            executionMode = MODE_CUSTOM;
+        }
+
+        if (concurrentJobsSemaphore == null) {
+            concurrentJobsSemaphore = new Semaphore(concurrentJobsLimit);
+        }
+
+        LOGGER.info("Async job executor runs at most {} concurrent jobs using {}", concurrentJobsLimit, executionMode);
+        startTime = System.currentTimeMillis();
+    }
+
+    /**
+     * Creates a thread-per-task executor service backed by virtual threads, or returns null when the JVM has no virtual threads. Reflection is used
+     * as the engine still has to compile and run on older Java versions.
+     */
+    protected ExecutorService createVirtualThreadExecutorService() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = builderClass.getMethod("name", String.class, long.class).invoke(builder, "flowable-async-job-executor-vthread-", 0L);
+            ThreadFactory threadFactory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+
+            Method newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+            return (ExecutorService) newThreadPerTaskExecutor.invoke(null, threadFactory);
+
+        } catch (Exception e) {
+            LOGGER.debug("Could not create virtual thread executor service", e);
+            return null;
+        }
+    }
+
+    @Override
+    protected void stopExecutingAsyncJobs() {
+        super.stopExecutingAsyncJobs();
+        executionMode = null;
+    }
+
+    @Override
+    public int getRemainingCapacity() {
+        if (concurrentJobsSemaphore != null) {
+            return concurrentJobsSemaphore.availablePermits();
+        } else {
+            return maxConcurrentJobs;
+        }
+    }
+
+    public AsyncJobExecutorMetrics getMetrics() {
+        int activeJobs = concurrentJobsSemaphore != null ? concurrentJobsLimit - concurrentJobsSemaphore.availablePermits() : 0;
+        long uptime = startTime > 0 ? System.currentTimeMillis() - startTime : 0L;
+        return new AsyncJobExecutorMetrics(executionMode, concurrentJobsLimit, activeJobs, submittedJobs.get(), rejectedJobs.get(),
+                completedJobs.get(), totalExecutionTimeNanos.get(), uptime);
+    }
+
+    public int getMaxConcurrentJobs() {
+        return maxConcurrentJobs;
+    }
+
+    public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+        this.maxConcurrentJobs = maxConcurrentJobs;
+    }
+
+    public boolean isPlatformThreadFallback() {
+        return platformThreadFallback;
+    }
+
+    public void setPlatformThreadFallback(boolean platformThreadFallback) {
+        this.platformThreadFallback = platformThreadFallback;
+    }
+
+    public String getExecutionMode() {
+        return executionMode;
+    }
+
+    public Semaphore getConcurrentJobsSemaphore() {
+        return concurrentJobsSemaphore;
+    }
+
+    public void setConcurrentJobsSemaphore(Semaphore concurrentJobsSemaphore) {
+        this.concurrentJobsSemaphore = concurrentJobsSemaphore;
+    }
+
+}
@@ -0,0 +1,111 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableIllegalArgumentException;
+import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
+import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.interceptor.Command;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.job.service.BatchHistoryJobHandler;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
+import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntityManager;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes a batch of history jobs in one transaction. Handlers implementing {@link BatchHistoryJobHandler} get the chance to prepare all jobs of their
+ * type before the jobs are executed in the given order.
+ */
+public class ExecuteAsyncHistoryJobsCmd implements Command<Void> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExecuteAsyncHistoryJobsCmd.class);
+
+    protected Collection<String> jobIds;
+
+    public ExecuteAsyncHistoryJobsCmd(Collection<String> jobIds) {
+        this.jobIds = jobIds;
+    }
+
+    @Override
+    public Void execute(CommandContext commandContext) {
+        if (jobIds == null) {
+            throw new FlowableIllegalArgumentException("jobIds is null");
+        }
+
+        // Refetched for the same reason as in ExecuteAsyncJobCmd: the job could have been deleted in the meantime
+        HistoryJobEntityManager historyJobEntityManager = CommandContextUtil.getHistoryJobEntityManager(commandContext);
+        List<HistoryJobEntity> jobs = new ArrayList<>(jobIds.size());
+        for (String jobId : jobIds) {
+            HistoryJobEntity job = historyJobEntityManager.findById(jobId);
+            if (job != null) {
+                jobs.add(job);
+            } else {
+                LOGGER.debug("History job {} does not exist anymore and will not be executed.", jobId);
+            }
+        }
+
+        if (jobs.isEmpty()) {
+            return null;
+        }
+
+        prepareBatch(commandContext, jobs);
+
+        JobManager jobManager = CommandContextUtil.getJobManager(commandContext);
+        FlowableEventDispatcher eventDispatcher = CommandContextUtil.getEventDispatcher(commandContext);
+        for (HistoryJobEntity job : jobs) {
+            if (LOGGER.isDebugEnabled()) {
+                LOGGER.debug("Executing history job {} as part of a batch of {} jobs", job.getId(), jobs.size());
+            }
+
+            jobManager.execute(job);
+
+            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+                eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.JOB_EXECUTION_SUCCESS, job));
+            }
+        }
+
+        return null;
+    }
+
+    protected void prepareBatch(CommandContext commandContext, List<HistoryJobEntity> jobs) {
+        Map<String, List<HistoryJobEntity>> jobsByHandlerType = new LinkedHashMap<>();
+        for (HistoryJobEntity job : jobs) {
+            List<HistoryJobEntity> jobsOfType = jobsByHandlerType.get(job.getJobHandlerType());
+            if (jobsOfType == null) {
+                jobsOfType = new ArrayList<>();
+                jobsByHandlerType.put(job.getJobHandlerType(), jobsOfType);
+            }
+            jobsOfType.add(job);
+        }
+
+        Map<String, HistoryJobHandler> historyJobHandlers = CommandContextUtil.getJobServiceConfiguration(commandContext).getHistoryJobHandlers();
+        for (Map.Entry<String, List<HistoryJobEntity>> entry : jobsByHandlerType.entrySet()) {
+            HistoryJobHandler historyJobHandler = historyJobHandlers.get(entry.getKey());
+            if (historyJobHandler instanceof BatchHistoryJobHandler) {
+                ((BatchHistoryJobHandler) historyJobHandler).prepareBatch(entry.getValue(), commandContext);
+            }
+        }
+    }
+
+}
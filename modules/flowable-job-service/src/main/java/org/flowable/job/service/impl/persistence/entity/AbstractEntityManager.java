@@ -12,11 +12,15 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
+
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.event.EventDispatcherUtil;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
+import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.event.impl.FlowableJobEventBuilder;
 import org.flowable.job.service.impl.persistence.AbstractManager;
@@ -54,9 +58,13 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
         getDataManager().insert(entity);
 
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-        if (fireCreateEvent && eventDispatcher != null && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity));
-            eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity));
+        if (fireCreateEvent && eventDispatcher != null) {
+            if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_CREATED, getProcessDefinitionId(entity))) {
+                eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity));
+            }
+            if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_INITIALIZED, getProcessDefinitionId(entity))) {
+                eventDispatcher.dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity));
+            }
         }
     }
 
@@ -70,7 +78,7 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
         EntityImpl updatedEntity = getDataManager().update(entity);
 
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-        if (fireUpdateEvent && eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (fireUpdateEvent && EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_UPDATED, getProcessDefinitionId(entity))) {
             getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, entity));
         }
 
@@ -93,7 +101,7 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
         getDataManager().delete(entity);
 
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-        if (fireDeleteEvent && eventDispatcher != null && eventDispatcher.isEnabled()) {
+        if (fireDeleteEvent && EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_DELETED, getProcessDefinitionId(entity))) {
             getEventDispatcher().dispatchEvent(FlowableJobEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, entity));
         }
     }
@@ -104,5 +112,21 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
         }
     }
 
+    protected void deleteByteArraysById(Collection<String> byteArrayIds) {
+        if (!byteArrayIds.isEmpty()) {
+            getJobServiceConfiguration().getJobByteArrayEntityManager().deleteByteArraysById(byteArrayIds);
+        }
+    }
+
+    /**
+     * The process definition the entity events of the given entity belong to, as determined by {@link FlowableJobEventBuilder#createEntityEvent}.
+     */
+    protected String getProcessDefinitionId(EntityImpl entity) {
+        if (entity instanceof Job) {
+            return ((Job) entity).getProcessDefinitionId();
+        }
+        return null;
+    }
+
     protected abstract DataManager<EntityImpl> getDataManager();
 }
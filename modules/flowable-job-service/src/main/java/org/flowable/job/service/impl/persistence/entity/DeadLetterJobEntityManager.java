@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
@@ -43,4 +44,9 @@ public interface DeadLetterJobEntityManager extends EntityManager<DeadLetterJobE
      * Changes the tenantId for all jobs related to a given {@link DeploymentEntity}.
      */
     void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
+
+    /**
+     * Deletes the jobs of the given process instances and their byte arrays, without loading them first and without dispatching events.
+     */
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
 }
@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
@@ -109,6 +110,12 @@ public class DeadLetterJobEntityManagerImpl extends AbstractEntityManager<DeadLe
         return newJobEntity;
     }
 
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        deleteByteArraysById(jobDataManager.findJobByteArrayIdsByProcessInstanceIds(processInstanceIds));
+        jobDataManager.deleteJobsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     protected DeadLetterJobDataManager getDataManager() {
         return jobDataManager;
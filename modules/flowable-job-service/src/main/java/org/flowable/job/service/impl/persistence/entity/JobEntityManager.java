@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
@@ -41,4 +42,9 @@ public interface JobEntityManager extends EntityManager<JobEntity>, JobInfoEntit
      */
     long findJobCountByQueryCriteria(JobQueryImpl jobQuery);
 
+    /**
+     * Deletes the jobs of the given process instances and their byte arrays, without loading them first and without dispatching events.
+     */
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
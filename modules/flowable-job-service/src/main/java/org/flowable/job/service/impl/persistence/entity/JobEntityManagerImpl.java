@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
@@ -94,6 +95,12 @@ public class JobEntityManagerImpl extends JobInfoEntityManagerImpl<JobEntity> im
         super.delete(entity, fireDeleteEvent);
     }
 
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        deleteByteArraysById(jobDataManager.findJobByteArrayIdsByProcessInstanceIds(processInstanceIds));
+        jobDataManager.deleteJobsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     public JobDataManager getJobDataManager() {
         return jobDataManager;
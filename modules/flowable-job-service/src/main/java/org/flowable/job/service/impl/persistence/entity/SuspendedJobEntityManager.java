@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
@@ -49,4 +50,9 @@ public interface SuspendedJobEntityManager extends EntityManager<SuspendedJobEnt
      */
     void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
 
+    /**
+     * Deletes the jobs of the given process instances and their byte arrays, without loading them first and without dispatching events.
+     */
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
@@ -13,6 +13,7 @@
 
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
@@ -114,6 +115,12 @@ public class SuspendedJobEntityManagerImpl extends AbstractEntityManager<Suspend
         return newSuspendedJobEntity;
     }
 
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        deleteByteArraysById(jobDataManager.findJobByteArrayIdsByProcessInstanceIds(processInstanceIds));
+        jobDataManager.deleteJobsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     protected SuspendedJobDataManager getDataManager() {
         return jobDataManager;
@@ -14,6 +14,7 @@
 package org.flowable.job.service.impl.persistence.entity;
 
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -207,6 +208,12 @@ public class TimerJobEntityManagerImpl extends AbstractEntityManager<TimerJobEnt
         return times;
     }
 
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        deleteByteArraysById(jobDataManager.findJobByteArrayIdsByProcessInstanceIds(processInstanceIds));
+        jobDataManager.deleteJobsByProcessInstanceIds(processInstanceIds);
+    }
+
     @Override
     protected TimerJobDataManager getDataManager() {
         return jobDataManager;
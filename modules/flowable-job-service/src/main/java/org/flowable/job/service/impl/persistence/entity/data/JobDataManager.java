@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -28,4 +29,8 @@ public interface JobDataManager extends DataManager<JobEntity>, JobInfoDataManag
 
     long findJobCountByQueryCriteria(JobQueryImpl jobQuery);
 
+    List<String> findJobByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
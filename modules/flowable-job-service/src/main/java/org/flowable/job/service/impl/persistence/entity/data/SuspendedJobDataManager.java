@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -33,4 +34,8 @@ public interface SuspendedJobDataManager extends DataManager<SuspendedJobEntity>
     long findJobCountByQueryCriteria(SuspendedJobQueryImpl jobQuery);
 
     void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
+
+    List<String> findJobByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.Page;
@@ -43,4 +44,8 @@ public interface TimerJobDataManager extends DataManager<TimerJobEntity> {
     long findJobCountByQueryCriteria(TimerJobQueryImpl jobQuery);
 
     void updateJobTenantIdForDeployment(String deploymentId, String newTenantId);
+
+    List<String> findJobByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds);
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 
@@ -66,4 +68,15 @@ public class MybatisDeadLetterJobDataManager extends AbstractDataManager<DeadLet
         getDbSqlSession().update("updateDeadLetterJobTenantIdForDeployment", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findJobByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getDbSqlSession().selectListNoCacheCheck("selectDeadLetterJobByteArrayIdsByProcessInstanceIds", new ArrayList<>(processInstanceIds));
+    }
+
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteDeadLetterJobsByProcessInstanceIds", new ArrayList<>(processInstanceIds), DeadLetterJobEntityImpl.class);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.db.AbstractDataManager;
@@ -45,4 +46,9 @@ public class MybatisJobByteArrayDataManager extends AbstractDataManager<JobByteA
         getDbSqlSession().delete("deleteJobByteArrayNoRevisionCheck", byteArrayEntityId, JobByteArrayEntityImpl.class);
     }
 
+    @Override
+    public void deleteByteArraysNoRevisionCheck(Collection<String> byteArrayEntityIds) {
+        bulkDeleteByIds("bulkDeleteJobByteArraysNoRevisionCheck", byteArrayEntityIds, JobByteArrayEntityImpl.class);
+    }
+
 }
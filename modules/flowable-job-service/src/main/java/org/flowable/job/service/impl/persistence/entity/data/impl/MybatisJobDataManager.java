@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -102,4 +104,15 @@ public class MybatisJobDataManager extends AbstractDataManager<JobEntity> implem
         getDbSqlSession().update("resetExpiredJob", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findJobByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getDbSqlSession().selectListNoCacheCheck("selectJobByteArrayIdsByProcessInstanceIds", new ArrayList<>(processInstanceIds));
+    }
+
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteJobsByProcessInstanceIds", new ArrayList<>(processInstanceIds), JobEntityImpl.class);
+    }
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 
@@ -72,4 +74,15 @@ public class MybatisSuspendedJobDataManager extends AbstractDataManager<Suspende
         getDbSqlSession().update("updateSuspendedJobTenantIdForDeployment", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findJobByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getDbSqlSession().selectListNoCacheCheck("selectSuspendedJobByteArrayIdsByProcessInstanceIds", new ArrayList<>(processInstanceIds));
+    }
+
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteSuspendedJobsByProcessInstanceIds", new ArrayList<>(processInstanceIds), SuspendedJobEntityImpl.class);
+    }
+
 }
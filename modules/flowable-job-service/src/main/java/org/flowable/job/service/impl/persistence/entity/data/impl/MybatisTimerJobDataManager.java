@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -113,4 +115,15 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         getDbSqlSession().update("updateTimerJobTenantIdForDeployment", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findJobByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getDbSqlSession().selectListNoCacheCheck("selectTimerJobByteArrayIdsByProcessInstanceIds", new ArrayList<>(processInstanceIds));
+    }
+
+    @Override
+    public void deleteJobsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteTimerJobsByProcessInstanceIds", new ArrayList<>(processInstanceIds), TimerJobEntityImpl.class);
+    }
+
 }
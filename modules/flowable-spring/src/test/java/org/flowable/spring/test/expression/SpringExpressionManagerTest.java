@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.spring.test.expression;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.FlowableException;
+import org.flowable.engine.common.api.delegate.Expression;
+import org.flowable.engine.common.impl.el.ReadOnlyMapELResolver;
+import org.flowable.engine.common.impl.el.VariableContainerWrapper;
+import org.flowable.engine.common.impl.javax.el.ELResolver;
+import org.flowable.spring.SpringExpressionManager;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.support.StaticApplicationContext;
+
+/**
+ * Tests that the Spring expression manager resolves beans and variables through the shared resolver chain.
+ */
+public class SpringExpressionManagerTest {
+
+    protected StaticApplicationContext applicationContext;
+
+    @Before
+    public void createApplicationContext() {
+        applicationContext = new StaticApplicationContext();
+        applicationContext.registerSingleton("contextBean", ExpressionBean.class);
+        applicationContext.refresh();
+    }
+
+    @After
+    public void closeApplicationContext() {
+        applicationContext.close();
+    }
+
+    @Test
+    public void testApplicationContextBeansAndVariables() {
+        SpringExpressionManager expressionManager = new SpringExpressionManager(applicationContext, null);
+
+        Expression beanExpression = expressionManager.createExpression("${contextBean.value}");
+        assertEquals("beanValue", beanExpression.getValue(variables("myVar", "first")));
+
+        Expression variableExpression = expressionManager.createExpression("${myVar}");
+        assertEquals("first", variableExpression.getValue(variables("myVar", "first")));
+        // The resolvers are shared, the variable resolver is not
+        assertEquals("second", variableExpression.getValue(variables("myVar", "second")));
+
+        // Variables take precedence over beans
+        assertEquals("variableValue", expressionManager.createExpression("${contextBean}").getValue(variables("contextBean", "variableValue")));
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("key", "mapValue");
+        assertEquals("mapValue", expressionManager.createExpression("${myMap.key}").getValue(variables("myMap", map)));
+        assertEquals("listValue", expressionManager.createExpression("${myList[0]}").getValue(variables("myList", Collections.singletonList("listValue"))));
+        assertEquals("beanValue", expressionManager.createExpression("${myBean.value}").getValue(variables("myBean", new ExpressionBean())));
+    }
+
+    @Test
+    public void testLimitedBeansAndVariables() {
+        Map<Object, Object> beans = new HashMap<>();
+        beans.put("exposedBean", new ExpressionBean());
+        SpringExpressionManager expressionManager = new SpringExpressionManager(applicationContext, beans);
+
+        assertEquals("beanValue", expressionManager.createExpression("${exposedBean.value}").getValue(variables("myVar", "first")));
+        assertEquals("first", expressionManager.createExpression("${myVar}").getValue(variables("myVar", "first")));
+
+        try {
+            expressionManager.createExpression("${contextBean.value}").getValue(variables("myVar", "first"));
+            fail("Exception expected");
+        } catch (FlowableException e) {
+            assertTrue(e.getMessage().contains("contextBean"));
+        }
+    }
+
+    @Test
+    public void testConfiguredResolversAndVariables() {
+        SpringExpressionManager expressionManager = new SpringExpressionManager(applicationContext, null) {
+
+            @Override
+            protected void configureResolvers(List<ELResolver> elResolvers) {
+                super.configureResolvers(elResolvers);
+                elResolvers.add(0, new ReadOnlyMapELResolver(Collections.<Object, Object>singletonMap("configuredBean", "configuredValue")));
+            }
+        };
+
+        assertEquals("configuredValue", expressionManager.createExpression("${configuredBean}").getValue(variables("configuredBean", "variableValue")));
+        assertEquals("beanValue", expressionManager.createExpression("${contextBean.value}").getValue(variables("myVar", "first")));
+        assertEquals("first", expressionManager.createExpression("${myVar}").getValue(variables("myVar", "first")));
+    }
+
+    protected VariableContainerWrapper variables(String name, Object value) {
+        Map<String, Object> variables = new HashMap<>();
+        variables.put(name, value);
+        return new VariableContainerWrapper(variables);
+    }
+
+    public static class ExpressionBean {
+
+        public String getValue() {
+            return "beanValue";
+        }
+    }
+
+}
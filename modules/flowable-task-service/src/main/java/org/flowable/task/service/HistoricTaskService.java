@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.task.api.history.HistoricTaskInstance;
@@ -32,6 +33,11 @@ public interface HistoricTaskService {
     List<HistoricTaskInstanceEntity> findHistoricTasksByParentTaskId(String parentTaskId);
     
     List<HistoricTaskInstanceEntity> findHistoricTasksByProcessInstanceId(String processInstanceId);
+
+    /**
+     * Loads the historic tasks with the given ids in one query, making them available in the entity cache of the current command.
+     */
+    List<HistoricTaskInstanceEntity> findHistoricTasksByIds(Collection<String> taskIds);
     
     List<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
     
@@ -42,6 +48,16 @@ public interface HistoricTaskService {
     void insertHistoricTask(HistoricTaskInstanceEntity historicTaskInstanceEntity, boolean fireCreateEvent);
     
     void deleteHistoricTask(HistoricTaskInstanceEntity HistoricTaskInstance);
+
+    /**
+     * Deletes the historic tasks of the given process instances, without loading them first.
+     */
+    void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    /**
+     * Deletes the historic tasks of the given scopes of the given scope type, for example the case instances of the CMMN engine, without loading them first.
+     */
+    void deleteHistoricTaskInstancesByScopeIds(Collection<String> scopeIds, String scopeType);
     
     HistoricTaskInstanceEntity recordTaskCreated(TaskEntity task);
     
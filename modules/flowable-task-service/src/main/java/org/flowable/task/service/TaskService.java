@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.task.api.Task;
@@ -50,4 +51,9 @@ public interface TaskService {
     void insertTask(TaskEntity taskEntity, boolean fireCreateEvent);
     
     void deleteTask(TaskEntity task, boolean fireEvents);
+
+    /**
+     * Deletes the tasks of the given process instances, without loading them first and without dispatching events.
+     */
+    void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds);
 }
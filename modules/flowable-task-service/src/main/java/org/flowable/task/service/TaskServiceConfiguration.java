@@ -20,6 +20,7 @@ import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
 import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.task.service.history.InternalHistoryTaskManager;
+import org.flowable.task.service.impl.CandidateGroupsCache;
 import org.flowable.task.service.impl.HistoricTaskServiceImpl;
 import org.flowable.task.service.impl.TaskServiceImpl;
 import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntityManager;
@@ -66,12 +67,31 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
     protected int taskQueryLimit;
     protected int historicTaskQueryLimit;
 
+    /**
+     * When true, the groups of a candidate user are resolved through an engine wide {@link CandidateGroupsCache},
+     * instead of querying the identity service for every task query with a candidate user.
+     */
+    protected boolean enableCandidateGroupsCache;
+
+    /**
+     * The maximum number of users for which the groups are cached.
+     */
+    protected int candidateGroupsCacheSize = 10000;
+
+    /**
+     * The time (in milliseconds) after which the cached groups of a user expire.
+     */
+    protected long candidateGroupsCacheExpirationTime = 5 * 60 * 1000L;
+
+    protected CandidateGroupsCache candidateGroupsCache;
+
     // init
     // /////////////////////////////////////////////////////////////////////
 
     public void init() {
         initDataManagers();
         initEntityManagers();
+        initCandidateGroupsCache();
     }
     
     // Data managers
@@ -95,6 +115,12 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         }
     }
 
+    public void initCandidateGroupsCache() {
+        if (enableCandidateGroupsCache && candidateGroupsCache == null) {
+            candidateGroupsCache = new CandidateGroupsCache(candidateGroupsCacheSize, candidateGroupsCacheExpirationTime, clock);
+        }
+    }
+
     public TaskService getTaskService() {
         return taskService;
     }
@@ -221,6 +247,42 @@ public class TaskServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public boolean isEnableCandidateGroupsCache() {
+        return enableCandidateGroupsCache;
+    }
+
+    public TaskServiceConfiguration setEnableCandidateGroupsCache(boolean enableCandidateGroupsCache) {
+        this.enableCandidateGroupsCache = enableCandidateGroupsCache;
+        return this;
+    }
+
+    public int getCandidateGroupsCacheSize() {
+        return candidateGroupsCacheSize;
+    }
+
+    public TaskServiceConfiguration setCandidateGroupsCacheSize(int candidateGroupsCacheSize) {
+        this.candidateGroupsCacheSize = candidateGroupsCacheSize;
+        return this;
+    }
+
+    public long getCandidateGroupsCacheExpirationTime() {
+        return candidateGroupsCacheExpirationTime;
+    }
+
+    public TaskServiceConfiguration setCandidateGroupsCacheExpirationTime(long candidateGroupsCacheExpirationTime) {
+        this.candidateGroupsCacheExpirationTime = candidateGroupsCacheExpirationTime;
+        return this;
+    }
+
+    public CandidateGroupsCache getCandidateGroupsCache() {
+        return candidateGroupsCache;
+    }
+
+    public TaskServiceConfiguration setCandidateGroupsCache(CandidateGroupsCache candidateGroupsCache) {
+        this.candidateGroupsCache = candidateGroupsCache;
+        return this;
+    }
+
     @Override
     public TaskServiceConfiguration setEnableEventDispatcher(boolean enableEventDispatcher) {
         this.enableEventDispatcher = enableEventDispatcher;
@@ -0,0 +1,169 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.task.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.engine.common.api.delegate.event.FlowableEntityEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEvent;
+import org.flowable.engine.common.api.delegate.event.FlowableEventListener;
+import org.flowable.engine.common.impl.cfg.TransactionContext;
+import org.flowable.engine.common.impl.cfg.TransactionListener;
+import org.flowable.engine.common.impl.cfg.TransactionState;
+import org.flowable.engine.common.impl.context.Context;
+import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.runtime.ClockReader;
+import org.flowable.idm.api.User;
+import org.flowable.idm.api.event.FlowableIdmEventType;
+import org.flowable.idm.api.event.FlowableIdmMembershipEvent;
+
+/**
+ * Engine wide cache of the ids of the groups a user belongs to, used by the {@link TaskQueryImpl} to resolve the candidate groups of a candidate user
+ * without querying the identity service for every task query.
+ *
+ * Cached entries have an expiration time and the least recently used entries are evicted when the cache is full. When registered as event listener
+ * for the {@link #INVALIDATION_EVENT_TYPES} on the idm engine, entries are removed when a membership of the user changes, and again when the
+ * transaction of the change is committed (groups cached by other transactions in the meantime are the old groups). Changes that don't
+ * dispatch an event (for example on another node of the cluster or in an external identity store) become visible after the expiration time.
+ */
+public class CandidateGroupsCache implements FlowableEventListener {
+
+    public static final FlowableIdmEventType[] INVALIDATION_EVENT_TYPES = { FlowableIdmEventType.MEMBERSHIP_CREATED, FlowableIdmEventType.MEMBERSHIP_DELETED,
+            FlowableIdmEventType.MEMBERSHIPS_DELETED, FlowableIdmEventType.ENTITY_DELETED };
+
+    protected final ClockReader clockReader;
+    protected final Map<String, CandidateGroupsCacheEntry> groupsCache;
+    protected long expirationTime;
+
+    public CandidateGroupsCache(final int cacheSize, long expirationTime, ClockReader clockReader) {
+        this.clockReader = clockReader;
+        this.expirationTime = expirationTime;
+        this.groupsCache = new LinkedHashMap<String, CandidateGroupsCacheEntry>(cacheSize + 1, 0.75f, true) {
+
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CandidateGroupsCacheEntry> eldest) {
+                return size() > cacheSize;
+            }
+
+        };
+    }
+
+    public synchronized List<String> get(String userId) {
+        CandidateGroupsCacheEntry cacheEntry = groupsCache.get(userId);
+        if (cacheEntry != null) {
+            if (clockReader.getCurrentTime().getTime() - cacheEntry.getTimestamp() < expirationTime) {
+                return cacheEntry.getGroupIds();
+            }
+            groupsCache.remove(userId);
+        }
+        return null;
+    }
+
+    public synchronized void add(String userId, List<String> groupIds) {
+        groupsCache.put(userId, new CandidateGroupsCacheEntry(clockReader.getCurrentTime().getTime(), Collections.unmodifiableList(new ArrayList<>(groupIds))));
+    }
+
+    public synchronized void remove(String userId) {
+        groupsCache.remove(userId);
+    }
+
+    public synchronized void clear() {
+        groupsCache.clear();
+    }
+
+    public synchronized int size() {
+        return groupsCache.size();
+    }
+
+    @Override
+    public void onEvent(FlowableEvent event) {
+        if (event instanceof FlowableIdmMembershipEvent) {
+            // A null user id means all memberships of a group are deleted: the members are not known anymore
+            invalidate(((FlowableIdmMembershipEvent) event).getUserId());
+
+        } else if (event.getType() == FlowableIdmEventType.ENTITY_DELETED && event instanceof FlowableEntityEvent) {
+            Object entity = ((FlowableEntityEvent) event).getEntity();
+            if (entity instanceof User) {
+                invalidate(((User) entity).getId());
+            }
+        }
+    }
+
+    /**
+     * Removes the groups of the user (or all groups when the user id is null) now and after the transaction has been committed.
+     */
+    protected void invalidate(final String userId) {
+        removeOrClear(userId);
+
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
+
+                @Override
+                public void execute(CommandContext commandContext) {
+                    removeOrClear(userId);
+                }
+            });
+        }
+    }
+
+    protected void removeOrClear(String userId) {
+        if (userId != null) {
+            remove(userId);
+        } else {
+            clear();
+        }
+    }
+
+    @Override
+    public boolean isFailOnException() {
+        return false;
+    }
+
+    public long getExpirationTime() {
+        return expirationTime;
+    }
+
+    public void setExpirationTime(long expirationTime) {
+        this.expirationTime = expirationTime;
+    }
+
+    // Helper classes ////////////////////////////////////
+
+    protected static class CandidateGroupsCacheEntry {
+
+        protected long timestamp;
+        protected List<String> groupIds;
+
+        public CandidateGroupsCacheEntry(long timestamp, List<String> groupIds) {
+            this.timestamp = timestamp;
+            this.groupIds = groupIds;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public List<String> getGroupIds() {
+            return groupIds;
+        }
+
+    }
+
+}
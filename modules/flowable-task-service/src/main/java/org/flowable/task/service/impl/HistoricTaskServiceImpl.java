@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 
@@ -50,6 +51,11 @@ public class HistoricTaskServiceImpl extends ServiceImpl implements HistoricTask
         return getHistoricTaskInstanceEntityManager().findHistoricTasksByParentTaskId(parentTaskId);
     }
     
+    @Override
+    public List<HistoricTaskInstanceEntity> findHistoricTasksByIds(Collection<String> taskIds) {
+        return getHistoricTaskInstanceEntityManager().findHistoricTasksByIds(taskIds);
+    }
+
     @Override
     public List<HistoricTaskInstanceEntity> findHistoricTasksByProcessInstanceId(String processInstanceId) {
         return getHistoricTaskInstanceEntityManager().findHistoricTasksByProcessInstanceId(processInstanceId);
@@ -79,6 +85,16 @@ public class HistoricTaskServiceImpl extends ServiceImpl implements HistoricTask
     public void deleteHistoricTask(HistoricTaskInstanceEntity HistoricTaskInstance) {
         getHistoricTaskInstanceEntityManager().delete(HistoricTaskInstance);
     }
+
+    @Override
+    public void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricTaskInstancesByScopeIds(Collection<String> scopeIds, String scopeType) {
+        getHistoricTaskInstanceEntityManager().deleteHistoricTaskInstancesByScopeIds(scopeIds, scopeType);
+    }
     
     @Override
     public HistoricTaskInstanceEntity recordTaskCreated(TaskEntity task) {
@@ -1394,13 +1394,26 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     }
 
     protected List<String> getGroupsForCandidateUser(String candidateUser) {
+        TaskServiceConfiguration taskServiceConfiguration = CommandContextUtil.getTaskServiceConfiguration();
+        CandidateGroupsCache candidateGroupsCache = taskServiceConfiguration.getCandidateGroupsCache();
+        if (candidateGroupsCache != null) {
+            List<String> cachedGroupIds = candidateGroupsCache.get(candidateUser);
+            if (cachedGroupIds != null) {
+                return cachedGroupIds;
+            }
+        }
+
         List<String> groupIds = new ArrayList<>();
-        IdmIdentityService idmIdentityService = CommandContextUtil.getTaskServiceConfiguration().getIdmIdentityService();
+        IdmIdentityService idmIdentityService = taskServiceConfiguration.getIdmIdentityService();
         if (idmIdentityService != null) {
             List<Group> groups = idmIdentityService.createGroupQuery().groupMember(candidateUser).list();
             for (Group group : groups) {
                 groupIds.add(group.getId());
             }
+
+            if (candidateGroupsCache != null) {
+                candidateGroupsCache.add(candidateUser, groupIds);
+            }
         }
         return groupIds;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.task.api.Task;
@@ -98,4 +99,9 @@ public class TaskServiceImpl extends ServiceImpl implements TaskService {
         getTaskEntityManager().delete(task, fireEvents);
     }
 
+    @Override
+    public void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getTaskEntityManager().deleteTasksByProcessInstanceIds(processInstanceIds);
+    }
+
 }
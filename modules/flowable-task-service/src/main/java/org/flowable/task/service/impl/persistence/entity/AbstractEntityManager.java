@@ -14,9 +14,11 @@ package org.flowable.task.service.impl.persistence.entity;
 
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.event.EventDispatcherUtil;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
+import org.flowable.task.api.Task;
 import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.event.impl.FlowableTaskEventBuilder;
 import org.flowable.task.service.impl.persistence.AbstractManager;
@@ -54,9 +56,13 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
         getDataManager().insert(entity);
 
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-        if (eventDispatcher != null && fireCreateEvent && eventDispatcher.isEnabled()) {
-            eventDispatcher.dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity));
-            eventDispatcher.dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity));
+        if (eventDispatcher != null && fireCreateEvent) {
+            if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_CREATED, getProcessDefinitionId(entity))) {
+                eventDispatcher.dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity));
+            }
+            if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_INITIALIZED, getProcessDefinitionId(entity))) {
+                eventDispatcher.dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity));
+            }
         }
     }
 
@@ -69,7 +75,7 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
     public EntityImpl update(EntityImpl entity, boolean fireUpdateEvent) {
         EntityImpl updatedEntity = getDataManager().update(entity);
 
-        if (fireUpdateEvent && getEventDispatcher().isEnabled()) {
+        if (fireUpdateEvent && EventDispatcherUtil.hasListenersFor(getEventDispatcher(), FlowableEngineEventType.ENTITY_UPDATED, getProcessDefinitionId(entity))) {
             getEventDispatcher().dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, entity));
         }
 
@@ -92,10 +98,20 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
         getDataManager().delete(entity);
         
         FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-        if (eventDispatcher != null && fireDeleteEvent && eventDispatcher.isEnabled()) {
+        if (fireDeleteEvent && EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_DELETED, getProcessDefinitionId(entity))) {
             getEventDispatcher().dispatchEvent(FlowableTaskEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, entity));
         }
     }
 
+    /**
+     * The process definition the entity events of the given entity belong to, as determined by {@link FlowableTaskEventBuilder#createEntityEvent}.
+     */
+    protected String getProcessDefinitionId(EntityImpl entity) {
+        if (entity instanceof Task) {
+            return ((Task) entity).getProcessDefinitionId();
+        }
+        return null;
+    }
+
     protected abstract DataManager<EntityImpl> getDataManager();
 }
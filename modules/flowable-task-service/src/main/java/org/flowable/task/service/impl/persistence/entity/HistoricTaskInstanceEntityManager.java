@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +31,8 @@ public interface HistoricTaskInstanceEntityManager extends EntityManager<Histori
     
     List<HistoricTaskInstanceEntity> findHistoricTasksByProcessInstanceId(String processInstanceId);
 
+    List<HistoricTaskInstanceEntity> findHistoricTasksByIds(Collection<String> taskIds);
+
     long findHistoricTaskInstanceCountByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
@@ -40,4 +43,8 @@ public interface HistoricTaskInstanceEntityManager extends EntityManager<Histori
 
     long findHistoricTaskInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
+    void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricTaskInstancesByScopeIds(Collection<String> scopeIds, String scopeType);
+
 }
\ No newline at end of file
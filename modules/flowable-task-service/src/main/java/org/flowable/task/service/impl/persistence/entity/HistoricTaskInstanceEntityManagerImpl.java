@@ -13,6 +13,7 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +52,11 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
         return historicTaskInstanceDataManager.findHistoricTasksByParentTaskId(parentTaskId);
     }
     
+    @Override
+    public List<HistoricTaskInstanceEntity> findHistoricTasksByIds(Collection<String> taskIds) {
+        return historicTaskInstanceDataManager.findHistoricTasksByIds(taskIds);
+    }
+
     @Override
     public List<HistoricTaskInstanceEntity> findHistoricTasksByProcessInstanceId(String processInstanceId) {
         return historicTaskInstanceDataManager.findHistoricTasksByProcessInstanceId(processInstanceId);
@@ -92,6 +98,16 @@ public class HistoricTaskInstanceEntityManagerImpl extends AbstractEntityManager
         return historicTaskInstanceDataManager.findHistoricTaskInstanceCountByNativeQuery(parameterMap);
     }
 
+    @Override
+    public void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicTaskInstanceDataManager.deleteHistoricTaskInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricTaskInstancesByScopeIds(Collection<String> scopeIds, String scopeType) {
+        historicTaskInstanceDataManager.deleteHistoricTaskInstancesByScopeIds(scopeIds, scopeType);
+    }
+
     public HistoricTaskInstanceDataManager getHistoricTaskInstanceDataManager() {
         return historicTaskInstanceDataManager;
     }
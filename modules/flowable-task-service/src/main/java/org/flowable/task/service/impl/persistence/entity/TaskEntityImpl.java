@@ -27,6 +27,7 @@ import org.flowable.engine.common.api.FlowableException;
 import org.flowable.engine.common.impl.context.Context;
 import org.flowable.engine.common.impl.db.SuspensionState;
 import org.flowable.engine.common.impl.interceptor.CommandContext;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.identitylink.api.IdentityLink;
 import org.flowable.identitylink.service.IdentityLinkType;
 import org.flowable.identitylink.service.impl.persistence.entity.IdentityLinkEntity;
@@ -46,7 +47,7 @@ import org.flowable.variable.service.impl.persistence.entity.VariableScopeImpl;
  * @author Falko Menge
  * @author Tijs Rademakers
  */
-public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, CountingTaskEntity, Serializable {
+public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, CountingTaskEntity, DirtyTrackedEntity, Serializable {
 
     public static final String DELETE_REASON_COMPLETED = "completed";
     public static final String DELETE_REASON_DELETED = "deleted";
@@ -177,6 +178,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void forceUpdate() {
         this.forcedUpdate = true;
+        markDirty();
     }
 
     // variables //////////////////////////////////////////////////////////////////
@@ -246,38 +248,45 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setName(String taskName) {
         this.name = taskName;
+        markDirty();
     }
 
     @Override
     public void setDescription(String description) {
         this.description = description;
+        markDirty();
     }
 
     @Override
     public void setAssignee(String assignee) {
         this.originalAssignee = this.assignee;
         this.assignee = assignee;
+        markDirty();
         assigneeUpdatedCount++;
     }
 
     @Override
     public void setOwner(String owner) {
         this.owner = owner;
+        markDirty();
     }
 
     @Override
     public void setDueDate(Date dueDate) {
         this.dueDate = dueDate;
+        markDirty();
     }
 
     @Override
     public void setPriority(int priority) {
         this.priority = priority;
+        markDirty();
     }
 
     @Override
     public void setCategory(String category) {
         this.category = category;
+        markDirty();
     }
 
     @Override
@@ -317,6 +326,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setParentTaskId(String parentTaskId) {
         this.parentTaskId = parentTaskId;
+        markDirty();
     }
 
     @Override
@@ -327,6 +337,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setFormKey(String formKey) {
         this.formKey = formKey;
+        markDirty();
     }
 
     // Override from VariableScopeImpl
@@ -413,6 +424,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setCreateTime(Date createTime) {
         this.createTime = createTime;
+        markDirty();
     }
 
     @Override
@@ -433,6 +445,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setProcessDefinitionId(String processDefinitionId) {
         this.processDefinitionId = processDefinitionId;
+        markDirty();
     }
     
     @Override
@@ -443,6 +456,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setScopeId(String scopeId) {
         this.scopeId = scopeId;
+        markDirty();
     }
 
     @Override
@@ -453,6 +467,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setSubScopeId(String subScopeId) {
         this.subScopeId = subScopeId;
+        markDirty();
     }
 
     @Override
@@ -463,6 +478,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
+        markDirty();
     }
 
     @Override
@@ -473,6 +489,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setScopeDefinitionId(String scopeDefinitionId) {
         this.scopeDefinitionId = scopeDefinitionId;
+        markDirty();
     }
 
     @Override
@@ -522,11 +539,13 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        markDirty();
     }
 
     @Override
     public void setProcessInstanceId(String processInstanceId) {
         this.processInstanceId = processInstanceId;
+        markDirty();
     }
 
     @Override
@@ -566,6 +585,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setDelegationState(DelegationState delegationState) {
         this.delegationState = delegationState;
+        markDirty();
     }
 
     public String getDelegationStateString() { // Needed for Activiti 5 compatibility, not exposed in interface
@@ -574,6 +594,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
 
     public void setDelegationStateString(String delegationStateString) {
         this.delegationState = (delegationStateString != null ? DelegationState.valueOf(DelegationState.class, delegationStateString) : null);
+        markDirty();
     }
 
     @Override
@@ -615,6 +636,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setSuspensionState(int suspensionState) {
         this.suspensionState = suspensionState;
+        markDirty();
     }
 
     @Override
@@ -693,6 +715,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setClaimTime(Date claimTime) {
         this.claimTime = claimTime;
+        markDirty();
     }
 
     @Override
@@ -708,11 +731,13 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setCountEnabled(boolean isCountEnabled) {
         this.isCountEnabled = isCountEnabled;
+        markDirty();
     }
 
     @Override
     public void setVariableCount(int variableCount) {
         this.variableCount = variableCount;
+        markDirty();
     }
 
     @Override
@@ -723,6 +748,7 @@ public class TaskEntityImpl extends VariableScopeImpl implements TaskEntity, Cou
     @Override
     public void setIdentityLinkCount(int identityLinkCount) {
         this.identityLinkCount = identityLinkCount;
+        markDirty();
     }
 
     @Override
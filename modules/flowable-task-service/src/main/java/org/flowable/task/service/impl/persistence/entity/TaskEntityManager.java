@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -48,4 +49,6 @@ public interface TaskEntityManager extends EntityManager<TaskEntity> {
     void updateTaskTenantIdForDeployment(String deploymentId, String newTenantId);
     
     void updateAllTaskRelatedEntityCountFlags(boolean configProperty);
+
+    void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds);
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -140,6 +141,11 @@ public class TaskEntityManagerImpl extends AbstractEntityManager<TaskEntity> imp
         taskDataManager.updateAllTaskRelatedEntityCountFlags(configProperty);
     }
 
+    @Override
+    public void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        taskDataManager.deleteTasksByProcessInstanceIds(processInstanceIds);
+    }
+
     public TaskDataManager getTaskDataManager() {
         return taskDataManager;
     }
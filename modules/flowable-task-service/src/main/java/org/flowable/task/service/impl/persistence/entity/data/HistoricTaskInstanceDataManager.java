@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -32,6 +33,8 @@ public interface HistoricTaskInstanceDataManager extends DataManager<HistoricTas
 
     List<HistoricTaskInstanceEntity> findHistoricTasksByProcessInstanceId(String processInstanceId);
 
+    List<HistoricTaskInstanceEntity> findHistoricTasksByIds(Collection<String> taskIds);
+
     long findHistoricTaskInstanceCountByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
 
     List<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
@@ -42,4 +45,8 @@ public interface HistoricTaskInstanceDataManager extends DataManager<HistoricTas
 
     long findHistoricTaskInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
+    void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricTaskInstancesByScopeIds(Collection<String> scopeIds, String scopeType);
+
 }
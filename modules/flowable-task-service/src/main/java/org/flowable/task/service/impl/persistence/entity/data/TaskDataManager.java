@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -49,4 +50,6 @@ public interface TaskDataManager extends DataManager<TaskEntity> {
 
     void updateAllTaskRelatedEntityCountFlags(boolean newValue);
 
+    void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
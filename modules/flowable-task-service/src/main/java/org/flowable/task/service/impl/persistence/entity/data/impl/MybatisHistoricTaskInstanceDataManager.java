@@ -12,7 +12,10 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -57,6 +60,12 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         return getDbSqlSession().selectList("selectHistoricTaskInstancesByProcessInstanceId", processInstanceId);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<HistoricTaskInstanceEntity> findHistoricTasksByIds(Collection<String> taskIds) {
+        return getDbSqlSession().selectList("selectHistoricTaskInstancesByIds", new ArrayList<>(taskIds));
+    }
+
     @Override
     public long findHistoricTaskInstanceCountByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery) {
         return (Long) getDbSqlSession().selectOne("selectHistoricTaskInstanceCountByQueryCriteria", historicTaskInstanceQuery);
@@ -115,4 +124,17 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         return (Long) getDbSqlSession().selectOne("selectHistoricTaskInstanceCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void deleteHistoricTaskInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteHistoricTaskInstancesByProcessInstanceIds", new ArrayList<>(processInstanceIds), HistoricTaskInstanceEntityImpl.class);
+    }
+
+    @Override
+    public void deleteHistoricTaskInstancesByScopeIds(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeIds", new ArrayList<>(scopeIds));
+        params.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteHistoricTaskInstancesByScopeIds", params, HistoricTaskInstanceEntityImpl.class);
+    }
+
 }
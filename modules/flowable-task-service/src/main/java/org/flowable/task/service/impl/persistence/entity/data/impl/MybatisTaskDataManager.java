@@ -12,6 +12,8 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -155,4 +157,9 @@ public class MybatisTaskDataManager extends AbstractDataManager<TaskEntity> impl
         getDbSqlSession().update("updateTaskRelatedEntityCountEnabled", newValue);
     }
 
+    @Override
+    public void deleteTasksByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteTasksByProcessInstanceIds", new ArrayList<>(processInstanceIds), TaskEntityImpl.class);
+    }
+
 }
@@ -13,16 +13,28 @@
 package org.flowable.task.service.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 
 /**
  * @author Joram Barrez
  */
-public class TasksByExecutionIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> {
+public class TasksByExecutionIdMatcher extends CachedEntityMatcherAdapter<TaskEntity> implements IndexedCachedEntityMatcher<TaskEntity> {
 
     @Override
     public boolean isRetained(TaskEntity taskEntity, Object parameter) {
         return taskEntity.getExecutionId() != null && parameter.equals(taskEntity.getExecutionId());
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<TaskEntity> getIndex() {
+        return TasksByExecutionIdIndex.getInstance();
+    }
+
+    @Override
+    public Object getIndexKey(Object parameter) {
+        return parameter;
+    }
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.variable.api.history.HistoricVariableInstance;
@@ -46,5 +47,16 @@ public interface HistoricVariableService {
     void deleteHistoricVariableInstancesByProcessInstanceId(String processInstanceId);
     
     void deleteHistoricVariableInstancesByTaskId(String taskId);
+
+    /**
+     * Deletes the historic variables, including their byte arrays, of the given process instances and their tasks, without loading them first.
+     */
+    void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    /**
+     * Deletes the historic variables, including their byte arrays, of the given scopes of the given scope type and the historic tasks of these scopes,
+     * without loading them first.
+     */
+    void deleteHistoricVariableInstancesByScopeIds(Collection<String> scopeIds, String scopeType);
     
 }
@@ -45,6 +45,8 @@ public interface VariableService {
     VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String taskName);
     
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> taskNames);
+
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Set<String> executionIds, Collection<String> names);
     
     List<VariableInstanceEntity> findVariableInstanceByScopeIdAndScopeType(String scopeId, String scopeType);
     
@@ -65,5 +67,11 @@ public interface VariableService {
     void deleteVariableInstance(VariableInstanceEntity variable);
     
     void deleteVariableInstanceMap(Map<String, VariableInstanceEntity> variableInstances);
+
+    /**
+     * Deletes the variables, including their byte arrays, of the given process instances and their tasks, without loading them first and without
+     * dispatching events.
+     */
+    void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds);
     
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.context.Context;
@@ -108,4 +109,14 @@ public class HistoricVariableServiceImpl extends ServiceImpl implements Historic
     public void deleteHistoricVariableInstancesByTaskId(String taskId) {
         getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesByTaskId(taskId);
     }
+
+    @Override
+    public void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricVariableInstancesByScopeIds(Collection<String> scopeIds, String scopeType) {
+        getHistoricVariableInstanceEntityManager().deleteHistoricVariableInstancesByScopeIds(scopeIds, scopeType);
+    }
 }
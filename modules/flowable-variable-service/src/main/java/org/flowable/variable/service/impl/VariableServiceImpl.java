@@ -80,6 +80,11 @@ public class VariableServiceImpl extends ServiceImpl implements VariableService
     public List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> taskNames) {
         return getVariableInstanceEntityManager().findVariableInstancesByExecutionAndNames(executionId, taskNames);
     }
+
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Set<String> executionIds, Collection<String> names) {
+        return getVariableInstanceEntityManager().findVariableInstancesByExecutionIdsAndNames(executionIds, names);
+    }
     
     @Override
     public List<VariableInstanceEntity> findVariableInstanceByScopeIdAndScopeType(String scopeId, String scopeType) {
@@ -131,4 +136,9 @@ public class VariableServiceImpl extends ServiceImpl implements VariableService
         getVariableInstanceEntityManager().deleteVariableInstanceMap(variableInstances);
     }
 
+    @Override
+    public void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getVariableInstanceEntityManager().deleteVariablesByProcessInstanceIds(processInstanceIds);
+    }
+
 }
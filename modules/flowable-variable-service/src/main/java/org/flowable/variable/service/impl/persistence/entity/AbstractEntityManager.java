@@ -14,6 +14,7 @@ package org.flowable.variable.service.impl.persistence.entity;
 
 import org.flowable.engine.common.api.delegate.event.FlowableEngineEventType;
 import org.flowable.engine.common.api.delegate.event.FlowableEventDispatcher;
+import org.flowable.engine.common.impl.event.EventDispatcherUtil;
 import org.flowable.engine.common.impl.persistence.entity.Entity;
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -55,9 +56,13 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
 
         if (fireCreateEvent) {
             FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
-                eventDispatcher.dispatchEvent(FlowableVariableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity));
-                eventDispatcher.dispatchEvent(FlowableVariableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity));
+            if (eventDispatcher != null) {
+                if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_CREATED)) {
+                    eventDispatcher.dispatchEvent(FlowableVariableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_CREATED, entity));
+                }
+                if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_INITIALIZED)) {
+                    eventDispatcher.dispatchEvent(FlowableVariableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_INITIALIZED, entity));
+                }
             }
         }
         
@@ -74,7 +79,7 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
 
         if (fireUpdateEvent) {
             FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+            if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_UPDATED)) {
                 eventDispatcher.dispatchEvent(FlowableVariableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_UPDATED, entity));
             }
         }
@@ -99,7 +104,7 @@ public abstract class AbstractEntityManager<EntityImpl extends Entity> extends A
 
         if (fireDeleteEvent) {
             FlowableEventDispatcher eventDispatcher = getEventDispatcher();
-            if (eventDispatcher != null && eventDispatcher.isEnabled()) {
+            if (EventDispatcherUtil.hasListenersFor(eventDispatcher, FlowableEngineEventType.ENTITY_DELETED)) {
                 eventDispatcher.dispatchEvent(FlowableVariableEventBuilder.createEntityEvent(FlowableEngineEventType.ENTITY_DELETED, entity));
             }
         }
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -46,4 +47,8 @@ public interface HistoricVariableInstanceEntityManager extends EntityManager<His
 
     void deleteHistoricVariableInstanceByProcessInstanceId(String historicProcessInstanceId);
 
+    void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricVariableInstancesByScopeIds(Collection<String> scopeIds, String scopeType);
+
 }
\ No newline at end of file
@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -101,6 +102,16 @@ public class HistoricVariableInstanceEntityManagerImpl extends AbstractEntityMan
         }
     }
 
+    @Override
+    public void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        historicVariableInstanceDataManager.deleteHistoricVariableInstancesByProcessInstanceIds(processInstanceIds);
+    }
+
+    @Override
+    public void deleteHistoricVariableInstancesByScopeIds(Collection<String> scopeIds, String scopeType) {
+        historicVariableInstanceDataManager.deleteHistoricVariableInstancesByScopeIds(scopeIds, scopeType);
+    }
+
     @Override
     public long findHistoricVariableInstanceCountByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery) {
         return historicVariableInstanceDataManager.findHistoricVariableInstanceCountByQueryCriteria(historicProcessVariableQuery);
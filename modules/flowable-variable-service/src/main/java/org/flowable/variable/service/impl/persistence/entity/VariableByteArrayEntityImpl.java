@@ -17,13 +17,14 @@ import java.util.Arrays;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackedEntity;
 
 /**
  * @author Tom Baeyens
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableByteArrayEntityImpl extends AbstractEntity implements VariableByteArrayEntity, Serializable {
+public class VariableByteArrayEntityImpl extends AbstractEntity implements VariableByteArrayEntity, DirtyTrackedEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -55,6 +56,7 @@ public class VariableByteArrayEntityImpl extends AbstractEntity implements Varia
     @Override
     public void setName(String name) {
         this.name = name;
+        markDirty();
     }
 
     @Override
@@ -70,6 +72,7 @@ public class VariableByteArrayEntityImpl extends AbstractEntity implements Varia
     @Override
     public void setBytes(byte[] bytes) {
         this.bytes = bytes;
+        markDirty();
     }
 
     @Override
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.EntityManager;
@@ -32,4 +33,10 @@ public interface VariableByteArrayEntityManager extends EntityManager<VariableBy
      */
     void deleteByteArrayById(String byteArrayEntityId);
 
+    /**
+     * Deletes the {@link VariableByteArrayEntity}s with the given ids from the database with one statement per 1000 ids. Like {@link #deleteByteArrayById(String)},
+     * this operation will NOT do any optimistic locking.
+     */
+    void deleteByteArraysById(Collection<String> byteArrayEntityIds);
+
 }
\ No newline at end of file
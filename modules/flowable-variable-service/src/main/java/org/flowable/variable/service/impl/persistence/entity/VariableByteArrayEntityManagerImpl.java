@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -47,6 +48,11 @@ public class VariableByteArrayEntityManagerImpl extends AbstractEntityManager<Va
         byteArrayDataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
     }
 
+    @Override
+    public void deleteByteArraysById(Collection<String> byteArrayEntityIds) {
+        byteArrayDataManager.deleteByteArraysNoRevisionCheck(byteArrayEntityIds);
+    }
+
     public VariableByteArrayDataManager getByteArrayDataManager() {
         return byteArrayDataManager;
     }
@@ -18,6 +18,7 @@ import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.engine.common.impl.persistence.entity.AbstractEntity;
+import org.flowable.engine.common.impl.persistence.entity.DirtyTrackedEntity;
 import org.flowable.variable.api.types.ValueFields;
 import org.flowable.variable.api.types.VariableType;
 
@@ -26,7 +27,7 @@ import org.flowable.variable.api.types.VariableType;
  * @author Marcus Klimstra (CGI)
  * @author Joram Barrez
  */
-public class VariableInstanceEntityImpl extends AbstractEntity implements VariableInstanceEntity, ValueFields, Serializable {
+public class VariableInstanceEntityImpl extends AbstractEntity implements VariableInstanceEntity, ValueFields, DirtyTrackedEntity, Serializable {
 
     private static final long serialVersionUID = 1L;
 
@@ -83,11 +84,13 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void forceUpdate() {
         forcedUpdate = true;
+        markDirty();
     }
     
     @Override
     public void setExecutionId(String executionId) {
         this.executionId = executionId;
+        markDirty();
     }
 
     @Override
@@ -112,6 +115,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     public void setBytes(byte[] bytes) {
         ensureByteArrayRefInitialized();
         byteArrayRef.setValue("var-" + name, bytes);
+        markDirty();
     }
 
     @Override
@@ -147,6 +151,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setName(String name) {
         this.name = name;
+        markDirty();
     }
 
     @Override
@@ -178,6 +183,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setType(VariableType type) {
         this.type = type;
+        markDirty();
     }
 
     @Override
@@ -213,6 +219,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setScopeId(String scopeId) {
         this.scopeId = scopeId;
+        markDirty();
     }
     
     @Override
@@ -223,6 +230,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setSubScopeId(String subScopeId) {
         this.subScopeId = subScopeId;
+        markDirty();
     }
 
     @Override
@@ -233,6 +241,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setScopeType(String scopeType) {
         this.scopeType = scopeType;
+        markDirty();
     }
 
     @Override
@@ -243,6 +252,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setLongValue(Long longValue) {
         this.longValue = longValue;
+        markDirty();
     }
 
     @Override
@@ -253,6 +263,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setDoubleValue(Double doubleValue) {
         this.doubleValue = doubleValue;
+        markDirty();
     }
 
     @Override
@@ -263,6 +274,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setTextValue(String textValue) {
         this.textValue = textValue;
+        markDirty();
     }
 
     @Override
@@ -273,6 +285,7 @@ public class VariableInstanceEntityImpl extends AbstractEntity implements Variab
     @Override
     public void setTextValue2(String textValue2) {
         this.textValue2 = textValue2;
+        markDirty();
     }
 
     @Override
@@ -39,6 +39,8 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names);
 
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Set<String> executionIds, Collection<String> names);
+
     VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByTaskAndNames(String taskId, Collection<String> names);
@@ -57,4 +59,6 @@ public interface VariableInstanceEntityManager extends EntityManager<VariableIns
 
     void deleteVariableInstanceMap(Map<String, VariableInstanceEntity> variableInstances);
 
+    void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
\ No newline at end of file
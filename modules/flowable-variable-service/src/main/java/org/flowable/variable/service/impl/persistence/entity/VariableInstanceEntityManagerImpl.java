@@ -82,6 +82,11 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         return variableInstanceDataManager.findVariableInstancesByExecutionAndNames(executionId, names);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Set<String> executionIds, Collection<String> names) {
+        return variableInstanceDataManager.findVariableInstancesByExecutionIdsAndNames(executionIds, names);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String variableName) {
         return variableInstanceDataManager.findVariableInstanceByTaskAndName(taskId, variableName);
@@ -141,6 +146,17 @@ public class VariableInstanceEntityManagerImpl extends AbstractEntityManager<Var
         }
     }
 
+    @Override
+    public void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        // The byte arrays can only be deleted after the variables referencing them (foreign key), so a subquery on the variables can't be used
+        // to delete them. Their ids are fetched before the variables are deleted and all of them are deleted with one statement.
+        List<String> byteArrayIds = variableInstanceDataManager.findVariableByteArrayIdsByProcessInstanceIds(processInstanceIds);
+        variableInstanceDataManager.deleteVariablesByProcessInstanceIds(processInstanceIds);
+        if (!byteArrayIds.isEmpty()) {
+            getVariableServiceConfiguration().getByteArrayEntityManager().deleteByteArraysById(byteArrayIds);
+        }
+    }
+
     public VariableInstanceDataManager getVariableInstanceDataManager() {
         return variableInstanceDataManager;
     }
@@ -52,6 +52,9 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
     // The cache is used when fetching/setting specific variables
     protected Map<String, VariableInstanceEntity> usedVariablesCache = new HashMap<>();
 
+    // Names of prefetched variables that don't exist on this scope, so they don't need to be looked up again as long as not all variables are fetched
+    protected Set<String> absentVariableNames;
+
     protected Map<String, VariableInstance> transientVariabes;
 
     protected ELContext cachedElContext;
@@ -77,6 +80,87 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         }
     }
     
+    /**
+     * Fetches the given variables, with as few queries as possible, for this scope and all parent scopes that didn't fetch all their variables yet.
+     * Later lookups of these variables can then be answered without going to the database, and without fetching all variables of a scope.
+     */
+    public void prefetchVariables(Collection<String> variableNames) {
+        if (variableNames == null || variableNames.isEmpty()) {
+            return;
+        }
+
+        List<VariableScopeImpl> variableScopes = new ArrayList<>();
+        VariableScopeImpl variableScope = this;
+        while (variableScope != null) {
+            if (variableScope.variableInstances == null && !variableScope.isPrefetched(variableNames)) {
+                variableScopes.add(variableScope);
+            }
+            variableScope = variableScope.getParentVariableScope();
+        }
+
+        if (!variableScopes.isEmpty()) {
+            CommandContext commandContext = Context.getCommandContext();
+            if (commandContext == null) {
+                throw new FlowableException("lazy loading outside command context");
+            }
+            prefetchVariables(variableScopes, variableNames);
+        }
+    }
+
+    /**
+     * Fetches the given variables for each of the given scopes. By default one query is done per scope, subclasses can fetch them all at once.
+     */
+    protected void prefetchVariables(List<VariableScopeImpl> variableScopes, Collection<String> variableNames) {
+        for (VariableScopeImpl variableScope : variableScopes) {
+            variableScope.cachePrefetchedVariables(variableNames, variableScope.getSpecificVariables(variableNames));
+        }
+    }
+
+    protected void cachePrefetchedVariables(Collection<String> variableNames, Collection<VariableInstanceEntity> prefetchedVariables) {
+        if (absentVariableNames == null) {
+            absentVariableNames = new HashSet<>();
+        }
+        absentVariableNames.addAll(variableNames);
+
+        for (VariableInstanceEntity variable : prefetchedVariables) {
+            absentVariableNames.remove(variable.getName());
+            if (!usedVariablesCache.containsKey(variable.getName())) {
+                usedVariablesCache.put(variable.getName(), variable);
+            }
+        }
+
+        // Variables created in the current transaction aren't returned by the query
+        absentVariableNames.removeAll(usedVariablesCache.keySet());
+    }
+
+    protected boolean isPrefetched(Collection<String> variableNames) {
+        for (String variableName : variableNames) {
+            if (!usedVariablesCache.containsKey(variableName) && !isVariableAbsent(variableName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if the variable was prefetched and found not to exist on this scope. Only valid as long as not all variables are fetched.
+     */
+    protected boolean isVariableAbsent(String variableName) {
+        return variableInstances == null && absentVariableNames != null && absentVariableNames.contains(variableName);
+    }
+
+    protected boolean areVariablesAbsent(Collection<String> variableNames) {
+        if (variableNames.isEmpty()) {
+            return false;
+        }
+        for (String variableName : variableNames) {
+            if (!isVariableAbsent(variableName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Only to be used when creating a new entity, to avoid an extra call to the database.
      */
@@ -141,9 +225,11 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             }
 
             // Fetch variables on this scope
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
-            for (VariableInstanceEntity variable : variables) {
-                requestedVariables.put(variable.getName(), variable.getValue());
+            if (!areVariablesAbsent(variableNamesToFetch)) {
+                List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
+                for (VariableInstanceEntity variable : variables) {
+                    requestedVariables.put(variable.getName(), variable.getValue());
+                }
             }
 
             return requestedVariables;
@@ -188,9 +274,11 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
             }
 
             // Fetch variables on this scope
-            List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
-            for (VariableInstanceEntity variable : variables) {
-                requestedVariables.put(variable.getName(), variable);
+            if (!areVariablesAbsent(variableNamesToFetch)) {
+                List<VariableInstanceEntity> variables = getSpecificVariables(variableNamesToFetch);
+                for (VariableInstanceEntity variable : variables) {
+                    requestedVariables.put(variable.getName(), variable);
+                }
             }
 
             return requestedVariables;
@@ -287,10 +375,12 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         }
 
         if (fetchAllVariables) {
-            ensureVariableInstancesInitialized();
-            VariableInstanceEntity variableInstance = variableInstances.get(variableName);
-            if (variableInstance != null) {
-                return variableInstance;
+            if (!isVariableAbsent(variableName)) {
+                ensureVariableInstancesInitialized();
+                VariableInstanceEntity variableInstance = variableInstances.get(variableName);
+                if (variableInstance != null) {
+                    return variableInstance;
+                }
             }
 
             // Go up the hierarchy
@@ -307,7 +397,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
                 return variableInstances.get(variableName);
             }
 
-            VariableInstanceEntity variable = getSpecificVariable(variableName);
+            VariableInstanceEntity variable = isVariableAbsent(variableName) ? null : getSpecificVariable(variableName);
             if (variable != null) {
                 usedVariablesCache.put(variableName, variable);
                 return variable;
@@ -359,6 +449,10 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
 
         if (fetchAllVariables) {
 
+            if (isVariableAbsent(variableName)) {
+                return null;
+            }
+
             ensureVariableInstancesInitialized();
 
             VariableInstanceEntity variableInstance = variableInstances.get(variableName);
@@ -376,7 +470,7 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
                 }
             }
 
-            VariableInstanceEntity variable = getSpecificVariable(variableName);
+            VariableInstanceEntity variable = isVariableAbsent(variableName) ? null : getSpecificVariable(variableName);
             if (variable != null) {
                 usedVariablesCache.put(variableName, variable);
                 return variable;
@@ -429,6 +523,14 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         if (transientVariabes != null && transientVariabes.containsKey(variableName)) {
             return true;
         }
+        if (variableInstances == null && absentVariableNames != null) {
+            // Variables were prefetched, no need to fetch all variables when the outcome is already known
+            if (absentVariableNames.contains(variableName)) {
+                return false;
+            } else if (usedVariablesCache.containsKey(variableName)) {
+                return true;
+            }
+        }
         ensureVariableInstancesInitialized();
         return variableInstances.containsKey(variableName);
     }
@@ -884,6 +986,9 @@ public abstract class VariableScopeImpl extends AbstractEntity implements Serial
         if (variableInstances != null) {
             variableInstances.put(variableName, variableInstance);
         }
+        if (absentVariableNames != null) {
+            absentVariableNames.remove(variableName);
+        }
         
         VariableServiceConfiguration variableServiceConfiguration = CommandContextUtil.getVariableServiceConfiguration();
         if (isPropagateToHistoricVariable()) {
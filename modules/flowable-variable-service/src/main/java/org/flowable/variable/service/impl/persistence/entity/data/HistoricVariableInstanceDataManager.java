@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -43,4 +44,8 @@ public interface HistoricVariableInstanceDataManager extends DataManager<Histori
 
     long findHistoricVariableInstanceCountByNativeQuery(Map<String, Object> parameterMap);
 
+    void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteHistoricVariableInstancesByScopeIds(Collection<String> scopeIds, String scopeType);
+
 }
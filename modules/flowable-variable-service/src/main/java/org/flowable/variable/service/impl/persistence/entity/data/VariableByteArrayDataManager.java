@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.persistence.entity.data.DataManager;
@@ -26,4 +27,6 @@ public interface VariableByteArrayDataManager extends DataManager<VariableByteAr
 
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
 
+    void deleteByteArraysNoRevisionCheck(Collection<String> byteArrayEntityIds);
+
 }
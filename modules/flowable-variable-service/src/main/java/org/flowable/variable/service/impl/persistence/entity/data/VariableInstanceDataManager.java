@@ -36,6 +36,8 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionAndNames(String executionId, Collection<String> names);
 
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Set<String> executionIds, Collection<String> names);
+
     VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String variableName);
 
     List<VariableInstanceEntity> findVariableInstancesByTaskAndNames(String taskId, Collection<String> names);
@@ -52,4 +54,8 @@ public interface VariableInstanceDataManager extends DataManager<VariableInstanc
     
     List<VariableInstanceEntity> findVariableInstancesBySubScopeIdAndScopeTypeAndNames(String subScopeId, String scopeType, Collection<String> variableNames);
 
+    List<String> findVariableByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds);
+
+    void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds);
+
 }
@@ -12,6 +12,8 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +24,7 @@ import org.flowable.variable.api.history.HistoricVariableInstance;
 import org.flowable.variable.service.impl.HistoricVariableInstanceQueryImpl;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntityImpl;
+import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayEntityImpl;
 import org.flowable.variable.service.impl.persistence.entity.data.HistoricVariableInstanceDataManager;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.HistoricVariableInstanceByProcInstMatcher;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher.HistoricVariableInstanceByScopeIdAndScopeTypeMatcher;
@@ -113,4 +116,20 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
         return (Long) getDbSqlSession().selectOne("selectHistoricVariableInstanceCountByNativeQuery", parameterMap);
     }
 
+    @Override
+    public void deleteHistoricVariableInstancesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        List<String> processInstanceIdList = new ArrayList<>(processInstanceIds);
+        getDbSqlSession().delete("bulkDeleteHistoricVariableByteArraysByProcessInstanceIds", processInstanceIdList, VariableByteArrayEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesByProcessInstanceIds", processInstanceIdList, HistoricVariableInstanceEntityImpl.class);
+    }
+
+    @Override
+    public void deleteHistoricVariableInstancesByScopeIds(Collection<String> scopeIds, String scopeType) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("scopeIds", new ArrayList<>(scopeIds));
+        params.put("scopeType", scopeType);
+        getDbSqlSession().delete("bulkDeleteHistoricVariableByteArraysByScopeIds", params, VariableByteArrayEntityImpl.class);
+        getDbSqlSession().delete("bulkDeleteHistoricVariableInstancesByScopeIds", params, HistoricVariableInstanceEntityImpl.class);
+    }
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.flowable.engine.common.impl.db.AbstractDataManager;
@@ -45,4 +46,9 @@ public class MybatisVariableByteArrayDataManager extends AbstractDataManager<Var
         getDbSqlSession().delete("deleteVariableByteArrayNoRevisionCheck", byteArrayEntityId, VariableByteArrayEntityImpl.class);
     }
 
+    @Override
+    public void deleteByteArraysNoRevisionCheck(Collection<String> byteArrayEntityIds) {
+        bulkDeleteByIds("bulkDeleteVariableByteArraysNoRevisionCheck", byteArrayEntityIds, VariableByteArrayEntityImpl.class);
+    }
+
 }
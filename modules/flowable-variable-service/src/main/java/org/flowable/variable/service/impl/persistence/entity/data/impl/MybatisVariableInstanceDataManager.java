@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -106,6 +107,15 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getDbSqlSession().selectList("selectVariableInstancesByExecutionAndNames", params);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Set<String> executionIds, Collection<String> names) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("executionIds", executionIds);
+        params.put("names", names);
+        return getDbSqlSession().selectList("selectVariableInstancesByExecutionIdsAndNames", params);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String variableName) {
         Map<String, String> params = new HashMap<>(2);
@@ -176,4 +186,15 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getList("selectVariableInstanceBySubScopeIdAndScopeTypeAndNames", params, variableInstanceBySubScopeIdAndScopeTypeAndVariableNamesMatcher, true);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findVariableByteArrayIdsByProcessInstanceIds(Collection<String> processInstanceIds) {
+        return getDbSqlSession().selectListNoCacheCheck("selectVariableByteArrayIdsByProcessInstanceIds", new ArrayList<>(processInstanceIds));
+    }
+
+    @Override
+    public void deleteVariablesByProcessInstanceIds(Collection<String> processInstanceIds) {
+        getDbSqlSession().delete("bulkDeleteVariableInstancesByProcessInstanceIds", new ArrayList<>(processInstanceIds), VariableInstanceEntityImpl.class);
+    }
+
 }
@@ -13,12 +13,14 @@
 package org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher;
 
 import org.flowable.engine.common.impl.db.CachedEntityMatcherAdapter;
+import org.flowable.engine.common.impl.db.IndexedCachedEntityMatcher;
+import org.flowable.engine.common.impl.persistence.cache.CachedEntityIndex;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
  * @author Joram Barrez
  */
-public class VariableInstanceByExecutionIdMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> {
+public class VariableInstanceByExecutionIdMatcher extends CachedEntityMatcherAdapter<VariableInstanceEntity> implements IndexedCachedEntityMatcher<VariableInstanceEntity> {
 
     @Override
     public boolean isRetained(VariableInstanceEntity variableInstanceEntity, Object parameter) {
@@ -26,4 +28,14 @@ public class VariableInstanceByExecutionIdMatcher extends CachedEntityMatcherAda
                 && variableInstanceEntity.getExecutionId().equals((String) parameter);
     }
 
-}
\ No newline at end of file
+    @Override
+    public CachedEntityIndex<VariableInstanceEntity> getIndex() {
+        return VariableInstancesByExecutionIdIndex.getInstance();
+    }
+
+    @Override
+    public Object getIndexKey(Object parameter) {
+        return parameter;
+    }
+
+}
@@ -0,0 +1,37 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.persistence.entity.data.impl.cachematcher;
+
+import org.flowable.engine.common.impl.persistence.cache.CachedEntityIndex;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * Indexes cached variable instances by execution id.
+ */
+public final class VariableInstancesByExecutionIdIndex implements CachedEntityIndex<VariableInstanceEntity> {
+
+    private static final VariableInstancesByExecutionIdIndex INSTANCE = new VariableInstancesByExecutionIdIndex();
+
+    private VariableInstancesByExecutionIdIndex() {
+    }
+
+    public static VariableInstancesByExecutionIdIndex getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public Object getIndexKey(VariableInstanceEntity entity) {
+        return entity.getExecutionId();
+    }
+
+}